@@ -16,8 +16,6 @@
 package com.codereligion.cherry.test.hamcrest.logback;
 
 import ch.qos.logback.classic.spi.ILoggingEvent;
-import ch.qos.logback.classic.spi.IThrowableProxy;
-import javax.annotation.Nullable;
 import org.hamcrest.Description;
 import org.hamcrest.TypeSafeMatcher;
 
@@ -44,6 +42,15 @@ abstract class AbstractILoggingEventDescribingMatcher extends TypeSafeMatcher<IL
         this.usedOnIterable = usedOnIterable;
     }
 
+    /**
+     * Creates a new instance for a matcher which can not be negated, using the given parameter to define the behaviour of the description generation.
+     *
+     * @param usedOnIterable if the matcher is used in conjunction with an iterable matcher
+     */
+    AbstractILoggingEventDescribingMatcher(final boolean usedOnIterable) {
+        this(false, usedOnIterable);
+    }
+
     @Override
     public boolean matchesSafely(final ILoggingEvent event) {
         return negated != internalMatches(event);
@@ -74,49 +81,28 @@ abstract class AbstractILoggingEventDescribingMatcher extends TypeSafeMatcher<IL
     protected abstract void describeExpectation(Description description);
 
     /**
-     * Describes the expected data when the matcher has been negated.
+     * Describes the expected data when the matcher has been negated. Matchers which can not be negated don't need to override this method.
      *
      * @param description the {@link Description} to amend the text
      */
-    protected abstract void describeNegatedExpectation(Description description);
+    protected void describeNegatedExpectation(final Description description) {
+        describeExpectation(description.appendText("not "));
+    }
+
+    /**
+     * Returns whether the matcher is used in conjunction with an iterable matcher.
+     *
+     * @return {@code true} if the matcher is used on an iterable
+     */
+    boolean isUsedOnIterable() {
+        return usedOnIterable;
+    }
 
     @Override
     protected void describeMismatchSafely(final ILoggingEvent item, final Description mismatchDescription) {
         if (!usedOnIterable) {
             mismatchDescription.appendText("was ");
         }
-        mismatchDescription.appendText(toString(item));
-    }
-
-    private String toString(final ILoggingEvent item) {
-        return new StringBuilder().append("ILoggingEvent{")
-                                  .append("level=")
-                                  .append(item.getLevel())
-                                  .append(", formattedMessage='")
-                                  .append(item.getFormattedMessage())
-                                  .append("'")
-                                  .append(", loggedBy=")
-                                  .append(item.getLoggerName())
-                                  .append(", throwable=")
-                                  .append(toString(item.getThrowableProxy()))
-                                  .append("}")
-                                  .toString();
-    }
-
-    private String toString(@Nullable final IThrowableProxy throwableProxy) {
-
-        if (throwableProxy == null) {
-            return "null";
-        }
-
-        final StringBuilder stringBuilder = new StringBuilder().append(throwableProxy.getClassName()).append("{");
-
-        if (throwableProxy.getMessage() == null) {
-            stringBuilder.append("message=null");
-        } else {
-            stringBuilder.append("message='").append(throwableProxy.getMessage()).append("'");
-        }
-
-        return stringBuilder.append("}").toString();
+        LoggingEventRenderer.render(item, mismatchDescription);
     }
 }
@@ -0,0 +1,197 @@
+/**
+ * Copyright 2015 www.codereligion.com
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.codereligion.cherry.test.hamcrest.logback;
+
+import ch.qos.logback.classic.Level;
+import ch.qos.logback.classic.spi.ILoggingEvent;
+import com.google.common.collect.Lists;
+import com.google.common.collect.Maps;
+import java.text.NumberFormat;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import org.hamcrest.Description;
+
+/**
+ * Summarizes the events of a capture for failure descriptions. The events are counted per level and per logger in a single pass using primitive counters and
+ * the events which came closest to matching a {@link ScoredMatcher} are kept, so that a failure against a large capture can be diagnosed without listing
+ * every event.
+ *
+ * @author Sebastian Gr&ouml;bler
+ * @since 19.10.2026
+ */
+final class CaptureSummary {
+
+    /**
+     * The maximum number of loggers which are rendered, ordered by the number of their events.
+     */
+    static final int MAX_RENDERED_LOGGERS = 10;
+
+    /**
+     * The maximum number of nearest candidates which are kept and rendered.
+     */
+    static final int MAX_NEAREST_CANDIDATES = 3;
+
+    private static final Level[] LEVELS = {Level.ERROR, Level.WARN, Level.INFO, Level.DEBUG, Level.TRACE};
+
+    private static final Comparator<Map.Entry<String, int[]>> BY_COUNT_DESCENDING = new Comparator<Map.Entry<String, int[]>>() {
+        @Override
+        public int compare(final Map.Entry<String, int[]> first, final Map.Entry<String, int[]> second) {
+            final int comparison = second.getValue()[0] < first.getValue()[0] ? -1 : (second.getValue()[0] == first.getValue()[0] ? 0 : 1);
+            return comparison != 0 ? comparison : first.getKey().compareTo(second.getKey());
+        }
+    };
+
+    private final int[] levelCounts = new int[LEVELS.length];
+    private final Map<String, int[]> loggerCounts = Maps.newHashMap();
+    private final ILoggingEvent[] candidates = new ILoggingEvent[MAX_NEAREST_CANDIDATES];
+    private final int[] candidateScores = new int[MAX_NEAREST_CANDIDATES];
+    private int candidateCount;
+
+    /**
+     * Counts the given {@code event} by its level and logger.
+     *
+     * @param event the event to count
+     */
+    void count(final ILoggingEvent event) {
+
+        final Level level = event.getLevel();
+        if (level != null) {
+            switch (level.toInt()) {
+                case Level.ERROR_INT:
+                    levelCounts[0]++;
+                    break;
+                case Level.WARN_INT:
+                    levelCounts[1]++;
+                    break;
+                case Level.INFO_INT:
+                    levelCounts[2]++;
+                    break;
+                case Level.DEBUG_INT:
+                    levelCounts[3]++;
+                    break;
+                case Level.TRACE_INT:
+                    levelCounts[4]++;
+                    break;
+                default:
+                    break;
+            }
+        }
+
+        final String loggerName = String.valueOf(event.getLoggerName());
+        final int[] loggerCount = loggerCounts.get(loggerName);
+        if (loggerCount == null) {
+            loggerCounts.put(loggerName, new int[]{1});
+        } else {
+            loggerCount[0]++;
+        }
+    }
+
+    /**
+     * Offers the given {@code event} as a nearest candidate. The event is kept when its score is higher than the score of any of the kept candidates or when
+     * fewer than {@link #MAX_NEAREST_CANDIDATES} candidates are kept so far. On equal scores the earlier event is preferred.
+     *
+     * @param event the event to offer
+     * @param score the score of the event
+     */
+    void offerCandidate(final ILoggingEvent event, final int score) {
+
+        if (candidateCount == MAX_NEAREST_CANDIDATES && score <= candidateScores[candidateCount - 1]) {
+            return;
+        }
+
+        int index = Math.min(candidateCount, MAX_NEAREST_CANDIDATES - 1);
+        while (index > 0 && candidateScores[index - 1] < score) {
+            candidates[index] = candidates[index - 1];
+            candidateScores[index] = candidateScores[index - 1];
+            index--;
+        }
+        candidates[index] = event;
+        candidateScores[index] = score;
+        candidateCount = Math.min(candidateCount + 1, MAX_NEAREST_CANDIDATES);
+    }
+
+    /**
+     * Renders the counts per level and the counts of the loggers with the most events into the given {@code description}.
+     *
+     * @param description the description to render the histogram into
+     */
+    void describeHistogramTo(final Description description) {
+
+        final NumberFormat numberFormat = NumberFormat.getIntegerInstance(Locale.ENGLISH);
+
+        description.appendText("by level {");
+        boolean first = true;
+        for (int i = 0; i < LEVELS.length; i++) {
+            if (levelCounts[i] > 0) {
+                if (!first) {
+                    description.appendText(", ");
+                }
+                description.appendText(LEVELS[i].toString()).appendText("=").appendText(numberFormat.format(levelCounts[i]));
+                first = false;
+            }
+        }
+
+        final List<Map.Entry<String, int[]>> loggers = Lists.newArrayList(loggerCounts.entrySet());
+        Collections.sort(loggers, BY_COUNT_DESCENDING);
+
+        description.appendText("}, by logger {");
+        final int rendered = Math.min(loggers.size(), MAX_RENDERED_LOGGERS);
+        for (int i = 0; i < rendered; i++) {
+            if (i > 0) {
+                description.appendText(", ");
+            }
+            final Map.Entry<String, int[]> logger = loggers.get(i);
+            description.appendText(logger.getKey()).appendText("=").appendText(numberFormat.format(logger.getValue()[0]));
+        }
+        if (loggers.size() > rendered) {
+            description.appendText(", ... and ").appendText(numberFormat.format(loggers.size() - rendered)).appendText(" more loggers");
+        }
+        description.appendText("}");
+    }
+
+    /**
+     * Determines whether any nearest candidates were kept.
+     *
+     * @return {@code true} if there is at least one candidate
+     */
+    boolean hasCandidates() {
+        return candidateCount > 0;
+    }
+
+    /**
+     * Renders the kept nearest candidates, best first, into the given {@code description}.
+     *
+     * @param maxScore    the score of a matching event
+     * @param description the description to render the candidates into
+     */
+    void describeCandidatesTo(final int maxScore, final Description description) {
+        description.appendText("nearest candidates [");
+        for (int i = 0; i < candidateCount; i++) {
+            if (i > 0) {
+                description.appendText(", ");
+            }
+            description.appendText(String.valueOf(candidateScores[i]))
+                       .appendText(" of ")
+                       .appendText(String.valueOf(maxScore))
+                       .appendText(" satisfied by ");
+            LoggingEventRenderer.render(candidates[i], description);
+        }
+        description.appendText("]");
+    }
+}
@@ -0,0 +1,200 @@
+/**
+ * Copyright 2015 www.codereligion.com
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.codereligion.cherry.test.hamcrest.logback;
+
+import ch.qos.logback.classic.spi.ILoggingEvent;
+import com.google.common.collect.ImmutableList;
+import com.google.common.collect.Lists;
+import java.util.List;
+import org.hamcrest.Description;
+import org.hamcrest.Matcher;
+import static com.google.common.base.Preconditions.checkArgument;
+
+/**
+ * A matcher which expects the {@link ch.qos.logback.classic.spi.ILoggingEvent} to match all of the given {@link org.hamcrest.Matcher Matchers}. When used
+ * with {@link LoggingEventIterableHasItem#hasItem(Matcher)} the failure description lists the events which satisfied the most of the given matchers.
+ *
+ * @author Sebastian Gr&ouml;bler
+ * @since 19.10.2026
+ */
+public class LoggingEventAllOf extends AbstractILoggingEventDescribingMatcher implements ScoredMatcher {
+
+    /**
+     * Creates a new matcher for {@link ch.qos.logback.classic.spi.ILoggingEvent ILoggingEvents} that only matches when the examined event matches both of the
+     * given {@link org.hamcrest.Matcher Matchers}. This matcher's output is optimized for usage on single events.
+     * <p/>
+     * Example usage: {@code assertThat(event, matchesAllOf(hasLevel(Level.ERROR), wasLoggedBy("SomeLogger")));}
+     * <p/>
+     * Example output: {@code Expected: an ILoggingEvent matching all of (an ILoggingEvent with level: ERROR and an ILoggingEvent logged by: SomeLogger) but:
+     * was ILoggingEvent{level=INFO, formattedMessage='some Message', loggedBy=SomeLogger, throwable=null}}
+     *
+     * @param first  the first {@link Matcher} to check the event with
+     * @param second the second {@link Matcher} to check the event with
+     * @return a new matcher
+     * @throws java.lang.IllegalArgumentException when any of the given parameters is {@code null}
+     */
+    public static Matcher<ILoggingEvent> matchesAllOf(final Matcher<ILoggingEvent> first, final Matcher<ILoggingEvent> second) {
+        return new LoggingEventAllOf(listOf(first, second), false);
+    }
+
+    /**
+     * Creates a new matcher for {@link ch.qos.logback.classic.spi.ILoggingEvent ILoggingEvents} that only matches when the examined event matches all three of
+     * the given {@link org.hamcrest.Matcher Matchers}. This matcher's output is optimized for usage on single events.
+     * <p/>
+     * Example usage: {@code assertThat(event, matchesAllOf(hasLevel(Level.ERROR), wasLoggedBy("SomeLogger"), hasMessage("some")));}
+     *
+     * @param first  the first {@link Matcher} to check the event with
+     * @param second the second {@link Matcher} to check the event with
+     * @param third  the third {@link Matcher} to check the event with
+     * @return a new matcher
+     * @throws java.lang.IllegalArgumentException when any of the given parameters is {@code null}
+     */
+    public static Matcher<ILoggingEvent> matchesAllOf(final Matcher<ILoggingEvent> first,
+                                                      final Matcher<ILoggingEvent> second,
+                                                      final Matcher<ILoggingEvent> third) {
+        return new LoggingEventAllOf(listOf(first, second, third), false);
+    }
+
+    /**
+     * Creates a new matcher for {@link ch.qos.logback.classic.spi.ILoggingEvent ILoggingEvents} that only matches when the examined event matches all of the
+     * given {@link org.hamcrest.Matcher Matchers}. This matcher's output is optimized for usage on single events.
+     * <p/>
+     * Example usage: {@code assertThat(event, matchesAllOf(matchers));}
+     *
+     * @param matchers the {@link Matcher Matchers} to check the event with
+     * @return a new matcher
+     * @throws java.lang.IllegalArgumentException when the given parameter is {@code null} or contains {@code null}
+     */
+    public static Matcher<ILoggingEvent> matchesAllOf(final Iterable<Matcher<ILoggingEvent>> matchers) {
+        return new LoggingEventAllOf(matchers, false);
+    }
+
+    /**
+     * Creates a new matcher for {@link ch.qos.logback.classic.spi.ILoggingEvent ILoggingEvents} that only matches when the examined event matches both of the
+     * given {@link org.hamcrest.Matcher Matchers}. This matcher is doing the same assertion as {@link LoggingEventAllOf#matchesAllOf(Matcher, Matcher)}, with
+     * the difference that this matcher's output is optimized for usage on iterables of events.
+     * <p/>
+     * Example usage: {@code assertThat(events, hasItem(withAllOf(withLevel(Level.ERROR), loggedBy("SomeLogger"))));}
+     * <p/>
+     * Example output: {@code Expected: an iterable containing an ILoggingEvent matching all of (an ILoggingEvent with level: ERROR and an ILoggingEvent logged
+     * by: SomeLogger) but: iterable contained [ILoggingEvent{level=INFO, formattedMessage='some Message', loggedBy=SomeLogger, throwable=null}], nearest
+     * candidates [1 of 2 satisfied by ILoggingEvent{level=INFO, formattedMessage='some Message', loggedBy=SomeLogger, throwable=null}]}
+     *
+     * @param first  the first {@link Matcher} to check the event with
+     * @param second the second {@link Matcher} to check the event with
+     * @return a new matcher
+     * @throws java.lang.IllegalArgumentException when any of the given parameters is {@code null}
+     */
+    public static Matcher<ILoggingEvent> withAllOf(final Matcher<ILoggingEvent> first, final Matcher<ILoggingEvent> second) {
+        return new LoggingEventAllOf(listOf(first, second), true);
+    }
+
+    /**
+     * Creates a new matcher for {@link ch.qos.logback.classic.spi.ILoggingEvent ILoggingEvents} that only matches when the examined event matches all three of
+     * the given {@link org.hamcrest.Matcher Matchers}. This matcher's output is optimized for usage on iterables of events.
+     * <p/>
+     * Example usage: {@code assertThat(events, hasItem(withAllOf(withLevel(Level.ERROR), loggedBy("SomeLogger"), withMessage("some"))));}
+     *
+     * @param first  the first {@link Matcher} to check the event with
+     * @param second the second {@link Matcher} to check the event with
+     * @param third  the third {@link Matcher} to check the event with
+     * @return a new matcher
+     * @throws java.lang.IllegalArgumentException when any of the given parameters is {@code null}
+     */
+    public static Matcher<ILoggingEvent> withAllOf(final Matcher<ILoggingEvent> first,
+                                                   final Matcher<ILoggingEvent> second,
+                                                   final Matcher<ILoggingEvent> third) {
+        return new LoggingEventAllOf(listOf(first, second, third), true);
+    }
+
+    /**
+     * Creates a new matcher for {@link ch.qos.logback.classic.spi.ILoggingEvent ILoggingEvents} that only matches when the examined event matches all of the
+     * given {@link org.hamcrest.Matcher Matchers}. This matcher's output is optimized for usage on iterables of events.
+     * <p/>
+     * Example usage: {@code assertThat(events, hasItem(withAllOf(matchers)));}
+     *
+     * @param matchers the {@link Matcher Matchers} to check the event with
+     * @return a new matcher
+     * @throws java.lang.IllegalArgumentException when the given parameter is {@code null} or contains {@code null}
+     */
+    public static Matcher<ILoggingEvent> withAllOf(final Iterable<Matcher<ILoggingEvent>> matchers) {
+        return new LoggingEventAllOf(matchers, true);
+    }
+
+    private static List<Matcher<ILoggingEvent>> listOf(final Matcher<ILoggingEvent> first, final Matcher<ILoggingEvent> second) {
+        final List<Matcher<ILoggingEvent>> matchers = Lists.newArrayListWithCapacity(3);
+        matchers.add(first);
+        matchers.add(second);
+        return matchers;
+    }
+
+    private static List<Matcher<ILoggingEvent>> listOf(final Matcher<ILoggingEvent> first,
+                                                       final Matcher<ILoggingEvent> second,
+                                                       final Matcher<ILoggingEvent> third) {
+        final List<Matcher<ILoggingEvent>> matchers = listOf(first, second);
+        matchers.add(third);
+        return matchers;
+    }
+
+    private final List<Matcher<ILoggingEvent>> matchers;
+
+    /**
+     * Creates a new instance using the given {@link org.hamcrest.Matcher Matchers}.
+     *
+     * @param matchers       the matchers to check the event with
+     * @param usedOnIterable if the matcher is used as part of an iterable matching
+     * @throws java.lang.IllegalArgumentException when the given parameter is {@code null} or contains {@code null}
+     */
+    private LoggingEventAllOf(final Iterable<Matcher<ILoggingEvent>> matchers, final boolean usedOnIterable) {
+        super(usedOnIterable);
+        checkArgument(matchers != null, "matchers must not be null.");
+        for (final Matcher<ILoggingEvent> matcher : matchers) {
+            checkArgument(matcher != null, "matchers must not contain null.");
+        }
+        this.matchers = ImmutableList.copyOf(matchers);
+    }
+
+    @Override
+    protected boolean internalMatches(final ILoggingEvent event) {
+        for (final Matcher<ILoggingEvent> matcher : matchers) {
+            if (!matcher.matches(event)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    @Override
+    public int score(final ILoggingEvent event) {
+        int score = 0;
+        for (final Matcher<ILoggingEvent> matcher : matchers) {
+            if (matcher.matches(event)) {
+                score++;
+            }
+        }
+        return score;
+    }
+
+    @Override
+    public int maxScore() {
+        return matchers.size();
+    }
+
+    @Override
+    protected void describeExpectation(final Description description) {
+        description.appendList("an ILoggingEvent matching all of (", " and ", ")", matchers);
+    }
+}
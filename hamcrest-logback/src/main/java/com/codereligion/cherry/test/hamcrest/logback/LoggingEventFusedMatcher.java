@@ -0,0 +1,237 @@
+/**
+ * Copyright 2015 www.codereligion.com
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.codereligion.cherry.test.hamcrest.logback;
+
+import ch.qos.logback.classic.Level;
+import ch.qos.logback.classic.spi.ILoggingEvent;
+import javax.annotation.Nullable;
+import org.hamcrest.Description;
+import org.hamcrest.Matcher;
+import static com.google.common.base.Preconditions.checkArgument;
+
+/**
+ * A matcher which checks the level, the logger and the message of an {@link ch.qos.logback.classic.spi.ILoggingEvent} in a single pass. Instances are
+ * immutable, each expectation method returns a new matcher which additionally checks the given expectation. The checks are always executed from the
+ * cheapest to the most expensive one, regardless of the order in which they were specified: the level is compared by its integer value, the logger name by
+ * reference before falling back to {@link String#equals(Object)} and the message is only scanned when all other checks passed. Descriptions are only
+ * generated on failure.
+ * <p/>
+ * Example usage: {@code assertThat(events, hasItem(event().level(Level.ERROR).loggedBy(SomeType.class).message("some")));}
+ *
+ * @author Sebastian Gr&ouml;bler
+ * @since 19.10.2026
+ */
+public class LoggingEventFusedMatcher extends AbstractILoggingEventDescribingMatcher implements ScoredMatcher {
+
+    /**
+     * Creates a new matcher for {@link ch.qos.logback.classic.spi.ILoggingEvent ILoggingEvents} which matches any event until expectations are added. This
+     * matcher's output is optimized for usage on iterables of events.
+     * <p/>
+     * Example usage: {@code assertThat(events, hasItem(event().level(Level.ERROR).loggedBy("SomeLogger")));}
+     * <p/>
+     * Example output: {@code Expected: an iterable containing an ILoggingEvent with level: ERROR and logged by: SomeLogger but: iterable contained
+     * [ILoggingEvent{level=INFO, formattedMessage='some Message', loggedBy=SomeLogger, throwable=null}], nearest candidates [1 of 2 satisfied by
+     * ILoggingEvent{level=INFO, formattedMessage='some Message', loggedBy=SomeLogger, throwable=null}]}
+     *
+     * @return a new matcher
+     */
+    public static LoggingEventFusedMatcher event() {
+        return new LoggingEventFusedMatcher(true, null, null, null, null);
+    }
+
+    /**
+     * Creates a new matcher for {@link ch.qos.logback.classic.spi.ILoggingEvent ILoggingEvents} which matches any event until expectations are added. This
+     * matcher is doing the same assertion as {@link LoggingEventFusedMatcher#event()}, with the difference that this matcher's output is optimized for usage
+     * on single events.
+     * <p/>
+     * Example usage: {@code assertThat(event, isEvent().level(Level.ERROR).loggedBy("SomeLogger"));}
+     * <p/>
+     * Example output: {@code Expected: an ILoggingEvent with level: ERROR and logged by: SomeLogger but: was ILoggingEvent{level=INFO,
+     * formattedMessage='some Message', loggedBy=SomeLogger, throwable=null}}
+     *
+     * @return a new matcher
+     */
+    public static LoggingEventFusedMatcher isEvent() {
+        return new LoggingEventFusedMatcher(false, null, null, null, null);
+    }
+
+    private final Level level;
+    private final String loggerName;
+    private final String messageSubstring;
+    private final Matcher<String> messageMatcher;
+
+    private LoggingEventFusedMatcher(final boolean usedOnIterable,
+                                     @Nullable final Level level,
+                                     @Nullable final String loggerName,
+                                     @Nullable final String messageSubstring,
+                                     @Nullable final Matcher<String> messageMatcher) {
+        super(usedOnIterable);
+        this.level = level;
+        this.loggerName = loggerName;
+        this.messageSubstring = messageSubstring;
+        this.messageMatcher = messageMatcher;
+    }
+
+    /**
+     * Creates a new matcher which additionally expects the event to have the given {@code level}. A previously specified level is replaced.
+     *
+     * @param level the expected {@link Level}
+     * @return a new matcher
+     * @throws java.lang.IllegalArgumentException when the given parameter is {@code null}
+     */
+    public LoggingEventFusedMatcher level(final Level level) {
+        checkArgument(level != null, "level must not be null.");
+        return new LoggingEventFusedMatcher(isUsedOnIterable(), level, loggerName, messageSubstring, messageMatcher);
+    }
+
+    /**
+     * Creates a new matcher which additionally expects the event to be logged by the logger with the given {@code loggerName}. A previously specified logger
+     * is replaced.
+     *
+     * @param loggerName the name of the expected logger
+     * @return a new matcher
+     * @throws java.lang.IllegalArgumentException when the given parameter is {@code null}
+     */
+    public LoggingEventFusedMatcher loggedBy(final String loggerName) {
+        checkArgument(loggerName != null, "loggerName must not be null.");
+        return new LoggingEventFusedMatcher(isUsedOnIterable(), level, LoggingEventLoggedBy.canonicalNameOf(loggerName), messageSubstring, messageMatcher);
+    }
+
+    /**
+     * Creates a new matcher which additionally expects the event to be logged by the logger of the given {@code loggerType}. A previously specified logger
+     * is replaced.
+     *
+     * @param loggerType the type of the expected logger
+     * @return a new matcher
+     * @throws java.lang.IllegalArgumentException when the given parameter is {@code null}
+     */
+    public LoggingEventFusedMatcher loggedBy(final Class<?> loggerType) {
+        checkArgument(loggerType != null, "loggerType must not be null.");
+        final String canonicalName = LoggingEventLoggedBy.canonicalNameOf(loggerType.getName());
+        return new LoggingEventFusedMatcher(isUsedOnIterable(), level, canonicalName, messageSubstring, messageMatcher);
+    }
+
+    /**
+     * Creates a new matcher which additionally expects the formatted message of the event to contain the given {@code substring}. A previously specified
+     * message expectation is replaced.
+     *
+     * @param substring the expected substring of the formatted message
+     * @return a new matcher
+     * @throws java.lang.IllegalArgumentException when the given parameter is {@code null}
+     */
+    public LoggingEventFusedMatcher message(final String substring) {
+        checkArgument(substring != null, "substring must not be null.");
+        return new LoggingEventFusedMatcher(isUsedOnIterable(), level, loggerName, substring, null);
+    }
+
+    /**
+     * Creates a new matcher which additionally expects the formatted message of the event to match the given {@code matcher}. A previously specified message
+     * expectation is replaced.
+     *
+     * @param matcher the {@link Matcher} to check the formatted message with
+     * @return a new matcher
+     * @throws java.lang.IllegalArgumentException when the given parameter is {@code null}
+     */
+    public LoggingEventFusedMatcher message(final Matcher<String> matcher) {
+        checkArgument(matcher != null, "matcher must not be null.");
+        return new LoggingEventFusedMatcher(isUsedOnIterable(), level, loggerName, null, matcher);
+    }
+
+    @Override
+    protected boolean internalMatches(final ILoggingEvent event) {
+        return levelMatches(event) && loggerMatches(event) && messageMatches(event);
+    }
+
+    @Override
+    public int score(final ILoggingEvent event) {
+        int score = 0;
+        if (level != null && levelMatches(event)) {
+            score++;
+        }
+        if (loggerName != null && loggerMatches(event)) {
+            score++;
+        }
+        if ((messageSubstring != null || messageMatcher != null) && messageMatches(event)) {
+            score++;
+        }
+        return score;
+    }
+
+    @Override
+    public int maxScore() {
+        int maxScore = 0;
+        if (level != null) {
+            maxScore++;
+        }
+        if (loggerName != null) {
+            maxScore++;
+        }
+        if (messageSubstring != null || messageMatcher != null) {
+            maxScore++;
+        }
+        return maxScore;
+    }
+
+    private boolean levelMatches(final ILoggingEvent event) {
+        if (level == null) {
+            return true;
+        }
+        final Level eventLevel = event.getLevel();
+        return eventLevel != null && eventLevel.toInt() == level.toInt();
+    }
+
+    private boolean loggerMatches(final ILoggingEvent event) {
+        if (loggerName == null) {
+            return true;
+        }
+        // logger names are usually the very same instance, which makes the reference comparison the common case
+        final String eventLoggerName = event.getLoggerName();
+        return eventLoggerName == loggerName || loggerName.equals(eventLoggerName);
+    }
+
+    private boolean messageMatches(final ILoggingEvent event) {
+        if (messageSubstring != null) {
+            final String formattedMessage = event.getFormattedMessage();
+            return formattedMessage != null && formattedMessage.contains(messageSubstring);
+        }
+        return messageMatcher == null || messageMatcher.matches(event.getFormattedMessage());
+    }
+
+    @Override
+    protected void describeExpectation(final Description description) {
+
+        if (level == null && loggerName == null && messageSubstring == null && messageMatcher == null) {
+            description.appendText("any ILoggingEvent");
+            return;
+        }
+
+        description.appendText("an ILoggingEvent");
+        String separator = " ";
+        if (level != null) {
+            description.appendText(separator).appendText("with level: ").appendText(level.toString());
+            separator = " and ";
+        }
+        if (loggerName != null) {
+            description.appendText(separator).appendText("logged by: ").appendText(loggerName);
+            separator = " and ";
+        }
+        if (messageSubstring != null) {
+            description.appendText(separator).appendText("with a formattedMessage containing: ").appendText(messageSubstring);
+        } else if (messageMatcher != null) {
+            messageMatcher.describeTo(description.appendText(separator).appendText("with a formattedMessage matching: "));
+        }
+    }
+}
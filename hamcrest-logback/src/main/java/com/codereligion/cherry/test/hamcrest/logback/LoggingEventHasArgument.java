@@ -0,0 +1,127 @@
+/**
+ * Copyright 2015 www.codereligion.com
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.codereligion.cherry.test.hamcrest.logback;
+
+import ch.qos.logback.classic.spi.ILoggingEvent;
+import org.hamcrest.Description;
+import org.hamcrest.Matcher;
+import static com.google.common.base.Preconditions.checkArgument;
+
+/**
+ * A matcher which expects the argument at a specific index of the {@link ch.qos.logback.classic.spi.ILoggingEvent} to match the given {@link
+ * org.hamcrest.Matcher}. The argument is taken from {@link ch.qos.logback.classic.spi.ILoggingEvent#getArgumentArray()} as it was passed to the logger, the
+ * message of the event is never formatted while matching. In conjunction with {@link LoggingEventHasMessageTemplate} a logging statement and its arguments
+ * can be asserted without any formatting costs.
+ *
+ * @author Sebastian Gr&ouml;bler
+ * @since 19.10.2026
+ */
+public class LoggingEventHasArgument extends AbstractILoggingEventDescribingMatcher {
+
+    /**
+     * Creates a new matcher for {@link ch.qos.logback.classic.spi.ILoggingEvent ILoggingEvents} that only matches when the examined event has an argument at
+     * the given {@code index} which matches the given {@link org.hamcrest.Matcher}. This matcher is doing the same assertion as {@link
+     * LoggingEventHasArgument#withArgument(int, Matcher)}, with the difference that this matcher's output is optimized for usage on single events.
+     * <p/>
+     * Example usage: {@code assertThat(event, hasArgument(0, equalTo("localhost")));}
+     * <p/>
+     * Example output: {@code Expected: an ILoggingEvent with argument 0 matching: "localhost" but: was ILoggingEvent{level=INFO, formattedMessage='connected
+     * to remotehost', loggedBy=SomeLogger, throwable=null}}
+     *
+     * @param index   the index of the argument
+     * @param matcher the {@link Matcher} to check the argument with
+     * @return a new matcher
+     * @throws java.lang.IllegalArgumentException when the given index is negative or the given matcher is {@code null}
+     */
+    public static Matcher<ILoggingEvent> hasArgument(final int index, final Matcher<?> matcher) {
+        return new LoggingEventHasArgument(index, matcher, false, false);
+    }
+
+    /**
+     * Creates a new matcher for {@link ch.qos.logback.classic.spi.ILoggingEvent ILoggingEvents} that only matches when the examined event does not have an
+     * argument at the given {@code index} which matches the given {@link org.hamcrest.Matcher}. This matcher is the negation of {@link
+     * LoggingEventHasArgument#hasArgument(int, Matcher)}. It is recommended to use this specific matcher instead of just combining the other matcher with
+     * {@link org.hamcrest.CoreMatchers#not(Matcher)} because of the improved error output.
+     * <p/>
+     * Example usage: {@code assertThat(event, doesNotHaveArgument(0, equalTo("localhost")));}
+     * <p/>
+     * Example output: {@code Expected: an ILoggingEvent without argument 0 matching: "localhost" but: was ILoggingEvent{level=INFO,
+     * formattedMessage='connected to localhost', loggedBy=SomeLogger, throwable=null}}
+     *
+     * @param index   the index of the argument
+     * @param matcher the {@link Matcher} to check the argument with
+     * @return a new matcher
+     * @throws java.lang.IllegalArgumentException when the given index is negative or the given matcher is {@code null}
+     */
+    public static Matcher<ILoggingEvent> doesNotHaveArgument(final int index, final Matcher<?> matcher) {
+        return new LoggingEventHasArgument(index, matcher, true, false);
+    }
+
+    /**
+     * Creates a new matcher for {@link ch.qos.logback.classic.spi.ILoggingEvent ILoggingEvents} that only matches when the examined event has an argument at
+     * the given {@code index} which matches the given {@link org.hamcrest.Matcher}. This matcher is doing the same assertion as {@link
+     * LoggingEventHasArgument#hasArgument(int, Matcher)}, with the difference that this matcher's output is optimized for usage on iterables of events.
+     * <p/>
+     * Example usage: {@code assertThat(events, hasItem(withArgument(0, equalTo("localhost"))));}
+     * <p/>
+     * Example output: {@code Expected: an iterable containing an ILoggingEvent with argument 0 matching: "localhost" but: iterable contained
+     * [ILoggingEvent{level=INFO, formattedMessage='connected to remotehost', loggedBy=SomeLogger, throwable=null}]}
+     *
+     * @param index   the index of the argument
+     * @param matcher the {@link Matcher} to check the argument with
+     * @return a new matcher
+     * @throws java.lang.IllegalArgumentException when the given index is negative or the given matcher is {@code null}
+     */
+    public static Matcher<ILoggingEvent> withArgument(final int index, final Matcher<?> matcher) {
+        return new LoggingEventHasArgument(index, matcher, false, true);
+    }
+
+    private final int index;
+    private final Matcher<?> matcher;
+
+    /**
+     * Creates a new instance using the given {@code index} and {@link org.hamcrest.Matcher}.
+     *
+     * @param index          the index of the argument
+     * @param matcher        the matcher to check the argument with
+     * @param negated        if the matcher is negated
+     * @param usedOnIterable if the matcher is used as part of an iterable matching
+     * @throws java.lang.IllegalArgumentException when the given index is negative or the given matcher is {@code null}
+     */
+    private LoggingEventHasArgument(final int index, final Matcher<?> matcher, final boolean negated, final boolean usedOnIterable) {
+        super(negated, usedOnIterable);
+        checkArgument(index >= 0, "index must not be negative.");
+        checkArgument(matcher != null, "matcher must not be null.");
+        this.index = index;
+        this.matcher = matcher;
+    }
+
+    @Override
+    protected boolean internalMatches(final ILoggingEvent event) {
+        final Object[] arguments = event.getArgumentArray();
+        return arguments != null && index < arguments.length && matcher.matches(arguments[index]);
+    }
+
+    @Override
+    protected void describeExpectation(final Description description) {
+        matcher.describeTo(description.appendText("an ILoggingEvent with argument ").appendText(String.valueOf(index)).appendText(" matching: "));
+    }
+
+    @Override
+    protected void describeNegatedExpectation(final Description description) {
+        matcher.describeTo(description.appendText("an ILoggingEvent without argument ").appendText(String.valueOf(index)).appendText(" matching: "));
+    }
+}
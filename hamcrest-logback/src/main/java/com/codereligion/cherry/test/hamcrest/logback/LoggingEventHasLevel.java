@@ -108,11 +108,11 @@ public class LoggingEventHasLevel extends AbstractILoggingEventDescribingMatcher
 
     @Override
     protected void describeExpectation(final Description description) {
-        description.appendText("an ILoggingEvent with level: " + level);
+        description.appendText("an ILoggingEvent with level: ").appendText(level.toString());
     }
 
     @Override
     protected void describeNegatedExpectation(final Description description) {
-        description.appendText("an ILoggingEvent with level other than: " + level);
+        description.appendText("an ILoggingEvent with level other than: ").appendText(level.toString());
     }
 }
@@ -0,0 +1,119 @@
+/**
+ * Copyright 2015 www.codereligion.com
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.codereligion.cherry.test.hamcrest.logback;
+
+import ch.qos.logback.classic.spi.ILoggingEvent;
+import org.hamcrest.Description;
+import org.hamcrest.Matcher;
+import static com.google.common.base.Preconditions.checkArgument;
+
+/**
+ * A matcher which expects the {@link ch.qos.logback.classic.spi.ILoggingEvent} to have a specific message template, which is the raw message as returned by
+ * {@link ch.qos.logback.classic.spi.ILoggingEvent#getMessage()}, before its placeholders are replaced by the arguments. In contrast to {@link
+ * LoggingEventHasMessage}, matching never formats the message of an event, which makes it the cheaper choice when asserting that a certain logging statement
+ * was executed.
+ *
+ * @author Sebastian Gr&ouml;bler
+ * @since 19.10.2026
+ */
+public class LoggingEventHasMessageTemplate extends AbstractILoggingEventDescribingMatcher {
+
+    /**
+     * Creates a new matcher for {@link ch.qos.logback.classic.spi.ILoggingEvent ILoggingEvents} that only matches when the examined event has a message
+     * template equal to the given one. This matcher is doing the same assertion as {@link LoggingEventHasMessageTemplate#withMessageTemplate(String)}, with
+     * the difference that this matcher's output is optimized for usage on single events.
+     * <p/>
+     * Example usage: {@code assertThat(event, hasMessageTemplate("connected to {}"));}
+     * <p/>
+     * Example output: {@code Expected: an ILoggingEvent with message template: connected to {} but: was ILoggingEvent{level=INFO,
+     * formattedMessage='disconnected from localhost', loggedBy=SomeLogger, throwable=null}}
+     *
+     * @param template the expected message template
+     * @return a new matcher
+     * @throws java.lang.IllegalArgumentException when the given parameter is {@code null}
+     */
+    public static Matcher<ILoggingEvent> hasMessageTemplate(final String template) {
+        return new LoggingEventHasMessageTemplate(template, false, false);
+    }
+
+    /**
+     * Creates a new matcher for {@link ch.qos.logback.classic.spi.ILoggingEvent ILoggingEvents} that only matches when the examined event does not have a
+     * message template equal to the given one. This matcher is the negation of {@link LoggingEventHasMessageTemplate#hasMessageTemplate(String)}. It is
+     * recommended to use this specific matcher instead of just combining the other matcher with {@link org.hamcrest.CoreMatchers#not(Matcher)} because of
+     * the improved error output.
+     * <p/>
+     * Example usage: {@code assertThat(event, doesNotHaveMessageTemplate("connected to {}"));}
+     * <p/>
+     * Example output: {@code Expected: an ILoggingEvent with message template other than: connected to {} but: was ILoggingEvent{level=INFO,
+     * formattedMessage='connected to localhost', loggedBy=SomeLogger, throwable=null}}
+     *
+     * @param template the message template not to be expected
+     * @return a new matcher
+     * @throws java.lang.IllegalArgumentException when the given parameter is {@code null}
+     */
+    public static Matcher<ILoggingEvent> doesNotHaveMessageTemplate(final String template) {
+        return new LoggingEventHasMessageTemplate(template, true, false);
+    }
+
+    /**
+     * Creates a new matcher for {@link ch.qos.logback.classic.spi.ILoggingEvent ILoggingEvents} that only matches when the examined event has a message
+     * template equal to the given one. This matcher is doing the same assertion as {@link LoggingEventHasMessageTemplate#hasMessageTemplate(String)}, with
+     * the difference that this matcher's output is optimized for usage on iterables of events.
+     * <p/>
+     * Example usage: {@code assertThat(events, hasItem(withMessageTemplate("connected to {}")));}
+     * <p/>
+     * Example output: {@code Expected: an iterable containing an ILoggingEvent with message template: connected to {} but: iterable contained
+     * [ILoggingEvent{level=INFO, formattedMessage='disconnected from localhost', loggedBy=SomeLogger, throwable=null}]}
+     *
+     * @param template the expected message template
+     * @return a new matcher
+     * @throws java.lang.IllegalArgumentException when the given parameter is {@code null}
+     */
+    public static Matcher<ILoggingEvent> withMessageTemplate(final String template) {
+        return new LoggingEventHasMessageTemplate(template, false, true);
+    }
+
+    private final String template;
+
+    /**
+     * Creates a new instance using the given {@code template}.
+     *
+     * @param template       the message template to match the event's raw message with
+     * @param negated        if the matcher is negated
+     * @param usedOnIterable if the matcher is used as part of an iterable matching
+     * @throws java.lang.IllegalArgumentException when the given parameter is {@code null}
+     */
+    private LoggingEventHasMessageTemplate(final String template, final boolean negated, final boolean usedOnIterable) {
+        super(negated, usedOnIterable);
+        checkArgument(template != null, "template must not be null.");
+        this.template = template;
+    }
+
+    @Override
+    protected boolean internalMatches(final ILoggingEvent event) {
+        return template.equals(event.getMessage());
+    }
+
+    @Override
+    protected void describeExpectation(final Description description) {
+        description.appendText("an ILoggingEvent with message template: ").appendText(template);
+    }
+
+    @Override
+    protected void describeNegatedExpectation(final Description description) {
+        description.appendText("an ILoggingEvent with message template other than: ").appendText(template);
+    }
+}
@@ -0,0 +1,124 @@
+/**
+ * Copyright 2015 www.codereligion.com
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.codereligion.cherry.test.hamcrest.logback;
+
+import ch.qos.logback.classic.spi.ILoggingEvent;
+import ch.qos.logback.classic.spi.IThrowableProxy;
+import org.hamcrest.Description;
+import org.hamcrest.Matcher;
+import static com.google.common.base.Preconditions.checkArgument;
+
+/**
+ * A matcher which expects the {@link ch.qos.logback.classic.spi.ILoggingEvent} to have a throwable, of which the stack trace or the stack trace of any of its
+ * causes contains a {@link StackTraceElement} which matches the given {@link org.hamcrest.Matcher}. The stack frames are walked lazily and the walk stops at
+ * the first matching frame.
+ *
+ * @author Sebastian Gr&ouml;bler
+ * @since 19.10.2026
+ */
+public class LoggingEventHasStackFrame extends AbstractILoggingEventDescribingMatcher {
+
+    /**
+     * Creates a new matcher for {@link ch.qos.logback.classic.spi.ILoggingEvent ILoggingEvents} that only matches when the examined event has a throwable
+     * associated to it which has at least one stack frame matching the given {@link org.hamcrest.Matcher}. This matcher is doing the same assertion as {@link
+     * LoggingEventHasStackFrame#withFrameMatching(Matcher)}, with the difference that this matcher's output is optimized for usage on single events.
+     * <p/>
+     * Example usage: {@code assertThat(event, hasFrameMatching(someStackTraceElementMatcher));}
+     * <p/>
+     * Example output: {@code Expected: an ILoggingEvent with a stack frame matching: some frame but: was ILoggingEvent{level=ERROR, formattedMessage='some
+     * Message', loggedBy=SomeLogger, throwable=java.lang.NullPointerException{message='nope!'}}}
+     *
+     * @param matcher the {@link Matcher} to check the stack frames with
+     * @return a new matcher
+     * @throws java.lang.IllegalArgumentException when the given parameter is {@code null}
+     */
+    public static Matcher<ILoggingEvent> hasFrameMatching(final Matcher<StackTraceElement> matcher) {
+        return new LoggingEventHasStackFrame(matcher, false, false);
+    }
+
+    /**
+     * Creates a new matcher for {@link ch.qos.logback.classic.spi.ILoggingEvent ILoggingEvents} that only matches when the examined event does not have a
+     * throwable associated to it which has a stack frame matching the given {@link org.hamcrest.Matcher}. This matcher is the negation of {@link
+     * LoggingEventHasStackFrame#hasFrameMatching(Matcher)}. It is recommended to use this specific matcher instead of just combining the other matcher with
+     * {@link org.hamcrest.CoreMatchers#not(Matcher)} because of the improved error output.
+     * <p/>
+     * Example usage: {@code assertThat(event, doesNotHaveFrameMatching(someStackTraceElementMatcher));}
+     * <p/>
+     * Example output: {@code Expected: an ILoggingEvent without a stack frame matching: some frame but: was ILoggingEvent{level=ERROR,
+     * formattedMessage='some Message', loggedBy=SomeLogger, throwable=java.lang.NullPointerException{message='nope!'}}}
+     *
+     * @param matcher the {@link Matcher} to check the stack frames with
+     * @return a new matcher
+     * @throws java.lang.IllegalArgumentException when the given parameter is {@code null}
+     */
+    public static Matcher<ILoggingEvent> doesNotHaveFrameMatching(final Matcher<StackTraceElement> matcher) {
+        return new LoggingEventHasStackFrame(matcher, true, false);
+    }
+
+    /**
+     * Creates a new matcher for {@link ch.qos.logback.classic.spi.ILoggingEvent ILoggingEvents} that only matches when the examined event has a throwable
+     * associated to it which has at least one stack frame matching the given {@link org.hamcrest.Matcher}. This matcher is doing the same assertion as {@link
+     * LoggingEventHasStackFrame#hasFrameMatching(Matcher)}, with the difference that this matcher's output is optimized for usage on iterables of events.
+     * <p/>
+     * Example usage: {@code assertThat(events, hasItem(withFrameMatching(someStackTraceElementMatcher)));}
+     * <p/>
+     * Example output: {@code Expected: an iterable containing an ILoggingEvent with a stack frame matching: some frame but: iterable contained
+     * [ILoggingEvent{level=ERROR, formattedMessage='some Message', loggedBy=SomeLogger, throwable=null}]}
+     *
+     * @param matcher the {@link Matcher} to check the stack frames with
+     * @return a new matcher
+     * @throws java.lang.IllegalArgumentException when the given parameter is {@code null}
+     */
+    public static Matcher<ILoggingEvent> withFrameMatching(final Matcher<StackTraceElement> matcher) {
+        return new LoggingEventHasStackFrame(matcher, false, true);
+    }
+
+    private final Matcher<StackTraceElement> matcher;
+
+    /**
+     * Creates a new instance using the given {@link org.hamcrest.Matcher}.
+     *
+     * @param matcher        the matcher to check the stack frames with
+     * @param negated        if the matcher is negated
+     * @param usedOnIterable if the matcher is used as part of an iterable matching
+     * @throws java.lang.IllegalArgumentException when the given parameter is {@code null}
+     */
+    private LoggingEventHasStackFrame(final Matcher<StackTraceElement> matcher, final boolean negated, final boolean usedOnIterable) {
+        super(negated, usedOnIterable);
+        checkArgument(matcher != null, "matcher must not be null.");
+        this.matcher = matcher;
+    }
+
+    @Override
+    protected boolean internalMatches(final ILoggingEvent event) {
+        for (IThrowableProxy proxy = event.getThrowableProxy(); proxy != null; proxy = proxy.getCause()) {
+            if (StackFrames.contain(proxy, matcher)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    @Override
+    protected void describeExpectation(final Description description) {
+        matcher.describeTo(description.appendText("an ILoggingEvent with a stack frame matching: "));
+    }
+
+    @Override
+    protected void describeNegatedExpectation(final Description description) {
+        matcher.describeTo(description.appendText("an ILoggingEvent without a stack frame matching: "));
+    }
+}
@@ -116,12 +116,12 @@ public class LoggingEventHasThrowable extends AbstractILoggingEventDescribingMat
 
     @Override
     protected void describeExpectation(final Description description) {
-        description.appendText("an ILoggingEvent with a throwable matching: " + toString(throwable));
+        description.appendText("an ILoggingEvent with a throwable matching: ").appendText(toString(throwable));
     }
 
     @Override
     protected void describeNegatedExpectation(final Description description) {
-        description.appendText("an ILoggingEvent with a throwable not matching: " + toString(throwable));
+        description.appendText("an ILoggingEvent with a throwable not matching: ").appendText(toString(throwable));
     }
 
     private String toString(final Throwable throwable) {
@@ -15,6 +15,7 @@
  */
 package com.codereligion.cherry.test.hamcrest.logback;
 
+import ch.qos.logback.classic.Level;
 import ch.qos.logback.classic.spi.ILoggingEvent;
 import org.hamcrest.Description;
 import org.hamcrest.Matcher;
@@ -23,7 +24,9 @@ import static com.google.common.base.Preconditions.checkArgument;
 
 /**
  * A matcher which expects at least one item of an iterable of {@link ch.qos.logback.classic.spi.ILoggingEvent ILoggingEvents} to match the given {@link
- * org.hamcrest.Matcher}.
+ * org.hamcrest.Matcher}. When the iterable contains more events than can be listed in a failure description, the description is amended with the number of
+ * events per level and per logger. When the given matcher is a {@link LoggingEventAllOf}, the description also contains the events which satisfied the most
+ * of its matchers.
  *
  * @author Sebastian Gr&ouml;bler
  * @since 23.03.2015
@@ -89,20 +92,65 @@ public class LoggingEventIterableHasItem extends TypeSafeDiagnosingMatcher<Itera
 
     private boolean positiveMatches(final Iterable<ILoggingEvent> collection, final Description mismatchDescription) {
 
+        // mismatches are not described while only matching, e.g. when called by Matcher#matches(Object)
+        if (mismatchDescription instanceof Description.NullDescription) {
+            for (final ILoggingEvent item : collection) {
+                if (itemMatcher.matches(item)) {
+                    return true;
+                }
+            }
+            return false;
+        }
+
+        final ScoredMatcher scoredMatcher = itemMatcher instanceof ScoredMatcher ? (ScoredMatcher) itemMatcher : null;
+        final CaptureSummary summary = new CaptureSummary();
+        int described = 0;
+        int omitted = 0;
+        int omittedAtError = 0;
+
         mismatchDescription.appendText("[");
-        boolean isPastFirst = false;
-        for (final Object item : collection) {
-            if (itemMatcher.matches(item)) {
-                return true;
+        for (final ILoggingEvent item : collection) {
+            if (scoredMatcher == null) {
+                if (itemMatcher.matches(item)) {
+                    return true;
+                }
+            } else {
+                final int score = scoredMatcher.score(item);
+                if (score == scoredMatcher.maxScore()) {
+                    return true;
+                }
+                summary.offerCandidate(item, score);
             }
-            if (isPastFirst) {
-                mismatchDescription.appendText(", ");
+            summary.count(item);
+            if (described < LoggingEventRenderer.MAX_RENDERED_EVENTS) {
+                if (described > 0) {
+                    mismatchDescription.appendText(", ");
+                }
+                itemMatcher.describeMismatch(item, mismatchDescription);
+                described++;
+            } else {
+                omitted++;
+                if (Level.ERROR.equals(item.getLevel())) {
+                    omittedAtError++;
+                }
             }
-            itemMatcher.describeMismatch(item, mismatchDescription);
-            isPastFirst = true;
         }
 
+        if (omitted > 0) {
+            mismatchDescription.appendText(", ");
+            LoggingEventRenderer.renderOmitted(omitted, omittedAtError, mismatchDescription);
+        }
         mismatchDescription.appendText("]");
+
+        // summarizing only pays off once the capture is too large to be listed completely
+        if (omitted > 0) {
+            mismatchDescription.appendText(", ");
+            summary.describeHistogramTo(mismatchDescription);
+        }
+        if (summary.hasCandidates()) {
+            mismatchDescription.appendText(", ");
+            summary.describeCandidatesTo(scoredMatcher.maxScore(), mismatchDescription);
+        }
         return false;
     }
 
@@ -15,13 +15,19 @@
  */
 package com.codereligion.cherry.test.hamcrest.logback;
 
+import ch.qos.logback.classic.Logger;
+import ch.qos.logback.classic.LoggerContext;
 import ch.qos.logback.classic.spi.ILoggingEvent;
 import org.hamcrest.Description;
 import org.hamcrest.Matcher;
+import org.slf4j.ILoggerFactory;
+import org.slf4j.LoggerFactory;
 import static com.google.common.base.Preconditions.checkArgument;
 
 /**
- * A matcher which expects the {@link ch.qos.logback.classic.spi.ILoggingEvent} to have a specific {@code loggerName}
+ * A matcher which expects the {@link ch.qos.logback.classic.spi.ILoggingEvent} to have a specific {@code loggerName} or, optionally, the name of one of its
+ * descendants. The expected name is resolved to the name of the existing {@link ch.qos.logback.classic.Logger}, if there is one, so that comparing the name of
+ * an event logged by that logger usually only costs a reference comparison.
  *
  * @author Sebastian Gr&ouml;bler
  * @since 17.03.2015
@@ -43,7 +49,7 @@ public class LoggingEventLoggedBy extends AbstractILoggingEventDescribingMatcher
      * @throws java.lang.IllegalArgumentException when the given parameter is {@code null}
      */
     public static Matcher<ILoggingEvent> wasLoggedBy(final String loggerName) {
-        return new LoggingEventLoggedBy(loggerName, false, false);
+        return new LoggingEventLoggedBy(loggerName, false, false, false);
     }
 
     /**
@@ -62,7 +68,7 @@ public class LoggingEventLoggedBy extends AbstractILoggingEventDescribingMatcher
      * @throws java.lang.IllegalArgumentException when the given parameter is {@code null}
      */
     public static Matcher<ILoggingEvent> wasNotLoggedBy(final String loggerName) {
-        return new LoggingEventLoggedBy(loggerName, true, false);
+        return new LoggingEventLoggedBy(loggerName, false, true, false);
     }
 
     /**
@@ -80,7 +86,7 @@ public class LoggingEventLoggedBy extends AbstractILoggingEventDescribingMatcher
      * @throws java.lang.IllegalArgumentException when the given parameter is {@code null}
      */
     public static Matcher<ILoggingEvent> loggedBy(final String loggerName) {
-        return new LoggingEventLoggedBy(loggerName, false, true);
+        return new LoggingEventLoggedBy(loggerName, false, false, true);
     }
 
     /**
@@ -98,7 +104,7 @@ public class LoggingEventLoggedBy extends AbstractILoggingEventDescribingMatcher
      * @throws java.lang.IllegalArgumentException when the given parameter is {@code null}
      */
     public static Matcher<ILoggingEvent> wasLoggedBy(final Class<?> loggerType) {
-        return new LoggingEventLoggedBy(loggerType, false, false);
+        return new LoggingEventLoggedBy(loggerType, false, false, false);
     }
 
     /**
@@ -117,7 +123,7 @@ public class LoggingEventLoggedBy extends AbstractILoggingEventDescribingMatcher
      * @throws java.lang.IllegalArgumentException when the given parameter is {@code null}
      */
     public static Matcher<ILoggingEvent> wasNotLoggedBy(final Class<?> loggerType) {
-        return new LoggingEventLoggedBy(loggerType, true, false);
+        return new LoggingEventLoggedBy(loggerType, false, true, false);
     }
 
     /**
@@ -135,52 +141,184 @@ public class LoggingEventLoggedBy extends AbstractILoggingEventDescribingMatcher
      * @throws java.lang.IllegalArgumentException when the given parameter is {@code null}
      */
     public static Matcher<ILoggingEvent> loggedBy(final Class<?> loggerType) {
-        return new LoggingEventLoggedBy(loggerType, false, true);
+        return new LoggingEventLoggedBy(loggerType, false, false, true);
+    }
+
+    /**
+     * Creates a new matcher for {@link ch.qos.logback.classic.spi.ILoggingEvent ILoggingEvents} that only matches when the examined event was logged by the
+     * logger with the given name or by one of its descendants. This matcher's output is optimized for usage on single events.
+     * <p/>
+     * Example usage: {@code assertThat(event, wasLoggedByOrDescendantOf("com.example"));}
+     * <p/>
+     * Example output: {@code Expected: an ILoggingEvent logged by: com.example or a descendant but: was ILoggingEvent{level=ERROR, formattedMessage='some
+     * Message', loggedBy=org.example.SomeLogger, throwable=null}}
+     *
+     * @param loggerName the name of the ancestor logger to match the event's logger with
+     * @return a new matcher
+     * @throws java.lang.IllegalArgumentException when the given parameter is {@code null}
+     */
+    public static Matcher<ILoggingEvent> wasLoggedByOrDescendantOf(final String loggerName) {
+        return new LoggingEventLoggedBy(loggerName, true, false, false);
+    }
+
+    /**
+     * Creates a new matcher for {@link ch.qos.logback.classic.spi.ILoggingEvent ILoggingEvents} that only matches when the examined event was neither logged
+     * by the logger with the given name nor by one of its descendants. This matcher is the negation of {@link
+     * LoggingEventLoggedBy#wasLoggedByOrDescendantOf(String)}.
+     * <p/>
+     * Example usage: {@code assertThat(event, wasNotLoggedByOrDescendantOf("com.example"));}
+     * <p/>
+     * Example output: {@code Expected: an ILoggingEvent not logged by: com.example or a descendant but: was ILoggingEvent{level=ERROR,
+     * formattedMessage='some Message', loggedBy=com.example.SomeLogger, throwable=null}}
+     *
+     * @param loggerName the name of the ancestor logger to match the event's logger with
+     * @return a new matcher
+     * @throws java.lang.IllegalArgumentException when the given parameter is {@code null}
+     */
+    public static Matcher<ILoggingEvent> wasNotLoggedByOrDescendantOf(final String loggerName) {
+        return new LoggingEventLoggedBy(loggerName, true, true, false);
+    }
+
+    /**
+     * Creates a new matcher for {@link ch.qos.logback.classic.spi.ILoggingEvent ILoggingEvents} that only matches when the examined event was logged by the
+     * logger with the given name or by one of its descendants. This matcher is doing the same assertion as {@link
+     * LoggingEventLoggedBy#wasLoggedByOrDescendantOf(String)}, with the difference that this matcher's output is optimized for usage on iterables of events.
+     * <p/>
+     * Example usage: {@code assertThat(events, hasItem(loggedByOrDescendantOf("com.example")));}
+     *
+     * @param loggerName the name of the ancestor logger to match the event's logger with
+     * @return a new matcher
+     * @throws java.lang.IllegalArgumentException when the given parameter is {@code null}
+     */
+    public static Matcher<ILoggingEvent> loggedByOrDescendantOf(final String loggerName) {
+        return new LoggingEventLoggedBy(loggerName, true, false, true);
+    }
+
+    /**
+     * Creates a new matcher for {@link ch.qos.logback.classic.spi.ILoggingEvent ILoggingEvents} that only matches when the examined event was logged by the
+     * logger of the given class or by one of its descendants. This matcher's output is optimized for usage on single events.
+     * <p/>
+     * Example usage: {@code assertThat(event, wasLoggedByOrDescendantOf(SomeType.class));}
+     *
+     * @param loggerType the {@link java.lang.Class} of which the name will be used to match the event's logger with
+     * @return a new matcher
+     * @throws java.lang.IllegalArgumentException when the given parameter is {@code null}
+     */
+    public static Matcher<ILoggingEvent> wasLoggedByOrDescendantOf(final Class<?> loggerType) {
+        return new LoggingEventLoggedBy(loggerType, true, false, false);
+    }
+
+    /**
+     * Creates a new matcher for {@link ch.qos.logback.classic.spi.ILoggingEvent ILoggingEvents} that only matches when the examined event was neither logged
+     * by the logger of the given class nor by one of its descendants. This matcher is the negation of {@link
+     * LoggingEventLoggedBy#wasLoggedByOrDescendantOf(Class)}.
+     * <p/>
+     * Example usage: {@code assertThat(event, wasNotLoggedByOrDescendantOf(SomeType.class));}
+     *
+     * @param loggerType the {@link java.lang.Class} of which the name will be used to match the event's logger with
+     * @return a new matcher
+     * @throws java.lang.IllegalArgumentException when the given parameter is {@code null}
+     */
+    public static Matcher<ILoggingEvent> wasNotLoggedByOrDescendantOf(final Class<?> loggerType) {
+        return new LoggingEventLoggedBy(loggerType, true, true, false);
+    }
+
+    /**
+     * Creates a new matcher for {@link ch.qos.logback.classic.spi.ILoggingEvent ILoggingEvents} that only matches when the examined event was logged by the
+     * logger of the given class or by one of its descendants. This matcher's output is optimized for usage on iterables of events.
+     * <p/>
+     * Example usage: {@code assertThat(events, hasItem(loggedByOrDescendantOf(SomeType.class)));}
+     *
+     * @param loggerType the {@link java.lang.Class} of which the name will be used to match the event's logger with
+     * @return a new matcher
+     * @throws java.lang.IllegalArgumentException when the given parameter is {@code null}
+     */
+    public static Matcher<ILoggingEvent> loggedByOrDescendantOf(final Class<?> loggerType) {
+        return new LoggingEventLoggedBy(loggerType, true, false, true);
     }
 
     private final String loggerName;
+    private final String descendantPrefix;
 
     /**
      * Creates a new instance using the given {@code loggerName}.
      *
-     * @param loggerName     the name of the loggerName to match the event's loggerName with
-     * @param negated        if the matcher is negated
-     * @param usedOnIterable if the matcher is used as part of an iterable matching
+     * @param loggerName         the name of the loggerName to match the event's loggerName with
+     * @param includeDescendants if events of descendants of the logger match as well
+     * @param negated            if the matcher is negated
+     * @param usedOnIterable     if the matcher is used as part of an iterable matching
      * @throws java.lang.IllegalArgumentException when the given parameter is {@code null}
      */
-    private LoggingEventLoggedBy(final String loggerName, final boolean negated, final boolean usedOnIterable) {
+    private LoggingEventLoggedBy(final String loggerName, final boolean includeDescendants, final boolean negated, final boolean usedOnIterable) {
         super(negated, usedOnIterable);
         checkArgument(loggerName != null, "loggerName must not be null.");
-        this.loggerName = loggerName;
+        this.loggerName = canonicalNameOf(loggerName);
+        this.descendantPrefix = includeDescendants ? descendantPrefixOf(this.loggerName) : null;
     }
 
     /**
      * Creates a new instance using the name of the given {@code loggerType}.
      *
-     * @param loggerType     the {@link java.lang.Class} of which the name will be used to match the event's logger with
-     * @param negated        if the matcher is negated
-     * @param usedOnIterable if the matcher is used as part of an iterable matching
+     * @param loggerType         the {@link java.lang.Class} of which the name will be used to match the event's logger with
+     * @param includeDescendants if events of descendants of the logger match as well
+     * @param negated            if the matcher is negated
+     * @param usedOnIterable     if the matcher is used as part of an iterable matching
      * @throws java.lang.IllegalArgumentException when the given parameter is {@code null}
      */
-    private LoggingEventLoggedBy(final Class<?> loggerType, final boolean negated, final boolean usedOnIterable) {
+    private LoggingEventLoggedBy(final Class<?> loggerType, final boolean includeDescendants, final boolean negated, final boolean usedOnIterable) {
         super(negated, usedOnIterable);
         checkArgument(loggerType != null, "loggerType must not be null.");
-        this.loggerName = loggerType.getName();
+        this.loggerName = canonicalNameOf(loggerType.getName());
+        this.descendantPrefix = includeDescendants ? descendantPrefixOf(this.loggerName) : null;
     }
 
+    /**
+     * Resolves the given {@code loggerName} to the name instance held by the existing logger of the same name. Events carry the name instance of the logger
+     * which logged them, which allows to compare them by reference. The given name is returned when there is no such logger.
+     *
+     * @param loggerName the name to resolve
+     * @return the name held by the existing logger or the given name
+     */
+    static String canonicalNameOf(final String loggerName) {
+        final ILoggerFactory loggerFactory = LoggerFactory.getILoggerFactory();
+        if (loggerFactory instanceof LoggerContext) {
+            final Logger logger = ((LoggerContext) loggerFactory).exists(loggerName);
+            if (logger != null) {
+                return logger.getName();
+            }
+        }
+        return loggerName;
+    }
+
+    private static String descendantPrefixOf(final String loggerName) {
+        // every logger is a descendant of the root logger
+        return Logger.ROOT_LOGGER_NAME.equalsIgnoreCase(loggerName) ? "" : loggerName + ".";
+    }
 
     @Override
     protected boolean internalMatches(final ILoggingEvent event) {
-        return event.getLoggerName().equals(loggerName);
+        final String eventLoggerName = event.getLoggerName();
+        if (eventLoggerName == loggerName || loggerName.equals(eventLoggerName)) {
+            return true;
+        }
+        return descendantPrefix != null && eventLoggerName != null && eventLoggerName.startsWith(descendantPrefix);
     }
 
     @Override
     protected void describeExpectation(final Description description) {
-        description.appendText("an ILoggingEvent logged by: " + loggerName);
+        description.appendText("an ILoggingEvent logged by: ").appendText(loggerName);
+        describeDescendants(description);
     }
 
     @Override
     protected void describeNegatedExpectation(final Description description) {
-        description.appendText("an ILoggingEvent not logged by: " + loggerName);
+        description.appendText("an ILoggingEvent not logged by: ").appendText(loggerName);
+        describeDescendants(description);
+    }
+
+    private void describeDescendants(final Description description) {
+        if (descendantPrefix != null) {
+            description.appendText(" or a descendant");
+        }
     }
 }
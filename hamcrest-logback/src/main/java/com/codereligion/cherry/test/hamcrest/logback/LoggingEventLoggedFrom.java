@@ -0,0 +1,212 @@
+/**
+ * Copyright 2015 www.codereligion.com
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.codereligion.cherry.test.hamcrest.logback;
+
+import ch.qos.logback.classic.spi.ILoggingEvent;
+import org.hamcrest.Description;
+import org.hamcrest.Matcher;
+import static com.google.common.base.Preconditions.checkArgument;
+
+/**
+ * A matcher which expects the {@link ch.qos.logback.classic.spi.ILoggingEvent} to be logged from a specific method, according to its caller data.
+ * <p/>
+ * Computing the caller data of an event requires walking the stack of the logging thread, which is only meaningful while the event is being logged. This
+ * matcher therefore never triggers the computation and only examines events which already have caller data, e.g. events recorded for a {@code LogSpec}
+ * with enabled caller data. Events without caller data are matched neither by this matcher nor by its negation.
+ *
+ * @author Sebastian Gr&ouml;bler
+ * @since 19.10.2026
+ */
+public class LoggingEventLoggedFrom extends AbstractILoggingEventDescribingMatcher {
+
+    /**
+     * Creates a new matcher for {@link ch.qos.logback.classic.spi.ILoggingEvent ILoggingEvents} that only matches when the examined event was logged from the
+     * given method. This matcher is doing the same assertion as {@link LoggingEventLoggedFrom#loggedFrom(String, String)}, with the difference that this
+     * matcher's output is optimized for usage on single events.
+     * <p/>
+     * Example usage: {@code assertThat(event, wasLoggedFrom("com.acme.SomeType", "someMethod"));}
+     * <p/>
+     * Example output: {@code Expected: an ILoggingEvent logged from: com.acme.SomeType#someMethod but: was ILoggingEvent{level=ERROR, formattedMessage='some
+     * Message', loggedBy=SomeLogger, throwable=null} logged from com.acme.OtherType#otherMethod}
+     *
+     * @param className  the fully qualified name of the class which declares the method
+     * @param methodName the name of the method
+     * @return a new matcher
+     * @throws java.lang.IllegalArgumentException when any of the given parameters are {@code null}
+     */
+    public static Matcher<ILoggingEvent> wasLoggedFrom(final String className, final String methodName) {
+        return new LoggingEventLoggedFrom(className, methodName, false, false);
+    }
+
+    /**
+     * Creates a new matcher for {@link ch.qos.logback.classic.spi.ILoggingEvent ILoggingEvents} that only matches when the examined event was not logged from
+     * the given method. This matcher is the negation of {@link LoggingEventLoggedFrom#wasLoggedFrom(String, String)}. It is recommended to use this specific
+     * matcher instead of just combining the other matcher with {@link org.hamcrest.CoreMatchers#not(Matcher)} because of the improved error output and
+     * because events without caller data are not matched.
+     * <p/>
+     * Example usage: {@code assertThat(event, wasNotLoggedFrom("com.acme.SomeType", "someMethod"));}
+     * <p/>
+     * Example output: {@code Expected: an ILoggingEvent not logged from: com.acme.SomeType#someMethod but: was ILoggingEvent{level=ERROR,
+     * formattedMessage='some Message', loggedBy=SomeLogger, throwable=null} logged from com.acme.SomeType#someMethod}
+     *
+     * @param className  the fully qualified name of the class which declares the method
+     * @param methodName the name of the method
+     * @return a new matcher
+     * @throws java.lang.IllegalArgumentException when any of the given parameters are {@code null}
+     */
+    public static Matcher<ILoggingEvent> wasNotLoggedFrom(final String className, final String methodName) {
+        return new LoggingEventLoggedFrom(className, methodName, true, false);
+    }
+
+    /**
+     * Creates a new matcher for {@link ch.qos.logback.classic.spi.ILoggingEvent ILoggingEvents} that only matches when the examined event was logged from the
+     * given method. This matcher is doing the same assertion as {@link LoggingEventLoggedFrom#wasLoggedFrom(String, String)}, with the difference that this
+     * matcher's output is optimized for usage on iterables of events.
+     * <p/>
+     * Example usage: {@code assertThat(events, hasItem(loggedFrom("com.acme.SomeType", "someMethod")));}
+     * <p/>
+     * Example output: {@code Expected: an iterable containing an ILoggingEvent logged from: com.acme.SomeType#someMethod but: iterable contained
+     * [ILoggingEvent{level=ERROR, formattedMessage='some Message', loggedBy=SomeLogger, throwable=null}]}
+     *
+     * @param className  the fully qualified name of the class which declares the method
+     * @param methodName the name of the method
+     * @return a new matcher
+     * @throws java.lang.IllegalArgumentException when any of the given parameters are {@code null}
+     */
+    public static Matcher<ILoggingEvent> loggedFrom(final String className, final String methodName) {
+        return new LoggingEventLoggedFrom(className, methodName, false, true);
+    }
+
+    /**
+     * Creates a new matcher for {@link ch.qos.logback.classic.spi.ILoggingEvent ILoggingEvents} that only matches when the examined event was logged from the
+     * given method of the given class. This matcher is doing the same assertion as {@link LoggingEventLoggedFrom#loggedFrom(Class, String)}, with the
+     * difference that this matcher's output is optimized for usage on single events.
+     * <p/>
+     * Example usage: {@code assertThat(event, wasLoggedFrom(SomeType.class, "someMethod"));}
+     *
+     * @param type       the {@link java.lang.Class} which declares the method
+     * @param methodName the name of the method
+     * @return a new matcher
+     * @throws java.lang.IllegalArgumentException when any of the given parameters are {@code null}
+     */
+    public static Matcher<ILoggingEvent> wasLoggedFrom(final Class<?> type, final String methodName) {
+        return new LoggingEventLoggedFrom(type, methodName, false, false);
+    }
+
+    /**
+     * Creates a new matcher for {@link ch.qos.logback.classic.spi.ILoggingEvent ILoggingEvents} that only matches when the examined event was not logged from
+     * the given method of the given class. This matcher is the negation of {@link LoggingEventLoggedFrom#wasLoggedFrom(Class, String)}.
+     * <p/>
+     * Example usage: {@code assertThat(event, wasNotLoggedFrom(SomeType.class, "someMethod"));}
+     *
+     * @param type       the {@link java.lang.Class} which declares the method
+     * @param methodName the name of the method
+     * @return a new matcher
+     * @throws java.lang.IllegalArgumentException when any of the given parameters are {@code null}
+     */
+    public static Matcher<ILoggingEvent> wasNotLoggedFrom(final Class<?> type, final String methodName) {
+        return new LoggingEventLoggedFrom(type, methodName, true, false);
+    }
+
+    /**
+     * Creates a new matcher for {@link ch.qos.logback.classic.spi.ILoggingEvent ILoggingEvents} that only matches when the examined event was logged from the
+     * given method of the given class. This matcher is doing the same assertion as {@link LoggingEventLoggedFrom#wasLoggedFrom(Class, String)}, with the
+     * difference that this matcher's output is optimized for usage on iterables of events.
+     * <p/>
+     * Example usage: {@code assertThat(events, hasItem(loggedFrom(SomeType.class, "someMethod")));}
+     *
+     * @param type       the {@link java.lang.Class} which declares the method
+     * @param methodName the name of the method
+     * @return a new matcher
+     * @throws java.lang.IllegalArgumentException when any of the given parameters are {@code null}
+     */
+    public static Matcher<ILoggingEvent> loggedFrom(final Class<?> type, final String methodName) {
+        return new LoggingEventLoggedFrom(type, methodName, false, true);
+    }
+
+    private final String className;
+    private final String methodName;
+
+    /**
+     * Creates a new instance using the given {@code className} and {@code methodName}.
+     *
+     * @param className      the fully qualified name of the class which declares the method
+     * @param methodName     the name of the method
+     * @param negated        if the matcher is negated
+     * @param usedOnIterable if the matcher is used as part of an iterable matching
+     * @throws java.lang.IllegalArgumentException when any of the given parameters are {@code null}
+     */
+    private LoggingEventLoggedFrom(final String className, final String methodName, final boolean negated, final boolean usedOnIterable) {
+        super(negated, usedOnIterable);
+        checkArgument(className != null, "className must not be null.");
+        checkArgument(methodName != null, "methodName must not be null.");
+        this.className = className;
+        this.methodName = methodName;
+    }
+
+    /**
+     * Creates a new instance using the name of the given {@code type} and the given {@code methodName}.
+     *
+     * @param type           the {@link java.lang.Class} which declares the method
+     * @param methodName     the name of the method
+     * @param negated        if the matcher is negated
+     * @param usedOnIterable if the matcher is used as part of an iterable matching
+     * @throws java.lang.IllegalArgumentException when any of the given parameters are {@code null}
+     */
+    private LoggingEventLoggedFrom(final Class<?> type, final String methodName, final boolean negated, final boolean usedOnIterable) {
+        super(negated, usedOnIterable);
+        checkArgument(type != null, "type must not be null.");
+        checkArgument(methodName != null, "methodName must not be null.");
+        this.className = type.getName();
+        this.methodName = methodName;
+    }
+
+    @Override
+    public boolean matchesSafely(final ILoggingEvent event) {
+        // checked first, as getCallerData() would compute the caller data from the current stack
+        return event.hasCallerData() && super.matchesSafely(event);
+    }
+
+    @Override
+    protected boolean internalMatches(final ILoggingEvent event) {
+        final StackTraceElement[] callerData = event.getCallerData();
+        return callerData.length > 0 && callerData[0].getClassName().equals(className) && callerData[0].getMethodName().equals(methodName);
+    }
+
+    @Override
+    protected void describeExpectation(final Description description) {
+        description.appendText("an ILoggingEvent logged from: ").appendText(className).appendText("#").appendText(methodName);
+    }
+
+    @Override
+    protected void describeNegatedExpectation(final Description description) {
+        description.appendText("an ILoggingEvent not logged from: ").appendText(className).appendText("#").appendText(methodName);
+    }
+
+    @Override
+    protected void describeMismatchSafely(final ILoggingEvent item, final Description mismatchDescription) {
+        super.describeMismatchSafely(item, mismatchDescription);
+        if (!item.hasCallerData()) {
+            mismatchDescription.appendText(" without caller data");
+            return;
+        }
+
+        final StackTraceElement[] callerData = item.getCallerData();
+        if (callerData.length > 0) {
+            mismatchDescription.appendText(" logged from ").appendText(callerData[0].getClassName()).appendText("#").appendText(callerData[0].getMethodName());
+        }
+    }
+}
@@ -0,0 +1,114 @@
+/**
+ * Copyright 2015 www.codereligion.com
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.codereligion.cherry.test.hamcrest.logback;
+
+import ch.qos.logback.classic.Level;
+import ch.qos.logback.classic.spi.ILoggingEvent;
+import ch.qos.logback.classic.spi.IThrowableProxy;
+import java.text.NumberFormat;
+import java.util.Locale;
+import javax.annotation.Nullable;
+import org.hamcrest.Description;
+
+/**
+ * Renders {@link ch.qos.logback.classic.spi.ILoggingEvent ILoggingEvents} for failure descriptions. Events are written piece by piece directly into the
+ * {@link org.hamcrest.Description}, without building intermediate strings per event, and messages are truncated after a fixed number of characters, so that
+ * the size of a description stays bounded regardless of the size of the described events.
+ *
+ * @author Sebastian Gr&ouml;bler
+ * @since 19.10.2026
+ */
+final class LoggingEventRenderer {
+
+    /**
+     * The maximum number of characters of a message which are rendered.
+     */
+    static final int MAX_MESSAGE_LENGTH = 500;
+
+    /**
+     * The maximum number of events of an iterable which are rendered.
+     */
+    static final int MAX_RENDERED_EVENTS = 10;
+
+    private LoggingEventRenderer() {
+    }
+
+    /**
+     * Renders the given {@code event} into the given {@code description}.
+     *
+     * @param event       the event to render
+     * @param description the description to render the event into
+     */
+    static void render(final ILoggingEvent event, final Description description) {
+        description.appendText("ILoggingEvent{level=")
+                   .appendText(String.valueOf(event.getLevel()))
+                   .appendText(", formattedMessage='");
+        renderMessage(event.getFormattedMessage(), description);
+        description.appendText("', loggedBy=")
+                   .appendText(String.valueOf(event.getLoggerName()))
+                   .appendText(", throwable=");
+        render(event.getThrowableProxy(), description);
+        description.appendText("}");
+    }
+
+    /**
+     * Renders the summary of events of an iterable which were omitted, because the maximum number of events was rendered already.
+     *
+     * @param omitted        the number of omitted events
+     * @param omittedAtError the number of omitted events logged at {@link ch.qos.logback.classic.Level#ERROR}
+     * @param description    the description to render the summary into
+     */
+    static void renderOmitted(final int omitted, final int omittedAtError, final Description description) {
+        final NumberFormat numberFormat = NumberFormat.getIntegerInstance(Locale.ENGLISH);
+        description.appendText("... and ")
+                   .appendText(numberFormat.format(omitted))
+                   .appendText(" more, ")
+                   .appendText(numberFormat.format(omittedAtError))
+                   .appendText(" at ")
+                   .appendText(Level.ERROR.toString());
+    }
+
+    private static void renderMessage(@Nullable final String message, final Description description) {
+        if (message == null || message.length() <= MAX_MESSAGE_LENGTH) {
+            description.appendText(String.valueOf(message));
+        } else {
+            description.appendText(message.substring(0, MAX_MESSAGE_LENGTH))
+                       .appendText("... (")
+                       .appendText(NumberFormat.getIntegerInstance(Locale.ENGLISH).format(message.length() - MAX_MESSAGE_LENGTH))
+                       .appendText(" more characters)");
+        }
+    }
+
+    private static void render(@Nullable final IThrowableProxy throwableProxy, final Description description) {
+
+        if (throwableProxy == null) {
+            description.appendText("null");
+            return;
+        }
+
+        description.appendText(throwableProxy.getClassName()).appendText("{");
+
+        if (throwableProxy.getMessage() == null) {
+            description.appendText("message=null");
+        } else {
+            description.appendText("message='");
+            renderMessage(throwableProxy.getMessage(), description);
+            description.appendText("'");
+        }
+
+        description.appendText("}");
+    }
+}
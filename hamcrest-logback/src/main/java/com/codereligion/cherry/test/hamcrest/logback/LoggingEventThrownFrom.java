@@ -0,0 +1,209 @@
+/**
+ * Copyright 2015 www.codereligion.com
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.codereligion.cherry.test.hamcrest.logback;
+
+import ch.qos.logback.classic.spi.ILoggingEvent;
+import ch.qos.logback.classic.spi.IThrowableProxy;
+import org.hamcrest.Description;
+import org.hamcrest.Matcher;
+import static com.google.common.base.Preconditions.checkArgument;
+
+/**
+ * A matcher which expects the {@link ch.qos.logback.classic.spi.ILoggingEvent} to have a throwable, of which the stack trace or the stack trace of any of its
+ * causes contains a frame of a specific method. This includes methods which throw a throwable constructed by a helper, e.g. {@code
+ * Preconditions.checkArgument}, of which the frame is not the first one of the stack trace.
+ * <p/>
+ * The stack frames of each examined throwable are walked lazily until the first hit and the result is cached per throwable, so that repeated assertions on
+ * the same event do not walk the same frames again.
+ *
+ * @author Sebastian Gr&ouml;bler
+ * @since 19.10.2026
+ */
+public class LoggingEventThrownFrom extends AbstractILoggingEventDescribingMatcher {
+
+    /**
+     * Creates a new matcher for {@link ch.qos.logback.classic.spi.ILoggingEvent ILoggingEvents} that only matches when the examined event has a throwable
+     * associated to it which was thrown from or passed through the given method. This matcher is doing the same assertion as {@link
+     * LoggingEventThrownFrom#thrownFrom(String, String)}, with the difference that this matcher's output is optimized for usage on single events.
+     * <p/>
+     * Example usage: {@code assertThat(event, wasThrownFrom("com.acme.SomeType", "someMethod"));}
+     * <p/>
+     * Example output: {@code Expected: an ILoggingEvent with a throwable thrown from: com.acme.SomeType#someMethod but: was ILoggingEvent{level=ERROR,
+     * formattedMessage='some Message', loggedBy=SomeLogger, throwable=java.lang.NullPointerException{message='nope!'}}}
+     *
+     * @param className  the fully qualified name of the class which declares the method
+     * @param methodName the name of the method
+     * @return a new matcher
+     * @throws java.lang.IllegalArgumentException when any of the given parameters are {@code null}
+     */
+    public static Matcher<ILoggingEvent> wasThrownFrom(final String className, final String methodName) {
+        return new LoggingEventThrownFrom(className, methodName, false, false);
+    }
+
+    /**
+     * Creates a new matcher for {@link ch.qos.logback.classic.spi.ILoggingEvent ILoggingEvents} that only matches when the examined event does not have a
+     * throwable associated to it which was thrown from or passed through the given method. This matcher is the negation of {@link
+     * LoggingEventThrownFrom#wasThrownFrom(String, String)}. It is recommended to use this specific matcher instead of just combining the other matcher with
+     * {@link org.hamcrest.CoreMatchers#not(Matcher)} because of the improved error output.
+     * <p/>
+     * Example usage: {@code assertThat(event, wasNotThrownFrom("com.acme.SomeType", "someMethod"));}
+     * <p/>
+     * Example output: {@code Expected: an ILoggingEvent with a throwable not thrown from: com.acme.SomeType#someMethod but: was ILoggingEvent{level=ERROR,
+     * formattedMessage='some Message', loggedBy=SomeLogger, throwable=java.lang.NullPointerException{message='nope!'}}}
+     *
+     * @param className  the fully qualified name of the class which declares the method
+     * @param methodName the name of the method
+     * @return a new matcher
+     * @throws java.lang.IllegalArgumentException when any of the given parameters are {@code null}
+     */
+    public static Matcher<ILoggingEvent> wasNotThrownFrom(final String className, final String methodName) {
+        return new LoggingEventThrownFrom(className, methodName, true, false);
+    }
+
+    /**
+     * Creates a new matcher for {@link ch.qos.logback.classic.spi.ILoggingEvent ILoggingEvents} that only matches when the examined event has a throwable
+     * associated to it which was thrown from or passed through the given method. This matcher is doing the same assertion as {@link
+     * LoggingEventThrownFrom#wasThrownFrom(String, String)}, with the difference that this matcher's output is optimized for usage on iterables of events.
+     * <p/>
+     * Example usage: {@code assertThat(events, hasItem(thrownFrom("com.acme.SomeType", "someMethod")));}
+     * <p/>
+     * Example output: {@code Expected: an iterable containing an ILoggingEvent with a throwable thrown from: com.acme.SomeType#someMethod but: iterable
+     * contained [ILoggingEvent{level=ERROR, formattedMessage='some Message', loggedBy=SomeLogger, throwable=null}]}
+     *
+     * @param className  the fully qualified name of the class which declares the method
+     * @param methodName the name of the method
+     * @return a new matcher
+     * @throws java.lang.IllegalArgumentException when any of the given parameters are {@code null}
+     */
+    public static Matcher<ILoggingEvent> thrownFrom(final String className, final String methodName) {
+        return new LoggingEventThrownFrom(className, methodName, false, true);
+    }
+
+    /**
+     * Creates a new matcher for {@link ch.qos.logback.classic.spi.ILoggingEvent ILoggingEvents} that only matches when the examined event has a throwable
+     * associated to it which was thrown from or passed through the given method of the given class. This matcher is doing the same assertion as {@link
+     * LoggingEventThrownFrom#thrownFrom(Class, String)}, with the difference that this matcher's output is optimized for usage on single events.
+     * <p/>
+     * Example usage: {@code assertThat(event, wasThrownFrom(SomeType.class, "someMethod"));}
+     * <p/>
+     * Example output: {@code Expected: an ILoggingEvent with a throwable thrown from: com.acme.SomeType#someMethod but: was ILoggingEvent{level=ERROR,
+     * formattedMessage='some Message', loggedBy=SomeLogger, throwable=java.lang.NullPointerException{message='nope!'}}}
+     *
+     * @param type       the {@link java.lang.Class} which declares the method
+     * @param methodName the name of the method
+     * @return a new matcher
+     * @throws java.lang.IllegalArgumentException when any of the given parameters are {@code null}
+     */
+    public static Matcher<ILoggingEvent> wasThrownFrom(final Class<?> type, final String methodName) {
+        return new LoggingEventThrownFrom(type, methodName, false, false);
+    }
+
+    /**
+     * Creates a new matcher for {@link ch.qos.logback.classic.spi.ILoggingEvent ILoggingEvents} that only matches when the examined event does not have a
+     * throwable associated to it which was thrown from or passed through the given method of the given class. This matcher is the negation of {@link
+     * LoggingEventThrownFrom#wasThrownFrom(Class, String)}. It is recommended to use this specific matcher instead of just combining the other matcher with
+     * {@link org.hamcrest.CoreMatchers#not(Matcher)} because of the improved error output.
+     * <p/>
+     * Example usage: {@code assertThat(event, wasNotThrownFrom(SomeType.class, "someMethod"));}
+     * <p/>
+     * Example output: {@code Expected: an ILoggingEvent with a throwable not thrown from: com.acme.SomeType#someMethod but: was ILoggingEvent{level=ERROR,
+     * formattedMessage='some Message', loggedBy=SomeLogger, throwable=java.lang.NullPointerException{message='nope!'}}}
+     *
+     * @param type       the {@link java.lang.Class} which declares the method
+     * @param methodName the name of the method
+     * @return a new matcher
+     * @throws java.lang.IllegalArgumentException when any of the given parameters are {@code null}
+     */
+    public static Matcher<ILoggingEvent> wasNotThrownFrom(final Class<?> type, final String methodName) {
+        return new LoggingEventThrownFrom(type, methodName, true, false);
+    }
+
+    /**
+     * Creates a new matcher for {@link ch.qos.logback.classic.spi.ILoggingEvent ILoggingEvents} that only matches when the examined event has a throwable
+     * associated to it which was thrown from or passed through the given method of the given class. This matcher is doing the same assertion as {@link
+     * LoggingEventThrownFrom#wasThrownFrom(Class, String)}, with the difference that this matcher's output is optimized for usage on iterables of events.
+     * <p/>
+     * Example usage: {@code assertThat(events, hasItem(thrownFrom(SomeType.class, "someMethod")));}
+     * <p/>
+     * Example output: {@code Expected: an iterable containing an ILoggingEvent with a throwable thrown from: com.acme.SomeType#someMethod but: iterable
+     * contained [ILoggingEvent{level=ERROR, formattedMessage='some Message', loggedBy=SomeLogger, throwable=null}]}
+     *
+     * @param type       the {@link java.lang.Class} which declares the method
+     * @param methodName the name of the method
+     * @return a new matcher
+     * @throws java.lang.IllegalArgumentException when any of the given parameters are {@code null}
+     */
+    public static Matcher<ILoggingEvent> thrownFrom(final Class<?> type, final String methodName) {
+        return new LoggingEventThrownFrom(type, methodName, false, true);
+    }
+
+    private final String className;
+    private final String methodName;
+
+    /**
+     * Creates a new instance using the given {@code className} and {@code methodName}.
+     *
+     * @param className      the fully qualified name of the class which declares the method
+     * @param methodName     the name of the method
+     * @param negated        if the matcher is negated
+     * @param usedOnIterable if the matcher is used as part of an iterable matching
+     * @throws java.lang.IllegalArgumentException when any of the given parameters are {@code null}
+     */
+    private LoggingEventThrownFrom(final String className, final String methodName, final boolean negated, final boolean usedOnIterable) {
+        super(negated, usedOnIterable);
+        checkArgument(className != null, "className must not be null.");
+        checkArgument(methodName != null, "methodName must not be null.");
+        this.className = className;
+        this.methodName = methodName;
+    }
+
+    /**
+     * Creates a new instance using the name of the given {@code type} and the given {@code methodName}.
+     *
+     * @param type           the {@link java.lang.Class} which declares the method
+     * @param methodName     the name of the method
+     * @param negated        if the matcher is negated
+     * @param usedOnIterable if the matcher is used as part of an iterable matching
+     * @throws java.lang.IllegalArgumentException when any of the given parameters are {@code null}
+     */
+    private LoggingEventThrownFrom(final Class<?> type, final String methodName, final boolean negated, final boolean usedOnIterable) {
+        super(negated, usedOnIterable);
+        checkArgument(type != null, "type must not be null.");
+        checkArgument(methodName != null, "methodName must not be null.");
+        this.className = type.getName();
+        this.methodName = methodName;
+    }
+
+    @Override
+    protected boolean internalMatches(final ILoggingEvent event) {
+        for (IThrowableProxy proxy = event.getThrowableProxy(); proxy != null; proxy = proxy.getCause()) {
+            if (StackFrames.contain(proxy, className, methodName)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    @Override
+    protected void describeExpectation(final Description description) {
+        description.appendText("an ILoggingEvent with a throwable thrown from: ").appendText(className).appendText("#").appendText(methodName);
+    }
+
+    @Override
+    protected void describeNegatedExpectation(final Description description) {
+        description.appendText("an ILoggingEvent with a throwable not thrown from: ").appendText(className).appendText("#").appendText(methodName);
+    }
+}
@@ -0,0 +1,235 @@
+/**
+ * Copyright 2015 www.codereligion.com
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.codereligion.cherry.test.hamcrest.logback;
+
+import ch.qos.logback.classic.spi.ILoggingEvent;
+import com.google.common.base.Predicate;
+import com.google.common.collect.Iterables;
+import java.util.concurrent.TimeUnit;
+import javax.annotation.Nullable;
+import org.hamcrest.Description;
+import org.hamcrest.Matcher;
+import org.hamcrest.TypeSafeDiagnosingMatcher;
+import static com.google.common.base.Preconditions.checkArgument;
+
+/**
+ * Restricts the matchers of {@link LoggingEventIterableHasItem} to the events of an iterable which were logged within a time window. The window is either
+ * fixed or starts at the first event matching a given anchor {@link org.hamcrest.Matcher}, in which case only the events following the anchor are examined.
+ * The events are filtered lazily by their timestamps while the iterable is being matched.
+ *
+ * @author Sebastian Gr&ouml;bler
+ * @since 19.10.2026
+ */
+public final class LoggingEventTimeWindow {
+
+    /**
+     * Creates a time window which spans the given {@code duration} after an anchor event, which still needs to be specified by {@link
+     * Relative#after(Matcher)}. The window includes events logged exactly at its start or its end.
+     * <p/>
+     * Example usage: {@code assertThat(events, loggedWithin(500, TimeUnit.MILLISECONDS).after(withMessage("request sent")).hasItem(withMessage("response
+     * received")));}
+     * <p/>
+     * Example output: {@code Expected: an iterable containing an ILoggingEvent with a formattedMessage matching: a string containing "response received"
+     * logged within 500 MILLISECONDS after an ILoggingEvent with a formattedMessage matching: a string containing "request sent" but: iterable contained
+     * [ILoggingEvent{level=INFO, formattedMessage='retrying', loggedBy=SomeLogger, throwable=null}]}
+     *
+     * @param duration the length of the window
+     * @param unit     the unit of the given duration
+     * @return a new relative time window
+     * @throws java.lang.IllegalArgumentException when the given duration is negative or the given unit is {@code null}
+     */
+    public static Relative loggedWithin(final long duration, final TimeUnit unit) {
+        checkArgument(duration >= 0, "duration must not be negative.");
+        checkArgument(unit != null, "unit must not be null.");
+        return new Relative(duration, unit);
+    }
+
+    /**
+     * Creates a time window which spans the events logged at or after the given {@code fromMillis} and before the given {@code toMillis}.
+     * <p/>
+     * Example usage: {@code assertThat(events, loggedBetween(shutdownStarted, shutdownFinished).hasNoItem(withLevel(Level.ERROR)));}
+     * <p/>
+     * Example output: {@code Expected: an iterable not containing an ILoggingEvent with level: ERROR logged between 1445241600000 and 1445241601000 but:
+     * iterable contained ILoggingEvent{level=ERROR, formattedMessage='some Message', loggedBy=SomeLogger, throwable=null}}
+     *
+     * @param fromMillis the timestamp in milliseconds since the epoch at which the window starts, inclusive
+     * @param toMillis   the timestamp in milliseconds since the epoch at which the window ends, exclusive
+     * @return a new time window
+     * @throws java.lang.IllegalArgumentException when {@code fromMillis} is greater than {@code toMillis}
+     */
+    public static LoggingEventTimeWindow loggedBetween(final long fromMillis, final long toMillis) {
+        checkArgument(fromMillis <= toMillis, "fromMillis must not be greater than toMillis.");
+        return new LoggingEventTimeWindow(null, 0, null, fromMillis, toMillis);
+    }
+
+    private final Matcher<ILoggingEvent> anchorMatcher;
+    private final long duration;
+    private final TimeUnit unit;
+    private final long fromMillis;
+    private final long toMillis;
+
+    private LoggingEventTimeWindow(@Nullable final Matcher<ILoggingEvent> anchorMatcher,
+                                   final long duration,
+                                   @Nullable final TimeUnit unit,
+                                   final long fromMillis,
+                                   final long toMillis) {
+        this.anchorMatcher = anchorMatcher;
+        this.duration = duration;
+        this.unit = unit;
+        this.fromMillis = fromMillis;
+        this.toMillis = toMillis;
+    }
+
+    /**
+     * Creates a new matcher for iterables of {@link ch.qos.logback.classic.spi.ILoggingEvent ILoggingEvents} that only matches when at least one event logged
+     * within this window matches the given {@link org.hamcrest.Matcher}.
+     *
+     * @param itemMatcher the logging event {@link Matcher} to check the items with
+     * @return a new matcher
+     * @throws java.lang.IllegalArgumentException when the given parameter is {@code null}
+     * @see LoggingEventIterableHasItem#hasItem(Matcher)
+     */
+    public Matcher<Iterable<ILoggingEvent>> hasItem(final Matcher<ILoggingEvent> itemMatcher) {
+        return new WindowMatcher(LoggingEventIterableHasItem.hasItem(itemMatcher));
+    }
+
+    /**
+     * Creates a new matcher for iterables of {@link ch.qos.logback.classic.spi.ILoggingEvent ILoggingEvents} that only matches when no event logged within
+     * this window matches the given {@link org.hamcrest.Matcher}. In case of a relative window, the iterable does not match when it does not contain the
+     * anchor event.
+     *
+     * @param itemMatcher the logging event {@link Matcher} to check the items with
+     * @return a new matcher
+     * @throws java.lang.IllegalArgumentException when the given parameter is {@code null}
+     * @see LoggingEventIterableHasItem#hasNoItem(Matcher)
+     */
+    public Matcher<Iterable<ILoggingEvent>> hasNoItem(final Matcher<ILoggingEvent> itemMatcher) {
+        return new WindowMatcher(LoggingEventIterableHasItem.hasNoItem(itemMatcher));
+    }
+
+    /**
+     * Returns the events of the given iterable which were logged within this window, or {@code null} if the anchor event of a relative window was not found.
+     */
+    @Nullable
+    private Iterable<ILoggingEvent> eventsWithin(final Iterable<ILoggingEvent> events) {
+
+        if (anchorMatcher == null) {
+            return Iterables.filter(events, new LoggedBetween(fromMillis, toMillis));
+        }
+
+        int position = 0;
+        for (final ILoggingEvent event : events) {
+            position++;
+            if (anchorMatcher.matches(event)) {
+                final long start = event.getTimeStamp();
+                final long length = unit.toMillis(duration);
+                // the end is inclusive for relative windows
+                final long end = length >= Long.MAX_VALUE - start ? Long.MAX_VALUE : start + length + 1;
+                return Iterables.filter(Iterables.skip(events, position), new LoggedBetween(start, end));
+            }
+        }
+        return null;
+    }
+
+    private void describeWindowTo(final Description description) {
+        if (anchorMatcher == null) {
+            description.appendText(" logged between ")
+                       .appendText(String.valueOf(fromMillis))
+                       .appendText(" and ")
+                       .appendText(String.valueOf(toMillis));
+        } else {
+            description.appendText(" logged within ")
+                       .appendText(String.valueOf(duration))
+                       .appendText(" ")
+                       .appendText(unit.toString())
+                       .appendText(" after ")
+                       .appendDescriptionOf(anchorMatcher);
+        }
+    }
+
+    /**
+     * A time window of a given duration which still lacks its anchor.
+     */
+    public static final class Relative {
+
+        private final long duration;
+        private final TimeUnit unit;
+
+        private Relative(final long duration, final TimeUnit unit) {
+            this.duration = duration;
+            this.unit = unit;
+        }
+
+        /**
+         * Anchors the window at the first event matching the given {@link org.hamcrest.Matcher}. Only events following the anchor event are examined.
+         *
+         * @param anchorMatcher the matcher to find the anchor event with
+         * @return a new time window
+         * @throws java.lang.IllegalArgumentException when the given parameter is {@code null}
+         */
+        public LoggingEventTimeWindow after(final Matcher<ILoggingEvent> anchorMatcher) {
+            checkArgument(anchorMatcher != null, "anchorMatcher must not be null.");
+            return new LoggingEventTimeWindow(anchorMatcher, duration, unit, 0, 0);
+        }
+    }
+
+    private static final class LoggedBetween implements Predicate<ILoggingEvent> {
+
+        private final long fromMillis;
+        private final long toMillis;
+
+        private LoggedBetween(final long fromMillis, final long toMillis) {
+            this.fromMillis = fromMillis;
+            this.toMillis = toMillis;
+        }
+
+        @Override
+        public boolean apply(@Nullable final ILoggingEvent event) {
+            return event != null && event.getTimeStamp() >= fromMillis && event.getTimeStamp() < toMillis;
+        }
+    }
+
+    private final class WindowMatcher extends TypeSafeDiagnosingMatcher<Iterable<ILoggingEvent>> {
+
+        private final Matcher<Iterable<ILoggingEvent>> delegate;
+
+        private WindowMatcher(final Matcher<Iterable<ILoggingEvent>> delegate) {
+            this.delegate = delegate;
+        }
+
+        @Override
+        protected boolean matchesSafely(final Iterable<ILoggingEvent> events, final Description mismatchDescription) {
+
+            final Iterable<ILoggingEvent> eventsWithin = eventsWithin(events);
+            if (eventsWithin == null) {
+                mismatchDescription.appendText("no event matched ").appendDescriptionOf(anchorMatcher);
+                return false;
+            }
+
+            if (delegate.matches(eventsWithin)) {
+                return true;
+            }
+            delegate.describeMismatch(eventsWithin, mismatchDescription);
+            return false;
+        }
+
+        @Override
+        public void describeTo(final Description description) {
+            description.appendDescriptionOf(delegate);
+            describeWindowTo(description);
+        }
+    }
+}
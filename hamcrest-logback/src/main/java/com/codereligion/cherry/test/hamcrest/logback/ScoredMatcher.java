@@ -0,0 +1,44 @@
+/**
+ * Copyright 2015 www.codereligion.com
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.codereligion.cherry.test.hamcrest.logback;
+
+import ch.qos.logback.classic.spi.ILoggingEvent;
+
+/**
+ * A matcher which is composed of several sub-matchers and which is able to tell how many of them an {@link ch.qos.logback.classic.spi.ILoggingEvent}
+ * satisfies. An event matches when it satisfies all sub-matchers. The score is used to find the events which came closest to matching when describing a
+ * mismatch.
+ *
+ * @author Sebastian Gr&ouml;bler
+ * @since 19.10.2026
+ */
+interface ScoredMatcher {
+
+    /**
+     * Determines how many of the sub-matchers the given {@code event} satisfies. All sub-matchers are evaluated.
+     *
+     * @param event the event to score
+     * @return the number of satisfied sub-matchers, between {@code 0} and {@link #maxScore()}
+     */
+    int score(ILoggingEvent event);
+
+    /**
+     * Returns the score of a matching event, which is the number of sub-matchers.
+     *
+     * @return the maximum score
+     */
+    int maxScore();
+}
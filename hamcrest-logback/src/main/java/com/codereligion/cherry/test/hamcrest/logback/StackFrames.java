@@ -0,0 +1,128 @@
+/**
+ * Copyright 2015 www.codereligion.com
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.codereligion.cherry.test.hamcrest.logback;
+
+import ch.qos.logback.classic.spi.IThrowableProxy;
+import ch.qos.logback.classic.spi.StackTraceElementProxy;
+import com.google.common.cache.CacheBuilder;
+import com.google.common.collect.ImmutableList;
+import com.google.common.collect.ImmutableSetMultimap;
+import java.util.concurrent.ConcurrentMap;
+import org.hamcrest.Matcher;
+
+/**
+ * Lazily walked view on the stack frames of a single {@link ch.qos.logback.classic.spi.IThrowableProxy}. Frames are only walked until the first hit and
+ * every walked frame is remembered, so that subsequent lookups on the same proxy only walk the frames which have not been walked before.
+ * <p/>
+ * Instances are immutable. A lookup which walks further publishes a new instance for the proxy, which is cached by identity for as long as the proxy is
+ * reachable. Concurrent lookups on the same proxy may walk the same frames, but never see a partially walked instance.
+ *
+ * @author Sebastian Gr&ouml;bler
+ * @since 19.10.2026
+ */
+final class StackFrames {
+
+    private static final StackFrames NO_FRAMES = new StackFrames(ImmutableList.<StackTraceElement>of(), ImmutableSetMultimap.<String, String>of(), 0);
+
+    // weak keys are compared by identity, the cached instances must never reference their proxy to not keep it reachable
+    private static final ConcurrentMap<IThrowableProxy, StackFrames> CACHE = CacheBuilder.newBuilder().weakKeys().<IThrowableProxy, StackFrames>build().asMap();
+
+    /**
+     * Determines whether any of the frames of the given {@code throwableProxy} was executed within the given {@code methodName} of the class with the given
+     * {@code className}. Frames are only walked until the first hit and frames walked by previous lookups are not walked again.
+     *
+     * @param throwableProxy the proxy to look up the frames of
+     * @param className      the fully qualified name of the class
+     * @param methodName     the name of the method
+     * @return {@code true} if there is a matching frame
+     */
+    static boolean contain(final IThrowableProxy throwableProxy, final String className, final String methodName) {
+
+        final StackFrames stackFrames = of(throwableProxy);
+        if (stackFrames.walkedMethodsByClassName.containsEntry(className, methodName)) {
+            return true;
+        }
+
+        final ImmutableSetMultimap.Builder<String, String> walkedMethodsByClassName = ImmutableSetMultimap.builder();
+        walkedMethodsByClassName.putAll(stackFrames.walkedMethodsByClassName);
+
+        int walked = stackFrames.walked;
+        boolean found = false;
+        while (!found && walked < stackFrames.frames.size()) {
+            final StackTraceElement element = stackFrames.frames.get(walked++);
+            walkedMethodsByClassName.put(element.getClassName(), element.getMethodName());
+            found = element.getClassName().equals(className) && element.getMethodName().equals(methodName);
+        }
+
+        if (walked > stackFrames.walked) {
+            // a lost race only means that a concurrent lookup published its own walk
+            CACHE.replace(throwableProxy, stackFrames, new StackFrames(stackFrames.frames, walkedMethodsByClassName.build(), walked));
+        }
+        return found;
+    }
+
+    /**
+     * Determines whether any of the frames of the given {@code throwableProxy} is matched by the given {@code matcher}. Frames are only walked until the first
+     * hit. The results of arbitrary matchers can not be remembered, but the frames are only unwrapped from the proxy once.
+     *
+     * @param throwableProxy the proxy to look up the frames of
+     * @param matcher        the matcher to check the frames with
+     * @return {@code true} if there is a matching frame
+     */
+    static boolean contain(final IThrowableProxy throwableProxy, final Matcher<StackTraceElement> matcher) {
+        for (final StackTraceElement frame : of(throwableProxy).frames) {
+            if (matcher.matches(frame)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static StackFrames of(final IThrowableProxy throwableProxy) {
+        final StackFrames cached = CACHE.get(throwableProxy);
+        if (cached != null) {
+            return cached;
+        }
+
+        final StackFrames created = unwalked(throwableProxy.getStackTraceElementProxyArray());
+        final StackFrames raced = CACHE.putIfAbsent(throwableProxy, created);
+        return raced == null ? created : raced;
+    }
+
+    private static StackFrames unwalked(final StackTraceElementProxy[] proxyArray) {
+        if (proxyArray == null || proxyArray.length == 0) {
+            return NO_FRAMES;
+        }
+
+        final ImmutableList.Builder<StackTraceElement> frames = ImmutableList.builder();
+        for (final StackTraceElementProxy proxy : proxyArray) {
+            frames.add(proxy.getStackTraceElement());
+        }
+        return new StackFrames(frames.build(), ImmutableSetMultimap.<String, String>of(), 0);
+    }
+
+    private final ImmutableList<StackTraceElement> frames;
+    private final ImmutableSetMultimap<String, String> walkedMethodsByClassName;
+    private final int walked;
+
+    private StackFrames(final ImmutableList<StackTraceElement> frames,
+                        final ImmutableSetMultimap<String, String> walkedMethodsByClassName,
+                        final int walked) {
+        this.frames = frames;
+        this.walkedMethodsByClassName = walkedMethodsByClassName;
+        this.walked = walked;
+    }
+}
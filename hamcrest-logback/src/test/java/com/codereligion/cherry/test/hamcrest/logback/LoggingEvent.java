@@ -22,6 +22,7 @@ import ch.qos.logback.classic.spi.LoggerContextVO;
 import ch.qos.logback.classic.spi.ThrowableProxy;
 import java.util.Map;
 import org.slf4j.Marker;
+import org.slf4j.helpers.MessageFormatter;
 
 /**
  * Pojo implementation of {@link ILoggingEvent}.
@@ -35,8 +36,11 @@ public class LoggingEvent implements ILoggingEvent {
     private String threadName;
     private Level level;
     private String message;
+    private Object[] arguments = new Object[0];
     private String loggerName;
     private IThrowableProxy throwableProxy;
+    private long timeStamp;
+    private StackTraceElement[] callerData;
 
     @Override
     public String getThreadName() {
@@ -55,12 +59,15 @@ public class LoggingEvent implements ILoggingEvent {
 
     @Override
     public Object[] getArgumentArray() {
-        return new Object[0];
+        return arguments;
     }
 
     @Override
     public String getFormattedMessage() {
-        return message;
+        if (arguments.length == 0) {
+            return message;
+        }
+        return MessageFormatter.arrayFormat(message, arguments).getMessage();
     }
 
     @Override
@@ -80,12 +87,12 @@ public class LoggingEvent implements ILoggingEvent {
 
     @Override
     public StackTraceElement[] getCallerData() {
-        return new StackTraceElement[0];
+        return callerData == null ? new StackTraceElement[0] : callerData;
     }
 
     @Override
     public boolean hasCallerData() {
-        return false;
+        return callerData != null;
     }
 
     @Override
@@ -106,7 +113,7 @@ public class LoggingEvent implements ILoggingEvent {
 
     @Override
     public long getTimeStamp() {
-        return 0;
+        return timeStamp;
     }
 
     @Override
@@ -129,11 +136,26 @@ public class LoggingEvent implements ILoggingEvent {
         return this;
     }
 
+    public LoggingEvent withArguments(final Object... arguments) {
+        this.arguments = arguments;
+        return this;
+    }
+
     public LoggingEvent withLoggerName(final String loggerName) {
         this.loggerName = loggerName;
         return this;
     }
 
+    public LoggingEvent withTimeStamp(final long timeStamp) {
+        this.timeStamp = timeStamp;
+        return this;
+    }
+
+    public LoggingEvent withCallerData(final StackTraceElement... callerData) {
+        this.callerData = callerData;
+        return this;
+    }
+
     public LoggingEvent withThrowable(final Throwable throwable) {
         this.throwableProxy = new ThrowableProxy(throwable);
         return this;
@@ -0,0 +1,144 @@
+/**
+ * Copyright 2015 www.codereligion.com
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.codereligion.cherry.test.hamcrest.logback;
+
+import ch.qos.logback.classic.Level;
+import ch.qos.logback.classic.spi.ILoggingEvent;
+import com.google.common.collect.Lists;
+import java.util.List;
+import org.hamcrest.Matcher;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.ExpectedException;
+import static com.codereligion.cherry.test.hamcrest.logback.LoggingEventAllOf.matchesAllOf;
+import static com.codereligion.cherry.test.hamcrest.logback.LoggingEventAllOf.withAllOf;
+import static com.codereligion.cherry.test.hamcrest.logback.LoggingEventHasLevel.hasLevel;
+import static com.codereligion.cherry.test.hamcrest.logback.LoggingEventHasLevel.withLevel;
+import static com.codereligion.cherry.test.hamcrest.logback.LoggingEventIterableHasItem.hasItem;
+import static com.codereligion.cherry.test.hamcrest.logback.LoggingEventLoggedBy.loggedBy;
+import static com.codereligion.cherry.test.hamcrest.logback.LoggingEventLoggedBy.wasLoggedBy;
+import static org.junit.Assert.assertThat;
+
+/**
+ * Tests {@link LoggingEventAllOf}.
+ *
+ * @author Sebastian Gr&ouml;bler
+ * @since 19.10.2026
+ */
+public class LoggingEventAllOfTest {
+
+    @Rule
+    public final ExpectedException expectedException = ExpectedException.none();
+
+    @Test
+    public void matchesAllOfThrowsIllegalArgumentExceptionOnNullIterable() {
+
+        // expect
+        expectedException.expect(IllegalArgumentException.class);
+        expectedException.expectMessage("matchers must not be null.");
+
+        // given
+        final Iterable<Matcher<ILoggingEvent>> matchers = null;
+
+        // when
+        matchesAllOf(matchers);
+    }
+
+    @Test
+    public void matchesAllOfThrowsIllegalArgumentExceptionOnNullMatcher() {
+
+        // expect
+        expectedException.expect(IllegalArgumentException.class);
+        expectedException.expectMessage("matchers must not contain null.");
+
+        // given
+        final Matcher<ILoggingEvent> matcher = null;
+
+        // when
+        matchesAllOf(hasLevel(Level.ERROR), matcher);
+    }
+
+    @Test
+    public void withAllOfThrowsIllegalArgumentExceptionOnNullMatcher() {
+
+        // expect
+        expectedException.expect(IllegalArgumentException.class);
+        expectedException.expectMessage("matchers must not contain null.");
+
+        // given
+        final Matcher<ILoggingEvent> matcher = null;
+
+        // when
+        withAllOf(withLevel(Level.ERROR), loggedBy("SomeLogger"), matcher);
+    }
+
+    @Test
+    public void matchesAllOfMatchesWhenAllMatchersMatch() {
+
+        // given
+        final LoggingEvent event = new LoggingEvent().withLevel(Level.ERROR).withLoggerName("SomeLogger");
+
+        // then
+        assertThat(event, matchesAllOf(hasLevel(Level.ERROR), wasLoggedBy("SomeLogger")));
+    }
+
+    @Test
+    public void matchesAllOfDoesNotMatchWhenOneMatcherDoesNotMatch() {
+
+        // expect
+        expectedException.expect(AssertionError.class);
+        expectedException.expectMessage("Expected: an ILoggingEvent matching all of (an ILoggingEvent with level: ERROR and an ILoggingEvent logged by: SomeLogger)\n" +
+                                        "     but: was ILoggingEvent{level=INFO, formattedMessage='null', loggedBy=SomeLogger, throwable=null}");
+
+        // given
+        final LoggingEvent event = new LoggingEvent().withLevel(Level.INFO).withLoggerName("SomeLogger");
+
+        // then
+        assertThat(event, matchesAllOf(hasLevel(Level.ERROR), wasLoggedBy("SomeLogger")));
+    }
+
+    @Test
+    public void withAllOfMatchesWhenAllMatchersMatchAnyItem() {
+
+        // given
+        final LoggingEvent first = new LoggingEvent().withLevel(Level.INFO).withLoggerName("SomeLogger");
+        final LoggingEvent second = new LoggingEvent().withLevel(Level.ERROR).withLoggerName("SomeLogger");
+        final List<ILoggingEvent> events = Lists.<ILoggingEvent>newArrayList(first, second);
+
+        // then
+        assertThat(events, hasItem(withAllOf(withLevel(Level.ERROR), loggedBy("SomeLogger"))));
+    }
+
+    @Test
+    public void withAllOfDescribesNearestCandidatesWhenNoItemMatches() {
+
+        // expect
+        expectedException.expect(AssertionError.class);
+        expectedException.expectMessage("Expected: an iterable containing an ILoggingEvent matching all of (an ILoggingEvent with level: ERROR and an ILoggingEvent logged by: SomeLogger)\n" +
+                                        "     but: iterable contained [ILoggingEvent{level=INFO, formattedMessage='null', loggedBy=OtherLogger, throwable=null}, " +
+                                        "ILoggingEvent{level=INFO, formattedMessage='null', loggedBy=SomeLogger, throwable=null}], " +
+                                        "nearest candidates [1 of 2 satisfied by ILoggingEvent{level=INFO, formattedMessage='null', loggedBy=SomeLogger, throwable=null}, " +
+                                        "0 of 2 satisfied by ILoggingEvent{level=INFO, formattedMessage='null', loggedBy=OtherLogger, throwable=null}]");
+
+        // given
+        final LoggingEvent first = new LoggingEvent().withLevel(Level.INFO).withLoggerName("OtherLogger");
+        final LoggingEvent second = new LoggingEvent().withLevel(Level.INFO).withLoggerName("SomeLogger");
+        final List<ILoggingEvent> events = Lists.<ILoggingEvent>newArrayList(first, second);
+
+        // then
+        assertThat(events, hasItem(withAllOf(withLevel(Level.ERROR), loggedBy("SomeLogger"))));
+    }
+}
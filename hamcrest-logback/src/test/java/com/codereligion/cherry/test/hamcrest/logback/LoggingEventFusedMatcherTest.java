@@ -0,0 +1,159 @@
+/**
+ * Copyright 2015 www.codereligion.com
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.codereligion.cherry.test.hamcrest.logback;
+
+import ch.qos.logback.classic.Level;
+import ch.qos.logback.classic.spi.ILoggingEvent;
+import com.google.common.collect.Lists;
+import java.util.List;
+import org.hamcrest.CoreMatchers;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.ExpectedException;
+import static com.codereligion.cherry.test.hamcrest.logback.LoggingEventFusedMatcher.event;
+import static com.codereligion.cherry.test.hamcrest.logback.LoggingEventFusedMatcher.isEvent;
+import static com.codereligion.cherry.test.hamcrest.logback.LoggingEventIterableHasItem.hasItem;
+import static org.junit.Assert.assertThat;
+
+/**
+ * Tests {@link LoggingEventFusedMatcher}.
+ *
+ * @author Sebastian Gr&ouml;bler
+ * @since 19.10.2026
+ */
+public class LoggingEventFusedMatcherTest {
+
+    @Rule
+    public final ExpectedException expectedException = ExpectedException.none();
+
+    @Test
+    public void levelThrowsIllegalArgumentExceptionOnNullValue() {
+
+        // expect
+        expectedException.expect(IllegalArgumentException.class);
+        expectedException.expectMessage("level must not be null.");
+
+        // when
+        event().level(null);
+    }
+
+    @Test
+    public void loggedByThrowsIllegalArgumentExceptionOnNullType() {
+
+        // expect
+        expectedException.expect(IllegalArgumentException.class);
+        expectedException.expectMessage("loggerType must not be null.");
+
+        // given
+        final Class<?> loggerType = null;
+
+        // when
+        event().loggedBy(loggerType);
+    }
+
+    @Test
+    public void messageThrowsIllegalArgumentExceptionOnNullSubstring() {
+
+        // expect
+        expectedException.expect(IllegalArgumentException.class);
+        expectedException.expectMessage("substring must not be null.");
+
+        // given
+        final String substring = null;
+
+        // when
+        event().message(substring);
+    }
+
+    @Test
+    public void isEventMatchesWhenAllExpectationsMatch() {
+
+        // given
+        final LoggingEvent event = new LoggingEvent().withLevel(Level.ERROR)
+                                                     .withLoggerName(LoggingEventFusedMatcherTest.class.getName())
+                                                     .withMessage("some message");
+
+        // then
+        assertThat(event, isEvent().level(Level.ERROR).loggedBy(LoggingEventFusedMatcherTest.class).message("some"));
+    }
+
+    @Test
+    public void isEventMatchesAnyEventWithoutExpectations() {
+
+        // then
+        assertThat(new LoggingEvent(), isEvent());
+    }
+
+    @Test
+    public void isEventDoesNotMatchWhenOneExpectationDoesNotMatch() {
+
+        // expect
+        expectedException.expect(AssertionError.class);
+        expectedException.expectMessage("Expected: an ILoggingEvent with level: ERROR and logged by: SomeLogger and with a formattedMessage containing: some\n" +
+                                        "     but: was ILoggingEvent{level=ERROR, formattedMessage='other message', loggedBy=SomeLogger, throwable=null}");
+
+        // given
+        final LoggingEvent event = new LoggingEvent().withLevel(Level.ERROR).withLoggerName("SomeLogger").withMessage("other message");
+
+        // then
+        assertThat(event, isEvent().message("some").loggedBy("SomeLogger").level(Level.ERROR));
+    }
+
+    @Test
+    public void isEventDoesNotMatchEventWithoutFormattedMessage() {
+
+        // expect
+        expectedException.expect(AssertionError.class);
+        expectedException.expectMessage("Expected: an ILoggingEvent with a formattedMessage matching: a string starting with \"some\"\n" +
+                                        "     but: was ILoggingEvent{level=INFO, formattedMessage='null', loggedBy=null, throwable=null}");
+
+        // given
+        final LoggingEvent event = new LoggingEvent().withLevel(Level.INFO);
+
+        // then
+        assertThat(event, isEvent().message(CoreMatchers.startsWith("some")));
+    }
+
+    @Test
+    public void expectationMethodsDoNotModifyTheMatcher() {
+
+        // given
+        final LoggingEventFusedMatcher matcher = isEvent().level(Level.INFO);
+
+        // when
+        matcher.level(Level.ERROR);
+
+        // then
+        assertThat(new LoggingEvent().withLevel(Level.INFO), matcher);
+    }
+
+    @Test
+    public void eventDescribesNearestCandidatesWhenNoItemMatches() {
+
+        // expect
+        expectedException.expect(AssertionError.class);
+        expectedException.expectMessage("Expected: an iterable containing an ILoggingEvent with level: ERROR and logged by: SomeLogger\n" +
+                                        "     but: iterable contained [ILoggingEvent{level=INFO, formattedMessage='null', loggedBy=SomeLogger, throwable=null}], " +
+                                        "nearest candidates [1 of 2 satisfied by ILoggingEvent{level=INFO, formattedMessage='null', loggedBy=SomeLogger, " +
+                                        "throwable=null}]");
+
+        // given
+        final List<ILoggingEvent> events = Lists.<ILoggingEvent>newArrayList(new LoggingEvent().withLevel(Level.INFO).withLoggerName("SomeLogger"));
+
+        // then
+        assertThat(events, hasItem(event().level(Level.ERROR).loggedBy("SomeLogger")));
+    }
+}
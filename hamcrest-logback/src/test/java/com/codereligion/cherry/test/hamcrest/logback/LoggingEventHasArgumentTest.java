@@ -0,0 +1,139 @@
+/**
+ * Copyright 2015 www.codereligion.com
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.codereligion.cherry.test.hamcrest.logback;
+
+import ch.qos.logback.classic.spi.ILoggingEvent;
+import com.google.common.collect.Lists;
+import java.util.List;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.ExpectedException;
+import static com.codereligion.cherry.test.hamcrest.logback.LoggingEventHasArgument.doesNotHaveArgument;
+import static com.codereligion.cherry.test.hamcrest.logback.LoggingEventHasArgument.hasArgument;
+import static com.codereligion.cherry.test.hamcrest.logback.LoggingEventHasArgument.withArgument;
+import static com.codereligion.cherry.test.hamcrest.logback.LoggingEventIterableHasItem.hasItem;
+import static org.hamcrest.CoreMatchers.equalTo;
+import static org.junit.Assert.assertThat;
+
+/**
+ * Tests {@link LoggingEventHasArgument}.
+ *
+ * @author Sebastian Gr&ouml;bler
+ * @since 19.10.2026
+ */
+public class LoggingEventHasArgumentTest {
+
+    @Rule
+    public final ExpectedException expectedException = ExpectedException.none();
+
+    @Test
+    public void hasArgumentThrowsIllegalArgumentExceptionOnNegativeIndex() {
+
+        // expect
+        expectedException.expect(IllegalArgumentException.class);
+        expectedException.expectMessage("index must not be negative.");
+
+        // when
+        hasArgument(-1, equalTo("localhost"));
+    }
+
+    @Test
+    public void hasArgumentThrowsIllegalArgumentExceptionOnNullMatcher() {
+
+        // expect
+        expectedException.expect(IllegalArgumentException.class);
+        expectedException.expectMessage("matcher must not be null.");
+
+        // when
+        hasArgument(0, null);
+    }
+
+    @Test
+    public void hasArgumentMatchesArgumentAtIndex() {
+
+        // given
+        final LoggingEvent event = new LoggingEvent().withMessage("{} connected to {}").withArguments("client", 8080);
+
+        // then
+        assertThat(event, hasArgument(1, equalTo(8080)));
+    }
+
+    @Test
+    public void hasArgumentDoesNotFormatMessageWhileMatching() {
+
+        // given
+        final LoggingEvent event = new LoggingEvent() {
+            @Override
+            public String getFormattedMessage() {
+                throw new AssertionError("message must not be formatted");
+            }
+        }.withMessage("connected to {}").withArguments("localhost");
+
+        // then
+        assertThat(event, hasArgument(0, equalTo("localhost")));
+    }
+
+    @Test
+    public void hasArgumentDoesNotMatchWhenIndexIsOutOfBounds() {
+
+        // expect
+        expectedException.expect(AssertionError.class);
+        expectedException.expectMessage("Expected: an ILoggingEvent with argument 1 matching: \"localhost\"\n" +
+                                        "     but: was ILoggingEvent{level=null, formattedMessage='connected to localhost', loggedBy=null, throwable=null}");
+
+        // given
+        final LoggingEvent event = new LoggingEvent().withMessage("connected to {}").withArguments("localhost");
+
+        // then
+        assertThat(event, hasArgument(1, equalTo("localhost")));
+    }
+
+    @Test
+    public void doesNotHaveArgumentDoesNotMatchMatchingArgument() {
+
+        // expect
+        expectedException.expect(AssertionError.class);
+        expectedException.expectMessage("Expected: an ILoggingEvent without argument 0 matching: \"localhost\"\n" +
+                                        "     but: was ILoggingEvent{level=null, formattedMessage='connected to localhost', loggedBy=null, throwable=null}");
+
+        // given
+        final LoggingEvent event = new LoggingEvent().withMessage("connected to {}").withArguments("localhost");
+
+        // then
+        assertThat(event, doesNotHaveArgument(0, equalTo("localhost")));
+    }
+
+    @Test
+    public void doesNotHaveArgumentMatchesOtherArgument() {
+
+        // given
+        final LoggingEvent event = new LoggingEvent().withMessage("connected to {}").withArguments("remotehost");
+
+        // then
+        assertThat(event, doesNotHaveArgument(0, equalTo("localhost")));
+    }
+
+    @Test
+    public void withArgumentMatchesWhenAnyItemHasArgument() {
+
+        // given
+        final List<ILoggingEvent> events = Lists.<ILoggingEvent>newArrayList(new LoggingEvent().withMessage("started"),
+                                                                             new LoggingEvent().withMessage("connected to {}").withArguments("localhost"));
+
+        // then
+        assertThat(events, hasItem(withArgument(0, equalTo("localhost"))));
+    }
+}
@@ -0,0 +1,133 @@
+/**
+ * Copyright 2015 www.codereligion.com
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.codereligion.cherry.test.hamcrest.logback;
+
+import ch.qos.logback.classic.spi.ILoggingEvent;
+import com.google.common.collect.Lists;
+import java.util.List;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.ExpectedException;
+import static com.codereligion.cherry.test.hamcrest.logback.LoggingEventHasMessageTemplate.doesNotHaveMessageTemplate;
+import static com.codereligion.cherry.test.hamcrest.logback.LoggingEventHasMessageTemplate.hasMessageTemplate;
+import static com.codereligion.cherry.test.hamcrest.logback.LoggingEventHasMessageTemplate.withMessageTemplate;
+import static com.codereligion.cherry.test.hamcrest.logback.LoggingEventIterableHasItem.hasItem;
+import static org.junit.Assert.assertThat;
+
+/**
+ * Tests {@link LoggingEventHasMessageTemplate}.
+ *
+ * @author Sebastian Gr&ouml;bler
+ * @since 19.10.2026
+ */
+public class LoggingEventHasMessageTemplateTest {
+
+    @Rule
+    public final ExpectedException expectedException = ExpectedException.none();
+
+    @Test
+    public void hasMessageTemplateThrowsIllegalArgumentExceptionOnNullValue() {
+
+        // expect
+        expectedException.expect(IllegalArgumentException.class);
+        expectedException.expectMessage("template must not be null.");
+
+        // when
+        hasMessageTemplate(null);
+    }
+
+    @Test
+    public void hasMessageTemplateMatchesRawMessageRegardlessOfArguments() {
+
+        // given
+        final LoggingEvent event = new LoggingEvent().withMessage("connected to {}").withArguments("localhost");
+
+        // then
+        assertThat(event, hasMessageTemplate("connected to {}"));
+    }
+
+    @Test
+    public void hasMessageTemplateDoesNotFormatMessageWhileMatching() {
+
+        // given
+        final LoggingEvent event = new LoggingEvent() {
+            @Override
+            public String getFormattedMessage() {
+                throw new AssertionError("message must not be formatted");
+            }
+        }.withMessage("connected to {}").withArguments("localhost");
+        final List<ILoggingEvent> events = Lists.<ILoggingEvent>newArrayList(new LoggingEvent().withMessage("other"), event);
+
+        // then
+        assertThat(events, hasItem(withMessageTemplate("connected to {}")));
+    }
+
+    @Test
+    public void hasMessageTemplateDoesNotMatchFormattedMessage() {
+
+        // expect
+        expectedException.expect(AssertionError.class);
+        expectedException.expectMessage("Expected: an ILoggingEvent with message template: connected to localhost\n" +
+                                        "     but: was ILoggingEvent{level=null, formattedMessage='connected to localhost', loggedBy=null, throwable=null}");
+
+        // given
+        final LoggingEvent event = new LoggingEvent().withMessage("connected to {}").withArguments("localhost");
+
+        // then
+        assertThat(event, hasMessageTemplate("connected to localhost"));
+    }
+
+    @Test
+    public void doesNotHaveMessageTemplateMatchesOtherTemplate() {
+
+        // given
+        final LoggingEvent event = new LoggingEvent().withMessage("disconnected from {}").withArguments("localhost");
+
+        // then
+        assertThat(event, doesNotHaveMessageTemplate("connected to {}"));
+    }
+
+    @Test
+    public void doesNotHaveMessageTemplateDoesNotMatchSameTemplate() {
+
+        // expect
+        expectedException.expect(AssertionError.class);
+        expectedException.expectMessage("Expected: an ILoggingEvent with message template other than: connected to {}\n" +
+                                        "     but: was ILoggingEvent{level=null, formattedMessage='connected to localhost', loggedBy=null, throwable=null}");
+
+        // given
+        final LoggingEvent event = new LoggingEvent().withMessage("connected to {}").withArguments("localhost");
+
+        // then
+        assertThat(event, doesNotHaveMessageTemplate("connected to {}"));
+    }
+
+    @Test
+    public void withMessageTemplateDoesNotMatchWhenNoItemHasTemplate() {
+
+        // expect
+        expectedException.expect(AssertionError.class);
+        expectedException.expectMessage("Expected: an iterable containing an ILoggingEvent with message template: connected to {}\n" +
+                                        "     but: iterable contained [ILoggingEvent{level=null, formattedMessage='disconnected from localhost', loggedBy=null, " +
+                                        "throwable=null}]");
+
+        // given
+        final List<ILoggingEvent> events = Lists.<ILoggingEvent>newArrayList(new LoggingEvent().withMessage("disconnected from {}").withArguments("localhost"));
+
+        // then
+        assertThat(events, hasItem(withMessageTemplate("connected to {}")));
+    }
+}
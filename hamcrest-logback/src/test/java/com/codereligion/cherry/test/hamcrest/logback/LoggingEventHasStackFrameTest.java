@@ -0,0 +1,168 @@
+/**
+ * Copyright 2015 www.codereligion.com
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.codereligion.cherry.test.hamcrest.logback;
+
+import org.hamcrest.Description;
+import org.hamcrest.Matcher;
+import org.hamcrest.TypeSafeMatcher;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.ExpectedException;
+import static com.codereligion.cherry.test.hamcrest.logback.LoggingEventHasStackFrame.doesNotHaveFrameMatching;
+import static com.codereligion.cherry.test.hamcrest.logback.LoggingEventHasStackFrame.hasFrameMatching;
+import static com.codereligion.cherry.test.hamcrest.logback.LoggingEventHasStackFrame.withFrameMatching;
+import static org.junit.Assert.assertThat;
+
+/**
+ * Tests {@link LoggingEventHasStackFrame}.
+ *
+ * @author Sebastian Gr&ouml;bler
+ * @since 19.10.2026
+ */
+public class LoggingEventHasStackFrameTest {
+
+    @Rule
+    public final ExpectedException expectedException = ExpectedException.none();
+
+    @Test
+    public void hasFrameMatchingThrowsIllegalArgumentExceptionOnNullValue() {
+
+        // expect
+        expectedException.expect(IllegalArgumentException.class);
+        expectedException.expectMessage("matcher must not be null.");
+
+        // when
+        hasFrameMatching(null);
+    }
+
+    @Test
+    public void hasFrameMatchingMatchesWhenAnyFrameMatches() {
+
+        // given
+        final LoggingEvent loggingEvent = new LoggingEvent().withThrowable(failInSomeMethod());
+
+        // then
+        assertThat(loggingEvent, hasFrameMatching(inMethod("failInSomeMethod")));
+    }
+
+    @Test
+    public void hasFrameMatchingMatchesWhenAnyFrameOfTheCauseMatches() {
+
+        // given
+        final LoggingEvent loggingEvent = new LoggingEvent().withThrowable(new IllegalStateException(failInSomeMethod()));
+
+        // then
+        assertThat(loggingEvent, hasFrameMatching(inMethod("failInSomeMethod")));
+    }
+
+    @Test
+    public void hasFrameMatchingDoesNotMatchWhenNoFrameMatches() {
+
+        // expect
+        expectedException.expect(AssertionError.class);
+        expectedException.expectMessage("Expected: an ILoggingEvent with a stack frame matching: a frame in method notExistingMethod\n" +
+                                        "     but: was ILoggingEvent{level=null, formattedMessage='null', loggedBy=null, throwable=java.lang.RuntimeException{message='opsi!'}}");
+
+        // given
+        final LoggingEvent loggingEvent = new LoggingEvent().withThrowable(failInSomeMethod());
+
+        // then
+        assertThat(loggingEvent, hasFrameMatching(inMethod("notExistingMethod")));
+    }
+
+    @Test
+    public void hasFrameMatchingDoesNotMatchWhenEventHasNoThrowable() {
+
+        // expect
+        expectedException.expect(AssertionError.class);
+        expectedException.expectMessage("Expected: an ILoggingEvent with a stack frame matching: a frame in method failInSomeMethod\n" +
+                                        "     but: was ILoggingEvent{level=null, formattedMessage='null', loggedBy=null, throwable=null}");
+
+        // given
+        final LoggingEvent loggingEvent = new LoggingEvent();
+
+        // then
+        assertThat(loggingEvent, hasFrameMatching(inMethod("failInSomeMethod")));
+    }
+
+    @Test
+    public void doesNotHaveFrameMatchingMatchesWhenNoFrameMatches() {
+
+        // given
+        final LoggingEvent loggingEvent = new LoggingEvent().withThrowable(failInSomeMethod());
+
+        // then
+        assertThat(loggingEvent, doesNotHaveFrameMatching(inMethod("notExistingMethod")));
+    }
+
+    @Test
+    public void doesNotHaveFrameMatchingDoesNotMatchWhenAnyFrameMatches() {
+
+        // expect
+        expectedException.expect(AssertionError.class);
+        expectedException.expectMessage("Expected: an ILoggingEvent without a stack frame matching: a frame in method failInSomeMethod\n" +
+                                        "     but: was ILoggingEvent{level=null, formattedMessage='null', loggedBy=null, throwable=java.lang.RuntimeException{message='opsi!'}}");
+
+        // given
+        final LoggingEvent loggingEvent = new LoggingEvent().withThrowable(failInSomeMethod());
+
+        // then
+        assertThat(loggingEvent, doesNotHaveFrameMatching(inMethod("failInSomeMethod")));
+    }
+
+    @Test
+    public void withFrameMatchingMatchesWhenAnyFrameMatches() {
+
+        // given
+        final LoggingEvent loggingEvent = new LoggingEvent().withThrowable(failInSomeMethod());
+
+        // then
+        assertThat(loggingEvent, withFrameMatching(inMethod("failInSomeMethod")));
+    }
+
+    @Test
+    public void withFrameMatchingDoesNotMatchWhenNoFrameMatches() {
+
+        // expect
+        expectedException.expect(AssertionError.class);
+        expectedException.expectMessage("Expected: an ILoggingEvent with a stack frame matching: a frame in method notExistingMethod\n" +
+                                        "     but: ILoggingEvent{level=null, formattedMessage='null', loggedBy=null, throwable=java.lang.RuntimeException{message='opsi!'}}");
+
+        // given
+        final LoggingEvent loggingEvent = new LoggingEvent().withThrowable(failInSomeMethod());
+
+        // then
+        assertThat(loggingEvent, withFrameMatching(inMethod("notExistingMethod")));
+    }
+
+    private static RuntimeException failInSomeMethod() {
+        return new RuntimeException("opsi!");
+    }
+
+    private static Matcher<StackTraceElement> inMethod(final String methodName) {
+        return new TypeSafeMatcher<StackTraceElement>() {
+            @Override
+            protected boolean matchesSafely(final StackTraceElement element) {
+                return element.getMethodName().equals(methodName);
+            }
+
+            @Override
+            public void describeTo(final Description description) {
+                description.appendText("a frame in method " + methodName);
+            }
+        };
+    }
+}
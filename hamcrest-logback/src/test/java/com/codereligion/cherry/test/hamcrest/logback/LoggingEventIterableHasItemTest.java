@@ -17,15 +17,19 @@ package com.codereligion.cherry.test.hamcrest.logback;
 
 import ch.qos.logback.classic.Level;
 import ch.qos.logback.classic.spi.ILoggingEvent;
+import com.google.common.base.Strings;
 import com.google.common.collect.Lists;
 import java.util.List;
 import org.hamcrest.Matcher;
 import org.junit.Rule;
 import org.junit.Test;
 import org.junit.rules.ExpectedException;
+import static com.codereligion.cherry.test.hamcrest.logback.LoggingEventAllOf.withAllOf;
 import static com.codereligion.cherry.test.hamcrest.logback.LoggingEventHasLevel.withLevel;
+import static com.codereligion.cherry.test.hamcrest.logback.LoggingEventHasMessage.withMessage;
 import static com.codereligion.cherry.test.hamcrest.logback.LoggingEventIterableHasItem.hasItem;
 import static com.codereligion.cherry.test.hamcrest.logback.LoggingEventIterableHasItem.hasNoItem;
+import static com.codereligion.cherry.test.hamcrest.logback.LoggingEventLoggedBy.loggedBy;
 import static org.junit.Assert.assertThat;
 
 /**
@@ -96,6 +100,76 @@ public class LoggingEventIterableHasItemTest {
         assertThat(events, hasItem(withLevel(Level.ERROR)));
     }
 
+    @Test
+    public void hasItemSummarizesEventsBeyondRenderingLimit() {
+
+        // expect
+        expectedException.expect(AssertionError.class);
+        expectedException.expectMessage("ILoggingEvent{level=INFO, formattedMessage='null', loggedBy=null, throwable=null}, ... and 49,990 more, 12 at ERROR]");
+
+        // given
+        final List<ILoggingEvent> events = Lists.newArrayList();
+        for (int i = 0; i < 50000; i++) {
+            events.add(new LoggingEvent().withLevel(i % 4000 == 3999 ? Level.ERROR : Level.INFO));
+        }
+
+        // then
+        assertThat(events, hasItem(withLevel(Level.TRACE)));
+    }
+
+    @Test
+    public void hasItemDescribesHistogramOfEventsBeyondRenderingLimit() {
+
+        // expect
+        expectedException.expect(AssertionError.class);
+        expectedException.expectMessage("... and 49,990 more, 12 at ERROR], by level {ERROR=12, INFO=49,988}, by logger {some.Logger=25,000, other.Logger=12,500, " +
+                                        "third.Logger=12,500}");
+
+        // given
+        final String[] loggerNames = {"some.Logger", "other.Logger", "some.Logger", "third.Logger"};
+        final List<ILoggingEvent> events = Lists.newArrayList();
+        for (int i = 0; i < 50000; i++) {
+            events.add(new LoggingEvent().withLevel(i % 4000 == 3999 ? Level.ERROR : Level.INFO).withLoggerName(loggerNames[i % 4]));
+        }
+
+        // then
+        assertThat(events, hasItem(withLevel(Level.TRACE)));
+    }
+
+    @Test
+    public void hasItemDescribesNearestCandidatesOfLargeCapture() {
+
+        // expect
+        expectedException.expect(AssertionError.class);
+        expectedException.expectMessage("nearest candidates [2 of 3 satisfied by ILoggingEvent{level=ERROR, formattedMessage='null', loggedBy=some.Logger, " +
+                                        "throwable=null}, 1 of 3 satisfied by ILoggingEvent{level=INFO, formattedMessage='null', loggedBy=some.Logger, " +
+                                        "throwable=null}, 1 of 3 satisfied by ILoggingEvent{level=INFO, formattedMessage='null', loggedBy=some.Logger, " +
+                                        "throwable=null}]");
+
+        // given
+        final List<ILoggingEvent> events = Lists.newArrayList();
+        for (int i = 0; i < 50000; i++) {
+            events.add(new LoggingEvent().withLevel(i == 40000 ? Level.ERROR : Level.INFO).withLoggerName(i % 2 == 0 ? "some.Logger" : "other.Logger"));
+        }
+
+        // then
+        assertThat(events, hasItem(withAllOf(withLevel(Level.ERROR), loggedBy("some.Logger"), withMessage("some message"))));
+    }
+
+    @Test
+    public void hasItemTruncatesLongMessages() {
+
+        // expect
+        expectedException.expect(AssertionError.class);
+        expectedException.expectMessage("formattedMessage='" + Strings.repeat("a", 500) + "... (1,500 more characters)'");
+
+        // given
+        final List<ILoggingEvent> events = Lists.<ILoggingEvent>newArrayList(new LoggingEvent().withLevel(Level.INFO).withMessage(Strings.repeat("a", 2000)));
+
+        // then
+        assertThat(events, hasItem(withLevel(Level.ERROR)));
+    }
+
     @Test
     public void hasNoItemMatchesWhenThereIsNoItemMatching() {
 
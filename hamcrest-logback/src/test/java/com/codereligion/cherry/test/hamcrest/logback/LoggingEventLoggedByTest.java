@@ -19,8 +19,11 @@ import org.junit.Rule;
 import org.junit.Test;
 import org.junit.rules.ExpectedException;
 import static com.codereligion.cherry.test.hamcrest.logback.LoggingEventLoggedBy.loggedBy;
+import static com.codereligion.cherry.test.hamcrest.logback.LoggingEventLoggedBy.loggedByOrDescendantOf;
 import static com.codereligion.cherry.test.hamcrest.logback.LoggingEventLoggedBy.wasLoggedBy;
+import static com.codereligion.cherry.test.hamcrest.logback.LoggingEventLoggedBy.wasLoggedByOrDescendantOf;
 import static com.codereligion.cherry.test.hamcrest.logback.LoggingEventLoggedBy.wasNotLoggedBy;
+import static com.codereligion.cherry.test.hamcrest.logback.LoggingEventLoggedBy.wasNotLoggedByOrDescendantOf;
 import static org.junit.Assert.assertThat;
 
 /**
@@ -267,4 +270,108 @@ public class LoggingEventLoggedByTest {
         // then
         assertThat(loggingEvent, loggedBy(String.class));
     }
-}
\ No newline at end of file
+
+    @Test
+    public void wasLoggedByMatchesEqualButNotIdenticalLoggerName() {
+
+        // given
+        final LoggingEvent loggingEvent = new LoggingEvent().withLoggerName(new String("foo"));
+
+        // then
+        assertThat(loggingEvent, wasLoggedBy(new String("foo")));
+    }
+
+    @Test
+    public void wasLoggedByOrDescendantOfThrowsIllegalArgumentExceptionOnNullString() {
+
+        // expect
+        expectedException.expect(IllegalArgumentException.class);
+        expectedException.expectMessage("loggerName must not be null.");
+
+        // given
+        final String loggerName = null;
+
+        // when
+        wasLoggedByOrDescendantOf(loggerName);
+    }
+
+    @Test
+    public void wasLoggedByOrDescendantOfMatchesGivenLogger() {
+
+        // given
+        final LoggingEvent loggingEvent = new LoggingEvent().withLoggerName("com.example");
+
+        // then
+        assertThat(loggingEvent, wasLoggedByOrDescendantOf("com.example"));
+    }
+
+    @Test
+    public void wasLoggedByOrDescendantOfMatchesDescendantOfGivenLogger() {
+
+        // given
+        final LoggingEvent loggingEvent = new LoggingEvent().withLoggerName("com.example.some.Type");
+
+        // then
+        assertThat(loggingEvent, wasLoggedByOrDescendantOf("com.example"));
+    }
+
+    @Test
+    public void wasLoggedByOrDescendantOfMatchesDescendantOfGivenType() {
+
+        // given
+        final LoggingEvent loggingEvent = new LoggingEvent().withLoggerName(Integer.class.getName() + ".inner");
+
+        // then
+        assertThat(loggingEvent, wasLoggedByOrDescendantOf(Integer.class));
+    }
+
+    @Test
+    public void wasLoggedByOrDescendantOfMatchesEveryLoggerForRootLogger() {
+
+        // given
+        final LoggingEvent loggingEvent = new LoggingEvent().withLoggerName("com.example");
+
+        // then
+        assertThat(loggingEvent, wasLoggedByOrDescendantOf(org.slf4j.Logger.ROOT_LOGGER_NAME));
+    }
+
+    @Test
+    public void wasLoggedByOrDescendantOfDoesNotMatchLoggerSharingTheNamePrefix() {
+
+        // expect
+        expectedException.expect(AssertionError.class);
+        expectedException.expectMessage("Expected: an ILoggingEvent logged by: com.example or a descendant\n" +
+                                        "     but: was ILoggingEvent{level=null, formattedMessage='null', loggedBy=com.examples.Type, throwable=null}");
+
+        // given
+        final LoggingEvent loggingEvent = new LoggingEvent().withLoggerName("com.examples.Type");
+
+        // then
+        assertThat(loggingEvent, wasLoggedByOrDescendantOf("com.example"));
+    }
+
+    @Test
+    public void wasNotLoggedByOrDescendantOfDoesNotMatchDescendantOfGivenLogger() {
+
+        // expect
+        expectedException.expect(AssertionError.class);
+        expectedException.expectMessage("Expected: an ILoggingEvent not logged by: com.example or a descendant\n" +
+                                        "     but: was ILoggingEvent{level=null, formattedMessage='null', loggedBy=com.example.Type, throwable=null}");
+
+        // given
+        final LoggingEvent loggingEvent = new LoggingEvent().withLoggerName("com.example.Type");
+
+        // then
+        assertThat(loggingEvent, wasNotLoggedByOrDescendantOf("com.example"));
+    }
+
+    @Test
+    public void loggedByOrDescendantOfMatchesDescendantOfGivenLogger() {
+
+        // given
+        final LoggingEvent loggingEvent = new LoggingEvent().withLoggerName("com.example.Type");
+
+        // then
+        assertThat(loggingEvent, loggedByOrDescendantOf("com.example"));
+    }
+}
@@ -0,0 +1,158 @@
+/**
+ * Copyright 2015 www.codereligion.com
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.codereligion.cherry.test.hamcrest.logback;
+
+import ch.qos.logback.classic.Level;
+import ch.qos.logback.classic.spi.ILoggingEvent;
+import com.google.common.collect.Lists;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.ExpectedException;
+import static com.codereligion.cherry.test.hamcrest.logback.LoggingEventIterableHasItem.hasItem;
+import static com.codereligion.cherry.test.hamcrest.logback.LoggingEventLoggedFrom.loggedFrom;
+import static com.codereligion.cherry.test.hamcrest.logback.LoggingEventLoggedFrom.wasLoggedFrom;
+import static com.codereligion.cherry.test.hamcrest.logback.LoggingEventLoggedFrom.wasNotLoggedFrom;
+import static org.junit.Assert.assertThat;
+
+/**
+ * Tests {@link LoggingEventLoggedFrom}.
+ *
+ * @author Sebastian Gr&ouml;bler
+ * @since 19.10.2026
+ */
+public class LoggingEventLoggedFromTest {
+
+    private static final String CLASS_NAME = LoggingEventLoggedFromTest.class.getName();
+
+    @Rule
+    public final ExpectedException expectedException = ExpectedException.none();
+
+    @Test
+    public void wasLoggedFromThrowsIllegalArgumentExceptionOnNullClassName() {
+
+        // expect
+        expectedException.expect(IllegalArgumentException.class);
+        expectedException.expectMessage("className must not be null.");
+
+        // when
+        wasLoggedFrom((String) null, "foo");
+    }
+
+    @Test
+    public void wasLoggedFromThrowsIllegalArgumentExceptionOnNullType() {
+
+        // expect
+        expectedException.expect(IllegalArgumentException.class);
+        expectedException.expectMessage("type must not be null.");
+
+        // when
+        wasLoggedFrom((Class<?>) null, "foo");
+    }
+
+    @Test
+    public void wasLoggedFromThrowsIllegalArgumentExceptionOnNullMethodName() {
+
+        // expect
+        expectedException.expect(IllegalArgumentException.class);
+        expectedException.expectMessage("methodName must not be null.");
+
+        // when
+        wasLoggedFrom(CLASS_NAME, null);
+    }
+
+    @Test
+    public void wasLoggedFromMatchesDirectCaller() {
+
+        // given
+        final LoggingEvent event = eventLoggedFrom("handle", "run");
+
+        // then
+        assertThat(event, wasLoggedFrom(CLASS_NAME, "handle"));
+        assertThat(event, wasLoggedFrom(LoggingEventLoggedFromTest.class, "handle"));
+    }
+
+    @Test
+    public void wasLoggedFromDoesNotMatchOuterCaller() {
+
+        // expect
+        expectedException.expect(AssertionError.class);
+        expectedException.expectMessage("Expected: an ILoggingEvent logged from: " + CLASS_NAME + "#run\n" +
+                                        "     but: was ILoggingEvent{level=INFO, formattedMessage='some Message', loggedBy=null, throwable=null} " +
+                                        "logged from " + CLASS_NAME + "#handle");
+
+        // when
+        assertThat(eventLoggedFrom("handle", "run"), wasLoggedFrom(CLASS_NAME, "run"));
+    }
+
+    @Test
+    public void wasLoggedFromDoesNotMatchEventWithoutCallerData() {
+
+        // expect
+        expectedException.expect(AssertionError.class);
+        expectedException.expectMessage("but: was ILoggingEvent{level=INFO, formattedMessage='some Message', loggedBy=null, throwable=null} " +
+                                        "without caller data");
+
+        // when
+        assertThat(new LoggingEvent().withLevel(Level.INFO).withMessage("some Message"), wasLoggedFrom(CLASS_NAME, "handle"));
+    }
+
+    @Test
+    public void wasNotLoggedFromMatchesOtherCaller() {
+        assertThat(eventLoggedFrom("handle"), wasNotLoggedFrom(CLASS_NAME, "run"));
+        assertThat(eventLoggedFrom("handle"), wasNotLoggedFrom(LoggingEventLoggedFromTest.class, "run"));
+    }
+
+    @Test
+    public void wasNotLoggedFromDoesNotMatchEventWithoutCallerData() {
+
+        // expect
+        expectedException.expect(AssertionError.class);
+        expectedException.expectMessage("Expected: an ILoggingEvent not logged from: " + CLASS_NAME + "#handle");
+
+        // when
+        assertThat(new LoggingEvent().withLevel(Level.INFO).withMessage("some Message"), wasNotLoggedFrom(CLASS_NAME, "handle"));
+    }
+
+    @Test
+    public void wasNotLoggedFromDoesNotMatchSameCaller() {
+
+        // expect
+        expectedException.expect(AssertionError.class);
+        expectedException.expectMessage("Expected: an ILoggingEvent not logged from: " + CLASS_NAME + "#handle");
+
+        // when
+        assertThat(eventLoggedFrom("handle"), wasNotLoggedFrom(CLASS_NAME, "handle"));
+    }
+
+    @Test
+    public void loggedFromMatchesItemOfIterable() {
+
+        // given
+        final Iterable<ILoggingEvent> events = Lists.<ILoggingEvent>newArrayList(new LoggingEvent().withLevel(Level.INFO), eventLoggedFrom("handle"));
+
+        // then
+        assertThat(events, hasItem(loggedFrom(CLASS_NAME, "handle")));
+        assertThat(events, hasItem(loggedFrom(LoggingEventLoggedFromTest.class, "handle")));
+    }
+
+    private static LoggingEvent eventLoggedFrom(final String... methodNames) {
+        final StackTraceElement[] callerData = new StackTraceElement[methodNames.length];
+        for (int i = 0; i < methodNames.length; i++) {
+            callerData[i] = new StackTraceElement(CLASS_NAME, methodNames[i], "LoggingEventLoggedFromTest.java", i + 1);
+        }
+        return new LoggingEvent().withLevel(Level.INFO).withMessage("some Message").withCallerData(callerData);
+    }
+}
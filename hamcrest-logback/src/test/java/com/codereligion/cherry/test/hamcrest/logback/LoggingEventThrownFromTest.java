@@ -0,0 +1,240 @@
+/**
+ * Copyright 2015 www.codereligion.com
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.codereligion.cherry.test.hamcrest.logback;
+
+import com.google.common.base.Preconditions;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.ExpectedException;
+import static com.codereligion.cherry.test.hamcrest.logback.LoggingEventThrownFrom.thrownFrom;
+import static com.codereligion.cherry.test.hamcrest.logback.LoggingEventThrownFrom.wasNotThrownFrom;
+import static com.codereligion.cherry.test.hamcrest.logback.LoggingEventThrownFrom.wasThrownFrom;
+import static com.google.common.base.Preconditions.checkArgument;
+import static org.junit.Assert.assertThat;
+
+/**
+ * Tests {@link LoggingEventThrownFrom}.
+ *
+ * @author Sebastian Gr&ouml;bler
+ * @since 19.10.2026
+ */
+public class LoggingEventThrownFromTest {
+
+    private static final String CLASS_NAME = LoggingEventThrownFromTest.class.getName();
+
+    @Rule
+    public final ExpectedException expectedException = ExpectedException.none();
+
+    @Test
+    public void wasThrownFromThrowsIllegalArgumentExceptionOnNullClassName() {
+
+        // expect
+        expectedException.expect(IllegalArgumentException.class);
+        expectedException.expectMessage("className must not be null.");
+
+        // given
+        final String className = null;
+
+        // when
+        wasThrownFrom(className, "foo");
+    }
+
+    @Test
+    public void wasThrownFromThrowsIllegalArgumentExceptionOnNullType() {
+
+        // expect
+        expectedException.expect(IllegalArgumentException.class);
+        expectedException.expectMessage("type must not be null.");
+
+        // given
+        final Class<?> type = null;
+
+        // when
+        wasThrownFrom(type, "foo");
+    }
+
+    @Test
+    public void thrownFromThrowsIllegalArgumentExceptionOnNullMethodName() {
+
+        // expect
+        expectedException.expect(IllegalArgumentException.class);
+        expectedException.expectMessage("methodName must not be null.");
+
+        // when
+        thrownFrom(CLASS_NAME, null);
+    }
+
+    @Test
+    public void wasThrownFromMatchesWhenThrowableWasThrownFromGivenMethod() {
+
+        // given
+        final LoggingEvent loggingEvent = new LoggingEvent().withThrowable(failInSomeMethod());
+
+        // then
+        assertThat(loggingEvent, wasThrownFrom(CLASS_NAME, "failInSomeMethod"));
+        assertThat(loggingEvent, wasThrownFrom(LoggingEventThrownFromTest.class, "failInSomeMethod"));
+    }
+
+    @Test
+    public void wasThrownFromMatchesWhenCauseWasThrownFromGivenMethod() {
+
+        // given
+        final LoggingEvent loggingEvent = new LoggingEvent().withThrowable(new IllegalStateException(failInSomeMethod()));
+
+        // then
+        assertThat(loggingEvent, wasThrownFrom(CLASS_NAME, "failInSomeMethod"));
+    }
+
+    @Test
+    public void wasThrownFromMatchesRepeatedlyOnTheSameEvent() {
+
+        // given
+        final LoggingEvent loggingEvent = new LoggingEvent().withThrowable(failInSomeMethod());
+
+        // then
+        assertThat(loggingEvent, wasThrownFrom(CLASS_NAME, "wasThrownFromMatchesRepeatedlyOnTheSameEvent"));
+        assertThat(loggingEvent, wasThrownFrom(CLASS_NAME, "failInSomeMethod"));
+        assertThat(loggingEvent, wasNotThrownFrom(CLASS_NAME, "notExistingMethod"));
+        assertThat(loggingEvent, wasThrownFrom(CLASS_NAME, "wasThrownFromMatchesRepeatedlyOnTheSameEvent"));
+    }
+
+    @Test
+    public void wasThrownFromDoesNotMatchWhenThrowableHasNoStackTrace() {
+
+        // given
+        final RuntimeException throwable = failInSomeMethod();
+        throwable.setStackTrace(new StackTraceElement[0]);
+        final LoggingEvent loggingEvent = new LoggingEvent().withThrowable(throwable);
+
+        // then
+        assertThat(loggingEvent, wasNotThrownFrom(CLASS_NAME, "failInSomeMethod"));
+    }
+
+    @Test
+    public void thrownFromMatchesMethodWhichThrowsThrowableConstructedByHelper() {
+
+        // given
+        final LoggingEvent loggingEvent = new LoggingEvent().withThrowable(failInPrecondition());
+
+        // then
+        assertThat(loggingEvent, thrownFrom(CLASS_NAME, "failInPrecondition"));
+    }
+
+    @Test
+    public void thrownFromMatchesThrowableConstructedByHelperRepeatedly() {
+
+        // given
+        final LoggingEvent loggingEvent = new LoggingEvent().withThrowable(failInPrecondition());
+
+        // then
+        assertThat(loggingEvent, thrownFrom(Preconditions.class, "checkArgument"));
+        assertThat(loggingEvent, thrownFrom(CLASS_NAME, "thrownFromMatchesThrowableConstructedByHelperRepeatedly"));
+        assertThat(loggingEvent, thrownFrom(CLASS_NAME, "failInPrecondition"));
+    }
+
+    @Test
+    public void wasThrownFromDoesNotMatchWhenThrowableWasNotThrownFromGivenMethod() {
+
+        // expect
+        expectedException.expect(AssertionError.class);
+        expectedException.expectMessage("Expected: an ILoggingEvent with a throwable thrown from: " + CLASS_NAME + "#notExistingMethod\n" +
+                                        "     but: was ILoggingEvent{level=null, formattedMessage='null', loggedBy=null, throwable=java.lang.RuntimeException{message='opsi!'}}");
+
+        // given
+        final LoggingEvent loggingEvent = new LoggingEvent().withThrowable(failInSomeMethod());
+
+        // then
+        assertThat(loggingEvent, wasThrownFrom(CLASS_NAME, "notExistingMethod"));
+    }
+
+    @Test
+    public void wasThrownFromDoesNotMatchWhenEventHasNoThrowable() {
+
+        // expect
+        expectedException.expect(AssertionError.class);
+        expectedException.expectMessage("Expected: an ILoggingEvent with a throwable thrown from: " + CLASS_NAME + "#failInSomeMethod\n" +
+                                        "     but: was ILoggingEvent{level=null, formattedMessage='null', loggedBy=null, throwable=null}");
+
+        // given
+        final LoggingEvent loggingEvent = new LoggingEvent();
+
+        // then
+        assertThat(loggingEvent, wasThrownFrom(CLASS_NAME, "failInSomeMethod"));
+    }
+
+    @Test
+    public void wasNotThrownFromMatchesWhenEventHasNoThrowable() {
+
+        // given
+        final LoggingEvent loggingEvent = new LoggingEvent();
+
+        // then
+        assertThat(loggingEvent, wasNotThrownFrom(CLASS_NAME, "failInSomeMethod"));
+    }
+
+    @Test
+    public void wasNotThrownFromDoesNotMatchWhenThrowableWasThrownFromGivenMethod() {
+
+        // expect
+        expectedException.expect(AssertionError.class);
+        expectedException.expectMessage("Expected: an ILoggingEvent with a throwable not thrown from: " + CLASS_NAME + "#failInSomeMethod\n" +
+                                        "     but: was ILoggingEvent{level=null, formattedMessage='null', loggedBy=null, throwable=java.lang.RuntimeException{message='opsi!'}}");
+
+        // given
+        final LoggingEvent loggingEvent = new LoggingEvent().withThrowable(failInSomeMethod());
+
+        // then
+        assertThat(loggingEvent, wasNotThrownFrom(CLASS_NAME, "failInSomeMethod"));
+    }
+
+    @Test
+    public void thrownFromMatchesWhenThrowableWasThrownFromGivenMethod() {
+
+        // given
+        final LoggingEvent loggingEvent = new LoggingEvent().withThrowable(failInSomeMethod());
+
+        // then
+        assertThat(loggingEvent, thrownFrom(LoggingEventThrownFromTest.class, "failInSomeMethod"));
+    }
+
+    @Test
+    public void thrownFromDoesNotMatchWhenThrowableWasNotThrownFromGivenMethod() {
+
+        // expect
+        expectedException.expect(AssertionError.class);
+        expectedException.expectMessage("Expected: an ILoggingEvent with a throwable thrown from: " + CLASS_NAME + "#notExistingMethod\n" +
+                                        "     but: ILoggingEvent{level=null, formattedMessage='null', loggedBy=null, throwable=java.lang.RuntimeException{message='opsi!'}}");
+
+        // given
+        final LoggingEvent loggingEvent = new LoggingEvent().withThrowable(failInSomeMethod());
+
+        // then
+        assertThat(loggingEvent, thrownFrom(CLASS_NAME, "notExistingMethod"));
+    }
+
+    private static RuntimeException failInSomeMethod() {
+        return new RuntimeException("opsi!");
+    }
+
+    private static IllegalArgumentException failInPrecondition() {
+        try {
+            checkArgument(false, "opsi!");
+            throw new AssertionError("checkArgument did not fail.");
+        } catch (final IllegalArgumentException e) {
+            return e;
+        }
+    }
+}
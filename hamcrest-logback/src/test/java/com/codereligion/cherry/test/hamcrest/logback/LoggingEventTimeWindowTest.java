@@ -0,0 +1,138 @@
+/**
+ * Copyright 2015 www.codereligion.com
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.codereligion.cherry.test.hamcrest.logback;
+
+import ch.qos.logback.classic.Level;
+import ch.qos.logback.classic.spi.ILoggingEvent;
+import com.google.common.collect.Lists;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.ExpectedException;
+import static com.codereligion.cherry.test.hamcrest.logback.LoggingEventHasLevel.withLevel;
+import static com.codereligion.cherry.test.hamcrest.logback.LoggingEventHasMessageTemplate.withMessageTemplate;
+import static com.codereligion.cherry.test.hamcrest.logback.LoggingEventTimeWindow.loggedBetween;
+import static com.codereligion.cherry.test.hamcrest.logback.LoggingEventTimeWindow.loggedWithin;
+import static org.junit.Assert.assertThat;
+
+/**
+ * Tests {@link LoggingEventTimeWindow}.
+ *
+ * @author Sebastian Gr&ouml;bler
+ * @since 19.10.2026
+ */
+public class LoggingEventTimeWindowTest {
+
+    @Rule
+    public final ExpectedException expectedException = ExpectedException.none();
+
+    private final List<ILoggingEvent> events = Lists.<ILoggingEvent>newArrayList(
+            new LoggingEvent().withTimeStamp(1000).withLevel(Level.INFO).withMessage("request sent"),
+            new LoggingEvent().withTimeStamp(1200).withLevel(Level.WARN).withMessage("retrying"),
+            new LoggingEvent().withTimeStamp(1500).withLevel(Level.INFO).withMessage("response received"),
+            new LoggingEvent().withTimeStamp(2500).withLevel(Level.ERROR).withMessage("connection lost"));
+
+    @Test
+    public void loggedWithinThrowsIllegalArgumentExceptionOnNegativeDuration() {
+
+        // expect
+        expectedException.expect(IllegalArgumentException.class);
+        expectedException.expectMessage("duration must not be negative.");
+
+        // when
+        loggedWithin(-1, TimeUnit.MILLISECONDS);
+    }
+
+    @Test
+    public void afterThrowsIllegalArgumentExceptionOnNullMatcher() {
+
+        // expect
+        expectedException.expect(IllegalArgumentException.class);
+        expectedException.expectMessage("anchorMatcher must not be null.");
+
+        // when
+        loggedWithin(1, TimeUnit.SECONDS).after(null);
+    }
+
+    @Test
+    public void loggedBetweenThrowsIllegalArgumentExceptionOnInvertedRange() {
+
+        // expect
+        expectedException.expect(IllegalArgumentException.class);
+        expectedException.expectMessage("fromMillis must not be greater than toMillis.");
+
+        // when
+        loggedBetween(2, 1);
+    }
+
+    @Test
+    public void loggedWithinMatchesItemLoggedAtEndOfWindow() {
+
+        // then
+        assertThat(events, loggedWithin(500, TimeUnit.MILLISECONDS).after(withMessageTemplate("request sent")).hasItem(withMessageTemplate("response received")));
+    }
+
+    @Test
+    public void loggedWithinDoesNotMatchItemLoggedAfterWindow() {
+
+        // expect
+        expectedException.expect(AssertionError.class);
+        expectedException.expectMessage("Expected: an iterable containing an ILoggingEvent with message template: response received logged within 499 " +
+                                        "MILLISECONDS after an ILoggingEvent with message template: request sent\n" +
+                                        "     but: iterable contained [ILoggingEvent{level=WARN, formattedMessage='retrying', loggedBy=null, throwable=null}]");
+
+        // then
+        assertThat(events, loggedWithin(499, TimeUnit.MILLISECONDS).after(withMessageTemplate("request sent")).hasItem(withMessageTemplate("response received")));
+    }
+
+    @Test
+    public void loggedWithinDoesNotMatchWithoutAnchor() {
+
+        // expect
+        expectedException.expect(AssertionError.class);
+        expectedException.expectMessage("but: no event matched an ILoggingEvent with message template: shutdown");
+
+        // then
+        assertThat(events, loggedWithin(1, TimeUnit.SECONDS).after(withMessageTemplate("shutdown")).hasNoItem(withLevel(Level.ERROR)));
+    }
+
+    @Test
+    public void loggedWithinOnlyExaminesEventsAfterAnchor() {
+
+        // then
+        assertThat(events, loggedWithin(1, TimeUnit.SECONDS).after(withMessageTemplate("retrying")).hasNoItem(withMessageTemplate("request sent")));
+    }
+
+    @Test
+    public void loggedBetweenMatchesWhenNoItemWithinRangeMatches() {
+
+        // then
+        assertThat(events, loggedBetween(1000, 2500).hasNoItem(withLevel(Level.ERROR)));
+    }
+
+    @Test
+    public void loggedBetweenDoesNotMatchWhenItemWithinRangeMatches() {
+
+        // expect
+        expectedException.expect(AssertionError.class);
+        expectedException.expectMessage("Expected: an iterable not containing an ILoggingEvent with level: ERROR logged between 1000 and 2501\n" +
+                                        "     but: iterable contained ILoggingEvent{level=ERROR, formattedMessage='connection lost', loggedBy=null, throwable=null}");
+
+        // then
+        assertThat(events, loggedBetween(1000, 2501).hasNoItem(withLevel(Level.ERROR)));
+    }
+}
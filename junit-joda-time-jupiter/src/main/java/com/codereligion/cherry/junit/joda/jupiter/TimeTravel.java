@@ -0,0 +1,57 @@
+/**
+ * Copyright 2015 www.codereligion.com
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.codereligion.cherry.junit.joda.jupiter;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Inherited;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.junit.jupiter.api.parallel.ResourceLock;
+
+/**
+ * Goes to and stays at the specified time, while the annotated test method or any test method of the annotated class is running, see {@link
+ * com.codereligion.cherry.junit.joda.jupiter.TimeTravelExtension}. An annotation on the test method takes precedence over an annotation on its class or on
+ * any enclosing class.
+ * <p/>
+ * The annotated tests lock the resource {@link #JODA_TIME}, so that they never run concurrently with each other when executed in parallel. Other tests,
+ * which depend on the current time of Joda-Time, have to lock the same resource, see {@link org.junit.jupiter.api.parallel.ResourceLock}.
+ *
+ * @author Sebastian Gr&ouml;bler
+ * @since 19.10.2026
+ */
+@Documented
+@Inherited
+@Retention(RetentionPolicy.RUNTIME)
+@Target({ElementType.TYPE, ElementType.METHOD})
+@ExtendWith(TimeTravelExtension.class)
+@ResourceLock(TimeTravel.JODA_TIME)
+public @interface TimeTravel {
+
+    /**
+     * The key of the resource which is locked by the annotated tests, as the current time of Joda-Time is shared by all threads.
+     */
+    String JODA_TIME = "org.joda.time.DateTimeUtils";
+
+    /**
+     * The ISO-8601 date and time to go to and stay at, e.g. {@code 2015-03-17T12:00:00.000Z}. The default time zone applies, when no offset is specified.
+     *
+     * @return the date and time to go to
+     */
+    String value();
+}
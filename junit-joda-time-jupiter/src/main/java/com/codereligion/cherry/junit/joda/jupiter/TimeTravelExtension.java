@@ -0,0 +1,82 @@
+/**
+ * Copyright 2015 www.codereligion.com
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.codereligion.cherry.junit.joda.jupiter;
+
+import java.util.Optional;
+import org.joda.time.DateTimeUtils;
+import org.joda.time.format.ISODateTimeFormat;
+import org.junit.jupiter.api.extension.AfterEachCallback;
+import org.junit.jupiter.api.extension.BeforeEachCallback;
+import org.junit.jupiter.api.extension.ExtensionConfigurationException;
+import org.junit.jupiter.api.extension.ExtensionContext;
+import org.junit.jupiter.api.extension.ExtensionContext.Namespace;
+import org.junit.jupiter.api.extension.ExtensionContext.Store;
+import org.junit.platform.commons.support.AnnotationSupport;
+
+/**
+ * JUnit Jupiter extension which goes to the time specified by {@link com.codereligion.cherry.junit.joda.jupiter.TimeTravel} before each test invocation and
+ * returns to the system time afterwards. It is registered by the annotation and usually does not need to be registered explicitly.
+ * <p/>
+ * Like {@link com.codereligion.cherry.junit.joda.TimeMachine}, the time is changed for all threads, including threads started by the test and its lifecycle
+ * methods like {@code @BeforeEach}. The time of each invocation is kept in the {@link org.junit.jupiter.api.extension.ExtensionContext.Store} of that
+ * invocation, so that only invocations which went to a different time return to the system time. Joda-Time does not expose the {@link
+ * org.joda.time.DateTimeUtils.MillisProvider} which was installed before, so a provider installed outside of the test is not restored.
+ *
+ * @author Sebastian Gr&ouml;bler
+ * @since 19.10.2026
+ */
+public class TimeTravelExtension implements BeforeEachCallback, AfterEachCallback {
+
+    @Override
+    public void beforeEach(final ExtensionContext extensionContext) {
+        final long millis = millisOf(timeTravelOf(extensionContext));
+        storeOf(extensionContext).put(TimeTravel.class, millis);
+        DateTimeUtils.setCurrentMillisFixed(millis);
+    }
+
+    @Override
+    public void afterEach(final ExtensionContext extensionContext) {
+        if (storeOf(extensionContext).remove(TimeTravel.class) != null) {
+            DateTimeUtils.setCurrentMillisSystem();
+        }
+    }
+
+    private static Store storeOf(final ExtensionContext extensionContext) {
+        // values of parent stores are visible as well, so the namespace is bound to the invocation to never share its time
+        return extensionContext.getStore(Namespace.create(TimeTravelExtension.class, extensionContext.getUniqueId()));
+    }
+
+    private static TimeTravel timeTravelOf(final ExtensionContext extensionContext) {
+        for (Optional<ExtensionContext> context = Optional.of(extensionContext); context.isPresent(); context = context.get().getParent()) {
+            final Optional<TimeTravel> timeTravel = AnnotationSupport.findAnnotation(context.get().getElement(), TimeTravel.class);
+            if (timeTravel.isPresent()) {
+                return timeTravel.get();
+            }
+        }
+        throw new ExtensionConfigurationException(extensionContext.getDisplayName() + " is not annotated with @TimeTravel.");
+    }
+
+    /**
+     * Parses the date and time of the given {@code timeTravel} annotation.
+     *
+     * @param timeTravel the annotation to parse the date and time of
+     * @return the milliseconds since epoch of the parsed date and time
+     * @throws java.lang.IllegalArgumentException when the value of the annotation is not an ISO-8601 date and time
+     */
+    static long millisOf(final TimeTravel timeTravel) {
+        return ISODateTimeFormat.dateTimeParser().parseMillis(timeTravel.value());
+    }
+}
@@ -0,0 +1,219 @@
+/**
+ * Copyright 2015 www.codereligion.com
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.codereligion.cherry.junit.joda.jupiter;
+
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import javax.annotation.Nullable;
+import org.joda.time.DateTime;
+import org.joda.time.DateTimeUtils;
+import org.joda.time.DateTimeZone;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtensionContext;
+import org.junit.jupiter.api.extension.ExtensionContext.Namespace;
+import org.junit.jupiter.api.extension.ExtensionContext.Store;
+import org.junit.jupiter.api.parallel.Execution;
+import org.junit.jupiter.api.parallel.ExecutionMode;
+import org.junit.jupiter.api.parallel.ResourceLock;
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.not;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.Matchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+/**
+ * Tests {@link TimeTravelExtension}.
+ *
+ * @author Sebastian Gr&ouml;bler
+ * @since 19.10.2026
+ */
+public class TimeTravelExtensionTest {
+
+    private static final long MILLIS = new DateTime(2015, 3, 17, 12, 0, DateTimeZone.UTC).getMillis();
+    private static final long OTHER_MILLIS = new DateTime(2016, 3, 17, 12, 0, DateTimeZone.UTC).getMillis();
+    private static final AtomicInteger TRAVELLING_INVOCATIONS = new AtomicInteger();
+
+    @Test
+    @TimeTravel("2015-03-17T12:00:00.000Z")
+    public void staysAtTimeOfAnnotatedMethod() {
+        assertThat(DateTimeUtils.currentTimeMillis(), is(MILLIS));
+    }
+
+    @Test
+    @ResourceLock(TimeTravel.JODA_TIME)
+    public void staysAtSystemTimeWithoutAnnotation() {
+        assertThat(DateTimeUtils.currentTimeMillis(), is(not(MILLIS)));
+    }
+
+    @Test
+    @TimeTravel("2015-03-17T12:00:00.000Z")
+    public void staysAtTimeOfAnnotatedMethodOnThreadsStartedByTest() throws InterruptedException {
+
+        // given
+        final AtomicLong otherThreadMillis = new AtomicLong();
+        final Thread otherThread = new Thread(() -> otherThreadMillis.set(DateTimeUtils.currentTimeMillis()));
+
+        // when
+        otherThread.start();
+        otherThread.join();
+
+        // then
+        assertThat(otherThreadMillis.get(), is(MILLIS));
+    }
+
+    @Test
+    @ResourceLock(TimeTravel.JODA_TIME)
+    public void returnsToSystemTimeAfterEachOfInvocationWhichWentToDifferentTime() {
+
+        // given
+        final ExtensionContext extensionContext = extensionContextOf(MILLIS);
+        DateTimeUtils.setCurrentMillisFixed(MILLIS);
+
+        // when
+        new TimeTravelExtension().afterEach(extensionContext);
+
+        // then
+        assertThat(DateTimeUtils.currentTimeMillis(), is(not(MILLIS)));
+    }
+
+    @Test
+    @ResourceLock(TimeTravel.JODA_TIME)
+    public void staysAtTimeAfterEachOfInvocationWhichDidNotGoToDifferentTime() {
+
+        // given
+        final ExtensionContext extensionContext = extensionContextOf(null);
+        DateTimeUtils.setCurrentMillisFixed(MILLIS);
+
+        try {
+            // when
+            new TimeTravelExtension().afterEach(extensionContext);
+
+            // then
+            assertThat(DateTimeUtils.currentTimeMillis(), is(MILLIS));
+        } finally {
+            DateTimeUtils.setCurrentMillisSystem();
+        }
+    }
+
+    @Test
+    public void parsesTimeWithOffset() throws NoSuchMethodException {
+
+        // given
+        final TimeTravel timeTravel = timeTravelOf("withOffset");
+
+        // when
+        final long millis = TimeTravelExtension.millisOf(timeTravel);
+
+        // then
+        assertThat(millis, is(MILLIS));
+    }
+
+    @Test
+    public void millisOfThrowsIllegalArgumentExceptionWhenValueIsNoDateTime() throws NoSuchMethodException {
+
+        // given
+        final TimeTravel timeTravel = timeTravelOf("withoutDateTime");
+
+        // expect
+        assertThrows(IllegalArgumentException.class, () -> TimeTravelExtension.millisOf(timeTravel));
+    }
+
+    @Nested
+    @TimeTravel("2016-03-17T12:00:00.000Z")
+    public class WithinAnnotatedClass {
+
+        private long beforeEachMillis;
+
+        @BeforeEach
+        public void setUp() {
+            beforeEachMillis = DateTimeUtils.currentTimeMillis();
+        }
+
+        @Test
+        public void staysAtTimeOfAnnotatedClass() {
+            assertThat(DateTimeUtils.currentTimeMillis(), is(OTHER_MILLIS));
+        }
+
+        @Test
+        public void staysAtTimeDuringLifecycleMethods() {
+            assertThat(beforeEachMillis, is(OTHER_MILLIS));
+        }
+
+        @Test
+        @TimeTravel("2015-03-17T12:00:00.000Z")
+        public void annotatedMethodTakesPrecedenceOverAnnotatedClass() {
+            assertThat(DateTimeUtils.currentTimeMillis(), is(MILLIS));
+        }
+    }
+
+    @Nested
+    @Execution(ExecutionMode.CONCURRENT)
+    public class RunningInParallel {
+
+        @Test
+        @TimeTravel("2015-03-17T12:00:00.000Z")
+        public void firstDoesNotRunConcurrentlyWithSecond() throws InterruptedException {
+            staysAtOwnTime(MILLIS);
+        }
+
+        @Test
+        @TimeTravel("2016-03-17T12:00:00.000Z")
+        public void secondDoesNotRunConcurrentlyWithFirst() throws InterruptedException {
+            staysAtOwnTime(OTHER_MILLIS);
+        }
+
+        private void staysAtOwnTime(final long millis) throws InterruptedException {
+
+            // given
+            assertThat(TRAVELLING_INVOCATIONS.incrementAndGet(), is(1));
+
+            // when
+            // leaves the other invocation time to go to its time, if it was running
+            Thread.sleep(50);
+
+            // then
+            assertThat(TRAVELLING_INVOCATIONS.decrementAndGet(), is(0));
+            assertThat(DateTimeUtils.currentTimeMillis(), is(millis));
+        }
+    }
+
+    @TimeTravel("2015-03-17T13:00:00.000+01:00")
+    private static void withOffset() {
+        // only used to retrieve the annotation
+    }
+
+    @TimeTravel("yesterday")
+    private static void withoutDateTime() {
+        // only used to retrieve the annotation
+    }
+
+    private static TimeTravel timeTravelOf(final String methodName) throws NoSuchMethodException {
+        return TimeTravelExtensionTest.class.getDeclaredMethod(methodName).getAnnotation(TimeTravel.class);
+    }
+
+    private static ExtensionContext extensionContextOf(@Nullable final Long storedMillis) {
+        final ExtensionContext extensionContext = mock(ExtensionContext.class);
+        final Store store = mock(Store.class);
+        when(extensionContext.getUniqueId()).thenReturn("[method:invocation()]");
+        when(extensionContext.getStore(any(Namespace.class))).thenReturn(store);
+        when(store.remove(TimeTravel.class)).thenReturn(storedMillis);
+        return extensionContext;
+    }
+}
@@ -0,0 +1,138 @@
+/**
+ * Copyright 2015 www.codereligion.com
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.codereligion.cherry.junit.logback.jupiter;
+
+import ch.qos.logback.classic.Level;
+import com.codereligion.cherry.junit.logback.LogRecorder;
+import com.codereligion.cherry.junit.logback.LogSpec;
+import java.lang.reflect.Method;
+import java.util.Optional;
+import org.junit.jupiter.api.extension.ExtensionConfigurationException;
+import org.junit.jupiter.api.extension.ExtensionContext;
+import org.junit.jupiter.api.extension.ExtensionContext.Namespace;
+import org.junit.jupiter.api.extension.InvocationInterceptor;
+import org.junit.jupiter.api.extension.ParameterContext;
+import org.junit.jupiter.api.extension.ParameterResolver;
+import org.junit.jupiter.api.extension.ReflectiveInvocationContext;
+import org.junit.platform.commons.support.AnnotationSupport;
+import org.junit.runner.Description;
+import org.junit.runners.model.Statement;
+import static com.google.common.base.Preconditions.checkArgument;
+
+/**
+ * JUnit Jupiter extension which records the events of the loggers specified by {@link com.codereligion.cherry.junit.logback.jupiter.RecordLogs} while a
+ * test method is running. It is registered by the annotation and usually does not need to be registered explicitly.
+ * <p/>
+ * A new {@link com.codereligion.cherry.junit.logback.LogRecorder} is created for each test invocation and kept in the
+ * {@link org.junit.jupiter.api.extension.ExtensionContext.Store} of that invocation, from where it is injected into parameters of its type. The recorders
+ * capture events through the turbo filter, see {@link com.codereligion.cherry.junit.logback.LogRecorder#usingTurboFilter()}, so that neither levels nor
+ * appenders of any logger are changed. A recorder records the events of all threads, so tests annotated with {@link
+ * com.codereligion.cherry.junit.logback.jupiter.RecordLogs} lock the resource {@link com.codereligion.cherry.junit.logback.jupiter.RecordLogs#LOGGER_CONTEXT}
+ * and never run concurrently with each other.
+ * <p/>
+ * Only events logged by the test method itself are recorded, the events logged by lifecycle methods like {@code @BeforeEach} are not.
+ *
+ * @author Sebastian Gr&ouml;bler
+ * @since 19.10.2026
+ */
+public class LogRecorderExtension implements ParameterResolver, InvocationInterceptor {
+
+    @Override
+    public boolean supportsParameter(final ParameterContext parameterContext, final ExtensionContext extensionContext) {
+        return parameterContext.getParameter().getType() == LogRecorder.class
+               && parameterContext.getDeclaringExecutable() instanceof Method
+               && extensionContext.getTestMethod().isPresent();
+    }
+
+    @Override
+    public Object resolveParameter(final ParameterContext parameterContext, final ExtensionContext extensionContext) {
+        return recorderOf(extensionContext);
+    }
+
+    @Override
+    public void interceptTestMethod(final Invocation<Void> invocation,
+                                    final ReflectiveInvocationContext<Method> invocationContext,
+                                    final ExtensionContext extensionContext) throws Throwable {
+        record(invocation, extensionContext);
+    }
+
+    @Override
+    public void interceptTestTemplateMethod(final Invocation<Void> invocation,
+                                            final ReflectiveInvocationContext<Method> invocationContext,
+                                            final ExtensionContext extensionContext) throws Throwable {
+        record(invocation, extensionContext);
+    }
+
+    private static void record(final Invocation<Void> invocation, final ExtensionContext extensionContext) throws Throwable {
+        final Description description = Description.createTestDescription(extensionContext.getRequiredTestClass(),
+                                                                          extensionContext.getRequiredTestMethod().getName());
+        recorderOf(extensionContext).apply(new InvocationStatement(invocation), description).evaluate();
+    }
+
+    private static LogRecorder recorderOf(final ExtensionContext extensionContext) {
+        // values of parent stores are visible as well, so the namespace is bound to the invocation to never share a recorder
+        final Namespace namespace = Namespace.create(LogRecorderExtension.class, extensionContext.getUniqueId());
+        return extensionContext.getStore(namespace).getOrComputeIfAbsent(LogRecorder.class, type -> newRecorderOf(extensionContext), LogRecorder.class);
+    }
+
+    private static LogRecorder newRecorderOf(final ExtensionContext extensionContext) {
+        return LogRecorder.expectedLogs(logSpecsOf(recordLogsOf(extensionContext))).usingTurboFilter();
+    }
+
+    private static RecordLogs recordLogsOf(final ExtensionContext extensionContext) {
+        for (Optional<ExtensionContext> context = Optional.of(extensionContext); context.isPresent(); context = context.get().getParent()) {
+            final Optional<RecordLogs> recordLogs = AnnotationSupport.findAnnotation(context.get().getElement(), RecordLogs.class);
+            if (recordLogs.isPresent()) {
+                return recordLogs.get();
+            }
+        }
+        throw new ExtensionConfigurationException(extensionContext.getDisplayName() + " is not annotated with @RecordLogs.");
+    }
+
+    /**
+     * Creates a {@link com.codereligion.cherry.junit.logback.LogSpec} for each logger of the given {@code recordLogs} annotation.
+     *
+     * @param recordLogs the annotation to create the specs of
+     * @return the specs of the annotation
+     * @throws java.lang.IllegalArgumentException when the level of the annotation is not the name of a level
+     */
+    static LogSpec[] logSpecsOf(final RecordLogs recordLogs) {
+
+        final Level level = Level.toLevel(recordLogs.level(), null);
+        checkArgument(level != null, "level must be the name of a logback level.");
+
+        final String[] loggerNames = recordLogs.logger();
+        final LogSpec[] logSpecs = new LogSpec[loggerNames.length];
+        for (int i = 0; i < loggerNames.length; i++) {
+            logSpecs[i] = new LogSpec(loggerNames[i], level);
+        }
+        return logSpecs;
+    }
+
+    private static class InvocationStatement extends Statement {
+
+        private final Invocation<Void> invocation;
+
+        private InvocationStatement(final Invocation<Void> invocation) {
+            this.invocation = invocation;
+        }
+
+        @Override
+        public void evaluate() throws Throwable {
+            invocation.proceed();
+        }
+    }
+}
@@ -0,0 +1,66 @@
+/**
+ * Copyright 2015 www.codereligion.com
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.codereligion.cherry.junit.logback.jupiter;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Inherited;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.junit.jupiter.api.parallel.ResourceLock;
+import org.slf4j.Logger;
+
+/**
+ * Records the events of the specified loggers for each test invocation of the annotated test method or of all test methods of the annotated class. The
+ * {@link com.codereligion.cherry.junit.logback.LogRecorder} of the current invocation can be injected as a parameter into the test method and its lifecycle
+ * methods. An annotation on the test method takes precedence over an annotation on its class or on any enclosing class.
+ * <p/>
+ * The annotated tests lock the resource {@link #LOGGER_CONTEXT}, so that they never run concurrently with each other when executed in parallel. Other tests,
+ * which log to the recorded loggers, have to lock the same resource, see {@link org.junit.jupiter.api.parallel.ResourceLock}, to not be recorded as well.
+ *
+ * @author Sebastian Gr&ouml;bler
+ * @see com.codereligion.cherry.junit.logback.jupiter.LogRecorderExtension
+ * @since 19.10.2026
+ */
+@Documented
+@Inherited
+@Retention(RetentionPolicy.RUNTIME)
+@Target({ElementType.TYPE, ElementType.METHOD})
+@ExtendWith(LogRecorderExtension.class)
+@ResourceLock(RecordLogs.LOGGER_CONTEXT)
+public @interface RecordLogs {
+
+    /**
+     * The key of the resource which is locked by the annotated tests, as all recorders share the logger context of logback.
+     */
+    String LOGGER_CONTEXT = "ch.qos.logback.classic.LoggerContext";
+
+    /**
+     * The names of the loggers to record, defaults to the root logger.
+     *
+     * @return the names of the loggers
+     */
+    String[] logger() default Logger.ROOT_LOGGER_NAME;
+
+    /**
+     * The name of the minimum level of the events to record, defaults to {@code DEBUG}.
+     *
+     * @return the name of the level
+     */
+    String level() default "DEBUG";
+}
@@ -0,0 +1,203 @@
+/**
+ * Copyright 2015 www.codereligion.com
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.codereligion.cherry.junit.logback.jupiter;
+
+import ch.qos.logback.classic.Level;
+import com.codereligion.cherry.junit.logback.LogRecorder;
+import com.codereligion.cherry.junit.logback.LogSpec;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.RepeatedTest;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.parallel.Execution;
+import org.junit.jupiter.api.parallel.ExecutionMode;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.sameInstance;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+/**
+ * Tests {@link LogRecorderExtension}.
+ *
+ * @author Sebastian Gr&ouml;bler
+ * @since 19.10.2026
+ */
+@RecordLogs(logger = LogRecorderExtensionTest.LOGGER_NAME, level = "INFO")
+public class LogRecorderExtensionTest {
+
+    static final String LOGGER_NAME = "com.codereligion.cherry.junit.logback.jupiter.test";
+    private static final String OTHER_LOGGER_NAME = "com.codereligion.cherry.junit.logback.jupiter.other";
+    private static final AtomicInteger RECORDING_INVOCATIONS = new AtomicInteger();
+
+    private final Logger logger = LoggerFactory.getLogger(LOGGER_NAME);
+    private final Logger otherLogger = LoggerFactory.getLogger(OTHER_LOGGER_NAME);
+
+    private LogRecorder beforeEachRecorder;
+
+    @BeforeEach
+    public void setUp(final LogRecorder logRecorder) {
+        this.beforeEachRecorder = logRecorder;
+    }
+
+    @Test
+    public void recordsEventsOfLoggerOfAnnotatedClass(final LogRecorder logRecorder) {
+
+        // when
+        logger.debug("debug");
+        logger.info("info");
+
+        // then
+        assertThat(logRecorder.events().size(), is(1));
+        assertThat(logRecorder.event().getMessage(), is("info"));
+    }
+
+    @Test
+    @RecordLogs(logger = LOGGER_NAME, level = "DEBUG")
+    public void annotatedMethodTakesPrecedenceOverAnnotatedClass(final LogRecorder logRecorder) {
+
+        // when
+        logger.debug("debug");
+
+        // then
+        assertThat(logRecorder.event().getMessage(), is("debug"));
+    }
+
+    @Test
+    @RecordLogs(logger = {LOGGER_NAME, OTHER_LOGGER_NAME}, level = "INFO")
+    public void recordsEventsOfAllAnnotatedLoggers(final LogRecorder logRecorder) {
+
+        // when
+        logger.info("info");
+        otherLogger.info("other info");
+
+        // then
+        assertThat(logRecorder.events().size(), is(2));
+    }
+
+    @Test
+    public void doesNotRecordEventsOfOtherLoggers(final LogRecorder logRecorder) {
+
+        // when
+        otherLogger.info("other info");
+
+        // then
+        assertThat(logRecorder.events().isEmpty(), is(true));
+    }
+
+    @Test
+    public void injectsSameRecorderIntoLifecycleMethods(final LogRecorder logRecorder) {
+        assertThat(logRecorder, sameInstance(beforeEachRecorder));
+    }
+
+    @RepeatedTest(3)
+    public void recordsEventsOfEachInvocationSeparately(final LogRecorder logRecorder) {
+
+        // when
+        logger.info("info");
+
+        // then
+        assertThat(logRecorder.events().size(), is(1));
+    }
+
+    @Test
+    public void createsLogSpecForEachLogger() throws NoSuchMethodException {
+
+        // given
+        final RecordLogs recordLogs = recordLogsOf("withTwoLoggers");
+
+        // when
+        final LogSpec[] logSpecs = LogRecorderExtension.logSpecsOf(recordLogs);
+
+        // then
+        assertThat(logSpecs.length, is(2));
+        assertThat(logSpecs[0], is(new LogSpec(LOGGER_NAME, Level.INFO)));
+        assertThat(logSpecs[1], is(new LogSpec(OTHER_LOGGER_NAME, Level.INFO)));
+    }
+
+    @Test
+    public void logSpecsOfThrowsIllegalArgumentExceptionWhenLevelIsUnknown() throws NoSuchMethodException {
+
+        // given
+        final RecordLogs recordLogs = recordLogsOf("withUnknownLevel");
+
+        // expect
+        final IllegalArgumentException exception = assertThrows(IllegalArgumentException.class, () -> LogRecorderExtension.logSpecsOf(recordLogs));
+        assertThat(exception.getMessage(), is("level must be the name of a logback level."));
+    }
+
+    @Nested
+    public class WithinNestedClass {
+
+        @Test
+        public void recordsEventsOfLoggerOfEnclosingClass(final LogRecorder logRecorder) {
+
+            // when
+            logger.info("info");
+
+            // then
+            assertThat(logRecorder.event().getMessage(), is("info"));
+        }
+    }
+
+    @Nested
+    @RecordLogs
+    @Execution(ExecutionMode.CONCURRENT)
+    public class RunningInParallel {
+
+        @Test
+        public void firstDoesNotRunConcurrentlyWithSecond(final LogRecorder logRecorder) throws InterruptedException {
+            recordsOnlyEventsOfOwnInvocation(logRecorder, "first");
+        }
+
+        @Test
+        public void secondDoesNotRunConcurrentlyWithFirst(final LogRecorder logRecorder) throws InterruptedException {
+            recordsOnlyEventsOfOwnInvocation(logRecorder, "second");
+        }
+
+        private void recordsOnlyEventsOfOwnInvocation(final LogRecorder logRecorder, final String message) throws InterruptedException {
+
+            // given
+            assertThat(RECORDING_INVOCATIONS.incrementAndGet(), is(1));
+
+            // when
+            logger.info(message);
+            // leaves the other invocation time to log, if it was running
+            Thread.sleep(50);
+
+            // then
+            assertThat(RECORDING_INVOCATIONS.decrementAndGet(), is(0));
+            assertThat(logRecorder.events().size(), is(1));
+            assertThat(logRecorder.event().getMessage(), is(message));
+        }
+    }
+
+    @RecordLogs(logger = {LOGGER_NAME, OTHER_LOGGER_NAME}, level = "INFO")
+    private static void withTwoLoggers() {
+        // only used to retrieve the annotation
+    }
+
+    @RecordLogs(logger = LOGGER_NAME, level = "NOTICE")
+    private static void withUnknownLevel() {
+        // only used to retrieve the annotation
+    }
+
+    private static RecordLogs recordLogsOf(final String methodName) throws NoSuchMethodException {
+        return LogRecorderExtensionTest.class.getDeclaredMethod(methodName).getAnnotation(RecordLogs.class);
+    }
+}
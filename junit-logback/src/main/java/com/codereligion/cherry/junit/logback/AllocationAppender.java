@@ -0,0 +1,199 @@
+/**
+ * Copyright 2015 www.codereligion.com
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.codereligion.cherry.junit.logback;
+
+import ch.qos.logback.classic.Level;
+import ch.qos.logback.classic.Logger;
+import ch.qos.logback.classic.spi.ILoggingEvent;
+import ch.qos.logback.classic.turbo.TurboFilter;
+import ch.qos.logback.core.AppenderBase;
+import ch.qos.logback.core.spi.FilterReply;
+import com.google.common.collect.Maps;
+import java.lang.management.ManagementFactory;
+import java.util.Map;
+import org.slf4j.Marker;
+
+/**
+ * Appender which attributes the bytes allocated by the logging calls of a single thread to their logger and message template. The allocated bytes of the
+ * thread are read through {@link com.sun.management.ThreadMXBean#getThreadAllocatedBytes(long)} by the {@link #turboFilter() turbo filter} when a logging
+ * call starts and again by this appender, after the event's message was formatted. Everything the logging call allocated in between is attributed to the
+ * event, e.g. the creation of the event, the formatting of its message and appenders of the same logger which were attached before this appender. The bytes
+ * allocated by reading the counter itself are measured once on start and subtracted.
+ * <p/>
+ * Only logging calls with a message to loggers whose events reach this appender mark a start, so that level checks and logging calls to other loggers, e.g.
+ * by the {@code toString()} of an argument, do not reset the measurement of the enclosing statement. Thread allocation measurement is enabled while a thread
+ * is tracked and switched off again on stop, if it was disabled before.
+ *
+ * @author Sebastian Gr&ouml;bler
+ * @since 19.10.2026
+ */
+class AllocationAppender extends AppenderBase<ILoggingEvent> {
+
+    private final com.sun.management.ThreadMXBean threadMXBean;
+    private final TurboFilter turboFilter = new StartMarker();
+    private final Map<String, Map<String, long[]>> allocationsByLogger = Maps.newHashMap();
+    private volatile Thread trackedThread;
+    private boolean enabledAllocatedMemory;
+    private long startBytes = -1;
+    private long overheadBytes;
+
+    /**
+     * Creates a new instance.
+     *
+     * @throws java.lang.IllegalStateException when the JVM does not support measuring the bytes allocated by a thread
+     */
+    AllocationAppender() {
+        final java.lang.management.ThreadMXBean bean = ManagementFactory.getThreadMXBean();
+        if (!(bean instanceof com.sun.management.ThreadMXBean) || !((com.sun.management.ThreadMXBean) bean).isThreadAllocatedMemorySupported()) {
+            throw new IllegalStateException("Measuring the bytes allocated by a thread is not supported by this JVM.");
+        }
+        this.threadMXBean = (com.sun.management.ThreadMXBean) bean;
+    }
+
+    /**
+     * @return the turbo filter which marks the start of each logging call, which needs to be installed first on the logger context
+     */
+    TurboFilter turboFilter() {
+        return turboFilter;
+    }
+
+    /**
+     * Determines whether the given {@code turboFilter} marks the start of logging calls for an instance of this class, in which case it needs to stay the
+     * first turbo filter of the logger context.
+     *
+     * @param turboFilter the turbo filter to check
+     * @return {@code true} if the given filter marks the start of logging calls
+     */
+    static boolean isStartMarker(final TurboFilter turboFilter) {
+        return turboFilter instanceof StartMarker;
+    }
+
+    /**
+     * Starts tracking the logging calls of the given {@code thread} and discards all previous allocations.
+     *
+     * @param thread the thread to track
+     */
+    synchronized void track(final Thread thread) {
+        if (!threadMXBean.isThreadAllocatedMemoryEnabled()) {
+            threadMXBean.setThreadAllocatedMemoryEnabled(true);
+            enabledAllocatedMemory = true;
+        }
+
+        allocationsByLogger.clear();
+        startBytes = -1;
+        overheadBytes = measureOverhead();
+        trackedThread = thread;
+        turboFilter.start();
+        start();
+    }
+
+    @Override
+    public synchronized void stop() {
+        trackedThread = null;
+        turboFilter.stop();
+        super.stop();
+        if (enabledAllocatedMemory) {
+            threadMXBean.setThreadAllocatedMemoryEnabled(false);
+            enabledAllocatedMemory = false;
+        }
+    }
+
+    @Override
+    protected void append(final ILoggingEvent event) {
+        if (Thread.currentThread() != trackedThread || startBytes < 0) {
+            return;
+        }
+
+        // formatting is part of the cost of every logging statement which reaches an appender
+        event.getFormattedMessage();
+        final long bytes = Math.max(allocatedBytes() - startBytes - overheadBytes, 0);
+        startBytes = -1;
+
+        final String loggerName = String.valueOf(event.getLoggerName());
+        Map<String, long[]> allocationsByTemplate = allocationsByLogger.get(loggerName);
+        if (allocationsByTemplate == null) {
+            allocationsByTemplate = Maps.newHashMap();
+            allocationsByLogger.put(loggerName, allocationsByTemplate);
+        }
+
+        final String template = String.valueOf(event.getMessage());
+        final long[] allocation = allocationsByTemplate.get(template);
+        if (allocation == null) {
+            allocationsByTemplate.put(template, new long[]{1, bytes, bytes});
+        } else {
+            allocation[0]++;
+            allocation[1] += bytes;
+            allocation[2] = Math.max(allocation[2], bytes);
+        }
+    }
+
+    /**
+     * @return a snapshot of the allocations attributed so far
+     */
+    synchronized LogAllocations snapshot() {
+        final Map<String, Map<String, long[]>> copy = Maps.newHashMap();
+        for (final Map.Entry<String, Map<String, long[]>> loggerEntry : allocationsByLogger.entrySet()) {
+            final Map<String, long[]> allocationsByTemplate = Maps.newHashMap();
+            for (final Map.Entry<String, long[]> templateEntry : loggerEntry.getValue().entrySet()) {
+                allocationsByTemplate.put(templateEntry.getKey(), templateEntry.getValue().clone());
+            }
+            copy.put(loggerEntry.getKey(), allocationsByTemplate);
+        }
+        return new LogAllocations(copy);
+    }
+
+    private void markStart() {
+        startBytes = allocatedBytes();
+    }
+
+    private long allocatedBytes() {
+        return threadMXBean.getThreadAllocatedBytes(Thread.currentThread().getId());
+    }
+
+    private long measureOverhead() {
+        long overhead = Long.MAX_VALUE;
+        for (int i = 0; i < 5; i++) {
+            final long before = allocatedBytes();
+            overhead = Math.min(overhead, allocatedBytes() - before);
+        }
+        return overhead;
+    }
+
+    /**
+     * Turbo filter which marks the start of each logging call of the tracked thread, without influencing whether the event is logged.
+     */
+    private class StartMarker extends TurboFilter {
+
+        StartMarker() {
+            setName(AllocationTracker.class.getSimpleName());
+        }
+
+        @Override
+        public FilterReply decide(final Marker marker,
+                                  final Logger logger,
+                                  final Level level,
+                                  final String format,
+                                  final Object[] params,
+                                  final Throwable t) {
+
+            // level checks pass no format, they are part of the enclosing statement just like calls to loggers which are not tracked
+            if (format != null && Thread.currentThread() == trackedThread && LoggerAttachment.reaches(logger, AllocationAppender.this)) {
+                markStart();
+            }
+            return FilterReply.NEUTRAL;
+        }
+    }
+}
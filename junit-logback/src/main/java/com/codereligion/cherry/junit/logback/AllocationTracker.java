@@ -0,0 +1,157 @@
+/**
+ * Copyright 2015 www.codereligion.com
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.codereligion.cherry.junit.logback;
+
+import ch.qos.logback.classic.LoggerContext;
+import com.google.common.collect.Lists;
+import com.google.common.collect.Sets;
+import java.util.Collections;
+import java.util.List;
+import java.util.Set;
+import org.hamcrest.Matcher;
+import org.hamcrest.StringDescription;
+import org.junit.rules.TestRule;
+import org.junit.runner.Description;
+import org.junit.runners.model.MultipleFailureException;
+import org.junit.runners.model.Statement;
+import static com.google.common.base.Preconditions.checkArgument;
+
+/**
+ * JUnit rule which measures the bytes allocated by the logging statements, which the thread running the test issues to the loggers specified by the given
+ * {@link com.codereligion.cherry.junit.logback.LogSpec LogSpecs}. The allocations are attributed to the logger and message template of each statement and
+ * can be asserted with {@link com.codereligion.cherry.junit.logback.LogAllocationMatcher}, within the test or as a budget for each test:
+ * <pre>
+ * &#064;Rule
+ * public AllocationTracker allocationTracker = AllocationTracker.tracking(new LogSpec("com.example", Level.DEBUG))
+ *                                                              .withBudget(allocatedAtMost(2048));
+ * </pre>
+ * A statement is measured from the start of the logging call, before logback checks the level of the logger, until the event reaches this rule's appender
+ * and its message is formatted. Allocations of appenders attached to ancestor loggers are not included. Statements of other threads are ignored, as the JVM
+ * only reads the allocation counter of the current thread cheaply.
+ * <p/>
+ * Requires a JVM which supports {@link com.sun.management.ThreadMXBean#getThreadAllocatedBytes(long)}.
+ *
+ * @author Sebastian Gr&ouml;bler
+ * @since 19.10.2026
+ */
+public class AllocationTracker implements TestRule {
+
+    /**
+     * Creates an allocation tracker rule which measures the logging statements issued to all loggers specified by the given {@link
+     * com.codereligion.cherry.junit.logback.LogSpec LogSpecs} at the specified levels.
+     *
+     * @param logSpecs the logs to track
+     * @return a new {@link com.codereligion.cherry.junit.logback.AllocationTracker}
+     * @throws java.lang.IllegalArgumentException when any of the given specs are {@code null}
+     * @throws java.lang.IllegalStateException    when the JVM does not support measuring the bytes allocated by a thread
+     */
+    public static AllocationTracker tracking(final LogSpec... logSpecs) {
+        return new AllocationTracker(logSpecs);
+    }
+
+    private final Set<LogSpec> logSpecs = Sets.newLinkedHashSet();
+    private final AllocationAppender allocationAppender;
+    private final LoggerAttachment loggerAttachment;
+    private final Set<LoggerContext> loggerContexts = Sets.newLinkedHashSet();
+    private Matcher<? super LogAllocations> budget;
+
+    private AllocationTracker(final LogSpec... logSpecs) {
+        Collections.addAll(this.logSpecs, logSpecs);
+        checkArgument(!this.logSpecs.contains(null), "logSpec must not be null.");
+
+        try {
+            this.allocationAppender = new AllocationAppender();
+        } catch (final LinkageError e) {
+            throw new IllegalStateException("Measuring the bytes allocated by a thread is not supported by this JVM.", e);
+        }
+        this.loggerAttachment = new LoggerAttachment(this.logSpecs, allocationAppender);
+        for (final LogSpec logSpec : this.logSpecs) {
+            loggerContexts.add(logSpec.getLoggerContext());
+        }
+    }
+
+    /**
+     * Configures this tracker to fail each test, in which the allocations of the logging statements are not matched by the given {@code budget}.
+     *
+     * @param budget the matcher which the allocations must satisfy
+     * @return this tracker
+     * @throws java.lang.IllegalArgumentException when the given budget is {@code null}
+     */
+    public AllocationTracker withBudget(final Matcher<? super LogAllocations> budget) {
+        checkArgument(budget != null, "budget must not be null.");
+        this.budget = budget;
+        return this;
+    }
+
+    @Override
+    public Statement apply(final Statement base, final Description description) {
+        return new Statement() {
+            @Override
+            public void evaluate() throws Throwable {
+                final List<Throwable> errors = Lists.newArrayList();
+                before();
+                try {
+                    base.evaluate();
+                } catch (final Throwable t) {
+                    errors.add(t);
+                } finally {
+                    after();
+                }
+                checkBudget(errors);
+                MultipleFailureException.assertEmpty(errors);
+            }
+        };
+    }
+
+    /**
+     * @return the allocations of all logging statements tracked so far
+     */
+    public LogAllocations allocations() {
+        return allocationAppender.snapshot();
+    }
+
+    private void checkBudget(final List<Throwable> errors) {
+        if (budget == null) {
+            return;
+        }
+
+        final LogAllocations allocations = allocations();
+        if (!budget.matches(allocations)) {
+            final StringDescription description = new StringDescription();
+            description.appendText("Expected logging allocations of: ").appendDescriptionOf(budget).appendText("\n     but: ");
+            budget.describeMismatch(allocations, description);
+            errors.add(new AssertionError(description.toString()));
+        }
+    }
+
+    private void before() {
+        for (final LoggerContext loggerContext : loggerContexts) {
+            // installed first, so that the allocations of all other turbo filters are measured as well
+            loggerContext.getTurboFilterList().add(0, allocationAppender.turboFilter());
+        }
+        allocationAppender.setContext(loggerContexts.isEmpty() ? null : loggerContexts.iterator().next());
+        allocationAppender.track(Thread.currentThread());
+        loggerAttachment.attach();
+    }
+
+    private void after() {
+        loggerAttachment.detach();
+        allocationAppender.stop();
+        for (final LoggerContext loggerContext : loggerContexts) {
+            loggerContext.getTurboFilterList().remove(allocationAppender.turboFilter());
+        }
+    }
+}
@@ -0,0 +1,47 @@
+/**
+ * Copyright 2015 www.codereligion.com
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.codereligion.cherry.junit.logback;
+
+/**
+ * Callback which is notified by the {@link com.codereligion.cherry.junit.logback.ListAppender} about every appended event.
+ *
+ * @param <E> the type of the event
+ * @author Sebastian Gr&ouml;bler
+ * @since 19.10.2026
+ */
+interface AppendListener<E> {
+
+    /**
+     * Is called on the logging thread after the given {@code event} was appended, while the monitor of the appender is held.
+     *
+     * @param event the appended event
+     */
+    void onAppend(E event);
+
+    /**
+     * Is called on the logging thread after the given {@code event} was offered to the appender and its monitor was released, so that this listener may
+     * block the logging thread without blocking other threads which log to the same appender. The event may not have been appended, e.g. when the appender
+     * was stopped concurrently.
+     *
+     * @param event the offered event
+     */
+    void afterAppend(E event);
+
+    /**
+     * Is called when the appender is stopped and no further events will be appended.
+     */
+    void onStop();
+}
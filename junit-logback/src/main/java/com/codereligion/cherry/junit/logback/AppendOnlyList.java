@@ -0,0 +1,131 @@
+/**
+ * Copyright 2015 www.codereligion.com
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.codereligion.cherry.junit.logback;
+
+import java.util.AbstractList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.RandomAccess;
+import static com.google.common.base.Preconditions.checkElementIndex;
+import static com.google.common.base.Preconditions.checkPositionIndex;
+import static com.google.common.base.Preconditions.checkPositionIndexes;
+
+/**
+ * Unmodifiable list view on elements which can only be appended. Elements are stored in fixed size segments which are never copied or moved, so that an index
+ * once handed out stays valid forever and readers never need to lock. Appending is not thread-safe and must be guarded by the caller, reading is thread-safe
+ * and reflects all elements appended before the last call to {@link #size()}.
+ *
+ * @param <E> the type of the elements
+ * @author Sebastian Gr&ouml;bler
+ * @since 19.10.2026
+ */
+final class AppendOnlyList<E> extends AbstractList<E> implements RandomAccess {
+
+    private static final int SEGMENT_SHIFT = 10;
+    private static final int SEGMENT_SIZE = 1 << SEGMENT_SHIFT;
+    private static final int SEGMENT_MASK = SEGMENT_SIZE - 1;
+
+    private volatile Object[][] segments = new Object[1][];
+    private volatile int size;
+
+    /**
+     * Appends the given element to the end of this list. Callers must ensure that this method is not called concurrently.
+     *
+     * @param element the element to append
+     */
+    void append(final E element) {
+        final int index = size;
+        final int segment = index >>> SEGMENT_SHIFT;
+
+        Object[][] current = segments;
+        if (segment == current.length) {
+            current = Arrays.copyOf(current, current.length * 2);
+            segments = current;
+        }
+        if (current[segment] == null) {
+            current[segment] = new Object[SEGMENT_SIZE];
+        }
+
+        current[segment][index & SEGMENT_MASK] = element;
+        size = index + 1;
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public E get(final int index) {
+        checkElementIndex(index, size);
+        return (E) segments[index >>> SEGMENT_SHIFT][index & SEGMENT_MASK];
+    }
+
+    @Override
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Returns a live view on all elements starting at the given {@code fromIndex}, which includes the elements which are appended after calling this method.
+     *
+     * @param fromIndex the index of the first element of the view
+     * @return a live view on all elements starting at the given index
+     * @throws java.lang.IndexOutOfBoundsException when the given index is negative or greater than the current size
+     */
+    List<E> tail(final int fromIndex) {
+        checkPositionIndex(fromIndex, size);
+        return new View(fromIndex, -1);
+    }
+
+    /**
+     * Returns a view on the elements between the given {@code fromIndex}, inclusive, and {@code toIndex}, exclusive. Since elements can not be removed or
+     * moved, the view stays valid while further elements are appended.
+     *
+     * @param fromIndex the index of the first element of the view
+     * @param toIndex   the index after the last element of the view
+     * @return a view on the elements of the given range
+     * @throws java.lang.IndexOutOfBoundsException when the given indexes are out of range or the {@code toIndex} is less than the {@code fromIndex}
+     */
+    @Override
+    public List<E> subList(final int fromIndex, final int toIndex) {
+        checkPositionIndexes(fromIndex, toIndex, size);
+        return new View(fromIndex, toIndex);
+    }
+
+    private class View extends AbstractList<E> implements RandomAccess {
+
+        private final int fromIndex;
+        private final int toIndex;
+
+        /**
+         * @param fromIndex the index of the first element of this view
+         * @param toIndex   the index after the last element of this view, or {@code -1} if the view is open-ended
+         */
+        View(final int fromIndex, final int toIndex) {
+            this.fromIndex = fromIndex;
+            this.toIndex = toIndex;
+        }
+
+        @Override
+        public E get(final int index) {
+            checkElementIndex(index, size());
+            return AppendOnlyList.this.get(fromIndex + index);
+        }
+
+        @Override
+        public int size() {
+            final int end = toIndex == -1 ? AppendOnlyList.this.size() : toIndex;
+            return end - fromIndex;
+        }
+    }
+}
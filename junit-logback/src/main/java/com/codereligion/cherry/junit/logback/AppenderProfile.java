@@ -0,0 +1,121 @@
+/**
+ * Copyright 2015 www.codereligion.com
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.codereligion.cherry.junit.logback;
+
+import static com.google.common.base.Preconditions.checkArgument;
+
+/**
+ * Snapshot of the time spent in the appenders of a single logger, as measured by an {@link com.codereligion.cherry.junit.logback.AppenderProfiler}. Each
+ * sample is the time in nanoseconds it took all appenders of the logger to append a single event. Percentiles are reported as the largest value of the
+ * histogram bucket they fall into, which is at most 4% larger than the actual value.
+ *
+ * @author Sebastian Gr&ouml;bler
+ * @since 19.10.2026
+ */
+public final class AppenderProfile {
+
+    private final String loggerName;
+    private final long[] counts;
+    private final long count;
+    private final long totalNanos;
+    private final long maxNanos;
+
+    AppenderProfile(final String loggerName, final LatencyHistogram histogram) {
+        this.loggerName = loggerName;
+        this.counts = histogram.counts();
+        this.maxNanos = histogram.max();
+        this.totalNanos = histogram.total();
+
+        long sum = 0;
+        for (final long bucketCount : counts) {
+            sum += bucketCount;
+        }
+        this.count = sum;
+    }
+
+    /**
+     * @return the name of the profiled logger
+     */
+    public String loggerName() {
+        return loggerName;
+    }
+
+    /**
+     * @return the number of appended events
+     */
+    public long count() {
+        return count;
+    }
+
+    /**
+     * @return the total time spent in the appenders in nanoseconds
+     */
+    public long totalNanos() {
+        return totalNanos;
+    }
+
+    /**
+     * @return the median time spent in the appenders per event in nanoseconds
+     */
+    public long p50Nanos() {
+        return percentileNanos(50);
+    }
+
+    /**
+     * @return the 99th percentile of the time spent in the appenders per event in nanoseconds
+     */
+    public long p99Nanos() {
+        return percentileNanos(99);
+    }
+
+    /**
+     * @return the longest time spent in the appenders for a single event in nanoseconds
+     */
+    public long maxNanos() {
+        return maxNanos;
+    }
+
+    /**
+     * Returns the time in nanoseconds which the appenders did not exceed for the given {@code percentile} of all events.
+     *
+     * @param percentile the percentile between {@code 0} and {@code 100}
+     * @return the time spent in the appenders in nanoseconds at the given percentile, or {@code 0} if no event was appended
+     * @throws java.lang.IllegalArgumentException when the given percentile is not between {@code 0} and {@code 100}
+     */
+    public long percentileNanos(final double percentile) {
+        checkArgument(percentile >= 0 && percentile <= 100, "percentile must be between 0 and 100.");
+
+        if (count == 0) {
+            return 0;
+        }
+
+        final long rank = Math.max(1, (long) Math.ceil(percentile / 100 * count));
+        long seen = 0;
+        for (int i = 0; i < counts.length; i++) {
+            seen += counts[i];
+            if (seen >= rank) {
+                return Math.min(LatencyHistogram.highestValueOf(i), maxNanos);
+            }
+        }
+        return maxNanos;
+    }
+
+    @Override
+    public String toString() {
+        return "AppenderProfile{logger=" + loggerName + ", count=" + count + ", p50Nanos=" + p50Nanos() + ", p99Nanos=" + p99Nanos() + ", maxNanos=" + maxNanos
+               + "}";
+    }
+}
@@ -0,0 +1,210 @@
+/**
+ * Copyright 2015 www.codereligion.com
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.codereligion.cherry.junit.logback;
+
+import ch.qos.logback.classic.Logger;
+import ch.qos.logback.classic.spi.ILoggingEvent;
+import ch.qos.logback.core.Appender;
+import com.google.common.collect.Lists;
+import com.google.common.collect.Maps;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import org.hamcrest.Matcher;
+import org.hamcrest.StringDescription;
+import org.junit.rules.TestRule;
+import org.junit.runner.Description;
+import org.junit.runners.model.MultipleFailureException;
+import org.junit.runners.model.Statement;
+import org.slf4j.LoggerFactory;
+import static com.google.common.base.Preconditions.checkArgument;
+
+/**
+ * JUnit rule which measures how much time the code under test spends in the appenders of the specified loggers. During the test the appenders attached to
+ * each logger are replaced by a single appender, which passes every event on to them in their original order and records the nanoseconds this took into a
+ * fixed size histogram. The original appenders are restored after the test. Events logged by descendants reach the profiled appenders through additivity, so
+ * profiling the root logger measures the overhead of all appenders attached to it.
+ * <p/>
+ * The measured times are available as {@link com.codereligion.cherry.junit.logback.AppenderProfile AppenderProfiles} during and after the test and can be
+ * checked against a budget after each test, e.g. with {@link com.codereligion.cherry.junit.logback.LogOverheadMatcher}:
+ * <pre>
+ * &#064;Rule
+ * public AppenderProfiler appenderProfiler = AppenderProfiler.profiling(Logger.ROOT_LOGGER_NAME)
+ *                                                            .withBudget(p99OverheadAtMost(50, TimeUnit.MICROSECONDS));
+ * </pre>
+ *
+ * @author Sebastian Gr&ouml;bler
+ * @since 19.10.2026
+ */
+public class AppenderProfiler implements TestRule {
+
+    /**
+     * Creates an appender profiler rule which measures the time spent in the appenders of the loggers with the given {@code loggerNames}.
+     *
+     * @param loggerNames the names of the loggers to profile
+     * @return a new {@link com.codereligion.cherry.junit.logback.AppenderProfiler}
+     * @throws java.lang.IllegalArgumentException when any of the given names are {@code null}
+     */
+    public static AppenderProfiler profiling(final String... loggerNames) {
+        final List<Logger> loggers = Lists.newArrayList();
+        for (final String loggerName : loggerNames) {
+            checkArgument(loggerName != null, "loggerName must not be null.");
+            loggers.add((Logger) LoggerFactory.getLogger(loggerName));
+        }
+        return new AppenderProfiler(loggers);
+    }
+
+    /**
+     * Creates an appender profiler rule which measures the time spent in the appenders of the loggers of the given {@code types}.
+     *
+     * @param types the types which identify the loggers to profile
+     * @return a new {@link com.codereligion.cherry.junit.logback.AppenderProfiler}
+     * @throws java.lang.IllegalArgumentException when any of the given types are {@code null}
+     */
+    public static AppenderProfiler profiling(final Class<?>... types) {
+        final List<Logger> loggers = Lists.newArrayList();
+        for (final Class<?> type : types) {
+            checkArgument(type != null, "type must not be null.");
+            loggers.add((Logger) LoggerFactory.getLogger(type));
+        }
+        return new AppenderProfiler(loggers);
+    }
+
+    private final Map<Logger, LatencyHistogram> histograms = Maps.newLinkedHashMap();
+    private final Map<Logger, ProfilingAppender> profilingAppenders = Maps.newHashMap();
+    private final Map<Logger, List<Appender<ILoggingEvent>>> originalAppenders = Maps.newHashMap();
+    private Matcher<? super AppenderProfile> budget;
+
+    private AppenderProfiler(final Collection<Logger> loggers) {
+        for (final Logger logger : loggers) {
+            histograms.put(logger, new LatencyHistogram());
+        }
+    }
+
+    /**
+     * Configures this profiler to fail each test, in which the profile of any of the loggers is not matched by the given {@code budget}.
+     *
+     * @param budget the matcher which the profiles must satisfy
+     * @return this profiler
+     * @throws java.lang.IllegalArgumentException when the given budget is {@code null}
+     */
+    public AppenderProfiler withBudget(final Matcher<? super AppenderProfile> budget) {
+        checkArgument(budget != null, "budget must not be null.");
+        this.budget = budget;
+        return this;
+    }
+
+    @Override
+    public Statement apply(final Statement base, final Description description) {
+        return new Statement() {
+            @Override
+            public void evaluate() throws Throwable {
+                final List<Throwable> errors = Lists.newArrayList();
+                before();
+                try {
+                    base.evaluate();
+                } catch (final Throwable t) {
+                    errors.add(t);
+                } finally {
+                    after();
+                }
+                checkBudget(errors);
+                MultipleFailureException.assertEmpty(errors);
+            }
+        };
+    }
+
+    /**
+     * Returns the profile of the logger with the given {@code loggerName}, which covers all events appended so far.
+     *
+     * @param loggerName the name of the profiled logger
+     * @return the profile of the logger
+     * @throws java.lang.IllegalArgumentException when the given name is {@code null} or the logger is not profiled by this profiler
+     */
+    public AppenderProfile profileOf(final String loggerName) {
+        checkArgument(loggerName != null, "loggerName must not be null.");
+
+        final Logger logger = (Logger) LoggerFactory.getLogger(loggerName);
+        final LatencyHistogram histogram = histograms.get(logger);
+        checkArgument(histogram != null, "logger " + loggerName + " is not profiled.");
+        return new AppenderProfile(logger.getName(), histogram);
+    }
+
+    /**
+     * @return the profiles of all profiled loggers in the order they were specified, which cover all events appended so far
+     */
+    public List<AppenderProfile> profiles() {
+        final List<AppenderProfile> profiles = Lists.newArrayList();
+        for (final Map.Entry<Logger, LatencyHistogram> entry : histograms.entrySet()) {
+            profiles.add(new AppenderProfile(entry.getKey().getName(), entry.getValue()));
+        }
+        return Collections.unmodifiableList(profiles);
+    }
+
+    private void checkBudget(final List<Throwable> errors) {
+        if (budget == null) {
+            return;
+        }
+
+        for (final AppenderProfile profile : profiles()) {
+            if (!budget.matches(profile)) {
+                final StringDescription description = new StringDescription();
+                description.appendText("Expected logging overhead of: ").appendDescriptionOf(budget).appendText("\n     but: ");
+                budget.describeMismatch(profile, description);
+                errors.add(new AssertionError(description.toString()));
+            }
+        }
+    }
+
+    private void before() {
+        for (final Map.Entry<Logger, LatencyHistogram> entry : histograms.entrySet()) {
+            final Logger logger = entry.getKey();
+
+            final List<Appender<ILoggingEvent>> appenders = Lists.newArrayList();
+            for (final Iterator<Appender<ILoggingEvent>> iterator = logger.iteratorForAppenders(); iterator.hasNext(); ) {
+                appenders.add(iterator.next());
+            }
+
+            final ProfilingAppender profilingAppender = new ProfilingAppender(appenders, entry.getValue());
+            profilingAppender.setContext(logger.getLoggerContext());
+            profilingAppender.start();
+
+            // the profiling appender is attached first, so that no event is lost in between
+            logger.addAppender(profilingAppender);
+            for (final Appender<ILoggingEvent> appender : appenders) {
+                logger.detachAppender(appender);
+            }
+
+            originalAppenders.put(logger, appenders);
+            profilingAppenders.put(logger, profilingAppender);
+        }
+    }
+
+    private void after() {
+        for (final Map.Entry<Logger, ProfilingAppender> entry : profilingAppenders.entrySet()) {
+            final Logger logger = entry.getKey();
+            for (final Appender<ILoggingEvent> appender : originalAppenders.get(logger)) {
+                logger.addAppender(appender);
+            }
+            logger.detachAppender(entry.getValue());
+            entry.getValue().stop();
+        }
+        profilingAppenders.clear();
+        originalAppenders.clear();
+    }
+}
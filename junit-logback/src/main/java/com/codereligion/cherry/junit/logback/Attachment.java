@@ -0,0 +1,36 @@
+/**
+ * Copyright 2015 www.codereligion.com
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.codereligion.cherry.junit.logback;
+
+/**
+ * Connects an appender with the loggers specified by a set of {@link com.codereligion.cherry.junit.logback.LogSpec LogSpecs}, so that the appender receives
+ * their events while attached.
+ *
+ * @author Sebastian Gr&ouml;bler
+ * @since 19.10.2026
+ */
+interface Attachment {
+
+    /**
+     * Starts routing the events of the specified loggers to the appender.
+     */
+    void attach();
+
+    /**
+     * Stops routing the events of the specified loggers to the appender and restores any state changed by {@link #attach()}.
+     */
+    void detach();
+}
@@ -0,0 +1,219 @@
+/**
+ * Copyright 2015 www.codereligion.com
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.codereligion.cherry.junit.logback;
+import ch.qos.logback.classic.spi.ILoggingEvent;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import static com.google.common.base.Preconditions.checkArgument;
+
+/**
+ * {@link com.codereligion.cherry.junit.logback.LogEventSubscription} which is fed by the {@link com.codereligion.cherry.junit.logback.ListAppender} and
+ * buffers events in a bounded queue until they are requested by the subscriber. Delivery is serialized through a work-in-progress counter, so that the
+ * subscriber is never called concurrently, regardless of whether delivery is triggered by a logging thread or by a call to {@link #request(long)}.
+ * <p/>
+ * Events are buffered while the monitor of the appender is held, which keeps them in the order they were recorded, but they are delivered and back-pressure
+ * is applied only after the monitor was released. A logging thread which filled the buffer waits there until the subscriber requested enough events, so the
+ * buffer holds at most one additional event per waiting thread. Threads which are expected to request events themselves must never wait for the
+ * subscriber, as they would wait for themselves. These are the thread which subscribed, the thread which is delivering events and, if the subscription is
+ * not blocking, every thread. Their events are dropped when the buffer is full and are signalled to the subscriber with the next delivery, additionally the
+ * total number of dropped events is kept, so that the recorder is able to fail the test.
+ *
+ * @author Sebastian Gr&ouml;bler
+ * @since 19.10.2026
+ */
+class BufferedSubscription implements LogEventSubscription, AppendListener<ILoggingEvent> {
+
+    private final LogEventSubscriber subscriber;
+    private final ListAppender<ILoggingEvent> listAppender;
+    private final int bufferSize;
+    private final boolean blocking;
+    private final Thread subscribingThread;
+    private final Queue<ILoggingEvent> buffer = new ConcurrentLinkedQueue<ILoggingEvent>();
+    private final AtomicInteger buffered = new AtomicInteger();
+    private final Object capacity = new Object();
+    private final AtomicLong demand = new AtomicLong();
+    private final AtomicInteger workInProgress = new AtomicInteger();
+    private final AtomicLong dropped = new AtomicLong();
+    private final AtomicLong droppedInTotal = new AtomicLong();
+    private volatile Thread deliveringThread;
+    private volatile boolean cancelled;
+    private volatile boolean stopped;
+    private boolean completed;
+
+    /**
+     * Creates a new instance for the given {@code subscriber}, which is subscribed by the calling thread.
+     *
+     * @param subscriber   the subscriber to deliver events to
+     * @param listAppender the appender which feeds this subscription
+     * @param bufferSize   the maximum number of events which are buffered until they are requested
+     * @param blocking     whether logging threads wait for the subscriber when the buffer is full
+     */
+    BufferedSubscription(final LogEventSubscriber subscriber, final ListAppender<ILoggingEvent> listAppender, final int bufferSize, final boolean blocking) {
+        this.subscriber = subscriber;
+        this.listAppender = listAppender;
+        this.bufferSize = bufferSize;
+        this.blocking = blocking;
+        this.subscribingThread = Thread.currentThread();
+    }
+
+    @Override
+    public void onAppend(final ILoggingEvent event) {
+        if (cancelled) {
+            return;
+        }
+
+        if (buffered.get() >= bufferSize && !mayWait()) {
+            dropped.incrementAndGet();
+            droppedInTotal.incrementAndGet();
+            return;
+        }
+        buffer.offer(event);
+        buffered.incrementAndGet();
+    }
+
+    @Override
+    public void afterAppend(final ILoggingEvent event) {
+        if (cancelled) {
+            return;
+        }
+
+        drain();
+        if (!mayWait()) {
+            return;
+        }
+
+        synchronized (capacity) {
+            while (buffered.get() > bufferSize && !cancelled && !stopped) {
+                try {
+                    capacity.wait();
+                } catch (final InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    return;
+                }
+            }
+        }
+    }
+
+    @Override
+    public void onStop() {
+        stopped = true;
+        signalCapacity();
+        drain();
+    }
+
+    @Override
+    public void request(final long n) {
+        checkArgument(n > 0, "n must be greater than zero.");
+
+        long current;
+        long next;
+        do {
+            current = demand.get();
+            next = current + n < 0 ? Long.MAX_VALUE : current + n;
+        } while (!demand.compareAndSet(current, next));
+
+        drain();
+    }
+
+    @Override
+    public void cancel() {
+        cancelled = true;
+        listAppender.removeListener(this);
+        clear();
+        signalCapacity();
+    }
+
+    /**
+     * @return the subscriber of this subscription
+     */
+    LogEventSubscriber getSubscriber() {
+        return subscriber;
+    }
+
+    /**
+     * @return the number of events which were dropped since this subscription was created
+     */
+    long getDroppedEvents() {
+        return droppedInTotal.get();
+    }
+
+    private boolean mayWait() {
+        final Thread currentThread = Thread.currentThread();
+        return blocking && currentThread != subscribingThread && currentThread != deliveringThread;
+    }
+
+    private void drain() {
+        if (workInProgress.getAndIncrement() != 0) {
+            return;
+        }
+
+        deliveringThread = Thread.currentThread();
+        try {
+            int missed = 1;
+            do {
+                if (cancelled) {
+                    // an event may have been buffered by a logging thread which passed the check before the cancellation
+                    clear();
+                }
+
+                final long droppedSinceLastDelivery = dropped.getAndSet(0);
+                if (droppedSinceLastDelivery > 0 && !cancelled) {
+                    subscriber.onOverflow(droppedSinceLastDelivery);
+                }
+
+                boolean delivered = false;
+                while (!cancelled && demand.get() > 0) {
+                    final ILoggingEvent event = buffer.poll();
+                    if (event == null) {
+                        break;
+                    }
+                    buffered.decrementAndGet();
+                    delivered = true;
+                    if (demand.get() != Long.MAX_VALUE) {
+                        demand.decrementAndGet();
+                    }
+                    subscriber.onEvent(event);
+                }
+                if (delivered) {
+                    signalCapacity();
+                }
+
+                if (stopped && !cancelled && !completed && buffer.isEmpty()) {
+                    completed = true;
+                    subscriber.onComplete();
+                }
+
+                missed = workInProgress.addAndGet(-missed);
+            } while (missed != 0);
+        } finally {
+            deliveringThread = null;
+        }
+    }
+
+    private void clear() {
+        while (buffer.poll() != null) {
+            buffered.decrementAndGet();
+        }
+    }
+
+    private void signalCapacity() {
+        synchronized (capacity) {
+            capacity.notifyAll();
+        }
+    }
+}
@@ -0,0 +1,113 @@
+/**
+ * Copyright 2015 www.codereligion.com
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.codereligion.cherry.junit.logback;
+
+import ch.qos.logback.classic.spi.ILoggingEvent;
+import ch.qos.logback.core.Appender;
+import ch.qos.logback.core.UnsynchronizedAppenderBase;
+import com.google.common.collect.Lists;
+import java.util.List;
+
+/**
+ * Appender which computes the caller data of the events specified by {@link com.codereligion.cherry.junit.logback.LogSpec LogSpecs} with {@link
+ * LogSpec#withCallerData() enabled caller data}, before passing all events on to the appender which records them. Caller data is computed from the stack of
+ * the current thread, so it needs to be computed on the logging thread while the event is being logged, and is cached by the event afterwards. Events which
+ * are not specified by such a spec are passed on untouched.
+ *
+ * @author Sebastian Gr&ouml;bler
+ * @since 19.10.2026
+ */
+class CallerDataAppender extends UnsynchronizedAppenderBase<ILoggingEvent> {
+
+    /**
+     * Determines whether any of the given {@code logSpecs} enables caller data.
+     *
+     * @param logSpecs the specs to check
+     * @return {@code true} if caller data is enabled by any of the specs
+     */
+    static boolean isEnabledBy(final Iterable<LogSpec> logSpecs) {
+        for (final LogSpec logSpec : logSpecs) {
+            if (logSpec.isCallerDataEnabled()) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private final List<LogSpec> callerDataSpecs = Lists.newArrayList();
+    private final Appender<ILoggingEvent> delegate;
+
+    /**
+     * Creates a new instance which computes the caller data of the events specified by those of the given {@code logSpecs}, which enable caller data.
+     *
+     * @param logSpecs the specs of the recorder
+     * @param delegate the appender to pass the events on to
+     */
+    CallerDataAppender(final Iterable<LogSpec> logSpecs, final Appender<ILoggingEvent> delegate) {
+        for (final LogSpec logSpec : logSpecs) {
+            if (logSpec.isCallerDataEnabled()) {
+                callerDataSpecs.add(logSpec);
+            }
+        }
+        this.delegate = delegate;
+    }
+
+    @Override
+    public void doAppend(final ILoggingEvent event) {
+        append(event);
+    }
+
+    @Override
+    protected void append(final ILoggingEvent event) {
+        if (requiresCallerData(event)) {
+            event.getCallerData();
+        }
+        delegate.doAppend(event);
+    }
+
+    private boolean requiresCallerData(final ILoggingEvent event) {
+        final String loggerName = event.getLoggerName();
+        for (final LogSpec logSpec : callerDataSpecs) {
+            if (event.getLevel().isGreaterOrEqual(logSpec.getLevel()) && covers(logSpec, loggerName)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Determines whether the given {@code logSpec} specifies the logger with the given {@code loggerName} or one of its ancestors.
+     */
+    private static boolean covers(final LogSpec logSpec, final String loggerName) {
+        if (logSpec.isPattern()) {
+            String current = loggerName;
+            while (!logSpec.getPattern().matches(current)) {
+                final int lastDot = current.lastIndexOf('.');
+                if (lastDot == -1) {
+                    return false;
+                }
+                current = current.substring(0, lastDot);
+            }
+            return true;
+        }
+
+        final String specifiedName = logSpec.getLogger().getName();
+        if (specifiedName.equalsIgnoreCase(org.slf4j.Logger.ROOT_LOGGER_NAME) || specifiedName.equals(loggerName)) {
+            return true;
+        }
+        return loggerName.length() > specifiedName.length() && loggerName.charAt(specifiedName.length()) == '.' && loggerName.startsWith(specifiedName);
+    }
+}
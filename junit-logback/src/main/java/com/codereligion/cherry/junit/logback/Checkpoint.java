@@ -0,0 +1,62 @@
+/**
+ * Copyright 2015 www.codereligion.com
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.codereligion.cherry.junit.logback;
+
+/**
+ * Marks a position within the events recorded by a {@link com.codereligion.cherry.junit.logback.LogRecorder}. Checkpoints are created by {@link
+ * LogRecorder#checkpoint()} and can be used to only look at the events which were recorded after a certain phase of a test.
+ *
+ * @author Sebastian Gr&ouml;bler
+ * @since 19.10.2026
+ */
+public final class Checkpoint {
+
+    private final LogRecorder logRecorder;
+    private final int position;
+
+    /**
+     * Creates a new instance for the given {@code logRecorder} and {@code position}.
+     *
+     * @param logRecorder the recorder which created this checkpoint
+     * @param position    the number of events which were recorded when this checkpoint was created
+     */
+    Checkpoint(final LogRecorder logRecorder, final int position) {
+        this.logRecorder = logRecorder;
+        this.position = position;
+    }
+
+    /**
+     * @return the recorder which created this checkpoint
+     */
+    LogRecorder getLogRecorder() {
+        return logRecorder;
+    }
+
+    /**
+     * @return the number of events which were recorded when this checkpoint was created
+     */
+    int getPosition() {
+        return position;
+    }
+
+    @Override
+    public String toString() {
+        final StringBuilder sb = new StringBuilder("Checkpoint{");
+        sb.append("position=").append(position);
+        sb.append('}');
+        return sb.toString();
+    }
+}
@@ -0,0 +1,305 @@
+/**
+ * Copyright 2015 www.codereligion.com
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.codereligion.cherry.junit.logback;
+
+import ch.qos.logback.classic.Level;
+import ch.qos.logback.classic.spi.ILoggingEvent;
+import ch.qos.logback.classic.spi.IThrowableProxy;
+import ch.qos.logback.classic.spi.StackTraceElementProxy;
+import com.google.common.base.Charsets;
+import com.google.common.collect.AbstractIterator;
+import com.google.common.collect.Maps;
+import com.google.common.collect.Sets;
+import java.io.Closeable;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.Set;
+import javax.annotation.Nullable;
+import org.slf4j.IMarkerFactory;
+import org.slf4j.Marker;
+import org.slf4j.helpers.BasicMarkerFactory;
+import static com.google.common.base.Preconditions.checkArgument;
+
+/**
+ * Streams the events persisted by a {@link com.codereligion.cherry.junit.logback.LogRecorder}, which was configured by {@link
+ * LogRecorder#persistingTo(java.io.File)} or {@link LogRecorder#persistingOnFailureTo(java.io.File)}, as an iterable of {@link
+ * ch.qos.logback.classic.spi.ILoggingEvent ILoggingEvents}. Every iterator reads the file from the beginning, one buffered batch at a time, so that large
+ * files can be examined with the usual matchers without loading them into memory at once. An iterator closes its file once it reached the end, iterators
+ * which were not exhausted, e.g. because a matcher found a match early, are closed by {@link #close()}.
+ * <p/>
+ * Example usage:
+ * <pre>
+ * final EventLog eventLog = EventLog.open(new File("target/logs/SomeTest.someMethod.events"));
+ * try {
+ *     assertThat(eventLog, hasItem(withLevel(Level.ERROR)));
+ * } finally {
+ *     eventLog.close();
+ * }
+ * </pre>
+ *
+ * @author Sebastian Gr&ouml;bler
+ * @since 19.10.2026
+ */
+public final class EventLog implements Iterable<ILoggingEvent>, Closeable {
+
+    /**
+     * Opens the event log persisted to the given {@code file}. The file is only read once the returned log is iterated.
+     *
+     * @param file the file to read the events from
+     * @return a new event log
+     * @throws java.lang.IllegalArgumentException when the given file is {@code null}
+     */
+    public static EventLog open(final File file) {
+        checkArgument(file != null, "file must not be null.");
+        return new EventLog(file);
+    }
+
+    private static final int BUFFER_SIZE = 64 * 1024;
+    private static final StackTraceElementProxy[] NO_FRAMES = new StackTraceElementProxy[0];
+    private static final IThrowableProxy[] NO_THROWABLE_PROXIES = new IThrowableProxy[0];
+    private static final IMarkerFactory MARKER_FACTORY = new BasicMarkerFactory();
+
+    private final File file;
+    private final Set<FileInputStream> openStreams = Sets.newHashSet();
+
+    private EventLog(final File file) {
+        this.file = file;
+    }
+
+    /**
+     * Returns an iterator which reads the events from the beginning of the file.
+     *
+     * @return a new iterator
+     * @throws java.lang.IllegalStateException when the file can not be opened or is not an event log
+     */
+    @Override
+    public Iterator<ILoggingEvent> iterator() {
+        try {
+            return new EventIterator();
+        } catch (final IOException e) {
+            throw new IllegalStateException("Could not read events from " + file + ".", e);
+        }
+    }
+
+    /**
+     * Closes the files of all iterators which did not reach the end yet.
+     *
+     * @throws IOException when any of the files could not be closed
+     */
+    @Override
+    public synchronized void close() throws IOException {
+        for (final FileInputStream stream : openStreams) {
+            stream.close();
+        }
+        openStreams.clear();
+    }
+
+    @Override
+    public String toString() {
+        final StringBuilder sb = new StringBuilder("EventLog{");
+        sb.append("file=").append(file);
+        sb.append('}');
+        return sb.toString();
+    }
+
+    private synchronized FileInputStream openStream() throws IOException {
+        final FileInputStream stream = new FileInputStream(file);
+        openStreams.add(stream);
+        return stream;
+    }
+
+    private synchronized void closeStream(final FileInputStream stream) throws IOException {
+        openStreams.remove(stream);
+        stream.close();
+    }
+
+    private final class EventIterator extends AbstractIterator<ILoggingEvent> {
+
+        private final FileInputStream stream;
+        private final FileChannel channel;
+        private ByteBuffer buffer = ByteBuffer.allocate(BUFFER_SIZE);
+
+        private EventIterator() throws IOException {
+            stream = openStream();
+            channel = stream.getChannel();
+            buffer.flip();
+
+            if (!fill(8) || buffer.getInt() != EventLogWriter.MAGIC) {
+                closeStream(stream);
+                throw new IOException(file + " is not an event log.");
+            }
+            final int version = buffer.getInt();
+            if (version != EventLogWriter.VERSION) {
+                closeStream(stream);
+                throw new IOException(file + " has the unsupported version " + version + ".");
+            }
+        }
+
+        @Override
+        protected ILoggingEvent computeNext() {
+            try {
+                if (!fill(4)) {
+                    checkTruncation(buffer.hasRemaining());
+                    closeStream(stream);
+                    return endOfData();
+                }
+
+                final int length = buffer.getInt();
+                checkTruncation(!fill(length));
+
+                final int limit = buffer.limit();
+                buffer.limit(buffer.position() + length);
+                final ILoggingEvent event = readEvent();
+                buffer.limit(limit);
+                return event;
+            } catch (final IOException e) {
+                throw new IllegalStateException("Could not read events from " + file + ".", e);
+            }
+        }
+
+        private void checkTruncation(final boolean truncated) throws IOException {
+            if (truncated) {
+                closeStream(stream);
+                throw new IOException(file + " ends with a truncated event.");
+            }
+        }
+
+        /**
+         * Makes sure that at least the given number of {@code bytes} are available in the buffer, reading the next batch from the file if necessary.
+         */
+        private boolean fill(final int bytes) throws IOException {
+
+            if (buffer.remaining() >= bytes) {
+                return true;
+            }
+
+            if (buffer.capacity() < bytes) {
+                final ByteBuffer larger = ByteBuffer.allocate(bytes);
+                larger.put(buffer);
+                buffer = larger;
+            } else {
+                buffer.compact();
+            }
+
+            while (buffer.position() < bytes && channel.read(buffer) >= 0) {
+                // read until enough bytes are available or the end of the file is reached
+            }
+            buffer.flip();
+            return buffer.remaining() >= bytes;
+        }
+
+        private ILoggingEvent readEvent() {
+
+            final long timeStamp = buffer.getLong();
+            final int levelInt = buffer.getInt();
+            final Level level = levelInt == EventLogWriter.ABSENT ? null : Level.toLevel(levelInt);
+            final String loggerName = readString();
+            final String threadName = readString();
+            final String message = readString();
+            final String formattedMessage = readString();
+
+            final int argumentCount = buffer.getInt();
+            final Object[] arguments = argumentCount == EventLogWriter.ABSENT ? null : new Object[argumentCount];
+            for (int i = 0; i < argumentCount; i++) {
+                arguments[i] = readString();
+            }
+
+            final String markerName = readString();
+            final Marker marker = markerName == null ? null : MARKER_FACTORY.getDetachedMarker(markerName);
+
+            final int propertyCount = buffer.getInt();
+            final Map<String, String> properties;
+            if (propertyCount == EventLogWriter.ABSENT) {
+                properties = Collections.emptyMap();
+            } else {
+                properties = Maps.newHashMapWithExpectedSize(propertyCount);
+                for (int i = 0; i < propertyCount; i++) {
+                    properties.put(readString(), readString());
+                }
+            }
+
+            final int callerDataLength = buffer.getInt();
+            final StackTraceElement[] callerData = callerDataLength == EventLogWriter.ABSENT ? null : new StackTraceElement[callerDataLength];
+            for (int i = 0; i < callerDataLength; i++) {
+                callerData[i] = readStackTraceElement();
+            }
+
+            return new PersistedLoggingEvent(timeStamp,
+                                             level,
+                                             loggerName,
+                                             threadName,
+                                             message,
+                                             formattedMessage,
+                                             arguments,
+                                             marker,
+                                             properties,
+                                             callerData,
+                                             readThrowableProxy());
+        }
+
+        @Nullable
+        private IThrowableProxy readThrowableProxy() {
+
+            if (buffer.get() == 0) {
+                return null;
+            }
+
+            final String className = readString();
+            final String message = readString();
+            final int commonFrames = buffer.getInt();
+
+            final int frameCount = buffer.getInt();
+            final StackTraceElementProxy[] frames = frameCount == EventLogWriter.ABSENT ? NO_FRAMES : new StackTraceElementProxy[frameCount];
+            for (int i = 0; i < frameCount; i++) {
+                frames[i] = new StackTraceElementProxy(readStackTraceElement());
+            }
+
+            final IThrowableProxy cause = readThrowableProxy();
+
+            final int suppressedCount = buffer.getInt();
+            final IThrowableProxy[] suppressed = suppressedCount == EventLogWriter.ABSENT ? NO_THROWABLE_PROXIES : new IThrowableProxy[suppressedCount];
+            for (int i = 0; i < suppressedCount; i++) {
+                suppressed[i] = readThrowableProxy();
+            }
+
+            return new PersistedThrowableProxy(className, message, commonFrames, frames, cause, suppressed);
+        }
+
+        private StackTraceElement readStackTraceElement() {
+            final String className = readString();
+            final String methodName = readString();
+            final String fileName = readString();
+            return new StackTraceElement(className, methodName, fileName, buffer.getInt());
+        }
+
+        @Nullable
+        private String readString() {
+            final int length = buffer.getInt();
+            if (length == EventLogWriter.ABSENT) {
+                return null;
+            }
+            final String value = new String(buffer.array(), buffer.arrayOffset() + buffer.position(), length, Charsets.UTF_8);
+            buffer.position(buffer.position() + length);
+            return value;
+        }
+    }
+}
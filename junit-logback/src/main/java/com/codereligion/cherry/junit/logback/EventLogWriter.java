@@ -0,0 +1,232 @@
+/**
+ * Copyright 2015 www.codereligion.com
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.codereligion.cherry.junit.logback;
+
+import ch.qos.logback.classic.spi.ILoggingEvent;
+import ch.qos.logback.classic.spi.IThrowableProxy;
+import ch.qos.logback.classic.spi.StackTraceElementProxy;
+import com.google.common.base.Charsets;
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.util.Map;
+import javax.annotation.Nullable;
+
+/**
+ * Writes {@link ch.qos.logback.classic.spi.ILoggingEvent ILoggingEvents} to a compact binary file, which can be read by {@link
+ * com.codereligion.cherry.junit.logback.EventLog}. Records are collected in a buffer and written to a {@link java.nio.channels.FileChannel} in batches.
+ * <p/>
+ * The file starts with a magic number and a format version, followed by one record per event, each prefixed by its length. A record contains the timestamp,
+ * the level, the logger and thread names, the raw and the formatted message, the string representations of the arguments, the name of the marker, the MDC
+ * properties, the caller data, if any, and the throwable including its stack frames, causes and suppressed throwables. Strings are encoded as UTF-8 bytes
+ * prefixed by their length, {@code null} values by a length of {@code -1}.
+ *
+ * @author Sebastian Gr&ouml;bler
+ * @since 19.10.2026
+ */
+final class EventLogWriter {
+
+    /**
+     * The magic number every event log starts with.
+     */
+    static final int MAGIC = 0x434c4f47;
+
+    /**
+     * The version of the format.
+     */
+    static final int VERSION = 1;
+
+    /**
+     * The length written in place of the length of absent strings, arrays and maps.
+     */
+    static final int ABSENT = -1;
+
+    private static final int BUFFER_SIZE = 64 * 1024;
+    private static final int RECORD_SIZE = 1024;
+
+    /**
+     * Writes the given {@code events} to the given {@code file}, replacing its content. The parent directories are created if they do not exist.
+     *
+     * @param file   the file to write to
+     * @param events the events to write
+     * @throws IOException when the file can not be written
+     */
+    static void write(final File file, final Iterable<ILoggingEvent> events) throws IOException {
+
+        final File directory = file.getAbsoluteFile().getParentFile();
+        if (!directory.isDirectory() && !directory.mkdirs()) {
+            throw new IOException("Could not create directory " + directory + ".");
+        }
+
+        final FileOutputStream outputStream = new FileOutputStream(file);
+        try {
+            final EventLogWriter writer = new EventLogWriter(outputStream.getChannel());
+            for (final ILoggingEvent event : events) {
+                writer.write(event);
+            }
+            writer.flush();
+        } finally {
+            outputStream.close();
+        }
+    }
+
+    private final FileChannel channel;
+    private final ByteBuffer buffer = ByteBuffer.allocate(BUFFER_SIZE);
+    private ByteBuffer record = ByteBuffer.allocate(RECORD_SIZE);
+
+    private EventLogWriter(final FileChannel channel) {
+        this.channel = channel;
+        buffer.putInt(MAGIC).putInt(VERSION);
+    }
+
+    private void write(final ILoggingEvent event) throws IOException {
+
+        record.clear();
+        encode(event);
+        record.flip();
+
+        final int length = record.remaining();
+        if (buffer.remaining() < 4 + length) {
+            flush();
+        }
+        buffer.putInt(length);
+        if (buffer.remaining() < length) {
+            // the record does not fit into the buffer at all
+            flush();
+            writeFully(record);
+        } else {
+            buffer.put(record);
+        }
+    }
+
+    private void flush() throws IOException {
+        buffer.flip();
+        writeFully(buffer);
+        buffer.clear();
+    }
+
+    private void writeFully(final ByteBuffer source) throws IOException {
+        while (source.hasRemaining()) {
+            channel.write(source);
+        }
+    }
+
+    private void encode(final ILoggingEvent event) {
+
+        ensure(12);
+        record.putLong(event.getTimeStamp());
+        record.putInt(event.getLevel() == null ? ABSENT : event.getLevel().toInt());
+        putString(event.getLoggerName());
+        putString(event.getThreadName());
+        putString(event.getMessage());
+        putString(event.getFormattedMessage());
+
+        final Object[] arguments = event.getArgumentArray();
+        putInt(arguments == null ? ABSENT : arguments.length);
+        if (arguments != null) {
+            for (final Object argument : arguments) {
+                putString(argument == null ? null : String.valueOf(argument));
+            }
+        }
+
+        putString(event.getMarker() == null ? null : event.getMarker().getName());
+
+        final Map<String, String> properties = event.getMDCPropertyMap();
+        putInt(properties == null ? ABSENT : properties.size());
+        if (properties != null) {
+            for (final Map.Entry<String, String> property : properties.entrySet()) {
+                putString(property.getKey());
+                putString(property.getValue());
+            }
+        }
+
+        // caller data is computed lazily by logback, only already computed caller data is written
+        final StackTraceElement[] callerData = event.hasCallerData() ? event.getCallerData() : null;
+        putInt(callerData == null ? ABSENT : callerData.length);
+        if (callerData != null) {
+            for (final StackTraceElement element : callerData) {
+                putStackTraceElement(element);
+            }
+        }
+
+        putThrowableProxy(event.getThrowableProxy());
+    }
+
+    private void putThrowableProxy(@Nullable final IThrowableProxy throwableProxy) {
+
+        ensure(1);
+        record.put((byte) (throwableProxy == null ? 0 : 1));
+        if (throwableProxy == null) {
+            return;
+        }
+
+        putString(throwableProxy.getClassName());
+        putString(throwableProxy.getMessage());
+        putInt(throwableProxy.getCommonFrames());
+
+        final StackTraceElementProxy[] frames = throwableProxy.getStackTraceElementProxyArray();
+        putInt(frames == null ? ABSENT : frames.length);
+        if (frames != null) {
+            for (final StackTraceElementProxy frame : frames) {
+                putStackTraceElement(frame.getStackTraceElement());
+            }
+        }
+
+        putThrowableProxy(throwableProxy.getCause());
+
+        final IThrowableProxy[] suppressed = throwableProxy.getSuppressed();
+        putInt(suppressed == null ? ABSENT : suppressed.length);
+        if (suppressed != null) {
+            for (final IThrowableProxy suppressedProxy : suppressed) {
+                putThrowableProxy(suppressedProxy);
+            }
+        }
+    }
+
+    private void putStackTraceElement(final StackTraceElement element) {
+        putString(element.getClassName());
+        putString(element.getMethodName());
+        putString(element.getFileName());
+        putInt(element.getLineNumber());
+    }
+
+    private void putString(@Nullable final String value) {
+        if (value == null) {
+            putInt(ABSENT);
+            return;
+        }
+        final byte[] bytes = value.getBytes(Charsets.UTF_8);
+        putInt(bytes.length);
+        ensure(bytes.length);
+        record.put(bytes);
+    }
+
+    private void putInt(final int value) {
+        ensure(4);
+        record.putInt(value);
+    }
+
+    private void ensure(final int bytes) {
+        if (record.remaining() < bytes) {
+            final ByteBuffer larger = ByteBuffer.allocate(Math.max(record.capacity() * 2, record.position() + bytes));
+            record.flip();
+            larger.put(record);
+            record = larger;
+        }
+    }
+}
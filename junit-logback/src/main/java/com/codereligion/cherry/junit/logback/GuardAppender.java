@@ -0,0 +1,102 @@
+/**
+ * Copyright 2015 www.codereligion.com
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.codereligion.cherry.junit.logback;
+
+import ch.qos.logback.classic.spi.ILoggingEvent;
+import ch.qos.logback.core.AppenderBase;
+import org.hamcrest.Matcher;
+import org.hamcrest.StringDescription;
+
+/**
+ * Appender which checks each event inline against a {@link org.hamcrest.Matcher} of forbidden events and which does not keep any of the events. The first
+ * forbidden event is remembered and the guarded thread is interrupted immediately, regardless of which thread logged the event. Nothing is thrown from the
+ * logging call of the forbidden event, so the remaining appenders still receive it.
+ * <p/>
+ * An interrupt only ends a thread which blocks or checks its interrupt status, so each further event which the guarded thread logs to this appender throws
+ * the violation, which ends code that keeps logging without ever blocking.
+ *
+ * @author Sebastian Gr&ouml;bler
+ * @since 19.10.2026
+ */
+class GuardAppender extends AppenderBase<ILoggingEvent> {
+
+    private final Matcher<? super ILoggingEvent> forbidden;
+    private volatile Thread guardedThread;
+    private volatile AssertionError violation;
+
+    /**
+     * Creates a new instance which considers all events matched by the given {@code forbidden} matcher as violation.
+     *
+     * @param forbidden the matcher of forbidden events
+     */
+    GuardAppender(final Matcher<? super ILoggingEvent> forbidden) {
+        this.forbidden = forbidden;
+    }
+
+    /**
+     * Starts guarding the given {@code thread}.
+     *
+     * @param thread the thread to notify about violations
+     */
+    void guard(final Thread thread) {
+        this.guardedThread = thread;
+        this.violation = null;
+        start();
+    }
+
+    @Override
+    protected void append(final ILoggingEvent event) {
+        if (violation != null) {
+            if (Thread.currentThread() == guardedThread) {
+                throw violation;
+            }
+            return;
+        }
+        if (!forbidden.matches(event)) {
+            return;
+        }
+
+        violation = new AssertionError(describeViolation(forbidden, event));
+        guardedThread.interrupt();
+    }
+
+    /**
+     * @return the error describing the first forbidden event, or {@code null} if there was none
+     */
+    AssertionError getViolation() {
+        return violation;
+    }
+
+    /**
+     * Creates the failure message for the given forbidden {@code event}.
+     *
+     * @param matcher the matcher of forbidden events
+     * @param event   the forbidden event
+     * @return the failure message
+     */
+    private static String describeViolation(final Matcher<? super ILoggingEvent> matcher, final ILoggingEvent event) {
+        return new StringDescription().appendText("Expected no event matching: ")
+                                      .appendDescriptionOf(matcher)
+                                      .appendText(" but was logged: ILoggingEvent{level=")
+                                      .appendText(String.valueOf(event.getLevel()))
+                                      .appendText(", formattedMessage='")
+                                      .appendText(event.getFormattedMessage())
+                                      .appendText("', loggedBy=")
+                                      .appendText(event.getLoggerName())
+                                      .appendText("}")
+                                      .toString();
+    }
+}
@@ -0,0 +1,257 @@
+/**
+ * Copyright 2015 www.codereligion.com
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.codereligion.cherry.junit.logback;
+
+import ch.qos.logback.classic.spi.ILoggingEvent;
+import ch.qos.logback.core.Appender;
+import ch.qos.logback.core.filter.Filter;
+import ch.qos.logback.core.spi.ContextAwareBase;
+import ch.qos.logback.core.spi.FilterAttachableImpl;
+import ch.qos.logback.core.spi.FilterReply;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.LockSupport;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Appender which hands events off to a dedicated drainer thread, which appends them to the target {@link ch.qos.logback.core.Appender}. The logging thread
+ * only captures the state of the event which is bound to it, the thread name and the MDC, and publishes the event to a lock-free queue. The event is
+ * completed when it is drained, its message is formatted and its throwable proxy is fetched before it is appended to the target, so that neither these nor
+ * the costs of recording, e.g. evaluating the matchers of waiting threads, are paid by the code under test.
+ * <p/>
+ * The append path neither enters monitors nor uses thread-locals, in contrast to logback's appender base classes, so that virtual threads are never pinned to
+ * their carrier and no per-thread state is left behind by short-lived threads. To avoid contention between large numbers of logging threads, events are
+ * published to a fixed number of queues, which are selected by the id of the logging thread. Every event is tagged with a global sequence number and the
+ * queued events are merged by it before they are appended to the target. The events of a single thread are always appended in the order they were logged.
+ * Events of different threads which are logged concurrently to a {@link #flush()} may be appended after events with a higher sequence number.
+ * <p/>
+ * Logging threads announce themselves in a counter before they check whether this appender is started, so that {@link #stop()} can wait for all appends
+ * in progress to be published before it drains the queues for the last time. No event which was accepted is lost on stop.
+ *
+ * @author Sebastian Gr&ouml;bler
+ * @since 19.10.2026
+ */
+class HandoffAppender extends ContextAwareBase implements Appender<ILoggingEvent> {
+
+    private static final Comparator<Sequenced> BY_SEQUENCE = new Comparator<Sequenced>() {
+        @Override
+        public int compare(final Sequenced first, final Sequenced second) {
+            return first.sequence < second.sequence ? -1 : first.sequence == second.sequence ? 0 : 1;
+        }
+    };
+
+    private final Appender<ILoggingEvent> target;
+    private final FilterAttachableImpl<ILoggingEvent> filters = new FilterAttachableImpl<ILoggingEvent>();
+    private final Stripe[] stripes;
+    private final int stripeMask;
+    private final AtomicLong sequence = new AtomicLong();
+    private final AtomicInteger appending = new AtomicInteger();
+    private final Lock drainLock = new ReentrantLock();
+    private volatile String name;
+    private volatile boolean started;
+    private volatile boolean parked;
+    private volatile Thread drainer;
+
+    /**
+     * Creates a new instance which appends all events to the given {@code target}.
+     *
+     * @param target the appender to hand the events off to
+     */
+    HandoffAppender(final Appender<ILoggingEvent> target) {
+        this.target = target;
+
+        int stripeCount = 1;
+        while (stripeCount < Runtime.getRuntime().availableProcessors() * 2) {
+            stripeCount <<= 1;
+        }
+        this.stripes = new Stripe[stripeCount];
+        this.stripeMask = stripeCount - 1;
+        for (int i = 0; i < stripeCount; i++) {
+            stripes[i] = new Stripe();
+        }
+    }
+
+    @Override
+    public void doAppend(final ILoggingEvent event) {
+        appending.incrementAndGet();
+        try {
+            if (!started || filters.getFilterChainDecision(event) == FilterReply.DENY) {
+                return;
+            }
+
+            // in contrast to prepareForDeferredProcessing() the message is formatted by the drainer
+            event.getThreadName();
+            event.getMDCPropertyMap();
+            stripeOf(Thread.currentThread()).queue.offer(new Sequenced(sequence.getAndIncrement(), event));
+            if (parked) {
+                LockSupport.unpark(drainer);
+            }
+        } finally {
+            appending.decrementAndGet();
+        }
+    }
+
+    /**
+     * Appends all events, which are queued at the time of calling this method, to the target on the calling thread.
+     */
+    void flush() {
+        drainLock.lock();
+        try {
+            final List<Sequenced> batch = new ArrayList<Sequenced>();
+            for (final Stripe stripe : stripes) {
+                for (Sequenced sequenced = stripe.queue.poll(); sequenced != null; sequenced = stripe.queue.poll()) {
+                    batch.add(sequenced);
+                }
+            }
+            Collections.sort(batch, BY_SEQUENCE);
+            for (final Sequenced sequenced : batch) {
+                sequenced.event.getFormattedMessage();
+                sequenced.event.getThrowableProxy();
+                target.doAppend(sequenced.event);
+            }
+        } finally {
+            drainLock.unlock();
+        }
+    }
+
+    @Override
+    public void start() {
+        final Thread thread = new Thread(new Runnable() {
+            @Override
+            public void run() {
+                drainUntilStopped();
+            }
+        }, HandoffAppender.class.getSimpleName() + "-drainer");
+        thread.setDaemon(true);
+        drainer = thread;
+        started = true;
+        thread.start();
+    }
+
+    /**
+     * Stops accepting events, waits for the drainer thread to terminate and for all appends in progress to be published, and appends all queued events.
+     */
+    @Override
+    public void stop() {
+        started = false;
+        final Thread thread = drainer;
+        if (thread == null) {
+            return;
+        }
+
+        LockSupport.unpark(thread);
+        boolean interrupted = false;
+        while (thread.isAlive()) {
+            try {
+                thread.join();
+            } catch (final InterruptedException e) {
+                interrupted = true;
+            }
+        }
+        // appends which passed the started check before it was cleared are still publishing, every later one sees it cleared
+        while (appending.get() > 0) {
+            Thread.yield();
+        }
+        flush();
+        if (interrupted) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    @Override
+    public boolean isStarted() {
+        return started;
+    }
+
+    @Override
+    public String getName() {
+        return name;
+    }
+
+    @Override
+    public void setName(final String name) {
+        this.name = name;
+    }
+
+    @Override
+    public void addFilter(final Filter<ILoggingEvent> newFilter) {
+        filters.addFilter(newFilter);
+    }
+
+    @Override
+    public void clearAllFilters() {
+        filters.clearAllFilters();
+    }
+
+    @Override
+    public List<Filter<ILoggingEvent>> getCopyOfAttachedFiltersList() {
+        return filters.getCopyOfAttachedFiltersList();
+    }
+
+    @Override
+    public FilterReply getFilterChainDecision(final ILoggingEvent event) {
+        return filters.getFilterChainDecision(event);
+    }
+
+    private Stripe stripeOf(final Thread thread) {
+        final long id = thread.getId();
+        final int hash = (int) (id ^ (id >>> 32)) * 0x9E3779B9;
+        return stripes[(hash ^ (hash >>> 16)) & stripeMask];
+    }
+
+    private void drainUntilStopped() {
+        while (started) {
+            flush();
+            parked = true;
+            // the queues are checked after announcing the park, so that an event published concurrently either unparks this thread or is seen here
+            if (isEmpty() && started) {
+                LockSupport.park(this);
+            }
+            parked = false;
+        }
+    }
+
+    private boolean isEmpty() {
+        for (final Stripe stripe : stripes) {
+            if (!stripe.queue.isEmpty()) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static class Stripe {
+        private final Queue<Sequenced> queue = new ConcurrentLinkedQueue<Sequenced>();
+    }
+
+    private static class Sequenced {
+
+        private final long sequence;
+        private final ILoggingEvent event;
+
+        Sequenced(final long sequence, final ILoggingEvent event) {
+            this.sequence = sequence;
+            this.event = event;
+        }
+    }
+}
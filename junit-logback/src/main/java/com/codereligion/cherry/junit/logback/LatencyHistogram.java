@@ -0,0 +1,124 @@
+/**
+ * Copyright 2015 www.codereligion.com
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.codereligion.cherry.junit.logback;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * Concurrent histogram of non-negative latencies with a fixed set of log-linear buckets, similar to HdrHistogram. Values below {@value #SUB_BUCKET_COUNT}
+ * are counted exactly, every larger power of two is split into {@value #HALF_SUB_BUCKET_COUNT} linear buckets, so that each value is represented with a
+ * relative error of less than 4%. Recording a value neither locks nor allocates.
+ *
+ * @author Sebastian Gr&ouml;bler
+ * @since 19.10.2026
+ */
+final class LatencyHistogram {
+
+    static final int SUB_BUCKET_COUNT = 64;
+    static final int HALF_SUB_BUCKET_COUNT = SUB_BUCKET_COUNT / 2;
+    private static final int SUB_BUCKET_BITS = Long.numberOfTrailingZeros(SUB_BUCKET_COUNT);
+
+    /**
+     * The number of buckets which is needed to represent any non-negative {@code long} value, which has at most 63 significant bits.
+     */
+    static final int BUCKET_COUNT = (Long.SIZE - 1 - SUB_BUCKET_BITS) * HALF_SUB_BUCKET_COUNT + SUB_BUCKET_COUNT;
+
+    private final AtomicLongArray counts = new AtomicLongArray(BUCKET_COUNT);
+    private final AtomicLong count = new AtomicLong();
+    private final AtomicLong total = new AtomicLong();
+    private final AtomicLong max = new AtomicLong();
+
+    /**
+     * Records the given {@code value}. Negative values are recorded as {@code 0}.
+     *
+     * @param value the value to record
+     */
+    void record(final long value) {
+        final long nonNegative = Math.max(value, 0);
+        counts.incrementAndGet(indexOf(nonNegative));
+        count.incrementAndGet();
+        total.addAndGet(nonNegative);
+
+        long currentMax = max.get();
+        while (nonNegative > currentMax && !max.compareAndSet(currentMax, nonNegative)) {
+            currentMax = max.get();
+        }
+    }
+
+    /**
+     * @return the number of recorded values
+     */
+    long count() {
+        return count.get();
+    }
+
+    /**
+     * @return the sum of all recorded values
+     */
+    long total() {
+        return total.get();
+    }
+
+    /**
+     * @return the largest recorded value
+     */
+    long max() {
+        return max.get();
+    }
+
+    /**
+     * @return a copy of the counts of all buckets
+     */
+    long[] counts() {
+        final long[] copy = new long[BUCKET_COUNT];
+        for (int i = 0; i < BUCKET_COUNT; i++) {
+            copy[i] = counts.get(i);
+        }
+        return copy;
+    }
+
+    /**
+     * Determines the index of the bucket the given non-negative {@code value} is counted in.
+     *
+     * @param value the value
+     * @return the index of the bucket of the value
+     */
+    static int indexOf(final long value) {
+        if (value < SUB_BUCKET_COUNT) {
+            return (int) value;
+        }
+
+        final int shift = Long.SIZE - Long.numberOfLeadingZeros(value) - SUB_BUCKET_BITS;
+        return shift * HALF_SUB_BUCKET_COUNT + (int) (value >>> shift);
+    }
+
+    /**
+     * Determines the largest value which is counted in the bucket with the given {@code index}.
+     *
+     * @param index the index of the bucket
+     * @return the largest value of the bucket
+     */
+    static long highestValueOf(final int index) {
+        if (index < SUB_BUCKET_COUNT) {
+            return index;
+        }
+
+        final int shift = index / HALF_SUB_BUCKET_COUNT - 1;
+        final long subBucket = index - shift * HALF_SUB_BUCKET_COUNT;
+        return ((subBucket + 1) << shift) - 1;
+    }
+}
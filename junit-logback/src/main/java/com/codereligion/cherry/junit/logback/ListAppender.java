@@ -18,19 +18,93 @@ package com.codereligion.cherry.junit.logback;
 import ch.qos.logback.core.AppenderBase;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.locks.LockSupport;
+import javax.annotation.Nullable;
+import org.hamcrest.Matcher;
 
 /**
- * In-memory list appender.
+ * In-memory list appender. Events are only ever appended, so that indexes into the list stay valid and the list can be read while events are being appended.
+ * <p/>
+ * Threads can wait for events matching a given {@link org.hamcrest.Matcher}. Waiting threads are registered with the appender, which evaluates their matchers
+ * as each event is appended and wakes them up directly once they are satisfied. Additionally {@link com.codereligion.cherry.junit.logback.AppendListener
+ * AppendListeners} can be registered, which are notified about every appended event, and once more after the monitor of this appender was released. An
+ * index, which has to stay in sync with the list, is notified right after each event was added to the list, before any matcher or listener can fail.
  *
  * @param <E> the type of the event
  */
 class ListAppender<E> extends AppenderBase<E> {
 
-    private List<E> list = new ArrayList<E>();
+    private final AppendOnlyList<E> list = new AppendOnlyList<E>();
+    private final List<Waiter<E>> waiters = new CopyOnWriteArrayList<Waiter<E>>();
+    private final List<AppendListener<E>> listeners = new CopyOnWriteArrayList<AppendListener<E>>();
+    private final AppendListener<E> index;
+
+    /**
+     * Creates a new instance without an index.
+     */
+    ListAppender() {
+        this(null);
+    }
+
+    /**
+     * Creates a new instance which keeps the given {@code index} in sync with the list of events.
+     *
+     * @param index the index to notify about every appended event, may be {@code null}
+     */
+    ListAppender(@Nullable final AppendListener<E> index) {
+        this.index = index;
+    }
+
+    @Override
+    public void doAppend(final E eventObject) {
+        super.doAppend(eventObject);
+        for (final AppendListener<E> listener : listeners) {
+            listener.afterAppend(eventObject);
+        }
+    }
 
     @Override
     protected void append(E e) {
-        list.add(e);
+        list.append(e);
+        if (index != null) {
+            index.onAppend(e);
+        }
+        for (final Waiter<E> waiter : waiters) {
+            waiter.offer(e);
+        }
+        for (final AppendListener<E> listener : listeners) {
+            listener.onAppend(e);
+        }
+    }
+
+    @Override
+    public void stop() {
+        super.stop();
+        if (index != null) {
+            index.onStop();
+        }
+        for (final AppendListener<E> listener : listeners) {
+            listener.onStop();
+        }
+    }
+
+    /**
+     * Registers the given {@code listener}, which will be notified about all events appended after calling this method.
+     *
+     * @param listener the listener to register
+     */
+    public void addListener(final AppendListener<E> listener) {
+        listeners.add(listener);
+    }
+
+    /**
+     * Unregisters the given {@code listener}.
+     *
+     * @param listener the listener to unregister
+     */
+    public void removeListener(final AppendListener<E> listener) {
+        listeners.remove(listener);
     }
 
     /**
@@ -39,4 +113,100 @@ class ListAppender<E> extends AppenderBase<E> {
     public List<E> getList() {
         return list;
     }
+
+    /**
+     * Returns a live view on all events starting at the given {@code fromIndex}, including events which are received after calling this method.
+     *
+     * @param fromIndex the index of the first event of the view
+     * @return a live view on all events starting at the given index
+     */
+    public List<E> getListFrom(final int fromIndex) {
+        return list.tail(fromIndex);
+    }
+
+    /**
+     * Blocks the calling thread until the given {@code count} of events, which are matched by the given {@code matcher}, have been received or until the given
+     * timeout elapses. Events received before calling this method are taken into account.
+     *
+     * @param matcher      the matcher to check the events with
+     * @param count        the number of matching events to wait for
+     * @param timeoutNanos the maximum time to wait in nanoseconds
+     * @return the matching events, which contains less than {@code count} elements when the timeout elapsed
+     * @throws InterruptedException when the calling thread is interrupted while waiting
+     */
+    public List<E> await(final Matcher<? super E> matcher, final int count, final long timeoutNanos) throws InterruptedException {
+
+        final Waiter<E> waiter = new Waiter<E>(matcher, count, Thread.currentThread());
+
+        // holding the appender's monitor ensures that no event is appended between the scan and the registration
+        synchronized (this) {
+            for (final E event : list) {
+                waiter.offer(event);
+            }
+            if (waiter.isSatisfied()) {
+                return waiter.getMatches();
+            }
+            waiters.add(waiter);
+        }
+
+        try {
+            final long deadline = System.nanoTime() + timeoutNanos;
+            while (!waiter.isSatisfied()) {
+                final long remaining = deadline - System.nanoTime();
+                if (remaining <= 0) {
+                    break;
+                }
+                LockSupport.parkNanos(this, remaining);
+                if (Thread.interrupted()) {
+                    throw new InterruptedException();
+                }
+            }
+        } finally {
+            waiters.remove(waiter);
+        }
+
+        synchronized (this) {
+            return waiter.getMatches();
+        }
+    }
+
+    /**
+     * A thread waiting for a number of events matching a given {@link org.hamcrest.Matcher}. Events are only offered while holding the appender's monitor.
+     *
+     * @param <E> the type of the event
+     */
+    private static class Waiter<E> {
+
+        private final Matcher<? super E> matcher;
+        private final int count;
+        private final Thread thread;
+        private final List<E> matches = new ArrayList<E>();
+        private volatile boolean satisfied;
+
+        Waiter(final Matcher<? super E> matcher, final int count, final Thread thread) {
+            this.matcher = matcher;
+            this.count = count;
+            this.thread = thread;
+        }
+
+        void offer(final E event) {
+            if (satisfied || !matcher.matches(event)) {
+                return;
+            }
+
+            matches.add(event);
+            if (matches.size() >= count) {
+                satisfied = true;
+                LockSupport.unpark(thread);
+            }
+        }
+
+        boolean isSatisfied() {
+            return satisfied;
+        }
+
+        List<E> getMatches() {
+            return new ArrayList<E>(matches);
+        }
+    }
 }
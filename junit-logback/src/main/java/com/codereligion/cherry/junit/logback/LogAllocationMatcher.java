@@ -0,0 +1,115 @@
+/**
+ * Copyright 2015 www.codereligion.com
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.codereligion.cherry.junit.logback;
+
+import org.hamcrest.Description;
+import org.hamcrest.TypeSafeDiagnosingMatcher;
+import static com.google.common.base.Preconditions.checkArgument;
+
+/**
+ * Matches {@link com.codereligion.cherry.junit.logback.LogAllocations} in which the logging statements did not allocate more than a given number of bytes.
+ * <p/>
+ * Example usage:
+ * <pre>
+ * assertThat(allocationTracker.allocations(), allocatedAtMost(2048));
+ * assertThat(allocationTracker.allocations(), allocatedAtMost(512, "com.example.SomeType"));
+ * assertThat(allocationTracker.allocations(), allocatedAtMostPerStatement(256));
+ * </pre>
+ *
+ * @author Sebastian Gr&ouml;bler
+ * @since 19.10.2026
+ */
+public final class LogAllocationMatcher extends TypeSafeDiagnosingMatcher<LogAllocations> {
+
+    /**
+     * Creates a matcher which matches if all logging statements together allocated at most the given number of {@code bytes}.
+     *
+     * @param bytes the maximum number of bytes
+     * @return a new matcher
+     * @throws java.lang.IllegalArgumentException when the given bytes are negative
+     */
+    public static LogAllocationMatcher allocatedAtMost(final long bytes) {
+        checkArgument(bytes >= 0, "bytes must not be negative.");
+        return new LogAllocationMatcher(bytes, null, false);
+    }
+
+    /**
+     * Creates a matcher which matches if the logging statements of the logger with the given {@code loggerName} allocated at most the given number of {@code
+     * bytes}.
+     *
+     * @param bytes      the maximum number of bytes
+     * @param loggerName the name of the logger
+     * @return a new matcher
+     * @throws java.lang.IllegalArgumentException when the given bytes are negative or the given logger name is {@code null}
+     */
+    public static LogAllocationMatcher allocatedAtMost(final long bytes, final String loggerName) {
+        checkArgument(bytes >= 0, "bytes must not be negative.");
+        checkArgument(loggerName != null, "loggerName must not be null.");
+        return new LogAllocationMatcher(bytes, loggerName, false);
+    }
+
+    /**
+     * Creates a matcher which matches if none of the logging statements allocated more than the given number of {@code bytes}.
+     *
+     * @param bytes the maximum number of bytes
+     * @return a new matcher
+     * @throws java.lang.IllegalArgumentException when the given bytes are negative
+     */
+    public static LogAllocationMatcher allocatedAtMostPerStatement(final long bytes) {
+        checkArgument(bytes >= 0, "bytes must not be negative.");
+        return new LogAllocationMatcher(bytes, null, true);
+    }
+
+    private final long bytes;
+    private final String loggerName;
+    private final boolean perStatement;
+
+    private LogAllocationMatcher(final long bytes, final String loggerName, final boolean perStatement) {
+        this.bytes = bytes;
+        this.loggerName = loggerName;
+        this.perStatement = perStatement;
+    }
+
+    @Override
+    protected boolean matchesSafely(final LogAllocations allocations, final Description mismatchDescription) {
+
+        final long allocated;
+        if (perStatement) {
+            allocated = allocations.maxAllocatedBytes();
+        } else {
+            allocated = loggerName == null ? allocations.allocatedBytes() : allocations.allocatedBytes(loggerName);
+        }
+
+        if (allocated <= bytes) {
+            return true;
+        }
+
+        mismatchDescription.appendText("allocated ").appendText(String.valueOf(allocated)).appendText(" bytes in ").appendText(allocations.toString());
+        return false;
+    }
+
+    @Override
+    public void describeTo(final Description description) {
+        description.appendText("at most ").appendText(String.valueOf(bytes)).appendText(" bytes allocated");
+        if (perStatement) {
+            description.appendText(" per logging statement");
+        } else if (loggerName != null) {
+            description.appendText(" by logging statements of ").appendText(loggerName);
+        } else {
+            description.appendText(" by logging statements");
+        }
+    }
+}
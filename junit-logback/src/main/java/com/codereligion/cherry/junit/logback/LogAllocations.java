@@ -0,0 +1,170 @@
+/**
+ * Copyright 2015 www.codereligion.com
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.codereligion.cherry.junit.logback;
+
+import com.google.common.collect.Lists;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import static com.google.common.base.Preconditions.checkArgument;
+
+/**
+ * Snapshot of the bytes allocated by the logging statements of a test, as measured by an {@link com.codereligion.cherry.junit.logback.AllocationTracker}.
+ * The allocations are attributed to the logger and the message template of each logging statement.
+ *
+ * @author Sebastian Gr&ouml;bler
+ * @since 19.10.2026
+ */
+public final class LogAllocations {
+
+    /**
+     * The maximum number of statements which are rendered by {@link #toString()}, ordered by the bytes they allocated.
+     */
+    static final int MAX_RENDERED_STATEMENTS = 5;
+
+    private static final Comparator<Statement> BY_BYTES_DESCENDING = new Comparator<Statement>() {
+        @Override
+        public int compare(final Statement first, final Statement second) {
+            return second.allocation[1] < first.allocation[1] ? -1 : (second.allocation[1] == first.allocation[1] ? 0 : 1);
+        }
+    };
+
+    private final Map<String, Map<String, long[]>> allocationsByLogger;
+
+    LogAllocations(final Map<String, Map<String, long[]>> allocationsByLogger) {
+        this.allocationsByLogger = allocationsByLogger;
+    }
+
+    /**
+     * @return the number of tracked logging statements
+     */
+    public long count() {
+        long count = 0;
+        for (final Map<String, long[]> allocationsByTemplate : allocationsByLogger.values()) {
+            for (final long[] allocation : allocationsByTemplate.values()) {
+                count += allocation[0];
+            }
+        }
+        return count;
+    }
+
+    /**
+     * @return the bytes allocated by all tracked logging statements
+     */
+    public long allocatedBytes() {
+        long bytes = 0;
+        for (final String loggerName : allocationsByLogger.keySet()) {
+            bytes += allocatedBytes(loggerName);
+        }
+        return bytes;
+    }
+
+    /**
+     * Returns the bytes allocated by the logging statements of the logger with the given {@code loggerName}.
+     *
+     * @param loggerName the name of the logger
+     * @return the allocated bytes
+     * @throws java.lang.IllegalArgumentException when the given logger name is {@code null}
+     */
+    public long allocatedBytes(final String loggerName) {
+        checkArgument(loggerName != null, "loggerName must not be null.");
+
+        final Map<String, long[]> allocationsByTemplate = allocationsByLogger.get(loggerName);
+        long bytes = 0;
+        if (allocationsByTemplate != null) {
+            for (final long[] allocation : allocationsByTemplate.values()) {
+                bytes += allocation[1];
+            }
+        }
+        return bytes;
+    }
+
+    /**
+     * Returns the bytes allocated by the logging statements with the given {@code messageTemplate} of the logger with the given {@code loggerName}.
+     *
+     * @param loggerName      the name of the logger
+     * @param messageTemplate the unformatted message of the statements
+     * @return the allocated bytes
+     * @throws java.lang.IllegalArgumentException when any of the given arguments is {@code null}
+     */
+    public long allocatedBytes(final String loggerName, final String messageTemplate) {
+        checkArgument(loggerName != null, "loggerName must not be null.");
+        checkArgument(messageTemplate != null, "messageTemplate must not be null.");
+
+        final Map<String, long[]> allocationsByTemplate = allocationsByLogger.get(loggerName);
+        final long[] allocation = allocationsByTemplate == null ? null : allocationsByTemplate.get(messageTemplate);
+        return allocation == null ? 0 : allocation[1];
+    }
+
+    /**
+     * @return the most bytes allocated by a single logging statement
+     */
+    public long maxAllocatedBytes() {
+        long max = 0;
+        for (final Map<String, long[]> allocationsByTemplate : allocationsByLogger.values()) {
+            for (final long[] allocation : allocationsByTemplate.values()) {
+                max = Math.max(max, allocation[2]);
+            }
+        }
+        return max;
+    }
+
+    @Override
+    public String toString() {
+        final List<Statement> statements = Lists.newArrayList();
+        for (final Map.Entry<String, Map<String, long[]>> loggerEntry : allocationsByLogger.entrySet()) {
+            for (final Map.Entry<String, long[]> templateEntry : loggerEntry.getValue().entrySet()) {
+                statements.add(new Statement(loggerEntry.getKey(), templateEntry.getKey(), templateEntry.getValue()));
+            }
+        }
+        Collections.sort(statements, BY_BYTES_DESCENDING);
+
+        final StringBuilder builder = new StringBuilder("LogAllocations{allocatedBytes=").append(allocatedBytes())
+                                                                                         .append(", count=")
+                                                                                         .append(count())
+                                                                                         .append(", top=[");
+        for (int i = 0; i < Math.min(statements.size(), MAX_RENDERED_STATEMENTS); i++) {
+            final Statement statement = statements.get(i);
+            builder.append(i == 0 ? "" : ", ")
+                   .append(statement.loggerName)
+                   .append(" '")
+                   .append(statement.template)
+                   .append("' ")
+                   .append(statement.allocation[0])
+                   .append("x ")
+                   .append(statement.allocation[1])
+                   .append(" bytes");
+        }
+        if (statements.size() > MAX_RENDERED_STATEMENTS) {
+            builder.append(", ... and ").append(statements.size() - MAX_RENDERED_STATEMENTS).append(" more");
+        }
+        return builder.append("]}").toString();
+    }
+
+    private static class Statement {
+
+        private final String loggerName;
+        private final String template;
+        private final long[] allocation;
+
+        Statement(final String loggerName, final String template, final long[] allocation) {
+            this.loggerName = loggerName;
+            this.template = template;
+            this.allocation = allocation;
+        }
+    }
+}
@@ -0,0 +1,292 @@
+/**
+ * Copyright 2015 www.codereligion.com
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.codereligion.cherry.junit.logback;
+
+import ch.qos.logback.classic.spi.ILoggingEvent;
+import com.google.common.base.Charsets;
+import java.io.BufferedReader;
+import java.io.BufferedWriter;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.OutputStreamWriter;
+import java.io.Reader;
+import java.io.Writer;
+import javax.annotation.Nullable;
+import static com.google.common.base.Preconditions.checkArgument;
+
+/**
+ * Compares recorded events against a baseline file, to detect unexpected changes of the logging behaviour, e.g. new warnings or missing milestones. The
+ * baseline contains one line per event with its level, its logger name and its message template, as returned by {@link ILoggingEvent#getMessage()}, so that
+ * varying arguments do not cause differences. The order of the events is ignored.
+ * <p/>
+ * Both sides are streamed and only the hashes of the distinct lines and their counts are held in memory, so that baselines of millions of lines are compared
+ * in linear time. Baselines are created and updated by {@link #update(Iterable)} or by running the tests with the system property {@value
+ * #UPDATE_PROPERTY} set to {@code true}, in which case {@link #verify(Iterable)} rewrites the baseline instead of comparing against it.
+ * <p/>
+ * Example usage: {@code LogBaseline.of(new File("src/test/resources/SomeTest.baseline")).verify(logRecorder.events());}
+ * <p/>
+ * Example output: {@code Recorded events differ from baseline src/test/resources/SomeTest.baseline: unexpected 2x WARN com.acme.SomeType retrying {},
+ * missing 1x INFO com.acme.SomeType started}
+ *
+ * @author Sebastian Gr&ouml;bler
+ * @since 19.10.2026
+ */
+public final class LogBaseline {
+
+    /**
+     * The name of the system property which causes {@link #verify(Iterable)} to update the baseline instead of comparing against it.
+     */
+    public static final String UPDATE_PROPERTY = "cherry.logBaseline.update";
+
+    /**
+     * Creates a baseline which is stored in the given {@code file}. The file is only accessed when verifying or updating.
+     *
+     * @param file the file containing the baseline
+     * @return a new baseline
+     * @throws java.lang.IllegalArgumentException when the given file is {@code null}
+     */
+    public static LogBaseline of(final File file) {
+        checkArgument(file != null, "file must not be null.");
+        return new LogBaseline(file);
+    }
+
+    private static final int MAX_RENDERED_DIFFERENCES = 20;
+    private static final char SEPARATOR = '\t';
+    private static final long FNV_OFFSET_BASIS = 0xcbf29ce484222325L;
+    private static final long FNV_PRIME = 0x100000001b3L;
+
+    private final File file;
+
+    private LogBaseline(final File file) {
+        this.file = file;
+    }
+
+    /**
+     * Verifies that the given {@code events} match the baseline, ignoring their order, or updates the baseline, in case the system property {@value
+     * #UPDATE_PROPERTY} is set to {@code true}.
+     *
+     * @param events the events to verify
+     * @throws java.lang.IllegalArgumentException when the given events are {@code null}
+     * @throws java.lang.AssertionError           when the baseline does not exist or the events do not match it
+     * @throws java.lang.IllegalStateException    when the baseline can not be read or written
+     */
+    public void verify(final Iterable<ILoggingEvent> events) {
+
+        checkArgument(events != null, "events must not be null.");
+
+        if (Boolean.getBoolean(UPDATE_PROPERTY)) {
+            update(events);
+            return;
+        }
+
+        if (!file.isFile()) {
+            throw new AssertionError("Baseline " + file + " does not exist, run the test with -D" + UPDATE_PROPERTY + "=true to create it.");
+        }
+
+        try {
+            final LongMultiset differences = new LongMultiset();
+            for (final ILoggingEvent event : events) {
+                differences.add(hashOf(event), 1);
+            }
+            final BufferedReader reader = open();
+            try {
+                for (String line = reader.readLine(); line != null; line = reader.readLine()) {
+                    differences.add(hashOf(line), -1);
+                }
+            } finally {
+                reader.close();
+            }
+
+            if (differences.nonZeroCount() > 0) {
+                throw new AssertionError(describe(differences, events));
+            }
+        } catch (final IOException e) {
+            throw new IllegalStateException("Could not read baseline " + file + ".", e);
+        }
+    }
+
+    /**
+     * Replaces the baseline by the given {@code events}. The parent directories of the baseline are created, in case they do not exist.
+     *
+     * @param events the events to write to the baseline
+     * @throws java.lang.IllegalArgumentException when the given events are {@code null}
+     * @throws java.lang.IllegalStateException    when the baseline can not be written
+     */
+    public void update(final Iterable<ILoggingEvent> events) {
+
+        checkArgument(events != null, "events must not be null.");
+
+        try {
+            final File directory = file.getAbsoluteFile().getParentFile();
+            if (!directory.isDirectory() && !directory.mkdirs()) {
+                throw new IOException("Could not create directory " + directory + ".");
+            }
+            final Writer writer = new BufferedWriter(new OutputStreamWriter(new FileOutputStream(file), Charsets.UTF_8));
+            try {
+                for (final ILoggingEvent event : events) {
+                    writer.write(lineOf(event));
+                    writer.write('\n');
+                }
+            } finally {
+                writer.close();
+            }
+        } catch (final IOException e) {
+            throw new IllegalStateException("Could not write baseline " + file + ".", e);
+        }
+    }
+
+    @Override
+    public String toString() {
+        final StringBuilder sb = new StringBuilder("LogBaseline{");
+        sb.append("file=").append(file);
+        sb.append('}');
+        return sb.toString();
+    }
+
+    private BufferedReader open() throws IOException {
+        final Reader reader = new InputStreamReader(new FileInputStream(file), Charsets.UTF_8);
+        return new BufferedReader(reader);
+    }
+
+    /**
+     * Describes the differences in a second pass over both sides, reporting every differing line once together with its surplus count.
+     */
+    private String describe(final LongMultiset differences, final Iterable<ILoggingEvent> events) throws IOException {
+
+        final StringBuilder description = new StringBuilder("Recorded events differ from baseline ").append(file).append(":");
+        final int total = differences.nonZeroCount();
+        int rendered = 0;
+
+        for (final ILoggingEvent event : events) {
+            if (rendered == MAX_RENDERED_DIFFERENCES) {
+                break;
+            }
+            final long hash = hashOf(event);
+            final int count = differences.count(hash);
+            if (count > 0) {
+                describeDifference(description, "unexpected", count, lineOf(event));
+                differences.reset(hash);
+                rendered++;
+            }
+        }
+
+        final BufferedReader reader = open();
+        try {
+            for (String line = reader.readLine(); line != null && rendered < MAX_RENDERED_DIFFERENCES; line = reader.readLine()) {
+                final long hash = hashOf(line);
+                final int count = differences.count(hash);
+                if (count < 0) {
+                    describeDifference(description, "missing", -count, line);
+                    differences.reset(hash);
+                    rendered++;
+                }
+            }
+        } finally {
+            reader.close();
+        }
+
+        if (total > rendered) {
+            description.append("\n  ... and ").append(total - rendered).append(" more differences");
+        }
+        return description.toString();
+    }
+
+    private static void describeDifference(final StringBuilder description, final String kind, final int count, final String line) {
+        description.append("\n  ").append(kind).append(' ').append(count).append("x ").append(line.replace(SEPARATOR, ' '));
+    }
+
+    private static String lineOf(final ILoggingEvent event) {
+        final StringBuilder line = new StringBuilder();
+        line.append(event.getLevel()).append(SEPARATOR);
+        escape(event.getLoggerName(), line);
+        line.append(SEPARATOR);
+        escape(event.getMessage(), line);
+        return line.toString();
+    }
+
+    private static void escape(@Nullable final String value, final StringBuilder target) {
+        final String text = String.valueOf(value);
+        for (int i = 0; i < text.length(); i++) {
+            final char c = text.charAt(i);
+            switch (c) {
+                case '\\':
+                    target.append("\\\\");
+                    break;
+                case '\t':
+                    target.append("\\t");
+                    break;
+                case '\n':
+                    target.append("\\n");
+                    break;
+                case '\r':
+                    target.append("\\r");
+                    break;
+                default:
+                    target.append(c);
+            }
+        }
+    }
+
+    /**
+     * Hashes the line which would represent the given {@code event} without building it.
+     */
+    private static long hashOf(final ILoggingEvent event) {
+        long hash = hashEscaped(FNV_OFFSET_BASIS, String.valueOf(event.getLevel()));
+        hash = hash(hash, SEPARATOR);
+        hash = hashEscaped(hash, String.valueOf(event.getLoggerName()));
+        hash = hash(hash, SEPARATOR);
+        return hashEscaped(hash, String.valueOf(event.getMessage()));
+    }
+
+    private static long hashOf(final String line) {
+        long hash = FNV_OFFSET_BASIS;
+        for (int i = 0; i < line.length(); i++) {
+            hash = hash(hash, line.charAt(i));
+        }
+        return hash;
+    }
+
+    private static long hashEscaped(final long initial, final String text) {
+        long hash = initial;
+        for (int i = 0; i < text.length(); i++) {
+            final char c = text.charAt(i);
+            switch (c) {
+                case '\\':
+                    hash = hash(hash(hash, '\\'), '\\');
+                    break;
+                case '\t':
+                    hash = hash(hash(hash, '\\'), 't');
+                    break;
+                case '\n':
+                    hash = hash(hash(hash, '\\'), 'n');
+                    break;
+                case '\r':
+                    hash = hash(hash(hash, '\\'), 'r');
+                    break;
+                default:
+                    hash = hash(hash, c);
+            }
+        }
+        return hash;
+    }
+
+    private static long hash(final long hash, final char c) {
+        return (hash ^ c) * FNV_PRIME;
+    }
+}
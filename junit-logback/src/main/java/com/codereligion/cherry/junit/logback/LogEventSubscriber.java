@@ -0,0 +1,58 @@
+/**
+ * Copyright 2015 www.codereligion.com
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.codereligion.cherry.junit.logback;
+
+import ch.qos.logback.classic.spi.ILoggingEvent;
+
+/**
+ * Receives the events recorded by a {@link com.codereligion.cherry.junit.logback.LogRecorder} while they are being logged. Events are only delivered as
+ * requested through the {@link com.codereligion.cherry.junit.logback.LogEventSubscription} which is passed to {@link #onSubscribe(LogEventSubscription)}.
+ * <p/>
+ * Calls to a single subscriber never happen concurrently, but they may happen on any thread which logs or which requests further events.
+ *
+ * @author Sebastian Gr&ouml;bler
+ * @since 19.10.2026
+ * @see LogRecorder#subscribe(LogEventSubscriber)
+ */
+public interface LogEventSubscriber {
+
+    /**
+     * Is called once before any other method of this subscriber, with the subscription which is used to request events or to cancel.
+     *
+     * @param subscription the subscription of this subscriber
+     */
+    void onSubscribe(LogEventSubscription subscription);
+
+    /**
+     * Is called for each recorded event, in the order the events were logged, but never more often than events were requested.
+     *
+     * @param event the recorded event
+     */
+    void onEvent(ILoggingEvent event);
+
+    /**
+     * Is called when events were dropped, because they were logged while the buffer of not yet requested events was full, by a thread which must not wait
+     * for this subscriber, e.g. the thread which subscribed. The recorder fails the test after it finished, once any event was dropped.
+     *
+     * @param droppedEvents the number of events which were dropped since the last call of this method
+     */
+    void onOverflow(long droppedEvents);
+
+    /**
+     * Is called once after the test finished and all remaining events have been delivered, unless the subscription was cancelled before.
+     */
+    void onComplete();
+}
@@ -0,0 +1,41 @@
+/**
+ * Copyright 2015 www.codereligion.com
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.codereligion.cherry.junit.logback;
+
+/**
+ * Links a {@link com.codereligion.cherry.junit.logback.LogEventSubscriber} to a {@link com.codereligion.cherry.junit.logback.LogRecorder}. Events which were
+ * recorded but not requested yet are held in a bounded buffer. When this buffer is full, logging threads wait until further events are requested. Events
+ * of threads which must not wait, e.g. the thread which subscribed, are dropped instead and the subscriber is notified through {@link
+ * com.codereligion.cherry.junit.logback.LogEventSubscriber#onOverflow(long)}.
+ *
+ * @author Sebastian Gr&ouml;bler
+ * @since 19.10.2026
+ */
+public interface LogEventSubscription {
+
+    /**
+     * Requests the given number of additional events. Buffered events are delivered immediately on the calling thread.
+     *
+     * @param n the number of additional events, {@link Long#MAX_VALUE} effectively requests all events
+     * @throws java.lang.IllegalArgumentException when the given number is not positive
+     */
+    void request(long n);
+
+    /**
+     * Stops the delivery of events and discards all buffered events.
+     */
+    void cancel();
+}
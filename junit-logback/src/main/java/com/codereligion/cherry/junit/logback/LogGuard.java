@@ -0,0 +1,118 @@
+/**
+ * Copyright 2015 www.codereligion.com
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.codereligion.cherry.junit.logback;
+
+import ch.qos.logback.classic.spi.ILoggingEvent;
+import com.google.common.collect.Sets;
+import java.util.Collections;
+import java.util.Set;
+import org.hamcrest.CoreMatchers;
+import org.hamcrest.Matcher;
+import org.junit.rules.TestRule;
+import org.junit.runner.Description;
+import org.junit.runners.model.Statement;
+import static com.google.common.base.Preconditions.checkArgument;
+
+/**
+ * JUnit rule which fails a test as soon as a forbidden event is logged by any of the loggers specified in the given {@link
+ * com.codereligion.cherry.junit.logback.LogSpec LogSpecs}. Each event is checked inline while it is logged, instead of being recorded and asserted after the
+ * test. On the first forbidden event the thread running the test is interrupted, so that blocking calls of the test return early, and the test fails once
+ * it finished. The logging call of the forbidden event itself never fails, so the code under test can neither catch the violation nor change its control
+ * flow because of it. No events are kept in memory while the test does not violate the guard.
+ * <p/>
+ * The interrupt does not end a test thread which neither blocks nor checks its interrupt status, e.g. a CPU bound loop. Therefore the next event which the
+ * thread running the test logs to any of the specified loggers throws the violation. A test thread which does neither block nor log again after the
+ * violation still runs to completion before it fails.
+ *
+ * @author Sebastian Gr&ouml;bler
+ * @since 19.10.2026
+ */
+public class LogGuard implements TestRule {
+
+    /**
+     * Creates a log guard rule which fails the test on the first event which is emitted by any of the loggers specified by the given {@link
+     * com.codereligion.cherry.junit.logback.LogSpec LogSpecs}, e.g. {@code forbiddenLogs(new LogSpec("com.acme", Level.ERROR))} fails on any error logged
+     * within {@code com.acme}.
+     *
+     * @param logSpecs the logs which are forbidden
+     * @return a new {@link com.codereligion.cherry.junit.logback.LogGuard}
+     * @throws java.lang.IllegalArgumentException when any of the given specs are {@code null}
+     */
+    public static LogGuard forbiddenLogs(final LogSpec... logSpecs) {
+        return new LogGuard(CoreMatchers.anything(), logSpecs);
+    }
+
+    /**
+     * Creates a log guard rule which fails the test on the first event which is emitted by any of the loggers specified by the given {@link
+     * com.codereligion.cherry.junit.logback.LogSpec LogSpecs} and which is matched by the given {@code matcher}.
+     *
+     * @param matcher  the matcher which identifies forbidden events
+     * @param logSpecs the logs which should be checked
+     * @return a new {@link com.codereligion.cherry.junit.logback.LogGuard}
+     * @throws java.lang.IllegalArgumentException when the given matcher or any of the given specs are {@code null}
+     */
+    public static LogGuard forbiddenLogs(final Matcher<? super ILoggingEvent> matcher, final LogSpec... logSpecs) {
+        return new LogGuard(matcher, logSpecs);
+    }
+
+    private final Set<LogSpec> logSpecs = Sets.newLinkedHashSet();
+    private final GuardAppender guardAppender;
+    private final LoggerAttachment loggerAttachment;
+
+    private LogGuard(final Matcher<? super ILoggingEvent> matcher, final LogSpec... logSpecs) {
+        checkArgument(matcher != null, "matcher must not be null.");
+        Collections.addAll(this.logSpecs, logSpecs);
+        checkArgument(!this.logSpecs.contains(null), "logSpec must not be null.");
+
+        this.guardAppender = new GuardAppender(matcher);
+        this.loggerAttachment = new LoggerAttachment(this.logSpecs, guardAppender);
+    }
+
+    @Override
+    public Statement apply(final Statement base, final Description description) {
+        return new Statement() {
+            @Override
+            public void evaluate() throws Throwable {
+                loggerAttachment.attach();
+                guardAppender.guard(Thread.currentThread());
+
+                Throwable failure = null;
+                try {
+                    base.evaluate();
+                } catch (final Throwable t) {
+                    failure = t;
+                } finally {
+                    guardAppender.stop();
+                    loggerAttachment.detach();
+                }
+
+                final AssertionError violation = guardAppender.getViolation();
+                if (violation != null) {
+                    // clears the interrupt which notified this thread about the violation
+                    Thread.interrupted();
+                    if (failure != null && failure != violation) {
+                        violation.initCause(failure);
+                    }
+                    throw violation;
+                }
+
+                if (failure != null) {
+                    throw failure;
+                }
+            }
+        };
+    }
+}
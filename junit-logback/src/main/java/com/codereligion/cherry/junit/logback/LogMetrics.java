@@ -0,0 +1,241 @@
+/**
+ * Copyright 2015 www.codereligion.com
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.codereligion.cherry.junit.logback;
+
+import ch.qos.logback.classic.Level;
+import ch.qos.logback.classic.spi.ILoggingEvent;
+import java.util.List;
+import java.util.Map;
+import static com.google.common.base.Preconditions.checkArgument;
+
+/**
+ * Snapshot of the rates at which events were recorded by a {@link com.codereligion.cherry.junit.logback.LogRecorder}, see {@link
+ * LogRecorder#metrics()}. The counts and peak rates are computed while events are recorded, the volume of the formatted messages is only computed when it is
+ * requested for the first time.
+ * <p/>
+ * Peak rates are the highest number of events whose timestamps fall into the same second.
+ *
+ * @author Sebastian Gr&ouml;bler
+ * @since 19.10.2026
+ */
+public final class LogMetrics {
+
+    private final long eventCount;
+    private final long peakEventsPerSecond;
+    private final Map<String, long[]> countsByLogger;
+    private final Map<String, long[]> peaksByLogger;
+    private final long durationMillis;
+    private final List<ILoggingEvent> events;
+    private long formattedBytes = -1;
+
+    LogMetrics(final long eventCount,
+               final long peakEventsPerSecond,
+               final Map<String, long[]> countsByLogger,
+               final Map<String, long[]> peaksByLogger,
+               final long durationMillis,
+               final List<ILoggingEvent> events) {
+        this.eventCount = eventCount;
+        this.peakEventsPerSecond = peakEventsPerSecond;
+        this.countsByLogger = countsByLogger;
+        this.peaksByLogger = peaksByLogger;
+        this.durationMillis = durationMillis;
+        this.events = events;
+    }
+
+    /**
+     * @return the number of recorded events
+     */
+    public long eventCount() {
+        return eventCount;
+    }
+
+    /**
+     * Returns the number of recorded events with the given {@code level}.
+     *
+     * @param level the level of the events
+     * @return the number of recorded events with the given level
+     * @throws java.lang.IllegalArgumentException when the given level is {@code null}
+     */
+    public long eventCount(final Level level) {
+        checkArgument(level != null, "level must not be null.");
+
+        final int slot = LogRateCounter.slotOf(level);
+        long count = 0;
+        if (slot >= 0) {
+            for (final long[] counts : countsByLogger.values()) {
+                count += counts[slot];
+            }
+        }
+        return count;
+    }
+
+    /**
+     * Returns the number of recorded events which were logged by the logger with the given {@code loggerName}.
+     *
+     * @param loggerName the name of the logger
+     * @return the number of recorded events of the given logger
+     * @throws java.lang.IllegalArgumentException when the given logger name is {@code null}
+     */
+    public long eventCount(final String loggerName) {
+        checkArgument(loggerName != null, "loggerName must not be null.");
+
+        final long[] counts = countsByLogger.get(loggerName);
+        long count = 0;
+        if (counts != null) {
+            for (final long slotCount : counts) {
+                count += slotCount;
+            }
+        }
+        return count;
+    }
+
+    /**
+     * Returns the number of recorded events with the given {@code level} which were logged by the logger with the given {@code loggerName}.
+     *
+     * @param loggerName the name of the logger
+     * @param level      the level of the events
+     * @return the number of recorded events of the given logger and level
+     * @throws java.lang.IllegalArgumentException when any of the given arguments is {@code null}
+     */
+    public long eventCount(final String loggerName, final Level level) {
+        return valueOf(countsByLogger, loggerName, level);
+    }
+
+    /**
+     * @return the time in milliseconds from the start of the recording until the recording stopped or, while still recording, until this snapshot was taken
+     */
+    public long durationMillis() {
+        return durationMillis;
+    }
+
+    /**
+     * @return the average number of recorded events per second over the {@link #durationMillis() duration} of the recording
+     */
+    public double eventsPerSecond() {
+        return perSecond(eventCount);
+    }
+
+    /**
+     * Returns the average number of recorded events per second with the given {@code level} which were logged by the logger with the given {@code
+     * loggerName}.
+     *
+     * @param loggerName the name of the logger
+     * @param level      the level of the events
+     * @return the average number of events per second of the given logger and level
+     * @throws java.lang.IllegalArgumentException when any of the given arguments is {@code null}
+     */
+    public double eventsPerSecond(final String loggerName, final Level level) {
+        return perSecond(eventCount(loggerName, level));
+    }
+
+    /**
+     * @return the highest number of recorded events logged within the same second
+     */
+    public long peakEventsPerSecond() {
+        return peakEventsPerSecond;
+    }
+
+    /**
+     * Returns the highest number of recorded events with the given {@code level} which were logged by the logger with the given {@code loggerName} within the
+     * same second.
+     *
+     * @param loggerName the name of the logger
+     * @param level      the level of the events
+     * @return the peak rate of the given logger and level
+     * @throws java.lang.IllegalArgumentException when any of the given arguments is {@code null}
+     */
+    public long peakEventsPerSecond(final String loggerName, final Level level) {
+        return valueOf(peaksByLogger, loggerName, level);
+    }
+
+    /**
+     * Returns the total number of bytes of the UTF-8 encoded formatted messages of all recorded events. The messages are formatted and measured on the first
+     * call, without encoding them.
+     *
+     * @return the total number of bytes of all formatted messages
+     */
+    public synchronized long formattedBytes() {
+        if (formattedBytes < 0) {
+            long bytes = 0;
+            for (final ILoggingEvent event : events) {
+                bytes += utf8LengthOf(event.getFormattedMessage());
+            }
+            formattedBytes = bytes;
+        }
+        return formattedBytes;
+    }
+
+    /**
+     * Finds the logger and level with the highest peak rate.
+     *
+     * @return a description of the logger and level with the highest peak rate, or {@code null} if no event was counted by logger and level
+     */
+    String describeHighestPeak() {
+        String loggerName = null;
+        int levelSlot = -1;
+        long peak = 0;
+        for (final Map.Entry<String, long[]> entry : peaksByLogger.entrySet()) {
+            for (int slot = 0; slot < LogRateCounter.LEVELS.length; slot++) {
+                if (entry.getValue()[slot] > peak) {
+                    loggerName = entry.getKey();
+                    levelSlot = slot;
+                    peak = entry.getValue()[slot];
+                }
+            }
+        }
+        return loggerName == null ? null : LogRateCounter.LEVELS[levelSlot] + " of " + loggerName + " at " + peak + " events per second";
+    }
+
+    @Override
+    public String toString() {
+        return "LogMetrics{eventCount=" + eventCount + ", durationMillis=" + durationMillis + ", peakEventsPerSecond=" + peakEventsPerSecond + "}";
+    }
+
+    private double perSecond(final long count) {
+        return count * 1000d / Math.max(durationMillis, 1);
+    }
+
+    private static long valueOf(final Map<String, long[]> valuesByLogger, final String loggerName, final Level level) {
+        checkArgument(loggerName != null, "loggerName must not be null.");
+        checkArgument(level != null, "level must not be null.");
+
+        final long[] values = valuesByLogger.get(loggerName);
+        final int slot = LogRateCounter.slotOf(level);
+        return values == null || slot < 0 ? 0 : values[slot];
+    }
+
+    private static long utf8LengthOf(final String string) {
+        if (string == null) {
+            return 0;
+        }
+
+        long length = 0;
+        for (int i = 0; i < string.length(); i++) {
+            final char c = string.charAt(i);
+            if (c < 0x80) {
+                length += 1;
+            } else if (c < 0x800) {
+                length += 2;
+            } else if (Character.isHighSurrogate(c) && i + 1 < string.length() && Character.isLowSurrogate(string.charAt(i + 1))) {
+                length += 4;
+                i++;
+            } else {
+                length += 3;
+            }
+        }
+        return length;
+    }
+}
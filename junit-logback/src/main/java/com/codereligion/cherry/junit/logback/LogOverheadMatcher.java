@@ -0,0 +1,114 @@
+/**
+ * Copyright 2015 www.codereligion.com
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.codereligion.cherry.junit.logback;
+
+import java.util.concurrent.TimeUnit;
+import org.hamcrest.Description;
+import org.hamcrest.TypeSafeDiagnosingMatcher;
+import static com.google.common.base.Preconditions.checkArgument;
+
+/**
+ * Matches {@link com.codereligion.cherry.junit.logback.AppenderProfile AppenderProfiles} in which the time spent in the appenders per event does not exceed a
+ * given budget at a given percentile.
+ * <p/>
+ * Example usage:
+ * <pre>
+ * assertThat(appenderProfiler.profileOf("ROOT"), p99OverheadAtMost(50, TimeUnit.MICROSECONDS));
+ * assertThat(appenderProfiler.profileOf("ROOT"), overheadAtMost(99.9, 200, TimeUnit.MICROSECONDS));
+ * </pre>
+ *
+ * @author Sebastian Gr&ouml;bler
+ * @since 19.10.2026
+ */
+public final class LogOverheadMatcher extends TypeSafeDiagnosingMatcher<AppenderProfile> {
+
+    /**
+     * Creates a matcher which matches if the given {@code percentile} of the time spent in the appenders per event does not exceed the given {@code budget}.
+     *
+     * @param percentile the percentile between {@code 0} and {@code 100}
+     * @param budget     the maximum time per event
+     * @param unit       the unit of the given budget
+     * @return a new matcher
+     * @throws java.lang.IllegalArgumentException when the percentile is not between {@code 0} and {@code 100}, the budget is negative or the unit is {@code
+     *                                            null}
+     */
+    public static LogOverheadMatcher overheadAtMost(final double percentile, final long budget, final TimeUnit unit) {
+        checkArgument(percentile >= 0 && percentile <= 100, "percentile must be between 0 and 100.");
+        checkArgument(budget >= 0, "budget must not be negative.");
+        checkArgument(unit != null, "unit must not be null.");
+        return new LogOverheadMatcher(percentile, budget, unit);
+    }
+
+    /**
+     * Creates a matcher which matches if the 99th percentile of the time spent in the appenders per event does not exceed the given {@code budget}.
+     *
+     * @param budget the maximum time per event
+     * @param unit   the unit of the given budget
+     * @return a new matcher
+     * @throws java.lang.IllegalArgumentException when the budget is negative or the unit is {@code null}
+     */
+    public static LogOverheadMatcher p99OverheadAtMost(final long budget, final TimeUnit unit) {
+        return overheadAtMost(99, budget, unit);
+    }
+
+    /**
+     * Creates a matcher which matches if the time spent in the appenders for any single event does not exceed the given {@code budget}.
+     *
+     * @param budget the maximum time per event
+     * @param unit   the unit of the given budget
+     * @return a new matcher
+     * @throws java.lang.IllegalArgumentException when the budget is negative or the unit is {@code null}
+     */
+    public static LogOverheadMatcher maxOverheadAtMost(final long budget, final TimeUnit unit) {
+        return overheadAtMost(100, budget, unit);
+    }
+
+    private final double percentile;
+    private final long budget;
+    private final TimeUnit unit;
+
+    private LogOverheadMatcher(final double percentile, final long budget, final TimeUnit unit) {
+        this.percentile = percentile;
+        this.budget = budget;
+        this.unit = unit;
+    }
+
+    @Override
+    protected boolean matchesSafely(final AppenderProfile profile, final Description mismatchDescription) {
+
+        final long nanos = percentile == 100 ? profile.maxNanos() : profile.percentileNanos(percentile);
+        if (nanos <= unit.toNanos(budget)) {
+            return true;
+        }
+
+        appendLabel(mismatchDescription).appendText(" was ").appendText(String.valueOf(nanos)).appendText(" nanoseconds in ").appendText(profile.toString());
+        return false;
+    }
+
+    @Override
+    public void describeTo(final Description description) {
+        appendLabel(description).appendText(" of at most ").appendText(String.valueOf(budget)).appendText(" ").appendText(unit.toString());
+        description.appendText(" per event");
+    }
+
+    private Description appendLabel(final Description description) {
+        if (percentile == 100) {
+            return description.appendText("max");
+        }
+        final String value = percentile == Math.rint(percentile) ? String.valueOf((long) percentile) : String.valueOf(percentile);
+        return description.appendText("p").appendText(value);
+    }
+}
@@ -0,0 +1,162 @@
+/**
+ * Copyright 2015 www.codereligion.com
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.codereligion.cherry.junit.logback;
+
+import ch.qos.logback.classic.Level;
+import ch.qos.logback.classic.spi.ILoggingEvent;
+import com.google.common.collect.Maps;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Counts the appended events per logger and level while they are appended and tracks the highest number of events logged within a single second. Events
+ * are appended while holding the monitor of the {@link com.codereligion.cherry.junit.logback.ListAppender}, so the counters are plain fields which are only
+ * read while holding the same monitor, see {@link #snapshot(long, java.util.List)}.
+ *
+ * @author Sebastian Gr&ouml;bler
+ * @since 19.10.2026
+ */
+final class LogRateCounter implements AppendListener<ILoggingEvent> {
+
+    /**
+     * The levels which are counted, the index of a level in this array is its slot in the counters.
+     */
+    static final Level[] LEVELS = {Level.TRACE, Level.DEBUG, Level.INFO, Level.WARN, Level.ERROR};
+
+    private final Rate total = new Rate();
+    private final Map<String, Rate[]> ratesByLogger = Maps.newHashMap();
+    private String lastLoggerName;
+    private Rate[] lastRates;
+
+    @Override
+    public void onAppend(final ILoggingEvent event) {
+
+        final long timeStamp = event.getTimeStamp();
+        total.record(timeStamp);
+
+        final int slot = slotOf(event.getLevel());
+        if (slot < 0) {
+            return;
+        }
+
+        // consecutive events are usually logged by the same logger, whose name is the same instance
+        final String loggerName = String.valueOf(event.getLoggerName());
+        Rate[] rates = loggerName == lastLoggerName ? lastRates : ratesByLogger.get(loggerName);
+        if (rates == null) {
+            rates = new Rate[LEVELS.length];
+            ratesByLogger.put(loggerName, rates);
+        }
+        if (rates[slot] == null) {
+            rates[slot] = new Rate();
+        }
+        rates[slot].record(timeStamp);
+
+        lastLoggerName = loggerName;
+        lastRates = rates;
+    }
+
+    @Override
+    public void afterAppend(final ILoggingEvent event) {
+        // the counters are only updated while the monitor of the appender is held
+    }
+
+    @Override
+    public void onStop() {
+        // the counters stay readable after the appender was stopped
+    }
+
+    /**
+     * Creates a snapshot of the current counters. Must be called while holding the monitor of the appender this counter is registered with.
+     *
+     * @param durationMillis the duration of the recording in milliseconds
+     * @param events         the events which were counted so far
+     * @return a new snapshot
+     */
+    LogMetrics snapshot(final long durationMillis, final List<ILoggingEvent> events) {
+
+        final Map<String, long[]> counts = Maps.newHashMap();
+        final Map<String, long[]> peaks = Maps.newHashMap();
+        for (final Map.Entry<String, Rate[]> entry : ratesByLogger.entrySet()) {
+            final long[] loggerCounts = new long[LEVELS.length];
+            final long[] loggerPeaks = new long[LEVELS.length];
+            for (int slot = 0; slot < LEVELS.length; slot++) {
+                final Rate rate = entry.getValue()[slot];
+                if (rate != null) {
+                    loggerCounts[slot] = rate.count;
+                    loggerPeaks[slot] = rate.peak;
+                }
+            }
+            counts.put(entry.getKey(), loggerCounts);
+            peaks.put(entry.getKey(), loggerPeaks);
+        }
+
+        return new LogMetrics(total.count, total.peak, counts, peaks, durationMillis, events);
+    }
+
+    /**
+     * Determines the slot of the given {@code level} within the counters.
+     *
+     * @param level the level to get the slot for
+     * @return the slot of the given level or {@code -1} if the level is not counted
+     */
+    static int slotOf(final Level level) {
+
+        if (level == null) {
+            return -1;
+        }
+
+        switch (level.toInt()) {
+            case Level.TRACE_INT:
+                return 0;
+            case Level.DEBUG_INT:
+                return 1;
+            case Level.INFO_INT:
+                return 2;
+            case Level.WARN_INT:
+                return 3;
+            case Level.ERROR_INT:
+                return 4;
+            default:
+                return -1;
+        }
+    }
+
+    /**
+     * Counts events and the highest number of events whose timestamps fall into the same second. Events which are appended out of timestamp order across a
+     * second boundary start a new second, so the peak is a lower bound in that case.
+     */
+    private static final class Rate {
+
+        private long count;
+        private long second = Long.MIN_VALUE;
+        private long countInSecond;
+        private long peak;
+
+        void record(final long timeStamp) {
+            count++;
+
+            final long currentSecond = timeStamp / 1000;
+            if (currentSecond != second) {
+                second = currentSecond;
+                countInSecond = 0;
+            }
+            countInSecond++;
+            if (countInSecond > peak) {
+                peak = countInSecond;
+            }
+        }
+    }
+}
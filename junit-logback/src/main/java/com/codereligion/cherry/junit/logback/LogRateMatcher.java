@@ -0,0 +1,100 @@
+/**
+ * Copyright 2015 www.codereligion.com
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.codereligion.cherry.junit.logback;
+
+import ch.qos.logback.classic.Level;
+import org.hamcrest.Description;
+import org.hamcrest.TypeSafeDiagnosingMatcher;
+import static com.google.common.base.Preconditions.checkArgument;
+
+/**
+ * Matches {@link com.codereligion.cherry.junit.logback.LogMetrics} whose peak rate does not exceed a given number of events per second. Allows to catch
+ * logging regressions in performance tests, e.g. a statement which started to be logged in a tight loop.
+ * <p/>
+ * Example usage:
+ * <pre>
+ * assertThat(logRecorder.metrics(), loggedAtMostPerSecond(100));
+ * assertThat(logRecorder.metrics(), loggedAtMostPerSecond(10, "com.example.SomeType", Level.DEBUG));
+ * </pre>
+ *
+ * @author Sebastian Gr&ouml;bler
+ * @since 19.10.2026
+ */
+public final class LogRateMatcher extends TypeSafeDiagnosingMatcher<LogMetrics> {
+
+    /**
+     * Creates a matcher which matches if the peak rate of all recorded events does not exceed the given {@code maxEventsPerSecond}.
+     *
+     * @param maxEventsPerSecond the maximum number of events within the same second
+     * @return a new matcher
+     * @throws java.lang.IllegalArgumentException when the given maximum is negative
+     */
+    public static LogRateMatcher loggedAtMostPerSecond(final long maxEventsPerSecond) {
+        checkArgument(maxEventsPerSecond >= 0, "maxEventsPerSecond must not be negative.");
+        return new LogRateMatcher(maxEventsPerSecond, null, null);
+    }
+
+    /**
+     * Creates a matcher which matches if the peak rate of the events with the given {@code level}, which were logged by the logger with the given {@code
+     * loggerName}, does not exceed the given {@code maxEventsPerSecond}.
+     *
+     * @param maxEventsPerSecond the maximum number of events within the same second
+     * @param loggerName         the name of the logger
+     * @param level              the level of the events
+     * @return a new matcher
+     * @throws java.lang.IllegalArgumentException when the given maximum is negative or any of the other arguments is {@code null}
+     */
+    public static LogRateMatcher loggedAtMostPerSecond(final long maxEventsPerSecond, final String loggerName, final Level level) {
+        checkArgument(maxEventsPerSecond >= 0, "maxEventsPerSecond must not be negative.");
+        checkArgument(loggerName != null, "loggerName must not be null.");
+        checkArgument(level != null, "level must not be null.");
+        return new LogRateMatcher(maxEventsPerSecond, loggerName, level);
+    }
+
+    private final long maxEventsPerSecond;
+    private final String loggerName;
+    private final Level level;
+
+    private LogRateMatcher(final long maxEventsPerSecond, final String loggerName, final Level level) {
+        this.maxEventsPerSecond = maxEventsPerSecond;
+        this.loggerName = loggerName;
+        this.level = level;
+    }
+
+    @Override
+    protected boolean matchesSafely(final LogMetrics metrics, final Description mismatchDescription) {
+
+        final long peak = loggerName == null ? metrics.peakEventsPerSecond() : metrics.peakEventsPerSecond(loggerName, level);
+        if (peak <= maxEventsPerSecond) {
+            return true;
+        }
+
+        mismatchDescription.appendText("peak rate was ").appendText(String.valueOf(peak)).appendText(" events per second");
+        final String highestPeak = metrics.describeHighestPeak();
+        if (loggerName == null && highestPeak != null) {
+            mismatchDescription.appendText(", highest was ").appendText(highestPeak);
+        }
+        return false;
+    }
+
+    @Override
+    public void describeTo(final Description description) {
+        description.appendText("at most ").appendText(String.valueOf(maxEventsPerSecond)).appendText(" events per second");
+        if (loggerName != null) {
+            description.appendText(" at ").appendText(String.valueOf(level)).appendText(" of ").appendText(loggerName);
+        }
+    }
+}
@@ -15,17 +15,23 @@
  */
 package com.codereligion.cherry.junit.logback;
 
-import ch.qos.logback.classic.Level;
-import ch.qos.logback.classic.Logger;
 import ch.qos.logback.classic.spi.ILoggingEvent;
-import com.google.common.collect.Maps;
+import ch.qos.logback.core.Appender;
+import com.google.common.collect.Lists;
 import com.google.common.collect.Sets;
+import java.io.File;
+import java.io.IOException;
 import java.util.Collections;
 import java.util.List;
-import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.TimeUnit;
+import org.hamcrest.Matcher;
+import org.hamcrest.StringDescription;
+import org.junit.internal.AssumptionViolatedException;
 import org.junit.rules.TestRule;
 import org.junit.runner.Description;
+import org.junit.runners.model.MultipleFailureException;
 import org.junit.runners.model.Statement;
 import static com.google.common.base.Preconditions.checkArgument;
 
@@ -49,15 +55,111 @@ public class LogRecorder implements TestRule {
         return new LogRecorder(logSpecs);
     }
 
+    private static final int DEFAULT_BUFFER_SIZE = 1024;
+
     private final Set<LogSpec> logSpecs = Sets.newLinkedHashSet();
-    private final Map<Logger, Level> previousLogLevels = Maps.newHashMap();
 
+    private final TimestampIndex timestampIndex = new TimestampIndex();
     @SuppressWarnings("unchecked")
-    private final ListAppender<ILoggingEvent> listAppender = new ListAppender<ILoggingEvent>();
+    private final ListAppender<ILoggingEvent> listAppender = new ListAppender<ILoggingEvent>(timestampIndex);
+    private final LogRateCounter rateCounter = new LogRateCounter();
+    private final List<BufferedSubscription> subscriptions = new CopyOnWriteArrayList<BufferedSubscription>();
+    private HandoffAppender handoffAppender;
+    private boolean usingTurboFilter;
+    private MutingTurboFilter mutingTurboFilter;
+    private Attachment attachment;
+    private File persistenceDirectory;
+    private boolean persistingAlways;
+    private volatile long startedAtMillis;
+    private volatile long stoppedAtMillis;
 
     private LogRecorder(final LogSpec... logSpecs) {
         Collections.addAll(this.logSpecs, logSpecs);
         checkArgument(!this.logSpecs.contains(null), "logSpec must not be null.");
+        listAppender.addListener(rateCounter);
+    }
+
+    /**
+     * Configures this recorder to capture events through a turbo filter, which is installed once on the logger context, instead of changing the levels of
+     * the specified loggers and attaching an appender to them. Changing the level of a logger causes logback to update the effective levels of all its
+     * descendants, which is costly for loggers with large subtrees, e.g. when recording a top-level package. With this configuration the logger hierarchy stays
+     * untouched and each recorded event is only matched against the specified loggers and levels.
+     * <p/>
+     * Events are recorded even if their logger is disabled for their level, but are then not passed to the regular appenders of the logger. Level checks like
+     * {@code isDebugEnabled()} are not changed, so logging statements guarded by them are only recorded, if the logger is enabled for their level.
+     *
+     * @return this recorder
+     */
+    public LogRecorder usingTurboFilter() {
+        usingTurboFilter = true;
+        return this;
+    }
+
+    /**
+     * Configures this recorder to mute all output of the logger context, which is not recorded by this recorder, while the test is running. Events which are
+     * not specified by any of the given {@link com.codereligion.cherry.junit.logback.LogSpec LogSpecs} are denied by a turbo filter, before logback creates
+     * them or passes them to any appender, e.g. to the console. Level checks like {@code isDebugEnabled()} fail for the same events. This saves the costs of
+     * noisy loggers, which are not of interest for the test. Recorded events still reach the regular appenders of their loggers.
+     * <p/>
+     * Neither levels nor appenders of any logger are changed, so the previous output is restored exactly once the filter is removed after the test. As long
+     * as the test is running, the denied events do not reach any other rule either.
+     *
+     * @return this recorder
+     */
+    public LogRecorder mutingOtherOutput() {
+        mutingTurboFilter = new MutingTurboFilter(logSpecs);
+        return this;
+    }
+
+    /**
+     * Configures this recorder to record events asynchronously. The logging thread only captures the thread name and the MDC of each event and hands it off
+     * to a lock-free queue, while a dedicated thread records the queued events, including the formatting of their messages, the evaluation of the matchers
+     * of awaiting threads and the delivery to subscribers. This keeps the costs of recording away from the code under test, e.g. in latency sensitive tests.
+     * As messages are formatted later, arguments which are changed by the code under test right after logging may be recorded with their changed state.
+     * <p/>
+     * The logging thread neither enters monitors nor uses thread-locals and events are published to a fixed number of striped queues, so that this mode is
+     * also safe and scalable when the code under test logs from large numbers of virtual threads.
+     * <p/>
+     * All methods returning recorded events or checkpoints first record the events which are still queued, so that they reflect all events logged before
+     * calling them.
+     *
+     * @return this recorder
+     */
+    public LogRecorder recordingAsynchronously() {
+        handoffAppender = new HandoffAppender(listAppender);
+        return this;
+    }
+
+    /**
+     * Configures this recorder to write all recorded events to a file in the given {@code directory} after each test. The file is named after the test class
+     * and method, e.g. {@code SomeTest.someMethod.events}, replaces any previous file of the same test and can be read with {@link
+     * com.codereligion.cherry.junit.logback.EventLog}. Events are written in a compact binary format in large batches. Arguments are persisted by their string
+     * representation.
+     *
+     * @param directory the directory to write the files to, which is created if it does not exist
+     * @return this recorder
+     * @throws java.lang.IllegalArgumentException when the given directory is {@code null}
+     */
+    public LogRecorder persistingTo(final File directory) {
+        checkArgument(directory != null, "directory must not be null.");
+        persistenceDirectory = directory;
+        persistingAlways = true;
+        return this;
+    }
+
+    /**
+     * Configures this recorder to write all recorded events to a file in the given {@code directory} when a test fails. Tests which are skipped because of a
+     * violated assumption do not count as failed. Apart from that the files are written as described in {@link #persistingTo(java.io.File)}.
+     *
+     * @param directory the directory to write the files to, which is created if it does not exist
+     * @return this recorder
+     * @throws java.lang.IllegalArgumentException when the given directory is {@code null}
+     */
+    public LogRecorder persistingOnFailureTo(final File directory) {
+        checkArgument(directory != null, "directory must not be null.");
+        persistenceDirectory = directory;
+        persistingAlways = false;
+        return this;
     }
 
     @Override
@@ -65,12 +167,18 @@ public class LogRecorder implements TestRule {
         return new Statement() {
             @Override
             public void evaluate() throws Throwable {
+                final List<Throwable> errors = Lists.newArrayList();
                 before();
                 try {
                     base.evaluate();
+                } catch (final Throwable t) {
+                    errors.add(t);
                 } finally {
                     after();
                 }
+                checkSubscriptions(errors);
+                persist(description, errors);
+                MultipleFailureException.assertEmpty(errors);
             }
         };
     }
@@ -81,6 +189,7 @@ public class LogRecorder implements TestRule {
      * @return all recorded events
      */
     public List<ILoggingEvent> events() {
+        flush();
         return listAppender.getList();
     }
 
@@ -91,6 +200,7 @@ public class LogRecorder implements TestRule {
      * @throws java.lang.AssertionError when no event was recorded
      */
     public ILoggingEvent event() {
+        flush();
         if (listAppender.getList().isEmpty()) {
             throw new AssertionError("No event was recorded during the test execution.");
         }
@@ -98,22 +208,265 @@ public class LogRecorder implements TestRule {
         return listAppender.getList().get(0);
     }
 
+    /**
+     * Creates a {@link com.codereligion.cherry.junit.logback.Checkpoint} which marks the current position within the recorded events. The returned checkpoint
+     * can be used to retrieve only the events which were recorded after this point in time.
+     *
+     * @return a new checkpoint
+     */
+    public Checkpoint checkpoint() {
+        flush();
+        return new Checkpoint(this, listAppender.getList().size());
+    }
+
+    /**
+     * Returns all events recorded after the given {@code checkpoint} was created in the order they were logged. The returned list is a live view, which also
+     * reflects events recorded after calling this method. Accessing the view only costs the events recorded after the checkpoint.
+     *
+     * @param checkpoint the checkpoint after which the events should be returned
+     * @return all events recorded after the given checkpoint
+     * @throws java.lang.IllegalArgumentException when the given checkpoint is {@code null} or was not created by this recorder
+     */
+    public List<ILoggingEvent> eventsSince(final Checkpoint checkpoint) {
+        checkOwnership(checkpoint);
+        flush();
+        return listAppender.getListFrom(checkpoint.getPosition());
+    }
+
+    /**
+     * Returns all events recorded after the given {@code from} checkpoint and before the given {@code to} checkpoint was created in the order they were
+     * logged.
+     *
+     * @param from the checkpoint after which the events should be returned
+     * @param to   the checkpoint before which the events should be returned
+     * @return all events recorded between the given checkpoints
+     * @throws java.lang.IllegalArgumentException when any of the given checkpoints are {@code null}, were not created by this recorder or when the {@code to}
+     *                                            checkpoint was created before the {@code from} checkpoint
+     */
+    public List<ILoggingEvent> eventsBetween(final Checkpoint from, final Checkpoint to) {
+        checkOwnership(from);
+        checkOwnership(to);
+        checkArgument(from.getPosition() <= to.getPosition(), "from must not be created after to.");
+        flush();
+        return listAppender.getList().subList(from.getPosition(), to.getPosition());
+    }
+
+    /**
+     * Returns all events which were logged at or after the given {@code fromMillis} and before the given {@code toMillis} in the order they were recorded.
+     * The timestamps of the events are kept in a separate index, so that the range is found by binary search, without looking at any event. In case events
+     * of concurrent threads were recorded in a different order than their timestamps, the recorded events are scanned instead.
+     *
+     * @param fromMillis the timestamp in milliseconds since the epoch at which the range starts, inclusive
+     * @param toMillis   the timestamp in milliseconds since the epoch at which the range ends, exclusive
+     * @return all events logged within the given time range
+     * @throws java.lang.IllegalArgumentException when {@code fromMillis} is greater than {@code toMillis}
+     */
+    public List<ILoggingEvent> eventsBetween(final long fromMillis, final long toMillis) {
+        checkArgument(fromMillis <= toMillis, "fromMillis must not be greater than toMillis.");
+        flush();
+
+        final int size = timestampIndex.size();
+        if (timestampIndex.isOrdered()) {
+            return listAppender.getList().subList(timestampIndex.indexOf(fromMillis, size), timestampIndex.indexOf(toMillis, size));
+        }
+
+        final List<ILoggingEvent> events = Lists.newArrayList();
+        for (int i = 0; i < size; i++) {
+            final long timeStamp = timestampIndex.get(i);
+            if (timeStamp >= fromMillis && timeStamp < toMillis) {
+                events.add(listAppender.getList().get(i));
+            }
+        }
+        return events;
+    }
+
+    /**
+     * Returns a snapshot of the rates at which events were recorded, which can be asserted with {@link com.codereligion.cherry.junit.logback.LogRateMatcher}.
+     * The events are counted per logger and level while they are recorded, so taking a snapshot does not look at the recorded events.
+     *
+     * @return the current log metrics
+     */
+    public LogMetrics metrics() {
+        flush();
+
+        final long startedAt = startedAtMillis;
+        final long stoppedAt = stoppedAtMillis;
+        final long durationMillis = startedAt == 0 ? 0 : (stoppedAt == 0 ? System.currentTimeMillis() : stoppedAt) - startedAt;
+
+        // events are counted while holding the appender's monitor
+        synchronized (listAppender) {
+            final List<ILoggingEvent> events = listAppender.getList();
+            return rateCounter.snapshot(durationMillis, events.subList(0, events.size()));
+        }
+    }
+
+    /**
+     * Blocks until an event matching the given {@code matcher} has been recorded, or throws an {@link java.lang.AssertionError}, in case no such event was
+     * recorded within the given timeout. Events recorded before calling this method are taken into account. The waiting thread is woken up as soon as the
+     * matching event is recorded, so that asynchronous code paths can be asserted without polling.
+     *
+     * @param matcher the matcher to check the events with
+     * @param timeout the maximum time to wait
+     * @param unit    the unit of the given timeout
+     * @return the first matching event
+     * @throws java.lang.IllegalArgumentException when any of the given arguments are {@code null} or the timeout is negative
+     * @throws java.lang.AssertionError           when no matching event was recorded within the given timeout
+     * @throws java.lang.InterruptedException     when the calling thread is interrupted while waiting
+     */
+    public ILoggingEvent awaitEvent(final Matcher<? super ILoggingEvent> matcher, final long timeout, final TimeUnit unit) throws InterruptedException {
+        return awaitCount(matcher, 1, timeout, unit).get(0);
+    }
+
+    /**
+     * Blocks until the given {@code count} of events matching the given {@code matcher} have been recorded, or throws an {@link java.lang.AssertionError}, in
+     * case less events were recorded within the given timeout. Events recorded before calling this method are taken into account. The waiting thread is woken
+     * up as soon as the last expected event is recorded, so that asynchronous code paths can be asserted without polling.
+     *
+     * @param matcher the matcher to check the events with
+     * @param count   the number of matching events to wait for
+     * @param timeout the maximum time to wait
+     * @param unit    the unit of the given timeout
+     * @return the first {@code count} matching events in the order they were logged
+     * @throws java.lang.IllegalArgumentException when any of the given arguments are {@code null}, the count is not positive or the timeout is negative
+     * @throws java.lang.AssertionError           when less than {@code count} matching events were recorded within the given timeout
+     * @throws java.lang.InterruptedException     when the calling thread is interrupted while waiting
+     */
+    public List<ILoggingEvent> awaitCount(final Matcher<? super ILoggingEvent> matcher, final int count, final long timeout, final TimeUnit unit)
+            throws InterruptedException {
+
+        checkArgument(matcher != null, "matcher must not be null.");
+        checkArgument(count > 0, "count must be greater than zero.");
+        checkArgument(timeout >= 0, "timeout must not be negative.");
+        checkArgument(unit != null, "unit must not be null.");
+
+        final List<ILoggingEvent> matches = listAppender.await(matcher, count, unit.toNanos(timeout));
+        if (matches.size() < count) {
+            final StringDescription description = new StringDescription();
+            description.appendText("Expected " + count + " event(s) matching: ")
+                       .appendDescriptionOf(matcher)
+                       .appendText(" within " + timeout + " " + unit + ", but only " + matches.size() + " were recorded.");
+            throw new AssertionError(description.toString());
+        }
+        return matches;
+    }
+
+    /**
+     * Subscribes the given {@code subscriber} to all events recorded after calling this method, using a buffer of 1024 events.
+     *
+     * @param subscriber the subscriber to deliver the events to
+     * @throws java.lang.IllegalArgumentException when the given subscriber is {@code null}
+     * @see #subscribe(LogEventSubscriber, int)
+     */
+    public void subscribe(final LogEventSubscriber subscriber) {
+        subscribe(subscriber, DEFAULT_BUFFER_SIZE);
+    }
+
+    /**
+     * Subscribes the given {@code subscriber} to all events recorded after calling this method. Events are pushed to the subscriber while they are being
+     * logged, as far as the subscriber requested them through its {@link com.codereligion.cherry.junit.logback.LogEventSubscription}. Events which were not
+     * requested yet are buffered. A logging thread which fills the buffer waits until the subscriber requested further events, so the subscriber must
+     * request events from a thread which the logging threads do not wait for.
+     * <p/>
+     * The thread which calls this method, the thread which is delivering events and, when {@link #recordingAsynchronously() recording asynchronously}, the
+     * thread which records the events, never wait for the subscriber, as they would wait for themselves. Events which they log while the buffer is full are
+     * dropped and signalled to the subscriber through {@link com.codereligion.cherry.junit.logback.LogEventSubscriber#onOverflow(long)}, and the test fails
+     * after it finished. The subscriber is completed after the test finished.
+     *
+     * @param subscriber the subscriber to deliver the events to
+     * @param bufferSize the maximum number of events which are buffered until they are requested
+     * @throws java.lang.IllegalArgumentException when the given subscriber is {@code null} or the buffer size is not positive
+     */
+    public void subscribe(final LogEventSubscriber subscriber, final int bufferSize) {
+
+        checkArgument(subscriber != null, "subscriber must not be null.");
+        checkArgument(bufferSize > 0, "bufferSize must be greater than zero.");
+
+        // the thread recording asynchronously must not wait for a subscriber, which may only request events after flushing
+        final BufferedSubscription subscription = new BufferedSubscription(subscriber, listAppender, bufferSize, handoffAppender == null);
+        subscriptions.add(subscription);
+        listAppender.addListener(subscription);
+        subscriber.onSubscribe(subscription);
+    }
+
+    private void checkSubscriptions(final List<Throwable> errors) {
+        for (final BufferedSubscription subscription : subscriptions) {
+            final long droppedEvents = subscription.getDroppedEvents();
+            if (droppedEvents > 0) {
+                errors.add(new AssertionError("Subscriber " + subscription.getSubscriber() + " missed " + droppedEvents
+                                              + " event(s), which were logged while its buffer was full."));
+            }
+        }
+        subscriptions.clear();
+    }
+
+    private void checkOwnership(final Checkpoint checkpoint) {
+        checkArgument(checkpoint != null, "checkpoint must not be null.");
+        checkArgument(checkpoint.getLogRecorder() == this, "checkpoint must be created by this recorder.");
+    }
+
+    private void flush() {
+        if (handoffAppender != null) {
+            handoffAppender.flush();
+        }
+    }
+
+    private void persist(final Description description, final List<Throwable> errors) {
+
+        if (persistenceDirectory == null || !(persistingAlways || hasFailed(errors))) {
+            return;
+        }
+
+        final File file = new File(persistenceDirectory, fileNameOf(description));
+        try {
+            EventLogWriter.write(file, listAppender.getList());
+        } catch (final IOException e) {
+            errors.add(new IllegalStateException("Could not persist the recorded events to " + file + ".", e));
+        }
+    }
+
+    private static boolean hasFailed(final List<Throwable> errors) {
+        for (final Throwable error : errors) {
+            if (!(error instanceof AssumptionViolatedException)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static String fileNameOf(final Description description) {
+        final String name = description.getMethodName() == null ? description.getClassName() : description.getClassName() + "." + description.getMethodName();
+        return name.replaceAll("[^A-Za-z0-9._$-]", "_") + ".events";
+    }
+
     private void before() throws Throwable {
-        for (final LogSpec logSpec : logSpecs) {
-            final Logger logger = logSpec.getLogger();
-            previousLogLevels.put(logger, logger.getLevel());
-            logger.setLevel(logSpec.getLevel());
-            logger.addAppender(listAppender);
+        if (mutingTurboFilter != null) {
+            mutingTurboFilter.mute();
         }
+        Appender<ILoggingEvent> appender = handoffAppender == null ? listAppender : handoffAppender;
+        if (CallerDataAppender.isEnabledBy(logSpecs)) {
+            // caller data is computed on the logging thread, before events are handed off
+            appender = new CallerDataAppender(logSpecs, appender);
+            appender.start();
+        }
+        attachment = usingTurboFilter ? new TurboFilterAttachment(logSpecs, appender) : new LoggerAttachment(logSpecs, appender);
+        attachment.attach();
+        startedAtMillis = System.currentTimeMillis();
+        stoppedAtMillis = 0;
         listAppender.start();
+        if (handoffAppender != null) {
+            handoffAppender.start();
+        }
     }
 
     private void after() {
+        if (handoffAppender != null) {
+            handoffAppender.stop();
+        }
         listAppender.stop();
-        for (final LogSpec logSpec : logSpecs) {
-            final Logger logger = logSpec.getLogger();
-            logger.setLevel(previousLogLevels.get(logger));
-            logger.detachAppender(listAppender);
+        stoppedAtMillis = System.currentTimeMillis();
+        attachment.detach();
+        if (mutingTurboFilter != null) {
+            mutingTurboFilter.unmute();
         }
     }
 }
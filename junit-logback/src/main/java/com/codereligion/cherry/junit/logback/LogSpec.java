@@ -18,20 +18,60 @@ package com.codereligion.cherry.junit.logback;
 
 import ch.qos.logback.classic.Level;
 import ch.qos.logback.classic.Logger;
+import ch.qos.logback.classic.LoggerContext;
 import com.google.common.base.Objects;
+import java.util.regex.Pattern;
 import org.slf4j.LoggerFactory;
 import static com.google.common.base.Preconditions.checkArgument;
 
 /**
- * Holds a {@link ch.qos.logback.classic.Logger} and a {@link ch.qos.logback.classic.Level} which specify the log events which should be recorded.
+ * Holds a {@link ch.qos.logback.classic.Logger}, or a pattern selecting loggers, and a {@link ch.qos.logback.classic.Level} which specify the log events which
+ * should be recorded.
  *
  * @author Sebastian Gr&ouml;bler
  * @since 17.03.2015
  */
 public class LogSpec {
 
+    /**
+     * Creates a new instance which specifies all loggers whose name is matched by the given {@code glob} and which will use the given {@code level}. The glob
+     * is matched segment by segment, where segments are separated by dots. A segment {@code **} matches any number of segments, including none, and a {@code
+     * *} within any other segment matches any characters of a single segment, e.g. {@code com.acme.**.*Repository} matches {@code com.acme.UserRepository}
+     * and {@code com.acme.db.UserRepository}. The root logger is never matched.
+     * <p/>
+     * Loggers are resolved through an index of all logger names, which is built once and updated as loggers are used for the first time, so that loggers
+     * created during the test are recorded as well.
+     *
+     * @param glob  the glob which selects the loggers
+     * @param level the level to use
+     * @return a new instance
+     * @throws java.lang.IllegalArgumentException when any of the given arguments are {@code null}
+     */
+    public static LogSpec matching(final String glob, final Level level) {
+        checkArgument(glob != null, "glob must not be null.");
+        return new LogSpec(LoggerPattern.glob(glob), level);
+    }
+
+    /**
+     * Creates a new instance which specifies all loggers whose whole name is matched by the given regular expression and which will use the given {@code
+     * level}. The root logger is never matched. In contrast to {@link #matching(String, Level)}, the expression needs to be checked against the name of every
+     * logger, so globs should be preferred where possible.
+     *
+     * @param regex the regular expression which selects the loggers
+     * @param level the level to use
+     * @return a new instance
+     * @throws java.lang.IllegalArgumentException when any of the given arguments are {@code null}
+     */
+    public static LogSpec matching(final Pattern regex, final Level level) {
+        checkArgument(regex != null, "regex must not be null.");
+        return new LogSpec(LoggerPattern.regex(regex), level);
+    }
+
     private final Level level;
     private final Logger logger;
+    private final LoggerPattern pattern;
+    private final LoggerContext loggerContext;
+    private final boolean callerData;
 
     /**
      * Creates a new instance which will fetch the {@link ch.qos.logback.classic.Logger} specified by the given {@code type} and which will use the given {@code
@@ -48,6 +88,9 @@ public class LogSpec {
 
         this.level = level;
         this.logger = (Logger) LoggerFactory.getLogger(type);
+        this.pattern = null;
+        this.loggerContext = logger.getLoggerContext();
+        this.callerData = false;
     }
 
     /**
@@ -65,6 +108,50 @@ public class LogSpec {
 
         this.level = level;
         this.logger = (Logger) LoggerFactory.getLogger(loggerName);
+        this.pattern = null;
+        this.loggerContext = logger.getLoggerContext();
+        this.callerData = false;
+    }
+
+    private LogSpec(final LoggerPattern pattern, final Level level) {
+
+        checkArgument(level != null, "level must not be null.");
+
+        // loggers of pattern specs are looked up when needed, creating the common logger here would change the hierarchy the pattern is resolved against
+        this.level = level;
+        this.logger = null;
+        this.pattern = pattern;
+        this.loggerContext = (LoggerContext) LoggerFactory.getILoggerFactory();
+        this.callerData = false;
+    }
+
+    private LogSpec(final LogSpec logSpec, final boolean callerData) {
+        this.level = logSpec.level;
+        this.logger = logSpec.logger;
+        this.pattern = logSpec.pattern;
+        this.loggerContext = logSpec.loggerContext;
+        this.callerData = callerData;
+    }
+
+    /**
+     * Creates a copy of this spec which makes recorders compute the caller data of the specified events, while they are being logged. Computing the caller
+     * data requires walking the stack of the logging thread for each event, so recorders never compute it for specs without caller data. Enable it only for
+     * the loggers which are asserted with caller data matchers, e.g. {@code wasLoggedFrom(SomeType.class, "someMethod")}.
+     *
+     * @return a new spec with enabled caller data
+     */
+    public LogSpec withCallerData() {
+        return new LogSpec(this, true);
+    }
+
+    /**
+     * Determines whether recorders compute the caller data of the events specified by this spec.
+     *
+     * @return {@code true} if caller data is enabled
+     * @see #withCallerData()
+     */
+    public boolean isCallerDataEnabled() {
+        return callerData;
     }
 
     /**
@@ -77,17 +164,54 @@ public class LogSpec {
     }
 
     /**
-     * The {@link ch.qos.logback.classic.Logger} associated with this spec.
+     * The {@link ch.qos.logback.classic.Logger} associated with this spec. For specs created by a pattern, this is the nearest existing logger which is an
+     * ancestor of, or equal to, every logger the pattern can match, e.g. {@code com.acme} for {@code com.acme.**.*Repository}, and the root logger for
+     * regular expressions. It is looked up on each call and never created, so it may be a more distant ancestor, as long as the nearest one does not exist.
      *
      * @return the logger
+     * @see #isPattern()
      */
     public Logger getLogger() {
-        return logger;
+        if (logger != null) {
+            return logger;
+        }
+
+        String name = pattern.commonLoggerName();
+        Logger existing = loggerContext.exists(name);
+        while (existing == null) {
+            final int lastDot = name.lastIndexOf('.');
+            name = lastDot == -1 ? org.slf4j.Logger.ROOT_LOGGER_NAME : name.substring(0, lastDot);
+            existing = loggerContext.exists(name);
+        }
+        return existing;
+    }
+
+    /**
+     * Determines whether this spec was created by a pattern and specifies all loggers matching it.
+     *
+     * @return {@code true} if this spec was created by a pattern
+     */
+    public boolean isPattern() {
+        return pattern != null;
+    }
+
+    /**
+     * @return the pattern of this spec or {@code null}, if it specifies a single logger
+     */
+    LoggerPattern getPattern() {
+        return pattern;
+    }
+
+    /**
+     * @return the context of the specified loggers
+     */
+    LoggerContext getLoggerContext() {
+        return loggerContext;
     }
 
     @Override
     public int hashCode() {
-        return Objects.hashCode(level, logger);
+        return Objects.hashCode(level, logger, pattern, callerData);
     }
 
     @Override
@@ -99,14 +223,22 @@ public class LogSpec {
             return false;
         }
         final LogSpec other = (LogSpec) obj;
-        return Objects.equal(this.level, other.level) && Objects.equal(this.logger, other.logger);
+        return Objects.equal(this.level, other.level) && Objects.equal(this.logger, other.logger) && Objects.equal(this.pattern, other.pattern)
+               && this.callerData == other.callerData;
     }
 
     @Override
     public String toString() {
         final StringBuilder sb = new StringBuilder("LogInfo{");
         sb.append("level=").append(level);
-        sb.append(", logger=").append(logger);
+        if (pattern == null) {
+            sb.append(", logger=").append(logger);
+        } else {
+            sb.append(", pattern=").append(pattern);
+        }
+        if (callerData) {
+            sb.append(", callerData=true");
+        }
         sb.append('}');
         return sb.toString();
     }
@@ -0,0 +1,123 @@
+/**
+ * Copyright 2015 www.codereligion.com
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.codereligion.cherry.junit.logback;
+
+import ch.qos.logback.classic.Level;
+import ch.qos.logback.classic.Logger;
+import ch.qos.logback.classic.LoggerContext;
+import com.google.common.collect.Maps;
+import com.google.common.collect.Sets;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Resolves {@link com.codereligion.cherry.junit.logback.LogSpec LogSpecs} to the loggers they specify. Pattern based specs are resolved through the {@link
+ * com.codereligion.cherry.junit.logback.LoggerTrie} of their logger context. In case multiple specs specify the same logger, the last spec wins.
+ *
+ * @author Sebastian Gr&ouml;bler
+ * @since 19.10.2026
+ */
+final class LogSpecs {
+
+    private LogSpecs() {
+    }
+
+    /**
+     * Resolves the given {@code logSpecs} to the levels of all loggers they specify.
+     *
+     * @param logSpecs the specs to resolve
+     * @return the levels by the specified loggers
+     */
+    static Map<Logger, Level> resolve(final Iterable<LogSpec> logSpecs) {
+        final Map<Logger, Level> levelsByLogger = Maps.newLinkedHashMap();
+        for (final LogSpec logSpec : logSpecs) {
+            if (logSpec.isPattern()) {
+                for (final Logger logger : LoggerTrie.of(logSpec.getLoggerContext()).find(logSpec.getPattern())) {
+                    levelsByLogger.put(logger, logSpec.getLevel());
+                }
+            } else {
+                levelsByLogger.put(logSpec.getLogger(), logSpec.getLevel());
+            }
+        }
+        return levelsByLogger;
+    }
+
+    /**
+     * Returns the level of the last pattern based spec which matches the given {@code logger}.
+     *
+     * @param logSpecs the specs to check
+     * @param logger   the logger to get the level for
+     * @return the level of the last matching spec or {@code null}, if no pattern based spec matches
+     */
+    static Level patternLevelOf(final Iterable<LogSpec> logSpecs, final Logger logger) {
+        Level level = null;
+        for (final LogSpec logSpec : logSpecs) {
+            if (logSpec.isPattern() && logSpec.getLoggerContext() == logger.getLoggerContext() && logSpec.getPattern().matches(logger.getName())) {
+                level = logSpec.getLevel();
+            }
+        }
+        return level;
+    }
+
+    /**
+     * Determines whether an event of the given {@code eventLevel}, which is logged by the logger with the given {@code loggerName}, is specified by the given
+     * {@code levelsByLoggerName}. Looks up the level of the nearest specified logger, starting with the logger itself and walking up its ancestors.
+     *
+     * @param levelsByLoggerName the minimum levels of the specified events by the name of the logger
+     * @param loggerName         the name of the logger of the event
+     * @param eventLevel         the level of the event
+     * @return {@code true} if the event's level is greater or equal to the level of the nearest specified logger
+     */
+    static boolean isSpecified(final Map<String, Level> levelsByLoggerName, final String loggerName, final Level eventLevel) {
+        String current = loggerName;
+        while (true) {
+            final Level level = levelsByLoggerName.get(current);
+            if (level != null) {
+                return eventLevel.isGreaterOrEqual(level);
+            }
+
+            final int lastDot = current.lastIndexOf('.');
+            if (lastDot == -1) {
+                break;
+            }
+            current = current.substring(0, lastDot);
+        }
+
+        final Level rootLevel = levelsByLoggerName.get(org.slf4j.Logger.ROOT_LOGGER_NAME);
+        return rootLevel != null && eventLevel.isGreaterOrEqual(rootLevel);
+    }
+
+    /**
+     * Returns the tries needed to resolve the pattern based specs among the given {@code logSpecs}.
+     *
+     * @param logSpecs the specs to get the tries for
+     * @return the tries of the logger contexts of all pattern based specs
+     */
+    static Set<LoggerTrie> triesOf(final Iterable<LogSpec> logSpecs) {
+        final Set<LoggerContext> loggerContexts = Sets.newLinkedHashSet();
+        for (final LogSpec logSpec : logSpecs) {
+            if (logSpec.isPattern()) {
+                loggerContexts.add(logSpec.getLoggerContext());
+            }
+        }
+
+        final Set<LoggerTrie> loggerTries = Sets.newLinkedHashSet();
+        for (final LoggerContext loggerContext : loggerContexts) {
+            loggerTries.add(LoggerTrie.of(loggerContext));
+        }
+        return loggerTries;
+    }
+}
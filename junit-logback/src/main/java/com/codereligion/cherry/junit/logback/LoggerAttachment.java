@@ -0,0 +1,208 @@
+/**
+ * Copyright 2015 www.codereligion.com
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.codereligion.cherry.junit.logback;
+
+import ch.qos.logback.classic.Level;
+import ch.qos.logback.classic.Logger;
+import ch.qos.logback.classic.LoggerContext;
+import ch.qos.logback.classic.spi.ILoggingEvent;
+import ch.qos.logback.core.Appender;
+import com.google.common.collect.Lists;
+import com.google.common.collect.Maps;
+import com.google.common.collect.Sets;
+import com.google.common.primitives.Ints;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Attaches an {@link ch.qos.logback.core.Appender} to the loggers specified by a set of {@link com.codereligion.cherry.junit.logback.LogSpec LogSpecs}, sets
+ * their levels accordingly and restores the previous state on detachment.
+ * <p/>
+ * Setting the level of a logger makes logback update the effective level of all descendants, which do not have an explicit level. To touch each logger of the
+ * affected hierarchy only once, the specs are deduplicated by logger, where the last spec wins, and levels are set deepest logger first, so that the update
+ * of an ancestor stops at the already configured descendants. Levels are restored in the opposite order for the same reason. The appender is only attached
+ * to loggers whose events do not already reach a specified ancestor through additivity, so that every event is recorded exactly once.
+ * <p/>
+ * Loggers matching pattern based specs, which are used for the first time after the attachment, are configured the same way once the {@link
+ * com.codereligion.cherry.junit.logback.LoggerTrie} notifies about them.
+ *
+ * @author Sebastian Gr&ouml;bler
+ * @since 19.10.2026
+ */
+class LoggerAttachment implements Attachment, LoggerTrie.Listener {
+
+    private static final Comparator<Logger> DEEPEST_FIRST = new Comparator<Logger>() {
+        @Override
+        public int compare(final Logger first, final Logger second) {
+            return Ints.compare(depthOf(second), depthOf(first));
+        }
+    };
+
+    private final Iterable<LogSpec> logSpecs;
+    private final Appender<ILoggingEvent> appender;
+    private final Map<Logger, Level> previousLogLevels = Maps.newLinkedHashMap();
+    private final List<Logger> attachedLoggers = Lists.newArrayList();
+    private final Set<Logger> specifiedLoggers = Sets.newHashSet();
+    private final Set<LoggerTrie> loggerTries = Sets.newHashSet();
+
+    /**
+     * Creates a new instance for the given {@code logSpecs} and {@code appender}.
+     *
+     * @param logSpecs the specs which define the loggers and levels
+     * @param appender the appender to attach
+     */
+    LoggerAttachment(final Iterable<LogSpec> logSpecs, final Appender<ILoggingEvent> appender) {
+        this.logSpecs = logSpecs;
+        this.appender = appender;
+    }
+
+    /**
+     * Sets the level of each specified logger and attaches the appender to it. The previous levels are remembered, so that they can be restored by {@link
+     * #detach()}.
+     */
+    @Override
+    public synchronized void attach() {
+        for (final LoggerTrie loggerTrie : LogSpecs.triesOf(logSpecs)) {
+            loggerTrie.addListener(this);
+            loggerTries.add(loggerTrie);
+        }
+
+        final Map<Logger, Level> levelsByLogger = LogSpecs.resolve(logSpecs);
+        specifiedLoggers.addAll(levelsByLogger.keySet());
+
+        final List<Logger> loggers = Lists.newArrayList(levelsByLogger.keySet());
+        Collections.sort(loggers, DEEPEST_FIRST);
+
+        for (final Logger logger : loggers) {
+            previousLogLevels.put(logger, logger.getLevel());
+            logger.setLevel(levelsByLogger.get(logger));
+        }
+
+        for (final Logger logger : loggers) {
+            attachUnlessReachingSpecifiedAncestor(logger);
+        }
+    }
+
+    @Override
+    public synchronized void onLoggerAdded(final Logger logger) {
+        if (loggerTries.isEmpty() || specifiedLoggers.contains(logger)) {
+            return;
+        }
+
+        final Level level = LogSpecs.patternLevelOf(logSpecs, logger);
+        if (level == null) {
+            return;
+        }
+
+        specifiedLoggers.add(logger);
+        previousLogLevels.put(logger, logger.getLevel());
+        logger.setLevel(level);
+        attachUnlessReachingSpecifiedAncestor(logger);
+    }
+
+    /**
+     * Restores the previous level of each specified logger and detaches the appender from it.
+     */
+    @Override
+    public synchronized void detach() {
+        for (final LoggerTrie loggerTrie : loggerTries) {
+            loggerTrie.removeListener(this);
+        }
+        loggerTries.clear();
+
+        for (final Logger logger : attachedLoggers) {
+            logger.detachAppender(appender);
+        }
+        attachedLoggers.clear();
+
+        final List<Map.Entry<Logger, Level>> previousLevels = Lists.newArrayList(previousLogLevels.entrySet());
+        for (final Map.Entry<Logger, Level> previousLevel : Lists.reverse(previousLevels)) {
+            previousLevel.getKey().setLevel(previousLevel.getValue());
+        }
+        previousLogLevels.clear();
+        specifiedLoggers.clear();
+    }
+
+    private void attachUnlessReachingSpecifiedAncestor(final Logger logger) {
+        if (!reachesSpecifiedAncestor(logger, specifiedLoggers)) {
+            logger.addAppender(appender);
+            attachedLoggers.add(logger);
+        }
+    }
+
+    /**
+     * Determines whether the events of the given {@code logger} are passed to the appenders of any of the given {@code specifiedLoggers}, which is the case
+     * when one of them is an ancestor and all loggers in between are additive.
+     */
+    private static boolean reachesSpecifiedAncestor(final Logger logger, final Set<Logger> specifiedLoggers) {
+        final LoggerContext loggerContext = logger.getLoggerContext();
+        Logger current = logger;
+        while (current.isAdditive() && !isRoot(current)) {
+            current = loggerContext.getLogger(parentNameOf(current.getName()));
+            if (specifiedLoggers.contains(current)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Determines whether the events of the given {@code logger} are passed to the given {@code appender}, which is the case when it is attached to the logger
+     * or to an ancestor and all loggers in between are additive.
+     *
+     * @param logger   the logger to check
+     * @param appender the appender to look for
+     * @return {@code true} if the events of the logger reach the appender
+     */
+    static boolean reaches(final Logger logger, final Appender<ILoggingEvent> appender) {
+        final LoggerContext loggerContext = logger.getLoggerContext();
+        Logger current = logger;
+        while (!current.isAttached(appender)) {
+            if (!current.isAdditive() || isRoot(current)) {
+                return false;
+            }
+            current = loggerContext.getLogger(parentNameOf(current.getName()));
+        }
+        return true;
+    }
+
+    private static String parentNameOf(final String name) {
+        final int lastDot = name.lastIndexOf('.');
+        return lastDot == -1 ? org.slf4j.Logger.ROOT_LOGGER_NAME : name.substring(0, lastDot);
+    }
+
+    private static int depthOf(final Logger logger) {
+        if (isRoot(logger)) {
+            return 0;
+        }
+
+        int depth = 1;
+        final String name = logger.getName();
+        for (int i = 0; i < name.length(); i++) {
+            if (name.charAt(i) == '.') {
+                depth++;
+            }
+        }
+        return depth;
+    }
+
+    private static boolean isRoot(final Logger logger) {
+        return logger.getName().equalsIgnoreCase(org.slf4j.Logger.ROOT_LOGGER_NAME);
+    }
+}
@@ -0,0 +1,216 @@
+/**
+ * Copyright 2015 www.codereligion.com
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.codereligion.cherry.junit.logback;
+
+import com.google.common.base.Objects;
+import java.util.regex.Pattern;
+
+/**
+ * Pattern which selects loggers by their name, either by a glob or by a regular expression.
+ * <p/>
+ * Globs are matched segment by segment, where segments are separated by dots. A segment {@code **} matches any number of segments, including none, and a
+ * {@code *} within any other segment matches any characters of a single segment, e.g. {@code com.acme.**.*Repository} matches {@code
+ * com.acme.UserRepository} and {@code com.acme.db.UserRepository}. Regular expressions must match the whole logger name.
+ * <p/>
+ * Globs with literal segments allow to resolve the matching loggers by only visiting the branches of the {@link com.codereligion.cherry.junit.logback.LoggerTrie}
+ * which can match, whereas regular expressions are checked against every logger.
+ *
+ * @author Sebastian Gr&ouml;bler
+ * @since 19.10.2026
+ */
+final class LoggerPattern {
+
+    static final String ANY_SEGMENTS = "**";
+
+    /**
+     * Creates a pattern from the given {@code glob}.
+     *
+     * @param glob the glob to create the pattern from
+     * @return a new pattern
+     */
+    static LoggerPattern glob(final String glob) {
+        final String[] segments = glob.split("\\.", -1);
+        final Pattern[] segmentPatterns = new Pattern[segments.length];
+        for (int i = 0; i < segments.length; i++) {
+            if (!segments[i].equals(ANY_SEGMENTS) && segments[i].indexOf('*') != -1) {
+                segmentPatterns[i] = Pattern.compile(toRegex(segments[i]));
+            }
+        }
+        return new LoggerPattern(glob, segments, segmentPatterns, null);
+    }
+
+    /**
+     * Creates a pattern from the given regular expression.
+     *
+     * @param regex the regular expression which must match the whole logger name
+     * @return a new pattern
+     */
+    static LoggerPattern regex(final Pattern regex) {
+        return new LoggerPattern(regex.pattern(), null, null, regex);
+    }
+
+    private final String expression;
+    private final String[] segments;
+    private final Pattern[] segmentPatterns;
+    private final Pattern regex;
+
+    private LoggerPattern(final String expression, final String[] segments, final Pattern[] segmentPatterns, final Pattern regex) {
+        this.expression = expression;
+        this.segments = segments;
+        this.segmentPatterns = segmentPatterns;
+        this.regex = regex;
+    }
+
+    /**
+     * @return {@code true} if this pattern is a glob, which can be resolved segment by segment
+     */
+    boolean isGlob() {
+        return segments != null;
+    }
+
+    /**
+     * Returns the name of the nearest logger which is an ancestor of, or equal to, every logger this pattern can match. This is the root logger for regular
+     * expressions and for globs which do not start with a literal segment.
+     *
+     * @return the name of the nearest common logger
+     */
+    String commonLoggerName() {
+        if (regex != null) {
+            return org.slf4j.Logger.ROOT_LOGGER_NAME;
+        }
+
+        final StringBuilder name = new StringBuilder();
+        for (int i = 0; i < segments.length && isLiteral(i); i++) {
+            if (i > 0) {
+                name.append('.');
+            }
+            name.append(segments[i]);
+        }
+        return name.length() == 0 ? org.slf4j.Logger.ROOT_LOGGER_NAME : name.toString();
+    }
+
+    /**
+     * @return the number of segments of this glob
+     */
+    int segmentCount() {
+        return segments.length;
+    }
+
+    /**
+     * @param index the index of the segment
+     * @return {@code true} if the segment at the given {@code index} matches any number of segments
+     */
+    boolean isAnySegments(final int index) {
+        return segments[index].equals(ANY_SEGMENTS);
+    }
+
+    /**
+     * @param index the index of the segment
+     * @return {@code true} if the segment at the given {@code index} only matches itself
+     */
+    boolean isLiteral(final int index) {
+        return segmentPatterns[index] == null && !isAnySegments(index);
+    }
+
+    /**
+     * @param index the index of the segment
+     * @return the segment at the given {@code index}
+     */
+    String segment(final int index) {
+        return segments[index];
+    }
+
+    /**
+     * Determines whether the segment at the given {@code index} matches the given {@code nameSegment}. Must not be called for {@code **} segments.
+     *
+     * @param index       the index of the segment
+     * @param nameSegment a single segment of a logger name
+     * @return {@code true} if the segment matches
+     */
+    boolean matchesSegment(final int index, final String nameSegment) {
+        return segmentPatterns[index] == null ? segments[index].equals(nameSegment) : segmentPatterns[index].matcher(nameSegment).matches();
+    }
+
+    /**
+     * Determines whether this pattern matches the given {@code loggerName}.
+     *
+     * @param loggerName the name of the logger
+     * @return {@code true} if this pattern matches the logger name
+     */
+    boolean matches(final String loggerName) {
+        if (regex != null) {
+            return regex.matcher(loggerName).matches();
+        }
+        return matches(loggerName.split("\\.", -1), 0, 0);
+    }
+
+    private boolean matches(final String[] nameSegments, final int nameIndex, final int index) {
+        if (index == segments.length) {
+            return nameIndex == nameSegments.length;
+        }
+        if (isAnySegments(index)) {
+            for (int i = nameIndex; i <= nameSegments.length; i++) {
+                if (matches(nameSegments, i, index + 1)) {
+                    return true;
+                }
+            }
+            return false;
+        }
+        return nameIndex < nameSegments.length && matchesSegment(index, nameSegments[nameIndex]) && matches(nameSegments, nameIndex + 1, index + 1);
+    }
+
+    private static String toRegex(final String segment) {
+        final StringBuilder regex = new StringBuilder();
+        int start = 0;
+        for (int wildcard = segment.indexOf('*'); wildcard != -1; wildcard = segment.indexOf('*', start)) {
+            if (wildcard > start) {
+                regex.append(Pattern.quote(segment.substring(start, wildcard)));
+            }
+            regex.append(".*");
+            start = wildcard + 1;
+        }
+        if (start < segment.length()) {
+            regex.append(Pattern.quote(segment.substring(start)));
+        }
+        return regex.toString();
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hashCode(expression, isGlob());
+    }
+
+    @Override
+    public boolean equals(final Object obj) {
+        if (this == obj) {
+            return true;
+        }
+        if (obj == null || getClass() != obj.getClass()) {
+            return false;
+        }
+        final LoggerPattern other = (LoggerPattern) obj;
+        return Objects.equal(this.expression, other.expression) && isGlob() == other.isGlob() && flagsOf(this) == flagsOf(other);
+    }
+
+    private static int flagsOf(final LoggerPattern pattern) {
+        return pattern.regex == null ? 0 : pattern.regex.flags();
+    }
+
+    @Override
+    public String toString() {
+        return expression;
+    }
+}
@@ -0,0 +1,280 @@
+/**
+ * Copyright 2015 www.codereligion.com
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.codereligion.cherry.junit.logback;
+
+import ch.qos.logback.classic.Level;
+import ch.qos.logback.classic.Logger;
+import ch.qos.logback.classic.LoggerContext;
+import ch.qos.logback.classic.turbo.TurboFilter;
+import ch.qos.logback.core.spi.FilterReply;
+import com.google.common.collect.Sets;
+import java.util.ArrayDeque;
+import java.util.Collections;
+import java.util.Deque;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import org.slf4j.Marker;
+
+/**
+ * Trie of the names of all loggers of a {@link ch.qos.logback.classic.LoggerContext}, which allows to resolve a {@link
+ * com.codereligion.cherry.junit.logback.LoggerPattern} by only visiting the branches which can match it.
+ * <p/>
+ * The trie is built per logger context from its existing loggers, once the first pattern based spec is resolved, and is kept as an object of the context for
+ * the context's lifetime, so that it is never built twice. Logback does not notify about created loggers, so a turbo filter is installed in front of all
+ * other turbo filters, which adds each logger to the trie the first time it is used for logging or for a level check, before logback evaluates its level.
+ * The filter stays installed together with the trie, it only looks up the logger in a concurrent set once the logger is known. Registered {@link
+ * com.codereligion.cherry.junit.logback.LoggerTrie.Listener Listeners} are notified about added loggers at that point, so that they are able to configure
+ * them before the first event is processed. A reset of the context discards the trie together with the filter, it is built again when it is needed next.
+ *
+ * @author Sebastian Gr&ouml;bler
+ * @since 19.10.2026
+ */
+final class LoggerTrie {
+
+    private static final String OBJECT_KEY = LoggerTrie.class.getName();
+
+    /**
+     * Returns the trie of the given {@code loggerContext} or builds it, in case it does not exist yet.
+     *
+     * @param loggerContext the context to get the trie for
+     * @return the trie of the given context
+     */
+    static LoggerTrie of(final LoggerContext loggerContext) {
+        synchronized (loggerContext) {
+            final List<TurboFilter> turboFilters = loggerContext.getTurboFilterList();
+            final LoggerTrie existing = (LoggerTrie) loggerContext.getObject(OBJECT_KEY);
+            if (existing != null && turboFilters.contains(existing.updater)) {
+                return existing;
+            }
+
+            final LoggerTrie loggerTrie = new LoggerTrie(loggerContext);
+            // installed before the existing loggers are added, so that no concurrently created logger is missed, and first, except for the start marker of
+            // an allocation tracker, which measures all other turbo filters
+            final boolean behindStartMarker = !turboFilters.isEmpty() && AllocationAppender.isStartMarker(turboFilters.get(0));
+            turboFilters.add(behindStartMarker ? 1 : 0, loggerTrie.updater);
+            for (final Logger logger : loggerContext.getLoggerList()) {
+                loggerTrie.add(logger);
+            }
+            loggerContext.putObject(OBJECT_KEY, loggerTrie);
+            return loggerTrie;
+        }
+    }
+
+    /**
+     * Callback which is notified about loggers added to the trie after it was built.
+     */
+    interface Listener {
+
+        /**
+         * Is called on the thread which uses the given {@code logger} for the first time, before its level is evaluated.
+         *
+         * @param logger the added logger
+         */
+        void onLoggerAdded(Logger logger);
+    }
+
+    private final Updater updater;
+    private final Node root = new Node();
+    private final Set<Logger> loggers = Collections.newSetFromMap(new ConcurrentHashMap<Logger, Boolean>());
+    private final List<Listener> listeners = new CopyOnWriteArrayList<Listener>();
+
+    private LoggerTrie(final LoggerContext loggerContext) {
+        this.updater = new Updater(this);
+        updater.setContext(loggerContext);
+        updater.start();
+    }
+
+    /**
+     * Registers the given {@code listener}, which will be notified about all loggers added after calling this method.
+     *
+     * @param listener the listener to register
+     */
+    void addListener(final Listener listener) {
+        listeners.add(listener);
+    }
+
+    /**
+     * Unregisters the given {@code listener}.
+     *
+     * @param listener the listener to unregister
+     */
+    void removeListener(final Listener listener) {
+        listeners.remove(listener);
+    }
+
+    /**
+     * Returns all loggers known to this trie which are matched by the given {@code pattern}. The root logger is never matched.
+     *
+     * @param pattern the pattern to match the loggers with
+     * @return the matching loggers in no particular order
+     */
+    Set<Logger> find(final LoggerPattern pattern) {
+        final Set<Logger> matches = Sets.newLinkedHashSet();
+        if (pattern.isGlob()) {
+            collect(root, pattern, 0, matches);
+        } else {
+            collectAll(root, pattern, matches);
+        }
+        return matches;
+    }
+
+    /**
+     * Collects the matches below the given {@code node}, whose name was matched by the segments of the given {@code pattern} up to the given {@code index}.
+     */
+    private void collect(final Node node, final LoggerPattern pattern, final int index, final Set<Logger> matches) {
+        if (index == pattern.segmentCount()) {
+            if (node.logger != null) {
+                matches.add(node.logger);
+            }
+        } else if (pattern.isAnySegments(index)) {
+            collect(node, pattern, index + 1, matches);
+            for (final Node child : node.children.values()) {
+                collect(child, pattern, index, matches);
+            }
+        } else if (pattern.isLiteral(index)) {
+            final Node child = node.children.get(pattern.segment(index));
+            if (child != null) {
+                collect(child, pattern, index + 1, matches);
+            }
+        } else {
+            for (final Node child : node.children.values()) {
+                if (pattern.matchesSegment(index, child.segment)) {
+                    collect(child, pattern, index + 1, matches);
+                }
+            }
+        }
+    }
+
+    private void collectAll(final Node node, final LoggerPattern pattern, final Set<Logger> matches) {
+        for (final Node child : node.children.values()) {
+            if (child.logger != null && pattern.matches(child.logger.getName())) {
+                matches.add(child.logger);
+            }
+            collectAll(child, pattern, matches);
+        }
+    }
+
+    /**
+     * Adds the given {@code logger} and all of its ancestors, which are not known yet, to this trie and notifies the listeners about them, ancestors first.
+     */
+    private void addWithAncestors(final Logger logger) {
+        final LoggerContext loggerContext = logger.getLoggerContext();
+        final Deque<Logger> unknown = new ArrayDeque<Logger>();
+        Logger current = logger;
+        while (current != null && !loggers.contains(current)) {
+            unknown.push(current);
+            final int lastDot = current.getName().lastIndexOf('.');
+            current = lastDot == -1 ? null : loggerContext.exists(current.getName().substring(0, lastDot));
+        }
+
+        for (final Logger added : unknown) {
+            if (add(added)) {
+                for (final Listener listener : listeners) {
+                    listener.onLoggerAdded(added);
+                }
+            }
+        }
+    }
+
+    /**
+     * Adds the given {@code logger} to this trie, unless it is the root logger or was already added.
+     *
+     * @return {@code true} if the logger was added
+     */
+    private boolean add(final Logger logger) {
+        if (!loggers.add(logger)) {
+            return false;
+        }
+
+        final String name = logger.getName();
+        if (name.equalsIgnoreCase(org.slf4j.Logger.ROOT_LOGGER_NAME)) {
+            // the root logger is never matched by a pattern
+            return false;
+        }
+
+        Node node = root;
+        int start = 0;
+        while (start <= name.length()) {
+            int end = name.indexOf('.', start);
+            if (end == -1) {
+                end = name.length();
+            }
+            node = node.child(name.substring(start, end));
+            start = end + 1;
+        }
+        node.logger = logger;
+        return true;
+    }
+
+    private static class Node {
+
+        private final String segment;
+        private final Map<String, Node> children = new ConcurrentHashMap<String, Node>();
+        private volatile Logger logger;
+
+        Node() {
+            this(null);
+        }
+
+        Node(final String segment) {
+            this.segment = segment;
+        }
+
+        Node child(final String childSegment) {
+            Node child = children.get(childSegment);
+            if (child == null) {
+                synchronized (this) {
+                    child = children.get(childSegment);
+                    if (child == null) {
+                        child = new Node(childSegment);
+                        children.put(childSegment, child);
+                    }
+                }
+            }
+            return child;
+        }
+    }
+
+    /**
+     * Adds each logger to the trie the first time it is passed to the turbo filter chain.
+     */
+    private static class Updater extends TurboFilter {
+
+        private final LoggerTrie loggerTrie;
+
+        Updater(final LoggerTrie loggerTrie) {
+            this.loggerTrie = loggerTrie;
+            setName(LoggerTrie.class.getSimpleName());
+        }
+
+        @Override
+        public FilterReply decide(final Marker marker,
+                                  final Logger logger,
+                                  final Level level,
+                                  final String format,
+                                  final Object[] params,
+                                  final Throwable t) {
+
+            if (!loggerTrie.loggers.contains(logger)) {
+                loggerTrie.addWithAncestors(logger);
+            }
+            return FilterReply.NEUTRAL;
+        }
+    }
+}
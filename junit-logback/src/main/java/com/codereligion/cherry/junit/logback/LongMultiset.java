@@ -0,0 +1,125 @@
+/**
+ * Copyright 2015 www.codereligion.com
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.codereligion.cherry.junit.logback;
+
+/**
+ * Multiset of {@code long} values, which counts occurrences in primitive arrays using open addressing. Counts may become negative, which allows to add the
+ * elements of one collection and remove the elements of another one to find out whether both contain the same elements.
+ *
+ * @author Sebastian Gr&ouml;bler
+ * @since 19.10.2026
+ */
+final class LongMultiset {
+
+    private static final int INITIAL_CAPACITY = 64;
+
+    private long[] keys = new long[INITIAL_CAPACITY];
+    private int[] counts = new int[INITIAL_CAPACITY];
+    private boolean[] used = new boolean[INITIAL_CAPACITY];
+    private int size;
+    private int nonZero;
+
+    /**
+     * Adds the given {@code delta} to the count of the given {@code value}.
+     *
+     * @param value the value to count
+     * @param delta the number of occurrences to add, may be negative
+     */
+    void add(final long value, final int delta) {
+
+        if (size * 2 >= keys.length) {
+            grow();
+        }
+
+        final int index = indexOf(value, keys, used);
+        if (!used[index]) {
+            used[index] = true;
+            keys[index] = value;
+            size++;
+        }
+
+        final int before = counts[index];
+        final int after = before + delta;
+        counts[index] = after;
+        if (before == 0 && after != 0) {
+            nonZero++;
+        } else if (before != 0 && after == 0) {
+            nonZero--;
+        }
+    }
+
+    /**
+     * Returns the count of the given {@code value}.
+     *
+     * @param value the value to get the count of
+     * @return the count, {@code 0} if the value was never added
+     */
+    int count(final long value) {
+        final int index = indexOf(value, keys, used);
+        return used[index] ? counts[index] : 0;
+    }
+
+    /**
+     * Sets the count of the given {@code value} to zero.
+     *
+     * @param value the value to reset
+     */
+    void reset(final long value) {
+        add(value, -count(value));
+    }
+
+    /**
+     * Returns the number of distinct values of which the count is not zero.
+     *
+     * @return the number of values with a non-zero count
+     */
+    int nonZeroCount() {
+        return nonZero;
+    }
+
+    private void grow() {
+        final long[] oldKeys = keys;
+        final int[] oldCounts = counts;
+        final boolean[] oldUsed = used;
+
+        keys = new long[oldKeys.length * 2];
+        counts = new int[oldKeys.length * 2];
+        used = new boolean[oldKeys.length * 2];
+
+        for (int i = 0; i < oldKeys.length; i++) {
+            if (oldUsed[i]) {
+                final int index = indexOf(oldKeys[i], keys, used);
+                used[index] = true;
+                keys[index] = oldKeys[i];
+                counts[index] = oldCounts[i];
+            }
+        }
+    }
+
+    private static int indexOf(final long value, final long[] keys, final boolean[] used) {
+        final int mask = keys.length - 1;
+        int index = mix(value) & mask;
+        while (used[index] && keys[index] != value) {
+            index = (index + 1) & mask;
+        }
+        return index;
+    }
+
+    private static int mix(final long value) {
+        final long mixed = value * 0x9e3779b97f4a7c15L;
+        return (int) (mixed ^ (mixed >>> 32));
+    }
+}
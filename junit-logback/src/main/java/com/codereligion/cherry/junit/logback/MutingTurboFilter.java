@@ -0,0 +1,120 @@
+/**
+ * Copyright 2015 www.codereligion.com
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.codereligion.cherry.junit.logback;
+
+import ch.qos.logback.classic.Level;
+import ch.qos.logback.classic.Logger;
+import ch.qos.logback.classic.LoggerContext;
+import ch.qos.logback.classic.turbo.TurboFilter;
+import ch.qos.logback.core.spi.FilterReply;
+import com.google.common.collect.Sets;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Set;
+import org.slf4j.Marker;
+
+/**
+ * Turbo filter which denies all events that are not specified by a set of {@link com.codereligion.cherry.junit.logback.LogSpec LogSpecs}, so that they are
+ * dropped before logback creates an event or passes it to any appender. Level checks like {@code isDebugEnabled()} fail for the same events, so that guarded
+ * logging statements are skipped entirely. Specified events pass the filter untouched.
+ * <p/>
+ * Neither levels nor appenders of any logger are changed, so that removing the filter restores the previous output exactly.
+ *
+ * @author Sebastian Gr&ouml;bler
+ * @since 19.10.2026
+ */
+class MutingTurboFilter extends TurboFilter implements LoggerTrie.Listener {
+
+    private final Iterable<LogSpec> logSpecs;
+    private final Set<LoggerContext> loggerContexts = Sets.newLinkedHashSet();
+    private final Set<LoggerTrie> loggerTries = Sets.newHashSet();
+    private volatile Map<String, Level> levelsByLoggerName = new HashMap<String, Level>();
+
+    /**
+     * Creates a new instance which lets the events specified by the given {@code logSpecs} pass.
+     *
+     * @param logSpecs the specs of the events which are not muted
+     */
+    MutingTurboFilter(final Iterable<LogSpec> logSpecs) {
+        this.logSpecs = logSpecs;
+        setName(MutingTurboFilter.class.getSimpleName());
+    }
+
+    /**
+     * Installs this filter on the logger contexts of all specs.
+     */
+    synchronized void mute() {
+        for (final LoggerTrie loggerTrie : LogSpecs.triesOf(logSpecs)) {
+            loggerTrie.addListener(this);
+            loggerTries.add(loggerTrie);
+        }
+
+        final Map<String, Level> levels = new HashMap<String, Level>();
+        for (final Map.Entry<Logger, Level> entry : LogSpecs.resolve(logSpecs).entrySet()) {
+            levels.put(entry.getKey().getName(), entry.getValue());
+        }
+        levelsByLoggerName = levels;
+
+        for (final LogSpec logSpec : logSpecs) {
+            loggerContexts.add(logSpec.getLoggerContext());
+        }
+        start();
+        for (final LoggerContext loggerContext : loggerContexts) {
+            loggerContext.addTurboFilter(this);
+        }
+    }
+
+    @Override
+    public synchronized void onLoggerAdded(final Logger logger) {
+        if (loggerTries.isEmpty()) {
+            return;
+        }
+
+        final Level level = LogSpecs.patternLevelOf(logSpecs, logger);
+        if (level != null) {
+            final Map<String, Level> copy = new HashMap<String, Level>(levelsByLoggerName);
+            copy.put(logger.getName(), level);
+            levelsByLoggerName = copy;
+        }
+    }
+
+    /**
+     * Removes this filter from all logger contexts it was installed on.
+     */
+    synchronized void unmute() {
+        for (final LoggerTrie loggerTrie : loggerTries) {
+            loggerTrie.removeListener(this);
+        }
+        loggerTries.clear();
+
+        for (final LoggerContext loggerContext : loggerContexts) {
+            loggerContext.getTurboFilterList().remove(this);
+        }
+        loggerContexts.clear();
+        stop();
+    }
+
+    @Override
+    public FilterReply decide(final Marker marker,
+                              final Logger logger,
+                              final Level level,
+                              final String format,
+                              final Object[] params,
+                              final Throwable t) {
+
+        return level == null || LogSpecs.isSpecified(levelsByLoggerName, logger.getName(), level) ? FilterReply.NEUTRAL : FilterReply.DENY;
+    }
+}
@@ -0,0 +1,116 @@
+/**
+ * Copyright 2015 www.codereligion.com
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.codereligion.cherry.junit.logback;
+
+import ch.qos.logback.classic.spi.ILoggingEvent;
+import ch.qos.logback.core.AppenderBase;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * In-memory appender which splits the received events into partitions, one per running test. An event is added to the partition of the test which runs on the
+ * logging thread or which started the logging thread, e.g. an asynchronous worker. Events of any other thread, e.g. of a thread pool which existed before the
+ * test started, are added to the partition of the only running test. They are dropped when several tests are running in parallel, as they can not be
+ * attributed to any of them, and when no test is running at all.
+ *
+ * @author Sebastian Gr&ouml;bler
+ * @since 19.10.2026
+ */
+class PartitioningAppender extends AppenderBase<ILoggingEvent> {
+
+    private final InheritableThreadLocal<Partition> partitionOfThread = new InheritableThreadLocal<Partition>();
+    private final Set<Partition> openPartitions = Collections.newSetFromMap(new ConcurrentHashMap<Partition, Boolean>());
+
+    @Override
+    protected void append(final ILoggingEvent event) {
+        final Partition partition = currentPartition();
+        if (partition != null) {
+            partition.events.append(event);
+        }
+    }
+
+    /**
+     * Opens a new partition for the test which is run by the calling thread. Threads started by the calling thread while the partition is open log into the
+     * same partition.
+     *
+     * @return the new partition
+     */
+    Partition open() {
+        final Partition partition = new Partition(Thread.currentThread());
+        openPartitions.add(partition);
+        partitionOfThread.set(partition);
+        return partition;
+    }
+
+    /**
+     * Closes the given {@code partition}, so that no further events are added to it. Must be called by the thread which opened the partition.
+     *
+     * @param partition the partition to close
+     */
+    void close(final Partition partition) {
+        openPartitions.remove(partition);
+        partitionOfThread.remove();
+    }
+
+    /**
+     * Returns the events of the test which runs on or started the calling thread, or of the only running test otherwise.
+     *
+     * @return the events of the current test or an empty list, if there is no such test
+     */
+    List<ILoggingEvent> currentEvents() {
+        final Partition partition = currentPartition();
+        return partition == null ? Collections.<ILoggingEvent>emptyList() : partition.events;
+    }
+
+    private Partition currentPartition() {
+        final Partition partition = partitionOfThread.get();
+        if (partition != null && openPartitions.contains(partition)) {
+            return partition;
+        }
+
+        final Iterator<Partition> iterator = openPartitions.iterator();
+        if (!iterator.hasNext()) {
+            return null;
+        }
+
+        final Partition onlyPartition = iterator.next();
+        return iterator.hasNext() ? null : onlyPartition;
+    }
+
+    /**
+     * Events recorded for a single test, identified by the thread running the test.
+     */
+    static class Partition {
+
+        private final Thread thread;
+        private final AppendOnlyList<ILoggingEvent> events = new AppendOnlyList<ILoggingEvent>();
+
+        Partition(final Thread thread) {
+            this.thread = thread;
+        }
+
+        @Override
+        public String toString() {
+            final StringBuilder sb = new StringBuilder("Partition{");
+            sb.append("thread=").append(thread.getName());
+            sb.append('}');
+            return sb.toString();
+        }
+    }
+}
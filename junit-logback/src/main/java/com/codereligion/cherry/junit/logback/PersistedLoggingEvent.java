@@ -0,0 +1,151 @@
+/**
+ * Copyright 2015 www.codereligion.com
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.codereligion.cherry.junit.logback;
+
+import ch.qos.logback.classic.Level;
+import ch.qos.logback.classic.spi.ILoggingEvent;
+import ch.qos.logback.classic.spi.IThrowableProxy;
+import ch.qos.logback.classic.spi.LoggerContextVO;
+import java.util.Map;
+import javax.annotation.Nullable;
+import org.slf4j.Marker;
+
+/**
+ * {@link ch.qos.logback.classic.spi.ILoggingEvent} read from an {@link com.codereligion.cherry.junit.logback.EventLog}. Arguments are represented by the
+ * strings they were persisted as, the marker is a detached marker of the persisted name and there is no logger context.
+ *
+ * @author Sebastian Gr&ouml;bler
+ * @since 19.10.2026
+ */
+final class PersistedLoggingEvent implements ILoggingEvent {
+
+    private final long timeStamp;
+    private final Level level;
+    private final String loggerName;
+    private final String threadName;
+    private final String message;
+    private final String formattedMessage;
+    private final Object[] argumentArray;
+    private final Marker marker;
+    private final Map<String, String> mdcPropertyMap;
+    private final StackTraceElement[] callerData;
+    private final IThrowableProxy throwableProxy;
+
+    PersistedLoggingEvent(final long timeStamp,
+                          @Nullable final Level level,
+                          @Nullable final String loggerName,
+                          @Nullable final String threadName,
+                          @Nullable final String message,
+                          @Nullable final String formattedMessage,
+                          @Nullable final Object[] argumentArray,
+                          @Nullable final Marker marker,
+                          final Map<String, String> mdcPropertyMap,
+                          @Nullable final StackTraceElement[] callerData,
+                          @Nullable final IThrowableProxy throwableProxy) {
+        this.timeStamp = timeStamp;
+        this.level = level;
+        this.loggerName = loggerName;
+        this.threadName = threadName;
+        this.message = message;
+        this.formattedMessage = formattedMessage;
+        this.argumentArray = argumentArray;
+        this.marker = marker;
+        this.mdcPropertyMap = mdcPropertyMap;
+        this.callerData = callerData;
+        this.throwableProxy = throwableProxy;
+    }
+
+    @Override
+    public String getThreadName() {
+        return threadName;
+    }
+
+    @Override
+    public Level getLevel() {
+        return level;
+    }
+
+    @Override
+    public String getMessage() {
+        return message;
+    }
+
+    @Override
+    public Object[] getArgumentArray() {
+        return argumentArray;
+    }
+
+    @Override
+    public String getFormattedMessage() {
+        return formattedMessage;
+    }
+
+    @Override
+    public String getLoggerName() {
+        return loggerName;
+    }
+
+    @Override
+    public LoggerContextVO getLoggerContextVO() {
+        return null;
+    }
+
+    @Override
+    public IThrowableProxy getThrowableProxy() {
+        return throwableProxy;
+    }
+
+    @Override
+    public StackTraceElement[] getCallerData() {
+        return callerData;
+    }
+
+    @Override
+    public boolean hasCallerData() {
+        return callerData != null;
+    }
+
+    @Override
+    public Marker getMarker() {
+        return marker;
+    }
+
+    @Override
+    public Map<String, String> getMDCPropertyMap() {
+        return mdcPropertyMap;
+    }
+
+    @Override
+    @Deprecated
+    public Map<String, String> getMdc() {
+        return mdcPropertyMap;
+    }
+
+    @Override
+    public long getTimeStamp() {
+        return timeStamp;
+    }
+
+    @Override
+    public void prepareForDeferredProcessing() {
+        // everything has been read already
+    }
+
+    @Override
+    public String toString() {
+        return "[" + level + "] " + formattedMessage;
+    }
+}
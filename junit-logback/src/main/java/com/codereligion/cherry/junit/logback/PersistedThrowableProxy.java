@@ -0,0 +1,80 @@
+/**
+ * Copyright 2015 www.codereligion.com
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.codereligion.cherry.junit.logback;
+
+import ch.qos.logback.classic.spi.IThrowableProxy;
+import ch.qos.logback.classic.spi.StackTraceElementProxy;
+import javax.annotation.Nullable;
+
+/**
+ * {@link ch.qos.logback.classic.spi.IThrowableProxy} read from an {@link com.codereligion.cherry.junit.logback.EventLog}.
+ *
+ * @author Sebastian Gr&ouml;bler
+ * @since 19.10.2026
+ */
+final class PersistedThrowableProxy implements IThrowableProxy {
+
+    private final String className;
+    private final String message;
+    private final int commonFrames;
+    private final StackTraceElementProxy[] stackTraceElementProxies;
+    private final IThrowableProxy cause;
+    private final IThrowableProxy[] suppressed;
+
+    PersistedThrowableProxy(final String className,
+                            @Nullable final String message,
+                            final int commonFrames,
+                            final StackTraceElementProxy[] stackTraceElementProxies,
+                            @Nullable final IThrowableProxy cause,
+                            final IThrowableProxy[] suppressed) {
+        this.className = className;
+        this.message = message;
+        this.commonFrames = commonFrames;
+        this.stackTraceElementProxies = stackTraceElementProxies;
+        this.cause = cause;
+        this.suppressed = suppressed;
+    }
+
+    @Override
+    public String getMessage() {
+        return message;
+    }
+
+    @Override
+    public String getClassName() {
+        return className;
+    }
+
+    @Override
+    public StackTraceElementProxy[] getStackTraceElementProxyArray() {
+        return stackTraceElementProxies;
+    }
+
+    @Override
+    public int getCommonFrames() {
+        return commonFrames;
+    }
+
+    @Override
+    public IThrowableProxy getCause() {
+        return cause;
+    }
+
+    @Override
+    public IThrowableProxy[] getSuppressed() {
+        return suppressed;
+    }
+}
@@ -0,0 +1,62 @@
+/**
+ * Copyright 2015 www.codereligion.com
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.codereligion.cherry.junit.logback;
+
+import ch.qos.logback.classic.spi.ILoggingEvent;
+import ch.qos.logback.core.Appender;
+import ch.qos.logback.core.UnsynchronizedAppenderBase;
+import java.util.List;
+
+/**
+ * Appender which takes the place of the appenders of a single logger and passes each event on to all of them in their original order. The nanoseconds spent
+ * in the {@link ch.qos.logback.core.Appender#doAppend(Object)} methods of the replaced appenders are recorded as one sample per event.
+ *
+ * @author Sebastian Gr&ouml;bler
+ * @since 19.10.2026
+ */
+class ProfilingAppender extends UnsynchronizedAppenderBase<ILoggingEvent> {
+
+    private final List<Appender<ILoggingEvent>> delegates;
+    private final LatencyHistogram histogram;
+
+    /**
+     * Creates a new instance which passes the events on to the given {@code delegates} and records the time spent in them into the given {@code histogram}.
+     *
+     * @param delegates the appenders to pass the events on to
+     * @param histogram the histogram to record the time spent in the appenders to
+     */
+    ProfilingAppender(final List<Appender<ILoggingEvent>> delegates, final LatencyHistogram histogram) {
+        this.delegates = delegates;
+        this.histogram = histogram;
+    }
+
+    @Override
+    public void doAppend(final ILoggingEvent event) {
+        final long start = System.nanoTime();
+        try {
+            append(event);
+        } finally {
+            histogram.record(System.nanoTime() - start);
+        }
+    }
+
+    @Override
+    protected void append(final ILoggingEvent event) {
+        for (final Appender<ILoggingEvent> delegate : delegates) {
+            delegate.doAppend(event);
+        }
+    }
+}
@@ -0,0 +1,182 @@
+/**
+ * Copyright 2015 www.codereligion.com
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.codereligion.cherry.junit.logback;
+
+import ch.qos.logback.classic.Level;
+import ch.qos.logback.classic.Logger;
+import ch.qos.logback.classic.LoggerContext;
+import ch.qos.logback.classic.spi.ILoggingEvent;
+import ch.qos.logback.classic.spi.LoggingEvent;
+import ch.qos.logback.classic.turbo.TurboFilter;
+import ch.qos.logback.core.Appender;
+import ch.qos.logback.core.spi.FilterReply;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CopyOnWriteArrayList;
+import org.slf4j.Marker;
+
+/**
+ * Turbo filter which records events by routing them to appenders, without the need to change the level of any logger or to attach appenders to them. Turbo
+ * filters are consulted before logback checks the effective level of a logger, so events are recorded even if the logger is disabled for their level.
+ * <p/>
+ * The filter never influences whether an event is logged by the regular appenders of a logger, nor the result of level checks like {@code isDebugEnabled()}.
+ * Logging statements which are guarded by a level check are only recorded, if the logger is enabled for their level. Logback passes level checks to turbo
+ * filters without a message, parameters and throwable, so a logging statement with a {@code null} message and neither parameters nor a throwable can not be
+ * told apart from a level check and is not recorded either.
+ * <p/>
+ * Only one instance is installed per {@link ch.qos.logback.classic.LoggerContext} and routes are added and removed as recorders are attached and detached.
+ * The filter is removed from the context together with its last route, so that logging does not pay for it once no recorder is attached anymore.
+ *
+ * @author Sebastian Gr&ouml;bler
+ * @since 19.10.2026
+ */
+class RecordingTurboFilter extends TurboFilter {
+
+    /**
+     * Returns the filter of the given {@code loggerContext} or creates a new one, in case there is none yet. The filter is installed on the context with its
+     * first route.
+     *
+     * @param loggerContext the context to get the filter for
+     * @return the filter of the given context
+     */
+    static RecordingTurboFilter of(final LoggerContext loggerContext) {
+        synchronized (loggerContext) {
+            for (final TurboFilter turboFilter : loggerContext.getTurboFilterList()) {
+                if (turboFilter instanceof RecordingTurboFilter) {
+                    return (RecordingTurboFilter) turboFilter;
+                }
+            }
+
+            final RecordingTurboFilter recordingTurboFilter = new RecordingTurboFilter();
+            recordingTurboFilter.setContext(loggerContext);
+            recordingTurboFilter.start();
+            return recordingTurboFilter;
+        }
+    }
+
+    private final List<Route> routes = new CopyOnWriteArrayList<Route>();
+
+    private RecordingTurboFilter() {
+        setName(RecordingTurboFilter.class.getSimpleName());
+    }
+
+    /**
+     * Starts routing events to the given {@code appender} and installs this filter on its context, if it is not installed yet. An event is routed when its
+     * logger or one of its ancestors is contained in the given {@code levelsByLoggerName} and the event's level is greater or equal to the level of the nearest
+     * of them.
+     *
+     * @param levelsByLoggerName the minimum levels of the events to route by the name of the logger
+     * @param appender           the appender to route the events to
+     * @return the new route, which is needed to remove it again
+     */
+    Object addRoute(final Map<String, Level> levelsByLoggerName, final Appender<ILoggingEvent> appender) {
+        final LoggerContext loggerContext = (LoggerContext) getContext();
+        synchronized (loggerContext) {
+            final Route route = new Route(levelsByLoggerName, appender);
+            routes.add(route);
+            if (!loggerContext.getTurboFilterList().contains(this)) {
+                loggerContext.addTurboFilter(this);
+            }
+            return route;
+        }
+    }
+
+    /**
+     * Extends the given {@code route} by the logger with the given {@code loggerName}, as if it was contained in the levels passed to {@link
+     * #addRoute(java.util.Map, ch.qos.logback.core.Appender)}.
+     *
+     * @param route      the route to extend
+     * @param loggerName the name of the logger to add
+     * @param level      the minimum level of the events to route
+     */
+    void extendRoute(final Object route, final String loggerName, final Level level) {
+        ((Route) route).put(loggerName, level);
+    }
+
+    /**
+     * Stops routing events according to the given {@code route} and removes this filter from its context, if this was the last route.
+     *
+     * @param route the route to remove
+     */
+    void removeRoute(final Object route) {
+        final LoggerContext loggerContext = (LoggerContext) getContext();
+        synchronized (loggerContext) {
+            routes.remove(route);
+            if (routes.isEmpty()) {
+                loggerContext.getTurboFilterList().remove(this);
+            }
+        }
+    }
+
+    @Override
+    public FilterReply decide(final Marker marker,
+                              final Logger logger,
+                              final Level level,
+                              final String format,
+                              final Object[] params,
+                              final Throwable t) {
+
+        if (routes.isEmpty()) {
+            return FilterReply.NEUTRAL;
+        }
+
+        final String loggerName = logger.getName();
+        LoggingEvent event = null;
+        for (final Route route : routes) {
+            if (!route.routes(loggerName, level)) {
+                continue;
+            }
+
+            if (event == null) {
+                if (format == null && params == null && t == null) {
+                    // a level check or a logging statement which is indistinguishable from it
+                    return FilterReply.NEUTRAL;
+                }
+
+                event = new LoggingEvent(Logger.FQCN, logger, level, format, t, params);
+                event.setMarker(marker);
+            }
+            route.appender.doAppend(event);
+        }
+
+        return FilterReply.NEUTRAL;
+    }
+
+    private static class Route {
+
+        private final Appender<ILoggingEvent> appender;
+        private volatile Map<String, Level> levelsByLoggerName;
+
+        Route(final Map<String, Level> levelsByLoggerName, final Appender<ILoggingEvent> appender) {
+            this.levelsByLoggerName = new HashMap<String, Level>(levelsByLoggerName);
+            this.appender = appender;
+        }
+
+        synchronized void put(final String loggerName, final Level level) {
+            final Map<String, Level> copy = new HashMap<String, Level>(levelsByLoggerName);
+            copy.put(loggerName, level);
+            levelsByLoggerName = copy;
+        }
+
+        /**
+         * Looks up the level of the nearest specified logger, see {@link LogSpecs#isSpecified(java.util.Map, String, ch.qos.logback.classic.Level)}.
+         */
+        boolean routes(final String name, final Level eventLevel) {
+            return LogSpecs.isSpecified(levelsByLoggerName, name, eventLevel);
+        }
+    }
+}
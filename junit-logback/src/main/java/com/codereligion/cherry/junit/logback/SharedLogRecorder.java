@@ -0,0 +1,139 @@
+/**
+ * Copyright 2015 www.codereligion.com
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.codereligion.cherry.junit.logback;
+
+import ch.qos.logback.classic.spi.ILoggingEvent;
+import com.google.common.collect.Sets;
+import java.util.Collections;
+import java.util.List;
+import java.util.Set;
+import org.junit.rules.TestRule;
+import org.junit.runner.Description;
+import org.junit.runners.model.Statement;
+import static com.google.common.base.Preconditions.checkArgument;
+import static com.google.common.base.Preconditions.checkState;
+
+/**
+ * JUnit class rule which records all events emitted by the loggers specified in the given {@link com.codereligion.cherry.junit.logback.LogSpec LogSpecs} at
+ * the specified log level for all tests of a class or suite. In contrast to the {@link com.codereligion.cherry.junit.logback.LogRecorder}, the levels of the
+ * loggers are changed and the appender is attached only once, which avoids the repeated invalidation of logback's level caches for every single test.
+ * <p/>
+ * The recorded events are split into one partition per test, which requires to additionally use the rule returned by {@link #perTest()} as regular {@link
+ * org.junit.Rule}. Events logged by the thread running a test or by threads started by it are added to the partition of that test. Events logged by other
+ * threads are added to the partition of the only running test and dropped while several tests are running in parallel.
+ * <p/>
+ * Example usage:
+ * <pre>
+ * &#64;ClassRule
+ * public static SharedLogRecorder sharedLogRecorder = SharedLogRecorder.expectedLogs(new LogSpec(SomeType.class, Level.ERROR));
+ *
+ * &#64;Rule
+ * public TestRule perTest = sharedLogRecorder.perTest();
+ * </pre>
+ *
+ * @author Sebastian Gr&ouml;bler
+ * @since 19.10.2026
+ */
+public class SharedLogRecorder implements TestRule {
+
+    /**
+     * Creates a shared log recorder rule which records events for all logs specified by the given {@link com.codereligion.cherry.junit.logback.LogSpec}. If
+     * the same logger is specified multiple times with a different log level, then the last spec wins.
+     *
+     * @param logSpecs the to be expected logs
+     * @return a new {@link com.codereligion.cherry.junit.logback.SharedLogRecorder}
+     */
+    public static SharedLogRecorder expectedLogs(final LogSpec... logSpecs) {
+        return new SharedLogRecorder(logSpecs);
+    }
+
+    private final Set<LogSpec> logSpecs = Sets.newLinkedHashSet();
+    private final PartitioningAppender partitioningAppender = new PartitioningAppender();
+    private final LoggerAttachment loggerAttachment = new LoggerAttachment(logSpecs, partitioningAppender);
+
+    private SharedLogRecorder(final LogSpec... logSpecs) {
+        Collections.addAll(this.logSpecs, logSpecs);
+        checkArgument(!this.logSpecs.contains(null), "logSpec must not be null.");
+    }
+
+    @Override
+    public Statement apply(final Statement base, final Description description) {
+        return new Statement() {
+            @Override
+            public void evaluate() throws Throwable {
+                loggerAttachment.attach();
+                partitioningAppender.start();
+                try {
+                    base.evaluate();
+                } finally {
+                    partitioningAppender.stop();
+                    loggerAttachment.detach();
+                }
+            }
+        };
+    }
+
+    /**
+     * Returns the rule which opens a new partition for each test. It must be used as regular {@link org.junit.Rule} in conjunction with this class rule.
+     *
+     * @return a rule which partitions the recorded events per test, it fails each test with an {@link java.lang.IllegalStateException} when this class rule
+     * is not applied
+     */
+    public TestRule perTest() {
+        return new TestRule() {
+            @Override
+            public Statement apply(final Statement base, final Description description) {
+                return new Statement() {
+                    @Override
+                    public void evaluate() throws Throwable {
+                        checkState(partitioningAppender.isStarted(), "perTest() must be used in conjunction with the SharedLogRecorder as class rule.");
+
+                        final PartitioningAppender.Partition partition = partitioningAppender.open();
+                        try {
+                            base.evaluate();
+                        } finally {
+                            partitioningAppender.close(partition);
+                        }
+                    }
+                };
+            }
+        };
+    }
+
+    /**
+     * Returns all events recorded during the execution of the current test in the order they were logged.
+     *
+     * @return all events recorded for the current test
+     */
+    public List<ILoggingEvent> events() {
+        return partitioningAppender.currentEvents();
+    }
+
+    /**
+     * Returns the first event recorded during the execution of the current test, or throws an {@link java.lang.AssertionError}, in case no event was recorded.
+     *
+     * @return the first recorded event of the current test
+     * @throws java.lang.AssertionError when no event was recorded
+     */
+    public ILoggingEvent event() {
+        final List<ILoggingEvent> events = partitioningAppender.currentEvents();
+        if (events.isEmpty()) {
+            throw new AssertionError("No event was recorded during the test execution.");
+        }
+
+        return events.get(0);
+    }
+}
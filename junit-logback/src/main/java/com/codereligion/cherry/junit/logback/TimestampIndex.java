@@ -0,0 +1,121 @@
+/**
+ * Copyright 2015 www.codereligion.com
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.codereligion.cherry.junit.logback;
+
+import ch.qos.logback.classic.spi.ILoggingEvent;
+import java.util.Arrays;
+
+/**
+ * Index of the timestamps of the events appended to a {@link com.codereligion.cherry.junit.logback.ListAppender}, which allows to find the events logged
+ * within a time range by binary search. The timestamps are kept in fixed size segments of primitive {@code long} values, parallel to the appended events.
+ * The appender notifies the index right after each event was added to its list, so that no event is skipped when another listener fails.
+ * <p/>
+ * Events are usually appended in the order of their timestamps. Events of different threads may however be appended in a slightly different order than
+ * their timestamps suggest, in which case the index is marked as unordered and callers need to fall back to scanning the events. Appending is guarded by
+ * the appender, reading is thread-safe and reflects all timestamps appended before the last call to {@link #size()}.
+ *
+ * @author Sebastian Gr&ouml;bler
+ * @since 19.10.2026
+ */
+final class TimestampIndex implements AppendListener<ILoggingEvent> {
+
+    private static final int SEGMENT_SHIFT = 10;
+    private static final int SEGMENT_SIZE = 1 << SEGMENT_SHIFT;
+    private static final int SEGMENT_MASK = SEGMENT_SIZE - 1;
+
+    private volatile long[][] segments = new long[1][];
+    private volatile int size;
+    private volatile boolean ordered = true;
+
+    @Override
+    public void onAppend(final ILoggingEvent event) {
+
+        final int index = size;
+        final int segment = index >>> SEGMENT_SHIFT;
+        final long timeStamp = event.getTimeStamp();
+
+        long[][] current = segments;
+        if (segment == current.length) {
+            current = Arrays.copyOf(current, current.length * 2);
+            segments = current;
+        }
+        if (current[segment] == null) {
+            current[segment] = new long[SEGMENT_SIZE];
+        }
+
+        if (index > 0 && timeStamp < get(index - 1)) {
+            ordered = false;
+        }
+        current[segment][index & SEGMENT_MASK] = timeStamp;
+        size = index + 1;
+    }
+
+    @Override
+    public void afterAppend(final ILoggingEvent event) {
+        // the index are only updated while the monitor of the appender is held
+    }
+
+    @Override
+    public void onStop() {
+        // the index stays readable after the appender was stopped
+    }
+
+    /**
+     * @return the number of indexed timestamps
+     */
+    int size() {
+        return size;
+    }
+
+    /**
+     * @return {@code true} if all timestamps were appended in ascending order, so that the index can be searched
+     */
+    boolean isOrdered() {
+        return ordered;
+    }
+
+    /**
+     * Returns the timestamp at the given {@code index}.
+     *
+     * @param index the index of the timestamp
+     * @return the timestamp of the event at the given index
+     */
+    long get(final int index) {
+        return segments[index >>> SEGMENT_SHIFT][index & SEGMENT_MASK];
+    }
+
+    /**
+     * Finds the index of the first timestamp which is not less than the given {@code timeStamp} among the first {@code size} timestamps, using binary search.
+     * The result is only meaningful if the index {@link #isOrdered() is ordered}.
+     *
+     * @param timeStamp the timestamp to search for
+     * @param size      the number of timestamps to search
+     * @return the index of the first timestamp which is greater than or equal to the given one, or {@code size} if there is none
+     */
+    int indexOf(final long timeStamp, final int size) {
+        int low = 0;
+        int high = size;
+        while (low < high) {
+            final int middle = (low + high) >>> 1;
+            if (get(middle) < timeStamp) {
+                low = middle + 1;
+            } else {
+                high = middle;
+            }
+        }
+        return low;
+    }
+}
@@ -0,0 +1,119 @@
+/**
+ * Copyright 2015 www.codereligion.com
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.codereligion.cherry.junit.logback;
+
+import ch.qos.logback.classic.Level;
+import ch.qos.logback.classic.Logger;
+import ch.qos.logback.classic.LoggerContext;
+import ch.qos.logback.classic.spi.ILoggingEvent;
+import ch.qos.logback.core.Appender;
+import com.google.common.collect.Maps;
+import com.google.common.collect.Sets;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Routes the events of the loggers specified by a set of {@link com.codereligion.cherry.junit.logback.LogSpec LogSpecs} to an {@link
+ * ch.qos.logback.core.Appender} through the {@link com.codereligion.cherry.junit.logback.RecordingTurboFilter} of their logger context. In contrast to the
+ * {@link com.codereligion.cherry.junit.logback.LoggerAttachment}, neither levels nor appenders of the loggers are changed, so that logback does not need to
+ * update the effective levels of the logger hierarchy.
+ * <p/>
+ * Loggers matching pattern based specs, which are used for the first time after the attachment, are added to the route once the {@link
+ * com.codereligion.cherry.junit.logback.LoggerTrie} notifies about them.
+ *
+ * @author Sebastian Gr&ouml;bler
+ * @since 19.10.2026
+ */
+class TurboFilterAttachment implements Attachment, LoggerTrie.Listener {
+
+    private final Iterable<LogSpec> logSpecs;
+    private final Appender<ILoggingEvent> appender;
+    private final Map<LoggerContext, RouteHandle> routes = Maps.newHashMap();
+    private final Set<LoggerTrie> loggerTries = Sets.newHashSet();
+
+    /**
+     * Creates a new instance for the given {@code logSpecs} and {@code appender}.
+     *
+     * @param logSpecs the specs which define the loggers and levels
+     * @param appender the appender to route the events to
+     */
+    TurboFilterAttachment(final Iterable<LogSpec> logSpecs, final Appender<ILoggingEvent> appender) {
+        this.logSpecs = logSpecs;
+        this.appender = appender;
+    }
+
+    @Override
+    public synchronized void attach() {
+        for (final LoggerTrie loggerTrie : LogSpecs.triesOf(logSpecs)) {
+            loggerTrie.addListener(this);
+            loggerTries.add(loggerTrie);
+        }
+
+        // routes are added for every context upfront, as filters installed while an event passes the chain do not see that event
+        final Map<LoggerContext, Map<String, Level>> levelsByContext = Maps.newLinkedHashMap();
+        for (final LogSpec logSpec : logSpecs) {
+            if (!levelsByContext.containsKey(logSpec.getLoggerContext())) {
+                levelsByContext.put(logSpec.getLoggerContext(), Maps.<String, Level>newHashMap());
+            }
+        }
+        for (final Map.Entry<Logger, Level> entry : LogSpecs.resolve(logSpecs).entrySet()) {
+            final Logger logger = entry.getKey();
+            levelsByContext.get(logger.getLoggerContext()).put(logger.getName(), entry.getValue());
+        }
+
+        for (final Map.Entry<LoggerContext, Map<String, Level>> entry : levelsByContext.entrySet()) {
+            final RecordingTurboFilter recordingTurboFilter = RecordingTurboFilter.of(entry.getKey());
+            routes.put(entry.getKey(), new RouteHandle(recordingTurboFilter, recordingTurboFilter.addRoute(entry.getValue(), appender)));
+        }
+    }
+
+    @Override
+    public synchronized void onLoggerAdded(final Logger logger) {
+        final RouteHandle routeHandle = routes.get(logger.getLoggerContext());
+        if (routeHandle == null) {
+            return;
+        }
+
+        final Level level = LogSpecs.patternLevelOf(logSpecs, logger);
+        if (level != null) {
+            routeHandle.recordingTurboFilter.extendRoute(routeHandle.route, logger.getName(), level);
+        }
+    }
+
+    @Override
+    public synchronized void detach() {
+        for (final LoggerTrie loggerTrie : loggerTries) {
+            loggerTrie.removeListener(this);
+        }
+        loggerTries.clear();
+
+        for (final RouteHandle routeHandle : routes.values()) {
+            routeHandle.recordingTurboFilter.removeRoute(routeHandle.route);
+        }
+        routes.clear();
+    }
+
+    private static class RouteHandle {
+
+        private final RecordingTurboFilter recordingTurboFilter;
+        private final Object route;
+
+        RouteHandle(final RecordingTurboFilter recordingTurboFilter, final Object route) {
+            this.recordingTurboFilter = recordingTurboFilter;
+            this.route = route;
+        }
+    }
+}
@@ -0,0 +1,241 @@
+/**
+ * Copyright 2015 www.codereligion.com
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.codereligion.cherry.junit.logback;
+
+import ch.qos.logback.classic.Level;
+import ch.qos.logback.classic.LoggerContext;
+import ch.qos.logback.classic.turbo.TurboFilter;
+import com.google.common.base.Strings;
+import com.sun.management.ThreadMXBean;
+import java.lang.management.ManagementFactory;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.ExpectedException;
+import org.junit.runner.Description;
+import org.junit.runners.model.Statement;
+import org.slf4j.LoggerFactory;
+import static com.codereligion.cherry.junit.logback.LogAllocationMatcher.allocatedAtMost;
+import static org.hamcrest.core.Is.is;
+import static org.junit.Assert.assertThat;
+
+/**
+ * Tests {@link com.codereligion.cherry.junit.logback.AllocationTracker}.
+ *
+ * @author Sebastian Gr&ouml;bler
+ * @since 19.10.2026
+ */
+public class AllocationTrackerTest {
+
+    @Rule
+    public final ExpectedException expectedException = ExpectedException.none();
+
+    @Test
+    public void nullLogSpecCausesIllegalArgumentException() {
+
+        // expect
+        expectedException.expect(IllegalArgumentException.class);
+        expectedException.expectMessage("logSpec must not be null.");
+
+        // when
+        AllocationTracker.tracking((LogSpec) null);
+    }
+
+    @Test
+    public void nullBudgetCausesIllegalArgumentException() {
+
+        // expect
+        expectedException.expect(IllegalArgumentException.class);
+        expectedException.expectMessage("budget must not be null.");
+
+        // when
+        AllocationTracker.tracking(new LogSpec("allocations", Level.INFO)).withBudget(null);
+    }
+
+    @Test
+    public void attributesAllocationsToLoggerAndTemplate() throws Throwable {
+
+        // given
+        final String argument = Strings.repeat("x", 10000);
+        final AllocationTracker allocationTracker = AllocationTracker.tracking(new LogSpec("allocations", Level.INFO));
+
+        // when
+        allocationTracker.apply(new Statement() {
+            @Override
+            public void evaluate() throws Throwable {
+                LoggerFactory.getLogger("allocations").info("large {}", argument);
+                LoggerFactory.getLogger("allocations").info("small");
+                LoggerFactory.getLogger("allocations").debug("disabled {}", argument);
+            }
+        }, Description.EMPTY).evaluate();
+
+        // then
+        final LogAllocations allocations = allocationTracker.allocations();
+        assertThat(allocations.count(), is(2L));
+        assertThat(allocations.allocatedBytes("allocations", "large {}") >= 10000, is(true));
+        assertThat(allocations.allocatedBytes("allocations", "small") < allocations.allocatedBytes("allocations", "large {}"), is(true));
+        assertThat(allocations.allocatedBytes("allocations", "disabled {}"), is(0L));
+    }
+
+    @Test
+    public void attributesAllocationsOfArgumentsUsingOtherLoggersToEnclosingStatement() throws Throwable {
+
+        // given
+        final AllocationTracker allocationTracker = AllocationTracker.tracking(new LogSpec("allocations", Level.INFO));
+        final Object argument = new Object() {
+
+            private char[] rendered;
+
+            @Override
+            public String toString() {
+                rendered = new char[10000];
+                LoggerFactory.getLogger("untracked").isDebugEnabled();
+                LoggerFactory.getLogger("untracked").info("rendering");
+                return String.valueOf(rendered.length);
+            }
+        };
+
+        // when
+        allocationTracker.apply(new Statement() {
+            @Override
+            public void evaluate() throws Throwable {
+                LoggerFactory.getLogger("allocations").info("rendered {}", argument);
+            }
+        }, Description.EMPTY).evaluate();
+
+        // then
+        final LogAllocations allocations = allocationTracker.allocations();
+        assertThat(allocations.count(), is(1L));
+        assertThat(allocations.allocatedBytes("allocations", "rendered {}") >= 20000, is(true));
+    }
+
+    @Test
+    public void ignoresStatementsOfOtherThreads() throws Throwable {
+
+        // given
+        final AllocationTracker allocationTracker = AllocationTracker.tracking(new LogSpec("allocations", Level.INFO));
+
+        // when
+        allocationTracker.apply(new Statement() {
+            @Override
+            public void evaluate() throws Throwable {
+                final Thread thread = new Thread(new Runnable() {
+                    @Override
+                    public void run() {
+                        LoggerFactory.getLogger("allocations").info("other thread");
+                    }
+                });
+                thread.start();
+                thread.join();
+            }
+        }, Description.EMPTY).evaluate();
+
+        // then
+        assertThat(allocationTracker.allocations().count(), is(0L));
+    }
+
+    @Test
+    public void failsTestWhichExceedsBudget() throws Throwable {
+
+        // given
+        final String argument = Strings.repeat("x", 10000);
+        final AllocationTracker allocationTracker = AllocationTracker.tracking(new LogSpec("allocations", Level.INFO)).withBudget(allocatedAtMost(2048));
+
+        // expect
+        expectedException.expect(AssertionError.class);
+        expectedException.expectMessage("Expected logging allocations of: at most 2048 bytes allocated by logging statements\n     but: allocated ");
+
+        // when
+        allocationTracker.apply(new Statement() {
+            @Override
+            public void evaluate() throws Throwable {
+                LoggerFactory.getLogger("allocations").info("large {}", argument);
+            }
+        }, Description.EMPTY).evaluate();
+    }
+
+    @Test
+    public void keepsTurboFilterFirstWhenPatternSpecsAreRecorded() throws Throwable {
+
+        // given
+        final AllocationTracker allocationTracker = AllocationTracker.tracking(new LogSpec("allocations", Level.INFO));
+        final LogRecorder logRecorder = LogRecorder.expectedLogs(LogSpec.matching("allocations.**", Level.INFO));
+        final LoggerContext loggerContext = (LoggerContext) LoggerFactory.getILoggerFactory();
+        final List<String> turboFilterNames = new ArrayList<String>();
+
+        // when
+        allocationTracker.apply(logRecorder.apply(new Statement() {
+            @Override
+            public void evaluate() throws Throwable {
+                for (final TurboFilter turboFilter : loggerContext.getTurboFilterList()) {
+                    turboFilterNames.add(turboFilter.getName());
+                }
+            }
+        }, Description.EMPTY), Description.EMPTY).evaluate();
+
+        // then
+        assertThat(turboFilterNames.subList(0, 2), is(Arrays.asList("AllocationTracker", "LoggerTrie")));
+    }
+
+    @Test
+    public void restoresDisabledThreadAllocationMeasurement() throws Throwable {
+
+        // given
+        final AllocationTracker allocationTracker = AllocationTracker.tracking(new LogSpec("allocations", Level.INFO));
+        final ThreadMXBean threadMXBean = (ThreadMXBean) ManagementFactory.getThreadMXBean();
+        final boolean enabled = threadMXBean.isThreadAllocatedMemoryEnabled();
+        final List<Boolean> enabledDuringTest = new ArrayList<Boolean>();
+        threadMXBean.setThreadAllocatedMemoryEnabled(false);
+
+        // when
+        try {
+            allocationTracker.apply(new Statement() {
+                @Override
+                public void evaluate() throws Throwable {
+                    enabledDuringTest.add(threadMXBean.isThreadAllocatedMemoryEnabled());
+                }
+            }, Description.EMPTY).evaluate();
+
+            // then
+            assertThat(enabledDuringTest, is(Arrays.asList(true)));
+            assertThat(threadMXBean.isThreadAllocatedMemoryEnabled(), is(false));
+        } finally {
+            threadMXBean.setThreadAllocatedMemoryEnabled(enabled);
+        }
+    }
+
+    @Test
+    public void removesTurboFilterWhenTestIsFinished() throws Throwable {
+
+        // given
+        final AllocationTracker allocationTracker = AllocationTracker.tracking(new LogSpec("allocations", Level.INFO));
+        final LoggerContext loggerContext = (LoggerContext) LoggerFactory.getILoggerFactory();
+        final int turboFilters = loggerContext.getTurboFilterList().size();
+
+        // when
+        allocationTracker.apply(new Statement() {
+            @Override
+            public void evaluate() throws Throwable {
+                assertThat(loggerContext.getTurboFilterList().size(), is(turboFilters + 1));
+            }
+        }, Description.EMPTY).evaluate();
+
+        // then
+        assertThat(loggerContext.getTurboFilterList().size(), is(turboFilters));
+    }
+}
@@ -0,0 +1,119 @@
+/**
+ * Copyright 2015 www.codereligion.com
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.codereligion.cherry.junit.logback;
+
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.ExpectedException;
+import static org.hamcrest.core.Is.is;
+import static org.junit.Assert.assertThat;
+
+/**
+ * Tests {@link com.codereligion.cherry.junit.logback.AppenderProfile}.
+ *
+ * @author Sebastian Gr&ouml;bler
+ * @since 19.10.2026
+ */
+public class AppenderProfileTest {
+
+    @Rule
+    public final ExpectedException expectedException = ExpectedException.none();
+
+    @Test
+    public void percentileThrowsIllegalArgumentExceptionWhenOutOfRange() {
+
+        // expect
+        expectedException.expect(IllegalArgumentException.class);
+        expectedException.expectMessage("percentile must be between 0 and 100.");
+
+        // when
+        profileOf().percentileNanos(100.1);
+    }
+
+    @Test
+    public void emptyProfileReportsZero() {
+
+        // given
+        final AppenderProfile profile = profileOf();
+
+        // then
+        assertThat(profile.count(), is(0L));
+        assertThat(profile.p50Nanos(), is(0L));
+        assertThat(profile.p99Nanos(), is(0L));
+        assertThat(profile.maxNanos(), is(0L));
+    }
+
+    @Test
+    public void reportsExactValuesBelowSubBucketCount() {
+
+        // given
+        final AppenderProfile profile = profileOf(1, 2, 3, 4, 5, 6, 7, 8, 9, 10);
+
+        // then
+        assertThat(profile.count(), is(10L));
+        assertThat(profile.totalNanos(), is(55L));
+        assertThat(profile.p50Nanos(), is(5L));
+        assertThat(profile.percentileNanos(90), is(9L));
+        assertThat(profile.p99Nanos(), is(10L));
+        assertThat(profile.maxNanos(), is(10L));
+    }
+
+    @Test
+    public void reportsLargeValuesWithinRelativeError() {
+
+        // given
+        final long[] values = new long[100];
+        for (int i = 0; i < values.length; i++) {
+            values[i] = (i + 1) * 1000000L;
+        }
+        final AppenderProfile profile = profileOf(values);
+
+        // then
+        assertThat(Math.abs(profile.p50Nanos() - 50000000L) <= 50000000L / 25, is(true));
+        assertThat(profile.p50Nanos() >= 50000000L, is(true));
+        assertThat(Math.abs(profile.p99Nanos() - 99000000L) <= 99000000L / 25, is(true));
+        assertThat(profile.maxNanos(), is(100000000L));
+    }
+
+    @Test
+    public void recordsLargestPossibleValue() {
+
+        // given
+        final AppenderProfile profile = profileOf(Long.MAX_VALUE);
+
+        // then
+        assertThat(profile.p50Nanos(), is(Long.MAX_VALUE));
+        assertThat(profile.maxNanos(), is(Long.MAX_VALUE));
+    }
+
+    @Test
+    public void toStringContainsPercentiles() {
+
+        // given
+        final AppenderProfile profile = profileOf(1, 2, 3);
+
+        // then
+        assertThat(profile.toString(), is("AppenderProfile{logger=foo, count=3, p50Nanos=2, p99Nanos=3, maxNanos=3}"));
+    }
+
+    static AppenderProfile profileOf(final long... values) {
+        final LatencyHistogram histogram = new LatencyHistogram();
+        for (final long value : values) {
+            histogram.record(value);
+        }
+        return new AppenderProfile("foo", histogram);
+    }
+}
@@ -0,0 +1,188 @@
+/**
+ * Copyright 2015 www.codereligion.com
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.codereligion.cherry.junit.logback;
+
+import ch.qos.logback.classic.Logger;
+import ch.qos.logback.classic.spi.ILoggingEvent;
+import ch.qos.logback.core.Appender;
+import ch.qos.logback.core.AppenderBase;
+import com.google.common.collect.Lists;
+import java.util.Iterator;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.ExpectedException;
+import org.junit.runner.Description;
+import org.junit.runners.model.Statement;
+import org.slf4j.LoggerFactory;
+import static com.codereligion.cherry.junit.logback.LogOverheadMatcher.p99OverheadAtMost;
+import static org.hamcrest.core.Is.is;
+import static org.hamcrest.core.IsSame.sameInstance;
+import static org.junit.Assert.assertThat;
+
+/**
+ * Tests {@link com.codereligion.cherry.junit.logback.AppenderProfiler}.
+ *
+ * @author Sebastian Gr&ouml;bler
+ * @since 19.10.2026
+ */
+public class AppenderProfilerTest {
+
+    @Rule
+    public final ExpectedException expectedException = ExpectedException.none();
+
+    private final Logger logger = (Logger) LoggerFactory.getLogger("profiled");
+    private final SlowAppender slowAppender = new SlowAppender();
+
+    @Before
+    public void attachSlowAppender() {
+        slowAppender.setContext(logger.getLoggerContext());
+        slowAppender.start();
+        logger.addAppender(slowAppender);
+    }
+
+    @After
+    public void detachSlowAppender() {
+        logger.detachAppender(slowAppender);
+    }
+
+    @Test
+    public void nullLoggerNameCausesIllegalArgumentException() {
+
+        // expect
+        expectedException.expect(IllegalArgumentException.class);
+        expectedException.expectMessage("loggerName must not be null.");
+
+        // when
+        AppenderProfiler.profiling((String) null);
+    }
+
+    @Test
+    public void nullBudgetCausesIllegalArgumentException() {
+
+        // expect
+        expectedException.expect(IllegalArgumentException.class);
+        expectedException.expectMessage("budget must not be null.");
+
+        // when
+        AppenderProfiler.profiling("profiled").withBudget(null);
+    }
+
+    @Test
+    public void profileOfUnprofiledLoggerCausesIllegalArgumentException() {
+
+        // expect
+        expectedException.expect(IllegalArgumentException.class);
+        expectedException.expectMessage("logger other is not profiled.");
+
+        // when
+        AppenderProfiler.profiling("profiled").profileOf("other");
+    }
+
+    @Test
+    public void measuresTimeSpentInAppenders() throws Throwable {
+
+        // given
+        final AppenderProfiler appenderProfiler = AppenderProfiler.profiling("profiled");
+
+        // when
+        appenderProfiler.apply(new Statement() {
+            @Override
+            public void evaluate() throws Throwable {
+                for (int i = 0; i < 5; i++) {
+                    LoggerFactory.getLogger("profiled.child").info("event {}", i);
+                }
+            }
+        }, Description.EMPTY).evaluate();
+
+        // then
+        final AppenderProfile profile = appenderProfiler.profileOf("profiled");
+        assertThat(slowAppender.appended, is(5));
+        assertThat(profile.count(), is(5L));
+        assertThat(profile.p50Nanos() >= TimeUnit.MILLISECONDS.toNanos(1), is(true));
+        assertThat(profile.maxNanos() >= profile.p99Nanos(), is(true));
+        assertThat(appenderProfiler.profiles().size(), is(1));
+    }
+
+    @Test
+    public void restoresAppendersWhenTestIsFinished() throws Throwable {
+
+        // given
+        final AppenderProfiler appenderProfiler = AppenderProfiler.profiling("profiled");
+
+        // when
+        try {
+            appenderProfiler.apply(new Statement() {
+                @Override
+                public void evaluate() throws Throwable {
+                    throw new IllegalStateException("failing test");
+                }
+            }, Description.EMPTY).evaluate();
+        } catch (final IllegalStateException e) {
+            // expected
+        }
+
+        // then
+        final List<Appender<ILoggingEvent>> appenders = appendersOf(logger);
+        assertThat(appenders.size(), is(1));
+        assertThat(appenders.get(0), sameInstance((Appender<ILoggingEvent>) slowAppender));
+    }
+
+    @Test
+    public void failsTestWhichExceedsBudget() throws Throwable {
+
+        // given
+        final AppenderProfiler appenderProfiler = AppenderProfiler.profiling("profiled").withBudget(p99OverheadAtMost(1, TimeUnit.NANOSECONDS));
+
+        // expect
+        expectedException.expect(AssertionError.class);
+        expectedException.expectMessage("Expected logging overhead of: p99 of at most 1 NANOSECONDS per event\n     but: p99 was ");
+
+        // when
+        appenderProfiler.apply(new Statement() {
+            @Override
+            public void evaluate() throws Throwable {
+                logger.info("slow");
+            }
+        }, Description.EMPTY).evaluate();
+    }
+
+    private static List<Appender<ILoggingEvent>> appendersOf(final Logger logger) {
+        final List<Appender<ILoggingEvent>> appenders = Lists.newArrayList();
+        for (final Iterator<Appender<ILoggingEvent>> iterator = logger.iteratorForAppenders(); iterator.hasNext(); ) {
+            appenders.add(iterator.next());
+        }
+        return appenders;
+    }
+
+    private static class SlowAppender extends AppenderBase<ILoggingEvent> {
+
+        private int appended;
+
+        @Override
+        protected void append(final ILoggingEvent event) {
+            appended++;
+            try {
+                Thread.sleep(1);
+            } catch (final InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }
+    }
+}
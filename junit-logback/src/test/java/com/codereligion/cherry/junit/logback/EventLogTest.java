@@ -0,0 +1,206 @@
+/**
+ * Copyright 2015 www.codereligion.com
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.codereligion.cherry.junit.logback;
+
+import ch.qos.logback.classic.Level;
+import ch.qos.logback.classic.Logger;
+import ch.qos.logback.classic.LoggerContext;
+import ch.qos.logback.classic.spi.ILoggingEvent;
+import ch.qos.logback.classic.spi.IThrowableProxy;
+import ch.qos.logback.classic.spi.LoggingEvent;
+import com.google.common.base.Strings;
+import com.google.common.collect.ImmutableMap;
+import com.google.common.collect.Lists;
+import com.google.common.io.Files;
+import java.io.File;
+import java.io.IOException;
+import java.util.Iterator;
+import java.util.List;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.ExpectedException;
+import org.junit.rules.TemporaryFolder;
+import org.slf4j.MarkerFactory;
+import static org.hamcrest.core.Is.is;
+import static org.hamcrest.core.IsNull.nullValue;
+import static org.junit.Assert.assertThat;
+
+/**
+ * Tests {@link com.codereligion.cherry.junit.logback.EventLog}.
+ *
+ * @author Sebastian Gr&ouml;bler
+ * @since 19.10.2026
+ */
+public class EventLogTest {
+
+    @Rule
+    public final ExpectedException expectedException = ExpectedException.none();
+
+    @Rule
+    public final TemporaryFolder temporaryFolder = new TemporaryFolder();
+
+    private final Logger logger = new LoggerContext().getLogger("foo");
+
+    @Test
+    public void openThrowsIllegalArgumentExceptionOnNullFile() {
+
+        // expect
+        expectedException.expect(IllegalArgumentException.class);
+        expectedException.expectMessage("file must not be null.");
+
+        // when
+        EventLog.open(null);
+    }
+
+    @Test
+    public void readsPersistedEvent() throws IOException {
+
+        // given
+        final LoggingEvent event = new LoggingEvent(Logger.class.getName(), logger, Level.WARN, "some {} message", null, new Object[]{42});
+        event.setMarker(MarkerFactory.getMarker("someMarker"));
+        event.setMDCPropertyMap(ImmutableMap.of("key", "value"));
+        final File file = persist(event);
+
+        // when
+        final ILoggingEvent persisted = readAll(file).get(0);
+
+        // then
+        assertThat(persisted.getTimeStamp(), is(event.getTimeStamp()));
+        assertThat(persisted.getLevel(), is(Level.WARN));
+        assertThat(persisted.getLoggerName(), is("foo"));
+        assertThat(persisted.getThreadName(), is(Thread.currentThread().getName()));
+        assertThat(persisted.getMessage(), is("some {} message"));
+        assertThat(persisted.getFormattedMessage(), is("some 42 message"));
+        assertThat(persisted.getArgumentArray()[0], is((Object) "42"));
+        assertThat(persisted.getMarker().getName(), is("someMarker"));
+        assertThat(persisted.getMDCPropertyMap().get("key"), is("value"));
+        assertThat(persisted.hasCallerData(), is(false));
+        assertThat(persisted.getThrowableProxy(), is(nullValue()));
+    }
+
+    @Test
+    public void readsPersistedThrowableWithCauseAndStackFrames() throws IOException {
+
+        // given
+        final IllegalStateException throwable = new IllegalStateException("outer", new NullPointerException());
+        final LoggingEvent event = new LoggingEvent(Logger.class.getName(), logger, Level.ERROR, "failed", throwable, null);
+        final File file = persist(event);
+
+        // when
+        final IThrowableProxy persisted = readAll(file).get(0).getThrowableProxy();
+
+        // then
+        assertThat(persisted.getClassName(), is(IllegalStateException.class.getName()));
+        assertThat(persisted.getMessage(), is("outer"));
+        assertThat(persisted.getStackTraceElementProxyArray()[0].getStackTraceElement(), is(throwable.getStackTrace()[0]));
+        assertThat(persisted.getCause().getClassName(), is(NullPointerException.class.getName()));
+        assertThat(persisted.getCause().getMessage(), is(nullValue()));
+        assertThat(persisted.getCause().getCommonFrames(), is(event.getThrowableProxy().getCause().getCommonFrames()));
+        assertThat(persisted.getCause().getCause(), is(nullValue()));
+    }
+
+    @Test
+    public void readsEventsLargerThanOneBatch() throws IOException {
+
+        // given
+        final String message = Strings.repeat("a", 200000);
+        final File file = persist(new LoggingEvent(Logger.class.getName(), logger, Level.INFO, "first", null, null),
+                                  new LoggingEvent(Logger.class.getName(), logger, Level.INFO, message, null, null),
+                                  new LoggingEvent(Logger.class.getName(), logger, Level.INFO, "last", null, null));
+
+        // when
+        final List<ILoggingEvent> persisted = readAll(file);
+
+        // then
+        assertThat(persisted.size(), is(3));
+        assertThat(persisted.get(0).getMessage(), is("first"));
+        assertThat(persisted.get(1).getMessage(), is(message));
+        assertThat(persisted.get(2).getMessage(), is("last"));
+    }
+
+    @Test
+    public void streamsManyEventsInOrderOnEveryIteration() throws IOException {
+
+        // given
+        final List<ILoggingEvent> events = Lists.newArrayList();
+        for (int i = 0; i < 20000; i++) {
+            events.add(new LoggingEvent(Logger.class.getName(), logger, Level.INFO, "message " + i, null, null));
+        }
+        final File file = temporaryFolder.newFile();
+        EventLogWriter.write(file, events);
+        final EventLog eventLog = EventLog.open(file);
+
+        // when
+        final Iterator<ILoggingEvent> abandoned = eventLog.iterator();
+        abandoned.next();
+        final List<ILoggingEvent> persisted = Lists.newArrayList(eventLog);
+        eventLog.close();
+
+        // then
+        assertThat(persisted.size(), is(20000));
+        for (int i = 0; i < 20000; i++) {
+            assertThat(persisted.get(i).getMessage(), is("message " + i));
+        }
+    }
+
+    @Test
+    public void iteratorThrowsIllegalStateExceptionOnFileWhichIsNoEventLog() throws IOException {
+
+        // expect
+        expectedException.expect(IllegalStateException.class);
+        expectedException.expectMessage("Could not read events from");
+
+        // given
+        final File file = temporaryFolder.newFile();
+        Files.write(new byte[]{1, 2, 3, 4, 5, 6, 7, 8}, file);
+
+        // when
+        EventLog.open(file).iterator();
+    }
+
+    @Test
+    public void iteratorThrowsIllegalStateExceptionOnTruncatedFile() throws IOException {
+
+        // expect
+        expectedException.expect(IllegalStateException.class);
+        expectedException.expectMessage("Could not read events from");
+
+        // given
+        final File file = persist(new LoggingEvent(Logger.class.getName(), logger, Level.INFO, "message", null, null));
+        final byte[] bytes = Files.toByteArray(file);
+        final byte[] truncated = new byte[bytes.length - 3];
+        System.arraycopy(bytes, 0, truncated, 0, truncated.length);
+        Files.write(truncated, file);
+
+        // when
+        readAll(file);
+    }
+
+    private File persist(final ILoggingEvent... events) throws IOException {
+        final File file = temporaryFolder.newFile();
+        EventLogWriter.write(file, Lists.newArrayList(events));
+        return file;
+    }
+
+    private static List<ILoggingEvent> readAll(final File file) throws IOException {
+        final EventLog eventLog = EventLog.open(file);
+        try {
+            return Lists.newArrayList(eventLog);
+        } finally {
+            eventLog.close();
+        }
+    }
+}
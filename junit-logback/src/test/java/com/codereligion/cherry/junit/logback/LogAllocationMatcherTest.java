@@ -0,0 +1,99 @@
+/**
+ * Copyright 2015 www.codereligion.com
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.codereligion.cherry.junit.logback;
+
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.ExpectedException;
+import static com.codereligion.cherry.junit.logback.LogAllocationMatcher.allocatedAtMost;
+import static com.codereligion.cherry.junit.logback.LogAllocationMatcher.allocatedAtMostPerStatement;
+import static com.codereligion.cherry.junit.logback.LogAllocationsTest.allocationsOf;
+import static org.junit.Assert.assertThat;
+
+/**
+ * Tests {@link com.codereligion.cherry.junit.logback.LogAllocationMatcher}.
+ *
+ * @author Sebastian Gr&ouml;bler
+ * @since 19.10.2026
+ */
+public class LogAllocationMatcherTest {
+
+    @Rule
+    public final ExpectedException expectedException = ExpectedException.none();
+
+    @Test
+    public void throwsIllegalArgumentExceptionOnNegativeBytes() {
+
+        // expect
+        expectedException.expect(IllegalArgumentException.class);
+        expectedException.expectMessage("bytes must not be negative.");
+
+        // when
+        allocatedAtMostPerStatement(-1);
+    }
+
+    @Test
+    public void throwsIllegalArgumentExceptionOnNullLoggerName() {
+
+        // expect
+        expectedException.expect(IllegalArgumentException.class);
+        expectedException.expectMessage("loggerName must not be null.");
+
+        // when
+        allocatedAtMost(1, null);
+    }
+
+    @Test
+    public void matchesWhenAllocationsAreWithinBudget() {
+        assertThat(allocationsOf(), allocatedAtMost(1100));
+        assertThat(allocationsOf(), allocatedAtMost(100, "bar"));
+        assertThat(allocationsOf(), allocatedAtMostPerStatement(400));
+    }
+
+    @Test
+    public void doesNotMatchWhenTotalAllocationsExceedBudget() {
+
+        // expect
+        expectedException.expect(AssertionError.class);
+        expectedException.expectMessage("Expected: at most 1024 bytes allocated by logging statements\n" +
+                                        "     but: allocated 1100 bytes in LogAllocations{allocatedBytes=1100");
+
+        // when
+        assertThat(allocationsOf(), allocatedAtMost(1024));
+    }
+
+    @Test
+    public void doesNotMatchWhenAllocationsOfLoggerExceedBudget() {
+
+        // expect
+        expectedException.expect(AssertionError.class);
+        expectedException.expectMessage("Expected: at most 999 bytes allocated by logging statements of foo\n     but: allocated 1000 bytes");
+
+        // when
+        assertThat(allocationsOf(), allocatedAtMost(999, "foo"));
+    }
+
+    @Test
+    public void doesNotMatchWhenSingleStatementExceedsBudget() {
+
+        // expect
+        expectedException.expect(AssertionError.class);
+        expectedException.expectMessage("Expected: at most 399 bytes allocated per logging statement\n     but: allocated 400 bytes");
+
+        // when
+        assertThat(allocationsOf(), allocatedAtMostPerStatement(399));
+    }
+}
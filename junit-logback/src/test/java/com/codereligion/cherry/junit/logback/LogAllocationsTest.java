@@ -0,0 +1,90 @@
+/**
+ * Copyright 2015 www.codereligion.com
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.codereligion.cherry.junit.logback;
+
+import com.google.common.collect.Maps;
+import java.util.Map;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.ExpectedException;
+import static org.hamcrest.core.Is.is;
+import static org.junit.Assert.assertThat;
+
+/**
+ * Tests {@link com.codereligion.cherry.junit.logback.LogAllocations}.
+ *
+ * @author Sebastian Gr&ouml;bler
+ * @since 19.10.2026
+ */
+public class LogAllocationsTest {
+
+    @Rule
+    public final ExpectedException expectedException = ExpectedException.none();
+
+    private final LogAllocations allocations = allocationsOf();
+
+    @Test
+    public void allocatedBytesThrowsIllegalArgumentExceptionOnNullLoggerName() {
+
+        // expect
+        expectedException.expect(IllegalArgumentException.class);
+        expectedException.expectMessage("loggerName must not be null.");
+
+        // when
+        allocations.allocatedBytes(null);
+    }
+
+    @Test
+    public void allocatedBytesThrowsIllegalArgumentExceptionOnNullMessageTemplate() {
+
+        // expect
+        expectedException.expect(IllegalArgumentException.class);
+        expectedException.expectMessage("messageTemplate must not be null.");
+
+        // when
+        allocations.allocatedBytes("foo", null);
+    }
+
+    @Test
+    public void sumsAllocationsByLoggerAndTemplate() {
+        assertThat(allocations.count(), is(6L));
+        assertThat(allocations.allocatedBytes(), is(1100L));
+        assertThat(allocations.allocatedBytes("foo"), is(1000L));
+        assertThat(allocations.allocatedBytes("foo", "retrying {}"), is(600L));
+        assertThat(allocations.allocatedBytes("foo", "unknown"), is(0L));
+        assertThat(allocations.allocatedBytes("unknown"), is(0L));
+        assertThat(allocations.maxAllocatedBytes(), is(400L));
+    }
+
+    @Test
+    public void toStringRendersStatementsWithMostAllocations() {
+        assertThat(allocations.toString(), is("LogAllocations{allocatedBytes=1100, count=6, top=[foo 'retrying {}' 2x 600 bytes, foo 'done' 3x 400 bytes, " +
+                                              "bar 'started' 1x 100 bytes]}"));
+    }
+
+    static LogAllocations allocationsOf() {
+        final Map<String, long[]> fooAllocations = Maps.newHashMap();
+        fooAllocations.put("retrying {}", new long[]{2, 600, 400});
+        fooAllocations.put("done", new long[]{3, 400, 200});
+        final Map<String, long[]> barAllocations = Maps.newHashMap();
+        barAllocations.put("started", new long[]{1, 100, 100});
+
+        final Map<String, Map<String, long[]>> allocationsByLogger = Maps.newHashMap();
+        allocationsByLogger.put("foo", fooAllocations);
+        allocationsByLogger.put("bar", barAllocations);
+        return new LogAllocations(allocationsByLogger);
+    }
+}
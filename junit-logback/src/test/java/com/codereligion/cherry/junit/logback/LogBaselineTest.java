@@ -0,0 +1,191 @@
+/**
+ * Copyright 2015 www.codereligion.com
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.codereligion.cherry.junit.logback;
+
+import ch.qos.logback.classic.Level;
+import ch.qos.logback.classic.Logger;
+import ch.qos.logback.classic.LoggerContext;
+import ch.qos.logback.classic.spi.ILoggingEvent;
+import ch.qos.logback.classic.spi.LoggingEvent;
+import com.google.common.base.Charsets;
+import com.google.common.collect.Lists;
+import com.google.common.io.Files;
+import java.io.File;
+import java.io.IOException;
+import java.util.List;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.ExpectedException;
+import org.junit.rules.TemporaryFolder;
+import static org.hamcrest.core.Is.is;
+import static org.junit.Assert.assertThat;
+
+/**
+ * Tests {@link com.codereligion.cherry.junit.logback.LogBaseline}.
+ *
+ * @author Sebastian Gr&ouml;bler
+ * @since 19.10.2026
+ */
+public class LogBaselineTest {
+
+    @Rule
+    public final ExpectedException expectedException = ExpectedException.none();
+
+    @Rule
+    public final TemporaryFolder temporaryFolder = new TemporaryFolder();
+
+    private final LoggerContext loggerContext = new LoggerContext();
+
+    @Test
+    public void ofThrowsIllegalArgumentExceptionOnNullFile() {
+
+        // expect
+        expectedException.expect(IllegalArgumentException.class);
+        expectedException.expectMessage("file must not be null.");
+
+        // when
+        LogBaseline.of(null);
+    }
+
+    @Test
+    public void updateWritesOneLinePerEventWithMessageTemplate() throws IOException {
+
+        // given
+        final File file = new File(temporaryFolder.getRoot(), "baselines/some.baseline");
+
+        // when
+        LogBaseline.of(file).update(events(event(Level.INFO, "foo", "started {}", 1), event(Level.WARN, "foo.bar", "line\tbreak\n", 2)));
+
+        // then
+        assertThat(Files.toString(file, Charsets.UTF_8), is("INFO\tfoo\tstarted {}\nWARN\tfoo.bar\tline\\tbreak\\n\n"));
+    }
+
+    @Test
+    public void verifySucceedsForSameEventsInDifferentOrderWithDifferentArguments() {
+
+        // given
+        final LogBaseline baseline = LogBaseline.of(new File(temporaryFolder.getRoot(), "some.baseline"));
+        baseline.update(events(event(Level.INFO, "foo", "started {}", 1), event(Level.WARN, "foo.bar", "line\tbreak\\", 2)));
+
+        // then
+        baseline.verify(events(event(Level.WARN, "foo.bar", "line\tbreak\\", 3), event(Level.INFO, "foo", "started {}", 4)));
+    }
+
+    @Test
+    public void verifyReportsUnexpectedAndMissingEvents() {
+
+        // expect
+        expectedException.expect(AssertionError.class);
+        expectedException.expectMessage("\n  unexpected 2x WARN foo retrying {}\n  missing 1x INFO foo finished");
+
+        // given
+        final LogBaseline baseline = LogBaseline.of(new File(temporaryFolder.getRoot(), "some.baseline"));
+        baseline.update(events(event(Level.INFO, "foo", "started", 0), event(Level.INFO, "foo", "finished", 0)));
+
+        // when
+        baseline.verify(events(event(Level.INFO, "foo", "started", 0),
+                               event(Level.WARN, "foo", "retrying {}", 1),
+                               event(Level.WARN, "foo", "retrying {}", 2)));
+    }
+
+    @Test
+    public void verifyReportsDifferingNumberOfOccurrences() {
+
+        // expect
+        expectedException.expect(AssertionError.class);
+        expectedException.expectMessage("\n  missing 2x INFO foo started");
+
+        // given
+        final LogBaseline baseline = LogBaseline.of(new File(temporaryFolder.getRoot(), "some.baseline"));
+        baseline.update(events(event(Level.INFO, "foo", "started", 0), event(Level.INFO, "foo", "started", 0), event(Level.INFO, "foo", "started", 0)));
+
+        // when
+        baseline.verify(events(event(Level.INFO, "foo", "started", 0)));
+    }
+
+    @Test
+    public void verifySummarizesDifferencesBeyondRenderingLimit() {
+
+        // expect
+        expectedException.expect(AssertionError.class);
+        expectedException.expectMessage("\n  ... and 30 more differences");
+
+        // given
+        final LogBaseline baseline = LogBaseline.of(new File(temporaryFolder.getRoot(), "some.baseline"));
+        baseline.update(events());
+        final List<ILoggingEvent> events = Lists.newArrayList();
+        for (int i = 0; i < 50; i++) {
+            events.add(event(Level.INFO, "foo", "message " + i, 0));
+        }
+
+        // when
+        baseline.verify(events);
+    }
+
+    @Test
+    public void verifyComparesLargeBaselines() {
+
+        // given
+        final List<ILoggingEvent> events = Lists.newArrayList();
+        for (int i = 0; i < 100000; i++) {
+            events.add(event(Level.INFO, "foo" + (i % 100), "message " + (i % 1000), i));
+        }
+        final LogBaseline baseline = LogBaseline.of(new File(temporaryFolder.getRoot(), "some.baseline"));
+        baseline.update(events);
+
+        // then
+        baseline.verify(Lists.reverse(events));
+    }
+
+    @Test
+    public void verifyFailsWhenBaselineDoesNotExist() {
+
+        // expect
+        expectedException.expect(AssertionError.class);
+        expectedException.expectMessage("does not exist, run the test with -Dcherry.logBaseline.update=true to create it.");
+
+        // when
+        LogBaseline.of(new File(temporaryFolder.getRoot(), "missing.baseline")).verify(events());
+    }
+
+    @Test
+    public void verifyUpdatesBaselineWhenUpdatePropertyIsSet() {
+
+        // given
+        final LogBaseline baseline = LogBaseline.of(new File(temporaryFolder.getRoot(), "some.baseline"));
+        final List<ILoggingEvent> events = events(event(Level.INFO, "foo", "started", 0));
+
+        // when
+        System.setProperty(LogBaseline.UPDATE_PROPERTY, "true");
+        try {
+            baseline.verify(events);
+        } finally {
+            System.clearProperty(LogBaseline.UPDATE_PROPERTY);
+        }
+
+        // then
+        baseline.verify(events);
+    }
+
+    private ILoggingEvent event(final Level level, final String loggerName, final String message, final Object argument) {
+        final Logger logger = loggerContext.getLogger(loggerName);
+        return new LoggingEvent(Logger.class.getName(), logger, level, message, null, new Object[]{argument});
+    }
+
+    private static List<ILoggingEvent> events(final ILoggingEvent... events) {
+        return Lists.newArrayList(events);
+    }
+}
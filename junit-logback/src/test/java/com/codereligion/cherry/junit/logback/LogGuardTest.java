@@ -0,0 +1,296 @@
+/**
+ * Copyright 2015 www.codereligion.com
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.codereligion.cherry.junit.logback;
+
+import ch.qos.logback.classic.Level;
+import ch.qos.logback.classic.spi.ILoggingEvent;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import org.hamcrest.Matcher;
+import org.hamcrest.TypeSafeMatcher;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.ExpectedException;
+import org.junit.runner.Description;
+import org.junit.runners.model.Statement;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import static org.hamcrest.core.Is.is;
+import static org.junit.Assert.assertThat;
+import static org.junit.Assert.fail;
+import static org.mockito.Mockito.mock;
+
+/**
+ * Tests {@link com.codereligion.cherry.junit.logback.LogGuard}.
+ *
+ * @author Sebastian Gr&ouml;bler
+ * @since 19.10.2026
+ */
+public class LogGuardTest {
+
+    @Rule
+    public final ExpectedException expectedException = ExpectedException.none();
+
+    @Test
+    public void nullLogSpecCausesIllegalArgumentException() {
+
+        // given
+        final LogSpec logSpec = null;
+
+        // expect
+        expectedException.expect(IllegalArgumentException.class);
+        expectedException.expectMessage("logSpec must not be null");
+
+        // when
+        LogGuard.forbiddenLogs(logSpec);
+    }
+
+    @Test
+    public void nullMatcherCausesIllegalArgumentException() {
+
+        // given
+        final Matcher<ILoggingEvent> matcher = null;
+
+        // expect
+        expectedException.expect(IllegalArgumentException.class);
+        expectedException.expectMessage("matcher must not be null");
+
+        // when
+        LogGuard.forbiddenLogs(matcher, new LogSpec("foo", Level.ERROR));
+    }
+
+    @Test
+    public void passesWhenNoForbiddenEventIsLogged() throws Throwable {
+
+        // given
+        final String loggerName = "foo";
+        final LogGuard logGuard = LogGuard.forbiddenLogs(new LogSpec(loggerName, Level.ERROR));
+
+        // when
+        logGuard.apply(new Statement() {
+            @Override
+            public void evaluate() throws Throwable {
+                LoggerFactory.getLogger(loggerName).warn("that is fine");
+            }
+        }, Description.EMPTY).evaluate();
+    }
+
+    @Test
+    public void interruptsTestThreadWhenForbiddenEventIsLoggedByTestThread() throws Throwable {
+
+        // given
+        final String loggerName = "foo";
+        final LogGuard logGuard = LogGuard.forbiddenLogs(new LogSpec(loggerName, Level.ERROR));
+        final List<Boolean> interruptedAfterLogging = new ArrayList<Boolean>();
+
+        // when
+        try {
+            logGuard.apply(new Statement() {
+                @Override
+                public void evaluate() throws Throwable {
+                    LoggerFactory.getLogger(loggerName).error("ermahgerd");
+                    interruptedAfterLogging.add(Thread.currentThread().isInterrupted());
+                }
+            }, Description.EMPTY).evaluate();
+            fail("expected an AssertionError");
+        } catch (final AssertionError e) {
+
+            // then
+            assertThat(e.getMessage(), is("Expected no event matching: ANYTHING but was logged: ILoggingEvent{level=ERROR, formattedMessage='ermahgerd', " +
+                                          "loggedBy=foo}"));
+            assertThat(interruptedAfterLogging, is(Arrays.asList(true)));
+            assertThat(Thread.currentThread().isInterrupted(), is(false));
+        }
+    }
+
+    @Test
+    public void failsNextLoggingCallOfTestThreadWhichDoesNotBlockAfterViolation() throws Throwable {
+
+        // given
+        final String loggerName = "foo";
+        final LogGuard logGuard = LogGuard.forbiddenLogs(new LogSpec(loggerName, Level.ERROR));
+        final List<Integer> iterations = new ArrayList<Integer>();
+
+        // when
+        try {
+            logGuard.apply(new Statement() {
+                @Override
+                public void evaluate() throws Throwable {
+                    final Logger logger = LoggerFactory.getLogger(loggerName);
+                    for (int i = 0; i < 1000; i++) {
+                        logger.error("ermahgerd {}", i);
+                        iterations.add(i);
+                    }
+                }
+            }, Description.EMPTY).evaluate();
+            fail("expected an AssertionError");
+        } catch (final AssertionError e) {
+
+            // then
+            assertThat(e.getMessage(), is("Expected no event matching: ANYTHING but was logged: ILoggingEvent{level=ERROR, formattedMessage='ermahgerd 0', " +
+                                          "loggedBy=foo}"));
+            assertThat(e.getCause() == null, is(true));
+            assertThat(iterations, is(Arrays.asList(0)));
+            assertThat(Thread.currentThread().isInterrupted(), is(false));
+        }
+    }
+
+    @Test
+    public void forbiddenEventStillReachesOtherAppenders() throws Throwable {
+
+        // given
+        final String loggerName = "foo";
+        final LogGuard logGuard = LogGuard.forbiddenLogs(new LogSpec(loggerName, Level.ERROR));
+        final ch.qos.logback.classic.Logger logger = (ch.qos.logback.classic.Logger) LoggerFactory.getLogger(loggerName);
+        final ListAppender<ILoggingEvent> otherAppender = new ListAppender<ILoggingEvent>();
+        otherAppender.start();
+        logger.addAppender(otherAppender);
+
+        // when
+        try {
+            logGuard.apply(new Statement() {
+                @Override
+                public void evaluate() throws Throwable {
+                    logger.error("ermahgerd");
+                }
+            }, Description.EMPTY).evaluate();
+            fail("expected an AssertionError");
+        } catch (final AssertionError e) {
+
+            // then
+            assertThat(otherAppender.getList().size(), is(1));
+        } finally {
+            logger.detachAppender(otherAppender);
+        }
+    }
+
+    @Test
+    public void interruptsTestThreadWhenForbiddenEventIsLoggedByOtherThread() throws Throwable {
+
+        // given
+        final String loggerName = "foo";
+        final LogGuard logGuard = LogGuard.forbiddenLogs(new LogSpec(loggerName, Level.ERROR));
+        final long start = System.currentTimeMillis();
+
+        // when
+        try {
+            logGuard.apply(new Statement() {
+                @Override
+                public void evaluate() throws Throwable {
+                    new Thread(new Runnable() {
+                        @Override
+                        public void run() {
+                            LoggerFactory.getLogger(loggerName).error("ermahgerd");
+                        }
+                    }).start();
+                    Thread.sleep(60000);
+                }
+            }, Description.EMPTY).evaluate();
+            fail("expected an AssertionError");
+        } catch (final AssertionError e) {
+
+            // then
+            assertThat(e.getMessage(), is("Expected no event matching: ANYTHING but was logged: ILoggingEvent{level=ERROR, formattedMessage='ermahgerd', " +
+                                          "loggedBy=foo}"));
+            assertThat(e.getCause() instanceof InterruptedException, is(true));
+            assertThat(System.currentTimeMillis() - start < 60000, is(true));
+            assertThat(Thread.currentThread().isInterrupted(), is(false));
+        }
+    }
+
+    @Test
+    public void ignoresEventsWhichAreNotMatched() throws Throwable {
+
+        // given
+        final String loggerName = "foo";
+        final LogGuard logGuard = LogGuard.forbiddenLogs(withMessage("forbidden"), new LogSpec(loggerName, Level.ERROR));
+
+        // when
+        logGuard.apply(new Statement() {
+            @Override
+            public void evaluate() throws Throwable {
+                LoggerFactory.getLogger(loggerName).error("allowed");
+            }
+        }, Description.EMPTY).evaluate();
+    }
+
+    @Test
+    public void rethrowsFailureOfTestWhenThereWasNoViolation() throws Throwable {
+
+        // given
+        final LogGuard logGuard = LogGuard.forbiddenLogs(new LogSpec("foo", Level.ERROR));
+
+        // expect
+        expectedException.expect(IllegalStateException.class);
+        expectedException.expectMessage("test failure");
+
+        // when
+        logGuard.apply(new Statement() {
+            @Override
+            public void evaluate() throws Throwable {
+                throw new IllegalStateException("test failure");
+            }
+        }, Description.EMPTY).evaluate();
+    }
+
+    @Test
+    public void resetsLoggersLogLevelWhenTestIsFinished() throws Throwable {
+
+        // given
+        final String loggerName = "foo";
+        final Level level = Level.INFO;
+        final ch.qos.logback.classic.Logger logger = (ch.qos.logback.classic.Logger) LoggerFactory.getLogger(loggerName);
+        logger.setLevel(level);
+        final LogGuard logGuard = LogGuard.forbiddenLogs(new LogSpec(loggerName, Level.ERROR));
+
+        // when
+        logGuard.apply(mock(Statement.class), Description.EMPTY).evaluate();
+
+        // then
+        assertThat(logger.getLevel(), is(level));
+    }
+
+    @Test
+    public void doesNotGuardWhenTestIsFinished() throws Throwable {
+
+        // given
+        final String loggerName = "foo";
+        final LogGuard logGuard = LogGuard.forbiddenLogs(new LogSpec(loggerName, Level.ERROR));
+        logGuard.apply(mock(Statement.class), Description.EMPTY).evaluate();
+
+        // when
+        final Logger logger = LoggerFactory.getLogger(loggerName);
+        logger.error("bar");
+
+        // then
+        assertThat(Thread.currentThread().isInterrupted(), is(false));
+    }
+
+    private static Matcher<ILoggingEvent> withMessage(final String message) {
+        return new TypeSafeMatcher<ILoggingEvent>() {
+            @Override
+            protected boolean matchesSafely(final ILoggingEvent event) {
+                return event.getMessage().equals(message);
+            }
+
+            @Override
+            public void describeTo(final org.hamcrest.Description description) {
+                description.appendText("an event with message ").appendValue(message);
+            }
+        };
+    }
+}
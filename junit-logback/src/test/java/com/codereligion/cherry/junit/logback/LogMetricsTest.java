@@ -0,0 +1,171 @@
+/**
+ * Copyright 2015 www.codereligion.com
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.codereligion.cherry.junit.logback;
+
+import ch.qos.logback.classic.Level;
+import ch.qos.logback.classic.spi.ILoggingEvent;
+import ch.qos.logback.classic.spi.LoggingEvent;
+import com.google.common.collect.Lists;
+import java.util.List;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.ExpectedException;
+import org.junit.runner.Description;
+import org.junit.runners.model.Statement;
+import org.slf4j.LoggerFactory;
+import static org.hamcrest.core.Is.is;
+import static org.junit.Assert.assertThat;
+
+/**
+ * Tests {@link com.codereligion.cherry.junit.logback.LogMetrics}.
+ *
+ * @author Sebastian Gr&ouml;bler
+ * @since 19.10.2026
+ */
+public class LogMetricsTest {
+
+    @Rule
+    public final ExpectedException expectedException = ExpectedException.none();
+
+    @Test
+    public void eventCountThrowsIllegalArgumentExceptionOnNullLoggerName() {
+
+        // expect
+        expectedException.expect(IllegalArgumentException.class);
+        expectedException.expectMessage("loggerName must not be null.");
+
+        // when
+        metricsOf(Lists.<ILoggingEvent>newArrayList()).eventCount(null, Level.INFO);
+    }
+
+    @Test
+    public void eventCountThrowsIllegalArgumentExceptionOnNullLevel() {
+
+        // expect
+        expectedException.expect(IllegalArgumentException.class);
+        expectedException.expectMessage("level must not be null.");
+
+        // when
+        metricsOf(Lists.<ILoggingEvent>newArrayList()).eventCount((Level) null);
+    }
+
+    @Test
+    public void countsEventsByLoggerAndLevel() {
+
+        // given
+        final LogMetrics metrics = metricsOf(Lists.newArrayList(eventOf("foo", Level.DEBUG, 1000, "a"),
+                                                                eventOf("foo", Level.DEBUG, 1001, "b"),
+                                                                eventOf("foo", Level.INFO, 1002, "c"),
+                                                                eventOf("bar", Level.DEBUG, 1003, "d")));
+
+        // then
+        assertThat(metrics.eventCount(), is(4L));
+        assertThat(metrics.eventCount(Level.DEBUG), is(3L));
+        assertThat(metrics.eventCount("foo"), is(3L));
+        assertThat(metrics.eventCount("foo", Level.DEBUG), is(2L));
+        assertThat(metrics.eventCount("bar", Level.INFO), is(0L));
+        assertThat(metrics.eventCount("baz"), is(0L));
+    }
+
+    @Test
+    public void tracksPeakEventsWithinSameSecond() {
+
+        // given
+        final LogMetrics metrics = metricsOf(Lists.newArrayList(eventOf("foo", Level.DEBUG, 1000, "a"),
+                                                                eventOf("foo", Level.DEBUG, 2000, "b"),
+                                                                eventOf("bar", Level.INFO, 2500, "c"),
+                                                                eventOf("foo", Level.DEBUG, 2999, "d"),
+                                                                eventOf("foo", Level.DEBUG, 3000, "e")));
+
+        // then
+        assertThat(metrics.peakEventsPerSecond(), is(3L));
+        assertThat(metrics.peakEventsPerSecond("foo", Level.DEBUG), is(2L));
+        assertThat(metrics.peakEventsPerSecond("bar", Level.INFO), is(1L));
+        assertThat(metrics.peakEventsPerSecond("bar", Level.DEBUG), is(0L));
+    }
+
+    @Test
+    public void computesEventsPerSecondOverDuration() {
+
+        // given
+        final List<ILoggingEvent> events = Lists.newArrayList(eventOf("foo", Level.DEBUG, 1000, "a"), eventOf("foo", Level.INFO, 1001, "b"));
+        final LogRateCounter counter = new LogRateCounter();
+        for (final ILoggingEvent event : events) {
+            counter.onAppend(event);
+        }
+
+        // when
+        final LogMetrics metrics = counter.snapshot(500, events);
+
+        // then
+        assertThat(metrics.durationMillis(), is(500L));
+        assertThat(metrics.eventsPerSecond(), is(4d));
+        assertThat(metrics.eventsPerSecond("foo", Level.INFO), is(2d));
+    }
+
+    @Test
+    public void computesUtf8VolumeOfFormattedMessages() {
+
+        // given
+        final LogMetrics metrics = metricsOf(Lists.newArrayList(eventOf("foo", Level.INFO, 1000, "abc"),
+                                                                eventOf("foo", Level.INFO, 1001, "\u00e4\u20ac"),
+                                                                eventOf("foo", Level.INFO, 1002, "\ud83d\ude00")));
+
+        // then
+        assertThat(metrics.formattedBytes(), is(12L));
+    }
+
+    @Test
+    public void logRecorderProvidesMetricsOfRecordedEvents() throws Throwable {
+
+        // given
+        final LogRecorder logRecorder = LogRecorder.expectedLogs(new LogSpec("metrics", Level.DEBUG));
+
+        // when
+        logRecorder.apply(new Statement() {
+            @Override
+            public void evaluate() throws Throwable {
+                for (int i = 0; i < 10; i++) {
+                    LoggerFactory.getLogger("metrics").debug("event {}", i);
+                }
+            }
+        }, Description.EMPTY).evaluate();
+
+        // then
+        final LogMetrics metrics = logRecorder.metrics();
+        assertThat(metrics.eventCount(), is(10L));
+        assertThat(metrics.eventCount("metrics", Level.DEBUG), is(10L));
+        assertThat(metrics.formattedBytes(), is(70L));
+        assertThat(metrics.peakEventsPerSecond("metrics", Level.DEBUG) >= 5, is(true));
+    }
+
+    static LogMetrics metricsOf(final List<ILoggingEvent> events) {
+        final LogRateCounter counter = new LogRateCounter();
+        for (final ILoggingEvent event : events) {
+            counter.onAppend(event);
+        }
+        return counter.snapshot(1000, events);
+    }
+
+    static ILoggingEvent eventOf(final String loggerName, final Level level, final long timeStamp, final String message) {
+        final LoggingEvent event = new LoggingEvent();
+        event.setLoggerName(loggerName);
+        event.setLevel(level);
+        event.setTimeStamp(timeStamp);
+        event.setMessage(message);
+        return event;
+    }
+}
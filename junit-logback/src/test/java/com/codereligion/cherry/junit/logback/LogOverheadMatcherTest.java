@@ -0,0 +1,100 @@
+/**
+ * Copyright 2015 www.codereligion.com
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.codereligion.cherry.junit.logback;
+
+import java.util.concurrent.TimeUnit;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.ExpectedException;
+import static com.codereligion.cherry.junit.logback.AppenderProfileTest.profileOf;
+import static com.codereligion.cherry.junit.logback.LogOverheadMatcher.maxOverheadAtMost;
+import static com.codereligion.cherry.junit.logback.LogOverheadMatcher.overheadAtMost;
+import static com.codereligion.cherry.junit.logback.LogOverheadMatcher.p99OverheadAtMost;
+import static org.junit.Assert.assertThat;
+
+/**
+ * Tests {@link com.codereligion.cherry.junit.logback.LogOverheadMatcher}.
+ *
+ * @author Sebastian Gr&ouml;bler
+ * @since 19.10.2026
+ */
+public class LogOverheadMatcherTest {
+
+    @Rule
+    public final ExpectedException expectedException = ExpectedException.none();
+
+    @Test
+    public void throwsIllegalArgumentExceptionOnInvalidPercentile() {
+
+        // expect
+        expectedException.expect(IllegalArgumentException.class);
+        expectedException.expectMessage("percentile must be between 0 and 100.");
+
+        // when
+        overheadAtMost(-1, 1, TimeUnit.SECONDS);
+    }
+
+    @Test
+    public void throwsIllegalArgumentExceptionOnNegativeBudget() {
+
+        // expect
+        expectedException.expect(IllegalArgumentException.class);
+        expectedException.expectMessage("budget must not be negative.");
+
+        // when
+        p99OverheadAtMost(-1, TimeUnit.SECONDS);
+    }
+
+    @Test
+    public void throwsIllegalArgumentExceptionOnNullUnit() {
+
+        // expect
+        expectedException.expect(IllegalArgumentException.class);
+        expectedException.expectMessage("unit must not be null.");
+
+        // when
+        maxOverheadAtMost(1, null);
+    }
+
+    @Test
+    public void matchesWhenPercentileIsWithinBudget() {
+        assertThat(profileOf(10, 20, 30), overheadAtMost(50, 20, TimeUnit.NANOSECONDS));
+        assertThat(profileOf(10, 20, 30), maxOverheadAtMost(30, TimeUnit.NANOSECONDS));
+    }
+
+    @Test
+    public void doesNotMatchWhenPercentileExceedsBudget() {
+
+        // expect
+        expectedException.expect(AssertionError.class);
+        expectedException.expectMessage("Expected: p99 of at most 20 NANOSECONDS per event\n" +
+                                        "     but: p99 was 30 nanoseconds in AppenderProfile{logger=foo, count=3, p50Nanos=20, p99Nanos=30, maxNanos=30}");
+
+        // when
+        assertThat(profileOf(10, 20, 30), p99OverheadAtMost(20, TimeUnit.NANOSECONDS));
+    }
+
+    @Test
+    public void describesFractionalPercentile() {
+
+        // expect
+        expectedException.expect(AssertionError.class);
+        expectedException.expectMessage("Expected: p99.9 of at most 1 NANOSECONDS per event");
+
+        // when
+        assertThat(profileOf(10), overheadAtMost(99.9, 1, TimeUnit.NANOSECONDS));
+    }
+}
@@ -0,0 +1,105 @@
+/**
+ * Copyright 2015 www.codereligion.com
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.codereligion.cherry.junit.logback;
+
+import ch.qos.logback.classic.Level;
+import com.google.common.collect.Lists;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.ExpectedException;
+import static com.codereligion.cherry.junit.logback.LogMetricsTest.eventOf;
+import static com.codereligion.cherry.junit.logback.LogMetricsTest.metricsOf;
+import static com.codereligion.cherry.junit.logback.LogRateMatcher.loggedAtMostPerSecond;
+import static org.junit.Assert.assertThat;
+
+/**
+ * Tests {@link com.codereligion.cherry.junit.logback.LogRateMatcher}.
+ *
+ * @author Sebastian Gr&ouml;bler
+ * @since 19.10.2026
+ */
+public class LogRateMatcherTest {
+
+    @Rule
+    public final ExpectedException expectedException = ExpectedException.none();
+
+    private final LogMetrics metrics = metricsOf(Lists.newArrayList(eventOf("foo", Level.DEBUG, 1000, "a"),
+                                                                    eventOf("foo", Level.DEBUG, 1001, "b"),
+                                                                    eventOf("bar", Level.INFO, 1002, "c")));
+
+    @Test
+    public void throwsIllegalArgumentExceptionOnNegativeMaximum() {
+
+        // expect
+        expectedException.expect(IllegalArgumentException.class);
+        expectedException.expectMessage("maxEventsPerSecond must not be negative.");
+
+        // when
+        loggedAtMostPerSecond(-1);
+    }
+
+    @Test
+    public void throwsIllegalArgumentExceptionOnNullLoggerName() {
+
+        // expect
+        expectedException.expect(IllegalArgumentException.class);
+        expectedException.expectMessage("loggerName must not be null.");
+
+        // when
+        loggedAtMostPerSecond(1, null, Level.DEBUG);
+    }
+
+    @Test
+    public void throwsIllegalArgumentExceptionOnNullLevel() {
+
+        // expect
+        expectedException.expect(IllegalArgumentException.class);
+        expectedException.expectMessage("level must not be null.");
+
+        // when
+        loggedAtMostPerSecond(1, "foo", null);
+    }
+
+    @Test
+    public void matchesWhenPeakRateDoesNotExceedMaximum() {
+        assertThat(metrics, loggedAtMostPerSecond(3));
+        assertThat(metrics, loggedAtMostPerSecond(2, "foo", Level.DEBUG));
+    }
+
+    @Test
+    public void doesNotMatchWhenPeakRateExceedsMaximum() {
+
+        // expect
+        expectedException.expect(AssertionError.class);
+        expectedException.expectMessage("Expected: at most 2 events per second\n" +
+                                        "     but: peak rate was 3 events per second, highest was DEBUG of foo at 2 events per second");
+
+        // when
+        assertThat(metrics, loggedAtMostPerSecond(2));
+    }
+
+    @Test
+    public void doesNotMatchWhenPeakRateOfLoggerAndLevelExceedsMaximum() {
+
+        // expect
+        expectedException.expect(AssertionError.class);
+        expectedException.expectMessage("Expected: at most 1 events per second at DEBUG of foo\n" +
+                                        "     but: peak rate was 2 events per second");
+
+        // when
+        assertThat(metrics, loggedAtMostPerSecond(1, "foo", Level.DEBUG));
+    }
+}
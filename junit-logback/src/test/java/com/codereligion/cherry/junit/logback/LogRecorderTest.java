@@ -16,15 +16,32 @@
 package com.codereligion.cherry.junit.logback;
 
 import ch.qos.logback.classic.Level;
+import ch.qos.logback.classic.LoggerContext;
 import ch.qos.logback.classic.spi.ILoggingEvent;
+import ch.qos.logback.classic.turbo.TurboFilter;
+import ch.qos.logback.core.spi.FilterReply;
+import java.io.File;
+import java.lang.reflect.Method;
+import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.regex.Pattern;
+import org.hamcrest.Matcher;
+import org.hamcrest.TypeSafeMatcher;
+import org.junit.Assume;
 import org.junit.Rule;
 import org.junit.Test;
 import org.junit.rules.ExpectedException;
+import org.junit.rules.TemporaryFolder;
 import org.junit.runner.Description;
 import org.junit.runners.model.Statement;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.slf4j.Marker;
 import static org.hamcrest.core.Is.is;
 import static org.junit.Assert.assertThat;
 import static org.mockito.Mockito.mock;
@@ -40,6 +57,9 @@ public class LogRecorderTest {
     @Rule
     public final ExpectedException expectedException = ExpectedException.none();
 
+    @Rule
+    public final TemporaryFolder temporaryFolder = new TemporaryFolder();
+
     @Test
     public void nullLogSpecCausesIllegalArgumentException() {
 
@@ -134,6 +154,23 @@ public class LogRecorderTest {
         assertThat(logger.getLevel(), is(level));
     }
 
+    @Test
+    public void resetsLoggersLogLevelWhenLoggerIsSpecifiedMultipleTimes() throws Throwable {
+
+        // given
+        final String loggerName = "foo";
+        final Level level = Level.WARN;
+        final ch.qos.logback.classic.Logger logger = (ch.qos.logback.classic.Logger) LoggerFactory.getLogger(loggerName);
+        logger.setLevel(level);
+        final LogRecorder logRecorder = LogRecorder.expectedLogs(new LogSpec(loggerName, Level.INFO), new LogSpec(loggerName, Level.ERROR));
+
+        // when
+        logRecorder.apply(mock(Statement.class), Description.EMPTY).evaluate();
+
+        // then
+        assertThat(logger.getLevel(), is(level));
+    }
+
     @Test
     public void throwsLogRecorderExceptionWhenNoEventWasRecorder() throws Throwable {
 
@@ -172,4 +209,1342 @@ public class LogRecorderTest {
         assertThat(logRecorder.event().getMessage(), is(message));
     }
 
-}
\ No newline at end of file
+    @Test
+    public void recordsEventsOfNestedSpecsOnlyOnce() throws Throwable {
+
+        // given
+        final LogRecorder logRecorder = LogRecorder.expectedLogs(new LogSpec("foo.bar", Level.DEBUG), new LogSpec("foo", Level.ERROR));
+
+        // when
+        logRecorder.apply(new Statement() {
+            @Override
+            public void evaluate() throws Throwable {
+                LoggerFactory.getLogger("foo.bar.baz").debug("first");
+                LoggerFactory.getLogger("foo").error("second");
+                LoggerFactory.getLogger("foo").info("ignored");
+            }
+        }, Description.EMPTY).evaluate();
+
+        // then
+        assertThat(logRecorder.events().size(), is(2));
+        assertThat(logRecorder.events().get(0).getMessage(), is("first"));
+        assertThat(logRecorder.events().get(1).getMessage(), is("second"));
+    }
+
+    @Test
+    public void recordsEventsOfNonAdditiveNestedSpecs() throws Throwable {
+
+        // given
+        final ch.qos.logback.classic.Logger nonAdditive = (ch.qos.logback.classic.Logger) LoggerFactory.getLogger("qux.bar");
+        nonAdditive.setAdditive(false);
+        final LogRecorder logRecorder = LogRecorder.expectedLogs(new LogSpec("qux", Level.ERROR), new LogSpec("qux.bar.baz", Level.ERROR));
+
+        // when
+        try {
+            logRecorder.apply(new Statement() {
+                @Override
+                public void evaluate() throws Throwable {
+                    LoggerFactory.getLogger("qux.bar.baz").error("ermahgerd");
+                }
+            }, Description.EMPTY).evaluate();
+        } finally {
+            nonAdditive.setAdditive(true);
+        }
+
+        // then
+        assertThat(logRecorder.events().size(), is(1));
+    }
+
+    @Test
+    public void restoresLevelsOfNestedSpecsWhenTestIsFinished() throws Throwable {
+
+        // given
+        final ch.qos.logback.classic.Logger parent = (ch.qos.logback.classic.Logger) LoggerFactory.getLogger("baz");
+        final ch.qos.logback.classic.Logger child = (ch.qos.logback.classic.Logger) LoggerFactory.getLogger("baz.qux");
+        final ch.qos.logback.classic.Logger grandChild = (ch.qos.logback.classic.Logger) LoggerFactory.getLogger("baz.qux.quux");
+        parent.setLevel(Level.WARN);
+        child.setLevel(null);
+        final LogRecorder logRecorder = LogRecorder.expectedLogs(new LogSpec("baz", Level.ERROR), new LogSpec("baz.qux", Level.TRACE));
+        final List<Level> effectiveLevelsDuringTest = new ArrayList<Level>();
+
+        // when
+        logRecorder.apply(new Statement() {
+            @Override
+            public void evaluate() throws Throwable {
+                effectiveLevelsDuringTest.add(grandChild.getEffectiveLevel());
+            }
+        }, Description.EMPTY).evaluate();
+
+        // then
+        assertThat(effectiveLevelsDuringTest.get(0), is(Level.TRACE));
+        assertThat(parent.getLevel(), is(Level.WARN));
+        assertThat(child.getLevel(), is((Level) null));
+        assertThat(grandChild.getEffectiveLevel(), is(Level.WARN));
+    }
+
+    @Test
+    public void eventsBetweenThrowsIllegalArgumentExceptionOnInvertedRange() {
+
+        // given
+        final LogRecorder logRecorder = LogRecorder.expectedLogs(new LogSpec("between", Level.INFO));
+
+        // expect
+        expectedException.expect(IllegalArgumentException.class);
+        expectedException.expectMessage("fromMillis must not be greater than toMillis.");
+
+        // when
+        logRecorder.eventsBetween(2, 1);
+    }
+
+    @Test
+    public void eventsBetweenReturnsEventsLoggedWithinRange() throws Throwable {
+
+        // given
+        final LogRecorder logRecorder = LogRecorder.expectedLogs(new LogSpec("between", Level.INFO));
+
+        // when
+        logRecorder.apply(new Statement() {
+            @Override
+            public void evaluate() throws Throwable {
+                final Logger logger = LoggerFactory.getLogger("between");
+                logger.info("first");
+                Thread.sleep(5);
+                logger.info("second");
+                Thread.sleep(5);
+                logger.info("third");
+            }
+        }, Description.EMPTY).evaluate();
+
+        // then
+        final long second = logRecorder.events().get(1).getTimeStamp();
+        final long third = logRecorder.events().get(2).getTimeStamp();
+        final List<ILoggingEvent> events = logRecorder.eventsBetween(second, third);
+        assertThat(events.size(), is(1));
+        assertThat(events.get(0).getMessage(), is("second"));
+        assertThat(logRecorder.eventsBetween(0, Long.MAX_VALUE).size(), is(3));
+        assertThat(logRecorder.eventsBetween(third + 1, Long.MAX_VALUE).isEmpty(), is(true));
+    }
+
+    @Test
+    public void eventsBetweenReturnsEventsOnWhichWaitingMatcherFailed() throws Throwable {
+
+        // given
+        final LogRecorder logRecorder = LogRecorder.expectedLogs(new LogSpec("between", Level.INFO));
+        final CountDownLatch scanned = new CountDownLatch(1);
+        final Matcher<ILoggingEvent> failingMatcher = new TypeSafeMatcher<ILoggingEvent>() {
+            @Override
+            protected boolean matchesSafely(final ILoggingEvent event) {
+                if (event.getMessage().equals("poison")) {
+                    throw new IllegalStateException("poison");
+                }
+                scanned.countDown();
+                return event.getMessage().equals("ermahgerd");
+            }
+
+            @Override
+            public void describeTo(final org.hamcrest.Description description) {
+                description.appendText("a failing matcher");
+            }
+        };
+        final List<ILoggingEvent> awaited = new CopyOnWriteArrayList<ILoggingEvent>();
+
+        // when
+        logRecorder.apply(new Statement() {
+            @Override
+            public void evaluate() throws Throwable {
+                final Logger logger = LoggerFactory.getLogger("between");
+                logger.info("ready");
+                final Thread thread = new Thread(new Runnable() {
+                    @Override
+                    public void run() {
+                        try {
+                            awaited.add(logRecorder.awaitEvent(failingMatcher, 10, TimeUnit.SECONDS));
+                        } catch (final InterruptedException e) {
+                            Thread.currentThread().interrupt();
+                        }
+                    }
+                });
+                thread.start();
+                scanned.await();
+                logger.info("poison");
+                logger.info("ermahgerd");
+                thread.join();
+            }
+        }, Description.EMPTY).evaluate();
+
+        // then
+        assertThat(awaited.get(0).getMessage(), is("ermahgerd"));
+        assertThat(logRecorder.eventsBetween(0, Long.MAX_VALUE).size(), is(3));
+    }
+
+    @Test
+    public void mutingOtherOutputDeniesEventsWhichAreNotRecorded() throws Throwable {
+
+        // given
+        final ch.qos.logback.classic.Logger parent = (ch.qos.logback.classic.Logger) LoggerFactory.getLogger("muted");
+        final ListAppender<ILoggingEvent> output = new ListAppender<ILoggingEvent>();
+        output.start();
+        parent.addAppender(output);
+        final LogRecorder logRecorder = LogRecorder.expectedLogs(new LogSpec("muted.recorded", Level.INFO)).mutingOtherOutput();
+        final List<Boolean> debugEnabled = new ArrayList<Boolean>();
+
+        // when
+        try {
+            logRecorder.apply(new Statement() {
+                @Override
+                public void evaluate() throws Throwable {
+                    LoggerFactory.getLogger("muted.other").info("muted");
+                    LoggerFactory.getLogger("muted.recorded").debug("below level");
+                    LoggerFactory.getLogger("muted.recorded").info("recorded");
+                    debugEnabled.add(LoggerFactory.getLogger("muted.other").isDebugEnabled());
+                    debugEnabled.add(LoggerFactory.getLogger("muted.other").isErrorEnabled());
+                }
+            }, Description.EMPTY).evaluate();
+            LoggerFactory.getLogger("muted.other").info("restored");
+        } finally {
+            parent.detachAppender(output);
+        }
+
+        // then
+        assertThat(logRecorder.events().size(), is(1));
+        assertThat(logRecorder.event().getMessage(), is("recorded"));
+        assertThat(debugEnabled.get(0), is(false));
+        assertThat(debugEnabled.get(1), is(false));
+        assertThat(output.getList().size(), is(2));
+        assertThat(output.getList().get(0).getMessage(), is("recorded"));
+        assertThat(output.getList().get(1).getMessage(), is("restored"));
+    }
+
+    @Test
+    public void mutingOtherOutputRecordsThroughTurboFilter() throws Throwable {
+
+        // given
+        final ch.qos.logback.classic.Logger parent = (ch.qos.logback.classic.Logger) LoggerFactory.getLogger("muted");
+        final ListAppender<ILoggingEvent> output = new ListAppender<ILoggingEvent>();
+        output.start();
+        parent.addAppender(output);
+        final LogRecorder logRecorder = LogRecorder.expectedLogs(LogSpec.matching("muted.*.recorded", Level.DEBUG)).usingTurboFilter().mutingOtherOutput();
+
+        // when
+        try {
+            logRecorder.apply(new Statement() {
+                @Override
+                public void evaluate() throws Throwable {
+                    LoggerFactory.getLogger("muted.other").info("muted");
+                    LoggerFactory.getLogger("muted.late.recorded").debug("recorded");
+                }
+            }, Description.EMPTY).evaluate();
+        } finally {
+            parent.detachAppender(output);
+        }
+
+        // then
+        assertThat(logRecorder.events().size(), is(1));
+        assertThat(logRecorder.event().getMessage(), is("recorded"));
+        assertThat(output.getList().size(), is(1));
+        assertThat(output.getList().get(0).getMessage(), is("recorded"));
+    }
+
+    @Test
+    public void computesCallerDataOnlyForSpecsWhichEnableIt() throws Throwable {
+
+        // given
+        final LogRecorder logRecorder = LogRecorder.expectedLogs(new LogSpec("callers.enabled", Level.INFO).withCallerData(),
+                                                                 new LogSpec("callers.disabled", Level.INFO));
+
+        // when
+        logRecorder.apply(new Statement() {
+            @Override
+            public void evaluate() throws Throwable {
+                logFromHelper("callers.enabled.child");
+                logFromHelper("callers.disabled");
+            }
+        }, Description.EMPTY).evaluate();
+
+        // then
+        assertThat(logRecorder.events().get(0).hasCallerData(), is(true));
+        assertThat(logRecorder.events().get(0).getCallerData()[0].getClassName(), is(LogRecorderTest.class.getName()));
+        assertThat(logRecorder.events().get(0).getCallerData()[0].getMethodName(), is("logFromHelper"));
+        assertThat(logRecorder.events().get(1).hasCallerData(), is(false));
+    }
+
+    @Test
+    public void computesCallerDataOnLoggingThreadWhenRecordingAsynchronouslyThroughTurboFilter() throws Throwable {
+
+        // given
+        final LogRecorder logRecorder = LogRecorder.expectedLogs(LogSpec.matching("callers.*", Level.INFO).withCallerData())
+                                                   .usingTurboFilter()
+                                                   .recordingAsynchronously();
+
+        // when
+        logRecorder.apply(new Statement() {
+            @Override
+            public void evaluate() throws Throwable {
+                logFromHelper("callers.async");
+            }
+        }, Description.EMPTY).evaluate();
+
+        // then
+        assertThat(logRecorder.event().hasCallerData(), is(true));
+        assertThat(logRecorder.event().getCallerData()[0].getMethodName(), is("logFromHelper"));
+    }
+
+    @Test
+    public void patternSpecKeepsLoggerTrieInstalledAcrossRecordings() throws Throwable {
+
+        // given
+        final LoggerContext loggerContext = (LoggerContext) LoggerFactory.getILoggerFactory();
+        final LogRecorder firstLogRecorder = LogRecorder.expectedLogs(LogSpec.matching("glob.*.repository", Level.DEBUG));
+        final LogRecorder secondLogRecorder = LogRecorder.expectedLogs(LogSpec.matching("glob.*.service", Level.DEBUG));
+        final Statement statement = new Statement() {
+            @Override
+            public void evaluate() {
+            }
+        };
+        firstLogRecorder.apply(statement, Description.EMPTY).evaluate();
+        final List<String> turboFilterNames = turboFilterNamesOf(loggerContext);
+
+        // when
+        secondLogRecorder.apply(statement, Description.EMPTY).evaluate();
+
+        // then
+        assertThat(turboFilterNames.contains("LoggerTrie"), is(true));
+        assertThat(turboFilterNamesOf(loggerContext), is(turboFilterNames));
+    }
+
+    private static List<String> turboFilterNamesOf(final LoggerContext loggerContext) {
+        final List<String> turboFilterNames = new ArrayList<String>();
+        for (final TurboFilter turboFilter : loggerContext.getTurboFilterList()) {
+            turboFilterNames.add(turboFilter.getName());
+        }
+        return turboFilterNames;
+    }
+
+    @Test
+    public void globSpecRecordsEventsOfAllMatchingLoggers() throws Throwable {
+
+        // given
+        LoggerFactory.getLogger("glob.user.repository");
+        LoggerFactory.getLogger("glob.user.service");
+        final LogRecorder logRecorder = LogRecorder.expectedLogs(LogSpec.matching("glob.*.repository", Level.DEBUG));
+
+        // when
+        logRecorder.apply(new Statement() {
+            @Override
+            public void evaluate() throws Throwable {
+                LoggerFactory.getLogger("glob.user.repository").debug("first");
+                LoggerFactory.getLogger("glob.user.service").error("ignored");
+                LoggerFactory.getLogger("glob.order.repository").debug("second");
+                LoggerFactory.getLogger("glob.order.db.repository").error("ignored");
+            }
+        }, Description.EMPTY).evaluate();
+
+        // then
+        assertThat(logRecorder.events().size(), is(2));
+        assertThat(logRecorder.events().get(0).getMessage(), is("first"));
+        assertThat(logRecorder.events().get(1).getMessage(), is("second"));
+    }
+
+    @Test
+    public void globSpecWithAnySegmentsRecordsEventsOfNestedLoggers() throws Throwable {
+
+        // given
+        final LogRecorder logRecorder = LogRecorder.expectedLogs(LogSpec.matching("any.**.*Repository", Level.INFO));
+
+        // when
+        logRecorder.apply(new Statement() {
+            @Override
+            public void evaluate() throws Throwable {
+                LoggerFactory.getLogger("any.UserRepository").info("first");
+                LoggerFactory.getLogger("any.db.jdbc.OrderRepository").info("second");
+                LoggerFactory.getLogger("any.db.jdbc.OrderService").error("ignored");
+            }
+        }, Description.EMPTY).evaluate();
+
+        // then
+        assertThat(logRecorder.events().size(), is(2));
+        assertThat(logRecorder.events().get(0).getMessage(), is("first"));
+        assertThat(logRecorder.events().get(1).getMessage(), is("second"));
+    }
+
+    @Test
+    public void regexSpecRecordsEventsOfAllMatchingLoggers() throws Throwable {
+
+        // given
+        final LogRecorder logRecorder = LogRecorder.expectedLogs(LogSpec.matching(Pattern.compile("regex\\.[a-z]+"), Level.INFO));
+
+        // when
+        logRecorder.apply(new Statement() {
+            @Override
+            public void evaluate() throws Throwable {
+                LoggerFactory.getLogger("regex.foo").info("first");
+                LoggerFactory.getLogger("regex.Foo").info("ignored");
+            }
+        }, Description.EMPTY).evaluate();
+
+        // then
+        assertThat(logRecorder.events().size(), is(1));
+        assertThat(logRecorder.event().getMessage(), is("first"));
+    }
+
+    @Test
+    public void restoresLevelsOfLoggersMatchedByPatternWhenTestIsFinished() throws Throwable {
+
+        // given
+        final ch.qos.logback.classic.Logger existing = (ch.qos.logback.classic.Logger) LoggerFactory.getLogger("restore.existing");
+        existing.setLevel(Level.WARN);
+        final LogRecorder logRecorder = LogRecorder.expectedLogs(LogSpec.matching("restore.*", Level.TRACE));
+
+        // when
+        logRecorder.apply(new Statement() {
+            @Override
+            public void evaluate() throws Throwable {
+                LoggerFactory.getLogger("restore.created").trace("ermahgerd");
+            }
+        }, Description.EMPTY).evaluate();
+
+        // then
+        assertThat(logRecorder.events().size(), is(1));
+        assertThat(existing.getLevel(), is(Level.WARN));
+        assertThat(((ch.qos.logback.classic.Logger) LoggerFactory.getLogger("restore.created")).getLevel(), is((Level) null));
+    }
+
+    @Test
+    public void turboFilterRecordsEventsOfLoggersMatchedByPattern() throws Throwable {
+
+        // given
+        LoggerFactory.getLogger("turbo.glob.existing");
+        final LogRecorder logRecorder = LogRecorder.expectedLogs(LogSpec.matching("turbo.glob.*", Level.DEBUG)).usingTurboFilter();
+
+        // when
+        logRecorder.apply(new Statement() {
+            @Override
+            public void evaluate() throws Throwable {
+                LoggerFactory.getLogger("turbo.glob.existing").debug("first");
+                LoggerFactory.getLogger("turbo.glob.created").debug("second");
+                LoggerFactory.getLogger("turbo.other").error("ignored");
+            }
+        }, Description.EMPTY).evaluate();
+
+        // then
+        assertThat(logRecorder.events().size(), is(2));
+        assertThat(logRecorder.events().get(0).getMessage(), is("first"));
+        assertThat(logRecorder.events().get(1).getMessage(), is("second"));
+    }
+
+    @Test
+    public void eventsSinceReturnsOnlyEventsRecordedAfterCheckpoint() throws Throwable {
+
+        // given
+        final String loggerName = "foo";
+        final LogRecorder logRecorder = LogRecorder.expectedLogs(new LogSpec(loggerName, Level.ERROR));
+        final List<Checkpoint> checkpoints = new ArrayList<Checkpoint>();
+
+        // when
+        logRecorder.apply(new Statement() {
+            @Override
+            public void evaluate() throws Throwable {
+                final Logger logger = LoggerFactory.getLogger(loggerName);
+                logger.error("first phase");
+                checkpoints.add(logRecorder.checkpoint());
+                logger.error("second phase");
+            }
+        }, Description.EMPTY).evaluate();
+
+        // then
+        final List<ILoggingEvent> events = logRecorder.eventsSince(checkpoints.get(0));
+        assertThat(events.size(), is(1));
+        assertThat(events.get(0).getMessage(), is("second phase"));
+    }
+
+    @Test
+    public void eventsSinceReflectsEventsRecordedAfterRetrieval() throws Throwable {
+
+        // given
+        final String loggerName = "foo";
+        final LogRecorder logRecorder = LogRecorder.expectedLogs(new LogSpec(loggerName, Level.ERROR));
+        final List<List<ILoggingEvent>> views = new ArrayList<List<ILoggingEvent>>();
+
+        // when
+        logRecorder.apply(new Statement() {
+            @Override
+            public void evaluate() throws Throwable {
+                final Logger logger = LoggerFactory.getLogger(loggerName);
+                logger.error("first phase");
+                views.add(logRecorder.eventsSince(logRecorder.checkpoint()));
+                logger.error("second phase");
+            }
+        }, Description.EMPTY).evaluate();
+
+        // then
+        final List<ILoggingEvent> events = views.get(0);
+        assertThat(events.size(), is(1));
+        assertThat(events.get(0).getMessage(), is("second phase"));
+    }
+
+    @Test
+    public void eventsBetweenReturnsOnlyEventsRecordedBetweenCheckpoints() throws Throwable {
+
+        // given
+        final String loggerName = "foo";
+        final LogRecorder logRecorder = LogRecorder.expectedLogs(new LogSpec(loggerName, Level.ERROR));
+        final List<Checkpoint> checkpoints = new ArrayList<Checkpoint>();
+
+        // when
+        logRecorder.apply(new Statement() {
+            @Override
+            public void evaluate() throws Throwable {
+                final Logger logger = LoggerFactory.getLogger(loggerName);
+                logger.error("first phase");
+                checkpoints.add(logRecorder.checkpoint());
+                logger.error("second phase");
+                checkpoints.add(logRecorder.checkpoint());
+                logger.error("third phase");
+            }
+        }, Description.EMPTY).evaluate();
+
+        // then
+        final List<ILoggingEvent> events = logRecorder.eventsBetween(checkpoints.get(0), checkpoints.get(1));
+        assertThat(events.size(), is(1));
+        assertThat(events.get(0).getMessage(), is("second phase"));
+    }
+
+    @Test
+    public void eventsSinceThrowsIllegalArgumentExceptionOnNullCheckpoint() {
+
+        // expect
+        expectedException.expect(IllegalArgumentException.class);
+        expectedException.expectMessage("checkpoint must not be null.");
+
+        // when
+        LogRecorder.expectedLogs(new LogSpec("foo", Level.ERROR)).eventsSince(null);
+    }
+
+    @Test
+    public void eventsSinceThrowsIllegalArgumentExceptionOnCheckpointOfOtherRecorder() {
+
+        // given
+        final Checkpoint checkpoint = LogRecorder.expectedLogs(new LogSpec("foo", Level.ERROR)).checkpoint();
+
+        // expect
+        expectedException.expect(IllegalArgumentException.class);
+        expectedException.expectMessage("checkpoint must be created by this recorder.");
+
+        // when
+        LogRecorder.expectedLogs(new LogSpec("foo", Level.ERROR)).eventsSince(checkpoint);
+    }
+
+    @Test
+    public void eventsBetweenThrowsIllegalArgumentExceptionOnSwappedCheckpoints() throws Throwable {
+
+        // given
+        final String loggerName = "foo";
+        final LogRecorder logRecorder = LogRecorder.expectedLogs(new LogSpec(loggerName, Level.ERROR));
+        final List<Checkpoint> checkpoints = new ArrayList<Checkpoint>();
+        logRecorder.apply(new Statement() {
+            @Override
+            public void evaluate() throws Throwable {
+                checkpoints.add(logRecorder.checkpoint());
+                LoggerFactory.getLogger(loggerName).error("some message");
+                checkpoints.add(logRecorder.checkpoint());
+            }
+        }, Description.EMPTY).evaluate();
+
+        // expect
+        expectedException.expect(IllegalArgumentException.class);
+        expectedException.expectMessage("from must not be created after to.");
+
+        // when
+        logRecorder.eventsBetween(checkpoints.get(1), checkpoints.get(0));
+    }
+
+    @Test
+    public void eventsSinceWorksOnLargeNumberOfEvents() throws Throwable {
+
+        // given
+        final String loggerName = "foo";
+        final LogRecorder logRecorder = LogRecorder.expectedLogs(new LogSpec(loggerName, Level.ERROR));
+        final List<Checkpoint> checkpoints = new ArrayList<Checkpoint>();
+
+        // when
+        logRecorder.apply(new Statement() {
+            @Override
+            public void evaluate() throws Throwable {
+                final Logger logger = LoggerFactory.getLogger(loggerName);
+                for (int i = 0; i < 5000; i++) {
+                    if (i == 2000) {
+                        checkpoints.add(logRecorder.checkpoint());
+                    }
+                    logger.error(String.valueOf(i));
+                }
+            }
+        }, Description.EMPTY).evaluate();
+
+        // then
+        final List<ILoggingEvent> events = logRecorder.eventsSince(checkpoints.get(0));
+        assertThat(logRecorder.events().size(), is(5000));
+        assertThat(events.size(), is(3000));
+        assertThat(events.get(0).getMessage(), is("2000"));
+        assertThat(events.get(2999).getMessage(), is("4999"));
+    }
+
+    @Test
+    public void awaitEventReturnsEventLoggedByOtherThread() throws Throwable {
+
+        // given
+        final String loggerName = "foo";
+        final LogRecorder logRecorder = LogRecorder.expectedLogs(new LogSpec(loggerName, Level.ERROR));
+        final List<ILoggingEvent> awaited = new ArrayList<ILoggingEvent>();
+
+        // when
+        logRecorder.apply(new Statement() {
+            @Override
+            public void evaluate() throws Throwable {
+                final Thread thread = new Thread(new Runnable() {
+                    @Override
+                    public void run() {
+                        final Logger logger = LoggerFactory.getLogger(loggerName);
+                        logger.error("noise");
+                        logger.error("ermahgerd");
+                    }
+                });
+                thread.start();
+                awaited.add(logRecorder.awaitEvent(withMessage("ermahgerd"), 10, TimeUnit.SECONDS));
+                thread.join();
+            }
+        }, Description.EMPTY).evaluate();
+
+        // then
+        assertThat(awaited.get(0).getMessage(), is("ermahgerd"));
+    }
+
+    @Test
+    public void awaitCountReturnsImmediatelyWhenEventsWereAlreadyRecorded() throws Throwable {
+
+        // given
+        final String loggerName = "foo";
+        final LogRecorder logRecorder = LogRecorder.expectedLogs(new LogSpec(loggerName, Level.ERROR));
+        final List<ILoggingEvent> awaited = new ArrayList<ILoggingEvent>();
+
+        // when
+        logRecorder.apply(new Statement() {
+            @Override
+            public void evaluate() throws Throwable {
+                final Logger logger = LoggerFactory.getLogger(loggerName);
+                logger.error("ermahgerd");
+                logger.error("noise");
+                logger.error("ermahgerd");
+                awaited.addAll(logRecorder.awaitCount(withMessage("ermahgerd"), 2, 0, TimeUnit.SECONDS));
+            }
+        }, Description.EMPTY).evaluate();
+
+        // then
+        assertThat(awaited.size(), is(2));
+    }
+
+    @Test
+    public void awaitCountThrowsAssertionErrorWhenTimeoutElapses() throws Throwable {
+
+        // given
+        final String loggerName = "foo";
+        final LogRecorder logRecorder = LogRecorder.expectedLogs(new LogSpec(loggerName, Level.ERROR));
+
+        // expect
+        expectedException.expect(AssertionError.class);
+        expectedException.expectMessage("Expected 2 event(s) matching: an event with message \"ermahgerd\" within 10 MILLISECONDS, but only 1 were recorded.");
+
+        // when
+        logRecorder.apply(new Statement() {
+            @Override
+            public void evaluate() throws Throwable {
+                LoggerFactory.getLogger(loggerName).error("ermahgerd");
+                logRecorder.awaitCount(withMessage("ermahgerd"), 2, 10, TimeUnit.MILLISECONDS);
+            }
+        }, Description.EMPTY).evaluate();
+    }
+
+    @Test
+    public void awaitCountThrowsIllegalArgumentExceptionOnNonPositiveCount() throws InterruptedException {
+
+        // expect
+        expectedException.expect(IllegalArgumentException.class);
+        expectedException.expectMessage("count must be greater than zero.");
+
+        // when
+        LogRecorder.expectedLogs(new LogSpec("foo", Level.ERROR)).awaitCount(withMessage("foo"), 0, 1, TimeUnit.SECONDS);
+    }
+
+    @Test
+    public void subscriberReceivesEventsWhileTheyAreLogged() throws Throwable {
+
+        // given
+        final String loggerName = "foo";
+        final LogRecorder logRecorder = LogRecorder.expectedLogs(new LogSpec(loggerName, Level.ERROR));
+        final CollectingSubscriber subscriber = new CollectingSubscriber(Long.MAX_VALUE);
+        final List<Integer> receivedWhileLogging = new ArrayList<Integer>();
+
+        // when
+        logRecorder.apply(new Statement() {
+            @Override
+            public void evaluate() throws Throwable {
+                logRecorder.subscribe(subscriber);
+                LoggerFactory.getLogger(loggerName).error("ermahgerd");
+                receivedWhileLogging.add(subscriber.events.size());
+            }
+        }, Description.EMPTY).evaluate();
+
+        // then
+        assertThat(receivedWhileLogging.get(0), is(1));
+        assertThat(subscriber.events.get(0).getMessage(), is("ermahgerd"));
+        assertThat(subscriber.completed, is(true));
+    }
+
+    @Test
+    public void subscriberOnlyReceivesRequestedEvents() throws Throwable {
+
+        // given
+        final String loggerName = "foo";
+        final LogRecorder logRecorder = LogRecorder.expectedLogs(new LogSpec(loggerName, Level.ERROR));
+        final CollectingSubscriber subscriber = new CollectingSubscriber(1);
+
+        // when
+        logRecorder.apply(new Statement() {
+            @Override
+            public void evaluate() throws Throwable {
+                logRecorder.subscribe(subscriber);
+                final Logger logger = LoggerFactory.getLogger(loggerName);
+                logger.error("first");
+                logger.error("second");
+            }
+        }, Description.EMPTY).evaluate();
+
+        // then
+        assertThat(subscriber.events.size(), is(1));
+        assertThat(subscriber.completed, is(false));
+
+        // when
+        subscriber.subscription.request(1);
+
+        // then
+        assertThat(subscriber.events.size(), is(2));
+        assertThat(subscriber.events.get(1).getMessage(), is("second"));
+        assertThat(subscriber.completed, is(true));
+    }
+
+    @Test
+    public void cancelledSubscriberDoesNotReceiveFurtherEvents() throws Throwable {
+
+        // given
+        final String loggerName = "foo";
+        final LogRecorder logRecorder = LogRecorder.expectedLogs(new LogSpec(loggerName, Level.ERROR));
+        final CollectingSubscriber subscriber = new CollectingSubscriber(Long.MAX_VALUE);
+
+        // when
+        logRecorder.apply(new Statement() {
+            @Override
+            public void evaluate() throws Throwable {
+                logRecorder.subscribe(subscriber);
+                final Logger logger = LoggerFactory.getLogger(loggerName);
+                logger.error("first");
+                subscriber.subscription.cancel();
+                logger.error("second");
+            }
+        }, Description.EMPTY).evaluate();
+
+        // then
+        assertThat(subscriber.events.size(), is(1));
+        assertThat(subscriber.completed, is(false));
+        assertThat(logRecorder.events().size(), is(2));
+    }
+
+    @Test
+    public void fullBufferBlocksLoggingThreadUntilEventsAreRequested() throws Throwable {
+
+        // given
+        final String loggerName = "foo";
+        final LogRecorder logRecorder = LogRecorder.expectedLogs(new LogSpec(loggerName, Level.ERROR));
+        final CollectingSubscriber subscriber = new CollectingSubscriber(0);
+        final List<Integer> receivedWhileBlocked = new ArrayList<Integer>();
+
+        // when
+        logRecorder.apply(new Statement() {
+            @Override
+            public void evaluate() throws Throwable {
+                logRecorder.subscribe(subscriber, 1);
+                final Thread thread = new Thread(new Runnable() {
+                    @Override
+                    public void run() {
+                        final Logger logger = LoggerFactory.getLogger(loggerName);
+                        logger.error("first");
+                        logger.error("second");
+                    }
+                });
+                thread.start();
+                while (thread.getState() != Thread.State.WAITING) {
+                    Thread.yield();
+                }
+                receivedWhileBlocked.add(logRecorder.events().size());
+                subscriber.subscription.request(2);
+                thread.join();
+            }
+        }, Description.EMPTY).evaluate();
+
+        // then
+        assertThat(receivedWhileBlocked.get(0), is(2));
+        assertThat(subscriber.events.size(), is(2));
+        assertThat(subscriber.events.get(1).getMessage(), is("second"));
+        assertThat(subscriber.droppedEvents.get(), is(0L));
+        assertThat(subscriber.completed, is(true));
+    }
+
+    @Test
+    public void fullBufferDropsEventsOfSubscribingThreadAndFailsTest() throws Throwable {
+
+        // given
+        final String loggerName = "foo";
+        final LogRecorder logRecorder = LogRecorder.expectedLogs(new LogSpec(loggerName, Level.ERROR));
+        final CollectingSubscriber subscriber = new CollectingSubscriber(0);
+        final List<String> failures = new ArrayList<String>();
+
+        // when
+        try {
+            logRecorder.apply(new Statement() {
+                @Override
+                public void evaluate() throws Throwable {
+                    logRecorder.subscribe(subscriber, 1);
+                    final Logger logger = LoggerFactory.getLogger(loggerName);
+                    logger.error("first");
+                    logger.error("second");
+                    logger.error("third");
+                    subscriber.subscription.request(2);
+                }
+            }, Description.EMPTY).evaluate();
+        } catch (final AssertionError e) {
+            failures.add(e.getMessage());
+        }
+
+        // then
+        assertThat(subscriber.events.size(), is(1));
+        assertThat(subscriber.events.get(0).getMessage(), is("first"));
+        assertThat(subscriber.droppedEvents.get(), is(2L));
+        assertThat(logRecorder.events().size(), is(3));
+        assertThat(subscriber.completed, is(true));
+        assertThat(failures.size(), is(1));
+        assertThat(failures.get(0).contains("missed 2 event(s)"), is(true));
+    }
+
+    @Test
+    public void subscribeThrowsIllegalArgumentExceptionOnNonPositiveBufferSize() {
+
+        // expect
+        expectedException.expect(IllegalArgumentException.class);
+        expectedException.expectMessage("bufferSize must be greater than zero.");
+
+        // when
+        LogRecorder.expectedLogs(new LogSpec("foo", Level.ERROR)).subscribe(new CollectingSubscriber(1), 0);
+    }
+
+    @Test
+    public void turboFilterRecordsEventsWithoutChangingLoggerLevel() throws Throwable {
+
+        // given
+        final String loggerName = "foo.bar";
+        final ch.qos.logback.classic.Logger logger = (ch.qos.logback.classic.Logger) LoggerFactory.getLogger(loggerName);
+        logger.setLevel(Level.ERROR);
+        final LogRecorder logRecorder = LogRecorder.expectedLogs(new LogSpec("foo", Level.DEBUG)).usingTurboFilter();
+        final List<Level> levelsDuringTest = new ArrayList<Level>();
+
+        // when
+        logRecorder.apply(new Statement() {
+            @Override
+            public void evaluate() throws Throwable {
+                levelsDuringTest.add(logger.getLevel());
+                logger.trace("ignored");
+                logger.debug("debug {}", "message");
+                logger.error("error");
+            }
+        }, Description.EMPTY).evaluate();
+
+        // then
+        assertThat(levelsDuringTest.get(0), is(Level.ERROR));
+        assertThat(logRecorder.events().size(), is(2));
+        assertThat(logRecorder.events().get(0).getFormattedMessage(), is("debug message"));
+        assertThat(logRecorder.events().get(0).getLoggerName(), is(loggerName));
+        assertThat(logRecorder.events().get(1).getLevel(), is(Level.ERROR));
+    }
+
+    @Test
+    public void turboFilterDoesNotChangeLevelChecksOfRecordedLoggers() throws Throwable {
+
+        // given
+        final ch.qos.logback.classic.Logger logger = (ch.qos.logback.classic.Logger) LoggerFactory.getLogger("foo");
+        logger.setLevel(Level.ERROR);
+        final LogRecorder logRecorder = LogRecorder.expectedLogs(new LogSpec("foo", Level.DEBUG)).usingTurboFilter();
+        final List<Boolean> enabled = new ArrayList<Boolean>();
+
+        // when
+        logRecorder.apply(new Statement() {
+            @Override
+            public void evaluate() throws Throwable {
+                enabled.add(logger.isDebugEnabled());
+                enabled.add(logger.isErrorEnabled());
+            }
+        }, Description.EMPTY).evaluate();
+
+        // then
+        assertThat(enabled, is(Arrays.asList(false, true)));
+        assertThat(logRecorder.events().isEmpty(), is(true));
+    }
+
+    @Test
+    public void turboFilterDoesNotRecordEventsWithOnlyNullMessageLikeLevelChecks() throws Throwable {
+
+        // given
+        final ch.qos.logback.classic.Logger logger = (ch.qos.logback.classic.Logger) LoggerFactory.getLogger("foo");
+        logger.setLevel(Level.ERROR);
+        final LogRecorder logRecorder = LogRecorder.expectedLogs(new LogSpec("foo", Level.DEBUG)).usingTurboFilter();
+
+        // when
+        logRecorder.apply(new Statement() {
+            @Override
+            public void evaluate() throws Throwable {
+                logger.debug((String) null);
+            }
+        }, Description.EMPTY).evaluate();
+
+        // then
+        assertThat(logRecorder.events().isEmpty(), is(true));
+    }
+
+    @Test
+    public void turboFilterDoesNotSkipDenyOfLaterTurboFilters() throws Throwable {
+
+        // given
+        final ch.qos.logback.classic.Logger logger = (ch.qos.logback.classic.Logger) LoggerFactory.getLogger("foo");
+        logger.setLevel(Level.DEBUG);
+        final LoggerContext loggerContext = logger.getLoggerContext();
+        final TurboFilter denyAll = new TurboFilter() {
+            @Override
+            public FilterReply decide(final Marker marker,
+                                      final ch.qos.logback.classic.Logger logger,
+                                      final Level level,
+                                      final String format,
+                                      final Object[] params,
+                                      final Throwable t) {
+                return FilterReply.DENY;
+            }
+        };
+        final LogRecorder logRecorder = LogRecorder.expectedLogs(new LogSpec("foo", Level.DEBUG)).usingTurboFilter();
+        final List<Boolean> enabled = new ArrayList<Boolean>();
+
+        // when
+        logRecorder.apply(new Statement() {
+            @Override
+            public void evaluate() throws Throwable {
+                loggerContext.addTurboFilter(denyAll);
+                try {
+                    enabled.add(logger.isDebugEnabled());
+                } finally {
+                    loggerContext.getTurboFilterList().remove(denyAll);
+                }
+            }
+        }, Description.EMPTY).evaluate();
+
+        // then
+        assertThat(enabled, is(Arrays.asList(false)));
+    }
+
+    @Test
+    public void turboFilterIsRemovedWithLastRecorder() throws Throwable {
+
+        // given
+        final LoggerContext loggerContext = (LoggerContext) LoggerFactory.getILoggerFactory();
+        final int turboFilters = loggerContext.getTurboFilterList().size();
+        final LogRecorder first = LogRecorder.expectedLogs(new LogSpec("foo", Level.DEBUG)).usingTurboFilter();
+        final LogRecorder second = LogRecorder.expectedLogs(new LogSpec("bar", Level.DEBUG)).usingTurboFilter();
+        final List<Integer> turboFiltersDuringTest = new ArrayList<Integer>();
+
+        // when
+        first.apply(new Statement() {
+            @Override
+            public void evaluate() throws Throwable {
+                second.apply(new Statement() {
+                    @Override
+                    public void evaluate() throws Throwable {
+                        turboFiltersDuringTest.add(loggerContext.getTurboFilterList().size());
+                    }
+                }, Description.EMPTY).evaluate();
+                turboFiltersDuringTest.add(loggerContext.getTurboFilterList().size());
+            }
+        }, Description.EMPTY).evaluate();
+
+        // then
+        assertThat(turboFiltersDuringTest, is(Arrays.asList(turboFilters + 1, turboFilters + 1)));
+        assertThat(loggerContext.getTurboFilterList().size(), is(turboFilters));
+    }
+
+    @Test
+    public void turboFilterUsesLevelOfNearestSpecifiedLogger() throws Throwable {
+
+        // given
+        final LogRecorder logRecorder = LogRecorder.expectedLogs(new LogSpec("foo", Level.ERROR), new LogSpec("foo.bar", Level.INFO)).usingTurboFilter();
+
+        // when
+        logRecorder.apply(new Statement() {
+            @Override
+            public void evaluate() throws Throwable {
+                LoggerFactory.getLogger("foo").info("ignored");
+                LoggerFactory.getLogger("foo.bar.baz").info("recorded");
+                LoggerFactory.getLogger("foo.bar").error("recorded once");
+                LoggerFactory.getLogger("foobar").error("ignored");
+            }
+        }, Description.EMPTY).evaluate();
+
+        // then
+        assertThat(logRecorder.events().size(), is(2));
+        assertThat(logRecorder.events().get(0).getMessage(), is("recorded"));
+        assertThat(logRecorder.events().get(1).getMessage(), is("recorded once"));
+    }
+
+    @Test
+    public void turboFilterDoesNotRecordEventsWhenTestIsFinished() throws Throwable {
+
+        // given
+        final Logger logger = LoggerFactory.getLogger("foo");
+        final LogRecorder logRecorder = LogRecorder.expectedLogs(new LogSpec("foo", Level.ERROR)).usingTurboFilter();
+        logRecorder.apply(mock(Statement.class), Description.EMPTY).evaluate();
+
+        // when
+        logger.error("ermahgerd");
+
+        // then
+        assertThat(logRecorder.events().isEmpty(), is(true));
+    }
+
+    @Test
+    public void asynchronousRecordingReturnsAllEventsLoggedBeforeAccess() throws Throwable {
+
+        // given
+        final LogRecorder logRecorder = LogRecorder.expectedLogs(new LogSpec("foo", Level.ERROR)).recordingAsynchronously();
+        final List<Integer> sizesDuringTest = new ArrayList<Integer>();
+
+        // when
+        logRecorder.apply(new Statement() {
+            @Override
+            public void evaluate() throws Throwable {
+                final Logger logger = LoggerFactory.getLogger("foo");
+                for (int i = 0; i < 1000; i++) {
+                    logger.error("event {}", i);
+                }
+                sizesDuringTest.add(logRecorder.events().size());
+            }
+        }, Description.EMPTY).evaluate();
+
+        // then
+        assertThat(sizesDuringTest.get(0), is(1000));
+        for (int i = 0; i < 1000; i++) {
+            assertThat(logRecorder.events().get(i).getFormattedMessage(), is("event " + i));
+        }
+    }
+
+    @Test
+    public void asynchronousRecordingRecordsEventsOnOtherThread() throws Throwable {
+
+        // given
+        final LogRecorder logRecorder = LogRecorder.expectedLogs(new LogSpec("foo", Level.ERROR)).recordingAsynchronously();
+        final List<Thread> recordingThreads = new CopyOnWriteArrayList<Thread>();
+        final List<String> loggingThreadNames = new ArrayList<String>();
+
+        // when
+        logRecorder.apply(new Statement() {
+            @Override
+            public void evaluate() throws Throwable {
+                logRecorder.subscribe(new CollectingSubscriber(Long.MAX_VALUE) {
+                    @Override
+                    public void onEvent(final ILoggingEvent event) {
+                        recordingThreads.add(Thread.currentThread());
+                    }
+                });
+                LoggerFactory.getLogger("foo").error("ermahgerd");
+                loggingThreadNames.add(logRecorder.awaitEvent(withMessage("ermahgerd"), 5, TimeUnit.SECONDS).getThreadName());
+            }
+        }, Description.EMPTY).evaluate();
+
+        // then
+        assertThat(recordingThreads.size(), is(1));
+        assertThat(recordingThreads.get(0) == Thread.currentThread(), is(false));
+        assertThat(loggingThreadNames.get(0), is(Thread.currentThread().getName()));
+    }
+
+    @Test
+    public void asynchronousRecordingFormatsMessagesOffLoggingThread() throws Throwable {
+
+        // given
+        final LogRecorder logRecorder = LogRecorder.expectedLogs(new LogSpec("foo", Level.ERROR)).recordingAsynchronously();
+        final List<Thread> formattingThreads = new CopyOnWriteArrayList<Thread>();
+        final Object argument = new Object() {
+            @Override
+            public String toString() {
+                formattingThreads.add(Thread.currentThread());
+                return "argument";
+            }
+        };
+        final Thread loggingThread = new Thread(new Runnable() {
+            @Override
+            public void run() {
+                LoggerFactory.getLogger("foo").error("some {}", argument);
+            }
+        });
+
+        // when
+        logRecorder.apply(new Statement() {
+            @Override
+            public void evaluate() throws Throwable {
+                loggingThread.start();
+                loggingThread.join();
+                logRecorder.events();
+            }
+        }, Description.EMPTY).evaluate();
+
+        // then
+        assertThat(logRecorder.event().getFormattedMessage(), is("some argument"));
+        assertThat(formattingThreads.size(), is(1));
+        assertThat(formattingThreads.get(0) == loggingThread, is(false));
+    }
+
+    @Test
+    public void asynchronousRecordingDoesNotRecordEventsWhenTestIsFinished() throws Throwable {
+
+        // given
+        final LogRecorder logRecorder = LogRecorder.expectedLogs(new LogSpec("foo", Level.ERROR)).recordingAsynchronously();
+        logRecorder.apply(mock(Statement.class), Description.EMPTY).evaluate();
+
+        // when
+        LoggerFactory.getLogger("foo").error("ermahgerd");
+
+        // then
+        assertThat(logRecorder.events().isEmpty(), is(true));
+    }
+
+    @Test
+    public void asynchronousRecordingKeepsOrderOfEachThreadUnderContention() throws Throwable {
+
+        // given
+        final int threadCount = 16;
+        final int eventsPerThread = 2000;
+        final LogRecorder logRecorder = LogRecorder.expectedLogs(new LogSpec("foo", Level.ERROR)).recordingAsynchronously();
+
+        // when
+        logRecorder.apply(new Statement() {
+            @Override
+            public void evaluate() throws Throwable {
+                final List<Thread> threads = new ArrayList<Thread>();
+                for (int i = 0; i < threadCount; i++) {
+                    final int thread = i;
+                    threads.add(new Thread(new Runnable() {
+                        @Override
+                        public void run() {
+                            final Logger logger = LoggerFactory.getLogger("foo");
+                            for (int j = 0; j < eventsPerThread; j++) {
+                                logger.error("event", thread, j);
+                            }
+                        }
+                    }));
+                }
+                for (final Thread thread : threads) {
+                    thread.start();
+                }
+                for (final Thread thread : threads) {
+                    thread.join();
+                }
+            }
+        }, Description.EMPTY).evaluate();
+
+        // then
+        final int[] nextEventOfThread = new int[threadCount];
+        for (final ILoggingEvent event : logRecorder.events()) {
+            final int thread = (Integer) event.getArgumentArray()[0];
+            assertThat(event.getArgumentArray()[1], is((Object) nextEventOfThread[thread]++));
+        }
+        for (final int eventCount : nextEventOfThread) {
+            assertThat(eventCount, is(eventsPerThread));
+        }
+    }
+
+    @Test
+    public void asynchronousRecordingRecordsEventsOfHundredThousandVirtualThreads() throws Throwable {
+
+        // given
+        final Method startVirtualThread = startVirtualThreadMethod();
+        Assume.assumeTrue(startVirtualThread != null);
+        final int threadCount = 100000;
+        final LogRecorder logRecorder = LogRecorder.expectedLogs(new LogSpec("foo", Level.ERROR)).recordingAsynchronously();
+
+        // when
+        logRecorder.apply(new Statement() {
+            @Override
+            public void evaluate() throws Throwable {
+                final Logger logger = LoggerFactory.getLogger("foo");
+                final List<Thread> threads = new ArrayList<Thread>(threadCount);
+                for (int i = 0; i < threadCount; i++) {
+                    final int thread = i;
+                    threads.add((Thread) startVirtualThread.invoke(null, new Runnable() {
+                        @Override
+                        public void run() {
+                            logger.error("event {}", thread);
+                        }
+                    }));
+                }
+                for (final Thread thread : threads) {
+                    thread.join();
+                }
+            }
+        }, Description.EMPTY).evaluate();
+
+        // then
+        final boolean[] recorded = new boolean[threadCount];
+        for (final ILoggingEvent event : logRecorder.events()) {
+            recorded[(Integer) event.getArgumentArray()[0]] = true;
+        }
+        assertThat(logRecorder.events().size(), is(threadCount));
+        for (final boolean eventRecorded : recorded) {
+            assertThat(eventRecorded, is(true));
+        }
+    }
+
+    @Test
+    public void persistsRecordedEventsWhenTestFails() throws Throwable {
+
+        // given
+        final File directory = new File(temporaryFolder.getRoot(), "logs");
+        final LogRecorder logRecorder = LogRecorder.expectedLogs(new LogSpec("foo", Level.INFO)).persistingOnFailureTo(directory);
+        final Description description = Description.createTestDescription(LogRecorderTest.class, "someTest");
+        final AssertionError failure = new AssertionError("failed");
+
+        // when
+        try {
+            logRecorder.apply(new Statement() {
+                @Override
+                public void evaluate() throws Throwable {
+                    LoggerFactory.getLogger("foo").info("some {}", "message");
+                    throw failure;
+                }
+            }, description).evaluate();
+        } catch (final AssertionError e) {
+            assertThat(e, is(failure));
+        }
+
+        // then
+        final EventLog eventLog = EventLog.open(new File(directory, LogRecorderTest.class.getName() + ".someTest.events"));
+        try {
+            final List<ILoggingEvent> events = new ArrayList<ILoggingEvent>();
+            for (final ILoggingEvent event : eventLog) {
+                events.add(event);
+            }
+            assertThat(events.size(), is(1));
+            assertThat(events.get(0).getFormattedMessage(), is("some message"));
+        } finally {
+            eventLog.close();
+        }
+    }
+
+    @Test
+    public void doesNotPersistRecordedEventsOnFailureOnlyWhenTestSucceeds() throws Throwable {
+
+        // given
+        final File directory = new File(temporaryFolder.getRoot(), "logs");
+        final LogRecorder logRecorder = LogRecorder.expectedLogs(new LogSpec("foo", Level.INFO)).persistingOnFailureTo(directory);
+
+        // when
+        logRecorder.apply(new Statement() {
+            @Override
+            public void evaluate() throws Throwable {
+                LoggerFactory.getLogger("foo").info("message");
+            }
+        }, Description.createTestDescription(LogRecorderTest.class, "someTest")).evaluate();
+
+        // then
+        assertThat(directory.exists(), is(false));
+    }
+
+    @Test
+    public void persistsRecordedEventsAlwaysWhenTestSucceeds() throws Throwable {
+
+        // given
+        final File directory = new File(temporaryFolder.getRoot(), "logs");
+        final LogRecorder logRecorder = LogRecorder.expectedLogs(new LogSpec("foo", Level.INFO)).persistingTo(directory);
+
+        // when
+        logRecorder.apply(new Statement() {
+            @Override
+            public void evaluate() throws Throwable {
+                LoggerFactory.getLogger("foo").info("message");
+            }
+        }, Description.createTestDescription(LogRecorderTest.class, "someTest")).evaluate();
+
+        // then
+        assertThat(new File(directory, LogRecorderTest.class.getName() + ".someTest.events").isFile(), is(true));
+    }
+
+    private static Method startVirtualThreadMethod() {
+        try {
+            return Thread.class.getMethod("startVirtualThread", Runnable.class);
+        } catch (final NoSuchMethodException e) {
+            return null;
+        }
+    }
+
+    private static Matcher<ILoggingEvent> withMessage(final String message) {
+        return new TypeSafeMatcher<ILoggingEvent>() {
+            @Override
+            protected boolean matchesSafely(final ILoggingEvent event) {
+                return event.getMessage().equals(message);
+            }
+
+            @Override
+            public void describeTo(final org.hamcrest.Description description) {
+                description.appendText("an event with message ").appendValue(message);
+            }
+        };
+    }
+
+    private static void logFromHelper(final String loggerName) {
+        LoggerFactory.getLogger(loggerName).info("called");
+    }
+
+    private static class CollectingSubscriber implements LogEventSubscriber {
+
+        private final long initialRequest;
+        private final List<ILoggingEvent> events = new CopyOnWriteArrayList<ILoggingEvent>();
+        private volatile LogEventSubscription subscription;
+        private final AtomicLong droppedEvents = new AtomicLong();
+        private volatile boolean completed;
+
+        CollectingSubscriber(final long initialRequest) {
+            this.initialRequest = initialRequest;
+        }
+
+        @Override
+        public void onSubscribe(final LogEventSubscription subscription) {
+            this.subscription = subscription;
+            if (initialRequest > 0) {
+                subscription.request(initialRequest);
+            }
+        }
+
+        @Override
+        public void onEvent(final ILoggingEvent event) {
+            events.add(event);
+        }
+
+        @Override
+        public void onOverflow(final long droppedEvents) {
+            this.droppedEvents.addAndGet(droppedEvents);
+        }
+
+        @Override
+        public void onComplete() {
+            completed = true;
+        }
+    }
+}
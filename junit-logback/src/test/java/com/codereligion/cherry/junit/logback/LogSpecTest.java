@@ -17,12 +17,15 @@ package com.codereligion.cherry.junit.logback;
 
 import ch.qos.logback.classic.Level;
 import ch.qos.logback.classic.Logger;
+import ch.qos.logback.classic.LoggerContext;
+import java.util.regex.Pattern;
 import org.junit.Rule;
 import org.junit.Test;
 import org.junit.rules.ExpectedException;
 import org.slf4j.LoggerFactory;
 import static org.hamcrest.CoreMatchers.containsString;
 import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.nullValue;
 import static org.hamcrest.core.IsNot.not;
 import static org.junit.Assert.assertThat;
 
@@ -87,6 +90,129 @@ public class LogSpecTest {
         new LogSpec(type, Level.ERROR);
     }
 
+    @Test
+    public void nullGlobThrowsIllegalArgumentException() {
+
+        // given
+        final String glob = null;
+
+        // expect
+        expectedException.expect(IllegalArgumentException.class);
+        expectedException.expectMessage("glob must not be null");
+
+        // when
+        LogSpec.matching(glob, Level.ERROR);
+    }
+
+    @Test
+    public void nullRegexThrowsIllegalArgumentException() {
+
+        // given
+        final Pattern regex = null;
+
+        // expect
+        expectedException.expect(IllegalArgumentException.class);
+        expectedException.expectMessage("regex must not be null");
+
+        // when
+        LogSpec.matching(regex, Level.ERROR);
+    }
+
+    @Test
+    public void nullLevelThrowsIllegalArgumentExceptionOnPatternFactory() {
+
+        // expect
+        expectedException.expect(IllegalArgumentException.class);
+        expectedException.expectMessage("level must not be null");
+
+        // when
+        LogSpec.matching("foo.*", null);
+    }
+
+    @Test
+    public void patternSpecReturnsNearestCommonLogger() {
+
+        // given
+        final LogSpec logSpec = LogSpec.matching("foo.bar.**.*Repository", Level.ERROR);
+        LoggerFactory.getLogger("foo.bar");
+
+        // when
+        final Logger logger = logSpec.getLogger();
+
+        // then
+        assertThat(logger, is(LoggerFactory.getLogger("foo.bar")));
+    }
+
+    @Test
+    public void patternSpecReturnsNearestExistingAncestorOfCommonLogger() {
+
+        // given
+        final LogSpec logSpec = LogSpec.matching("missing.ancestor.**.*Repository", Level.ERROR);
+
+        // when
+        final Logger logger = logSpec.getLogger();
+
+        // then
+        assertThat(logger, is(LoggerFactory.getLogger(org.slf4j.Logger.ROOT_LOGGER_NAME)));
+    }
+
+    @Test
+    public void patternSpecDoesNotCreateLoggers() {
+
+        // given
+        final LoggerContext loggerContext = (LoggerContext) LoggerFactory.getILoggerFactory();
+
+        // when
+        LogSpec.matching("uncreated.common.**.*Repository", Level.ERROR).getLogger();
+
+        // then
+        assertThat(loggerContext.exists("uncreated.common"), is(nullValue()));
+        assertThat(loggerContext.exists("uncreated"), is(nullValue()));
+    }
+
+    @Test
+    public void regexSpecReturnsRootLogger() {
+
+        // given
+        final LogSpec logSpec = LogSpec.matching(Pattern.compile("foo\\..*"), Level.ERROR);
+
+        // when
+        final Logger logger = logSpec.getLogger();
+
+        // then
+        assertThat(logger, is(LoggerFactory.getLogger(org.slf4j.Logger.ROOT_LOGGER_NAME)));
+    }
+
+    @Test
+    public void isPatternReflectsHowSpecWasCreated() {
+        assertThat(LogSpec.matching("foo.*", Level.ERROR).isPattern(), is(true));
+        assertThat(LogSpec.matching(Pattern.compile("foo.*"), Level.ERROR).isPattern(), is(true));
+        assertThat(new LogSpec("foo", Level.ERROR).isPattern(), is(false));
+    }
+
+    @Test
+    public void toStringResultReflectsPattern() {
+
+        // given
+        final LogSpec logSpec = LogSpec.matching("foo.**", Level.ERROR);
+
+        // when
+        final String toString = logSpec.toString();
+
+        // then
+        assertThat(toString, containsString("foo.**"));
+        assertThat(toString, containsString("ERROR"));
+    }
+
+    @Test
+    public void patternSpecsAreEqualByPatternAndLevel() {
+        assertThat(LogSpec.matching("foo.*", Level.ERROR), is(LogSpec.matching("foo.*", Level.ERROR)));
+        assertThat(LogSpec.matching("foo.*", Level.ERROR).hashCode(), is(LogSpec.matching("foo.*", Level.ERROR).hashCode()));
+        assertThat(LogSpec.matching("foo.*", Level.ERROR), is(not(LogSpec.matching("foo.**", Level.ERROR))));
+        assertThat(LogSpec.matching("foo.*", Level.ERROR), is(not(LogSpec.matching(Pattern.compile("foo.*"), Level.ERROR))));
+        assertThat(LogSpec.matching("foo", Level.ERROR), is(not(new LogSpec("foo", Level.ERROR))));
+    }
+
     @Test
     public void allowsToSetLoggerByName() {
 
@@ -157,6 +283,24 @@ public class LogSpecTest {
         assertThat(first, is(not(shouldAlsoNotBeEqual)));
     }
 
+    @Test
+    public void withCallerDataCreatesCopyWithEnabledCallerData() {
+
+        // given
+        final LogSpec logSpec = new LogSpec("foo", Level.ERROR);
+
+        // when
+        final LogSpec callerDataSpec = logSpec.withCallerData();
+
+        // then
+        assertThat(logSpec.isCallerDataEnabled(), is(false));
+        assertThat(callerDataSpec.isCallerDataEnabled(), is(true));
+        assertThat(callerDataSpec.getLogger(), is(logSpec.getLogger()));
+        assertThat(callerDataSpec.getLevel(), is(Level.ERROR));
+        assertThat(callerDataSpec, is(not(logSpec)));
+        assertThat(callerDataSpec, is(new LogSpec("foo", Level.ERROR).withCallerData()));
+    }
+
     @Test
     public void overridesHashCodeAccordingToItsContract() {
         // given
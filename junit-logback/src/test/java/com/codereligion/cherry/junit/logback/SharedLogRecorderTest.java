@@ -0,0 +1,281 @@
+/**
+ * Copyright 2015 www.codereligion.com
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.codereligion.cherry.junit.logback;
+
+import ch.qos.logback.classic.Level;
+import ch.qos.logback.classic.spi.ILoggingEvent;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CyclicBarrier;
+import java.util.concurrent.atomic.AtomicReference;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.ExpectedException;
+import org.junit.rules.TestRule;
+import org.junit.runner.Description;
+import org.junit.runners.model.Statement;
+import org.slf4j.LoggerFactory;
+import static org.hamcrest.core.Is.is;
+import static org.junit.Assert.assertThat;
+import static org.mockito.Mockito.mock;
+
+/**
+ * Tests {@link com.codereligion.cherry.junit.logback.SharedLogRecorder}.
+ *
+ * @author Sebastian Gr&ouml;bler
+ * @since 19.10.2026
+ */
+public class SharedLogRecorderTest {
+
+    @Rule
+    public final ExpectedException expectedException = ExpectedException.none();
+
+    @Test
+    public void nullLogSpecCausesIllegalArgumentException() {
+
+        // given
+        final LogSpec logSpec = null;
+
+        // expect
+        expectedException.expect(IllegalArgumentException.class);
+        expectedException.expectMessage("logSpec must not be null");
+
+        // when
+        SharedLogRecorder.expectedLogs(logSpec);
+    }
+
+    @Test
+    public void partitionsEventsPerTest() throws Throwable {
+
+        // given
+        final String loggerName = "foo";
+        final SharedLogRecorder sharedLogRecorder = SharedLogRecorder.expectedLogs(new LogSpec(loggerName, Level.ERROR));
+        final TestRule perTest = sharedLogRecorder.perTest();
+        final AtomicReference<List<ILoggingEvent>> firstEvents = new AtomicReference<List<ILoggingEvent>>();
+        final AtomicReference<List<ILoggingEvent>> secondEvents = new AtomicReference<List<ILoggingEvent>>();
+
+        // when
+        sharedLogRecorder.apply(new Statement() {
+            @Override
+            public void evaluate() throws Throwable {
+                perTest.apply(new Statement() {
+                    @Override
+                    public void evaluate() throws Throwable {
+                        LoggerFactory.getLogger(loggerName).error("first");
+                        firstEvents.set(sharedLogRecorder.events());
+                    }
+                }, Description.EMPTY).evaluate();
+                perTest.apply(new Statement() {
+                    @Override
+                    public void evaluate() throws Throwable {
+                        LoggerFactory.getLogger(loggerName).error("second");
+                        LoggerFactory.getLogger(loggerName).error("third");
+                        secondEvents.set(sharedLogRecorder.events());
+                    }
+                }, Description.EMPTY).evaluate();
+            }
+        }, Description.EMPTY).evaluate();
+
+        // then
+        assertThat(firstEvents.get().size(), is(1));
+        assertThat(firstEvents.get().get(0).getMessage(), is("first"));
+        assertThat(secondEvents.get().size(), is(2));
+        assertThat(secondEvents.get().get(0).getMessage(), is("second"));
+        assertThat(secondEvents.get().get(1).getMessage(), is("third"));
+    }
+
+    @Test
+    public void recordsEventsOfThreadsStartedByTestInPartitionOfTest() throws Throwable {
+
+        // given
+        final String loggerName = "foo";
+        final SharedLogRecorder sharedLogRecorder = SharedLogRecorder.expectedLogs(new LogSpec(loggerName, Level.ERROR));
+        final TestRule perTest = sharedLogRecorder.perTest();
+        final AtomicReference<ILoggingEvent> event = new AtomicReference<ILoggingEvent>();
+
+        // when
+        sharedLogRecorder.apply(perTest.apply(new Statement() {
+            @Override
+            public void evaluate() throws Throwable {
+                final Thread worker = new Thread(new Runnable() {
+                    @Override
+                    public void run() {
+                        LoggerFactory.getLogger(loggerName).error("ermahgerd");
+                    }
+                });
+                worker.start();
+                worker.join();
+                event.set(sharedLogRecorder.event());
+            }
+        }, Description.EMPTY), Description.EMPTY).evaluate();
+
+        // then
+        assertThat(event.get().getMessage(), is("ermahgerd"));
+    }
+
+    @Test
+    public void dropsEventsLoggedOutsideOfTests() throws Throwable {
+
+        // given
+        final String loggerName = "foo";
+        final SharedLogRecorder sharedLogRecorder = SharedLogRecorder.expectedLogs(new LogSpec(loggerName, Level.ERROR));
+        final TestRule perTest = sharedLogRecorder.perTest();
+        final AtomicReference<List<ILoggingEvent>> events = new AtomicReference<List<ILoggingEvent>>();
+
+        // when
+        sharedLogRecorder.apply(new Statement() {
+            @Override
+            public void evaluate() throws Throwable {
+                LoggerFactory.getLogger(loggerName).error("before");
+                perTest.apply(new Statement() {
+                    @Override
+                    public void evaluate() throws Throwable {
+                        events.set(sharedLogRecorder.events());
+                    }
+                }, Description.EMPTY).evaluate();
+                LoggerFactory.getLogger(loggerName).error("after");
+            }
+        }, Description.EMPTY).evaluate();
+
+        // then
+        assertThat(events.get().isEmpty(), is(true));
+    }
+
+    @Test
+    public void keepsLogLevelChangedForWholeClass() throws Throwable {
+
+        // given
+        final String loggerName = "foo";
+        final ch.qos.logback.classic.Logger logger = (ch.qos.logback.classic.Logger) LoggerFactory.getLogger(loggerName);
+        final Level originalLevel = logger.getLevel();
+        final SharedLogRecorder sharedLogRecorder = SharedLogRecorder.expectedLogs(new LogSpec(loggerName, Level.TRACE));
+        final TestRule perTest = sharedLogRecorder.perTest();
+        final AtomicReference<Level> levelBetweenTests = new AtomicReference<Level>();
+
+        // when
+        sharedLogRecorder.apply(new Statement() {
+            @Override
+            public void evaluate() throws Throwable {
+                perTest.apply(new Statement() {
+                    @Override
+                    public void evaluate() throws Throwable {
+                        logger.trace("ermahgerd");
+                    }
+                }, Description.EMPTY).evaluate();
+                levelBetweenTests.set(logger.getLevel());
+            }
+        }, Description.EMPTY).evaluate();
+
+        // then
+        assertThat(levelBetweenTests.get(), is(Level.TRACE));
+        assertThat(logger.getLevel(), is(originalLevel));
+    }
+
+    @Test
+    public void partitionsEventsOfTestsRunningInParallel() throws Throwable {
+
+        // given
+        final String loggerName = "foo";
+        final SharedLogRecorder sharedLogRecorder = SharedLogRecorder.expectedLogs(new LogSpec(loggerName, Level.ERROR));
+        final TestRule perTest = sharedLogRecorder.perTest();
+        final CyclicBarrier barrier = new CyclicBarrier(2);
+        final List<List<ILoggingEvent>> eventsPerTest = new CopyOnWriteArrayList<List<ILoggingEvent>>();
+        final List<Throwable> failures = new CopyOnWriteArrayList<Throwable>();
+
+        // when
+        sharedLogRecorder.apply(new Statement() {
+            @Override
+            public void evaluate() throws Throwable {
+                final Thread first = runInParallel("first");
+                final Thread second = runInParallel("second");
+                first.join();
+                second.join();
+            }
+
+            private Thread runInParallel(final String message) {
+                final Thread testThread = new Thread(new Runnable() {
+                    @Override
+                    public void run() {
+                        try {
+                            perTest.apply(new Statement() {
+                                @Override
+                                public void evaluate() throws Throwable {
+                                    barrier.await();
+                                    final Thread worker = new Thread(new Runnable() {
+                                        @Override
+                                        public void run() {
+                                            LoggerFactory.getLogger(loggerName).error(message);
+                                        }
+                                    });
+                                    worker.start();
+                                    worker.join();
+                                    barrier.await();
+                                    eventsPerTest.add(sharedLogRecorder.events());
+                                }
+                            }, Description.EMPTY).evaluate();
+                        } catch (final Throwable t) {
+                            failures.add(t);
+                        }
+                    }
+                });
+                testThread.start();
+                return testThread;
+            }
+        }, Description.EMPTY).evaluate();
+
+        // then
+        assertThat(failures.isEmpty(), is(true));
+        assertThat(eventsPerTest.size(), is(2));
+        for (final List<ILoggingEvent> events : eventsPerTest) {
+            assertThat(events.size(), is(1));
+        }
+        assertThat(eventsPerTest.get(0).get(0).getMessage().equals(eventsPerTest.get(1).get(0).getMessage()), is(false));
+    }
+
+    @Test
+    public void perTestThrowsIllegalStateExceptionWithoutClassRule() throws Throwable {
+
+        // given
+        final SharedLogRecorder sharedLogRecorder = SharedLogRecorder.expectedLogs(new LogSpec("foo", Level.ERROR));
+
+        // expect
+        expectedException.expect(IllegalStateException.class);
+        expectedException.expectMessage("perTest() must be used in conjunction with the SharedLogRecorder as class rule.");
+
+        // when
+        sharedLogRecorder.perTest().apply(mock(Statement.class), Description.EMPTY).evaluate();
+    }
+
+    @Test
+    public void eventThrowsAssertionErrorWhenNoEventWasRecorded() throws Throwable {
+
+        // given
+        final SharedLogRecorder sharedLogRecorder = SharedLogRecorder.expectedLogs(new LogSpec("foo", Level.ERROR));
+        final TestRule perTest = sharedLogRecorder.perTest();
+
+        // expect
+        expectedException.expect(AssertionError.class);
+        expectedException.expectMessage("No event was recorded during the test execution.");
+
+        // when
+        sharedLogRecorder.apply(perTest.apply(new Statement() {
+            @Override
+            public void evaluate() throws Throwable {
+                sharedLogRecorder.event();
+            }
+        }, Description.EMPTY), Description.EMPTY).evaluate();
+    }
+}